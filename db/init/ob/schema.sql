@@ -1070,6 +1070,9 @@ INSERT INTO `plugin_handle` VALUES ('1529402613199978551', '5', 'multiRuleHandle
 INSERT INTO `plugin_handle` VALUES ('1529402613199978552', '5', 'headerMaxSize', 'headerMaxSize', 1, 2, 3, '{\"defaultValue\":\"10240\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978553', '5', 'requestMaxSize', 'requestMaxSize', 1, 2, 4, '{\"defaultValue\":\"102400\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978554', '5', 'retryStrategy', 'retryStrategy', 3, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"current\",\"placeholder\":\"retryStrategy\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273001', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"95\",\"placeholder\":\"latency percentile that triggers a hedge\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273002', '5', 'hedgeBudgetPercent', 'hedgeBudgetPercent', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"10\",\"placeholder\":\"max hedged requests in percent\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273004', '5', 'retryBodyMaxSize', 'retryBodyMaxSize', 1, 2, 7, '{\"required\":\"0\",\"defaultValue\":\"0\",\"placeholder\":\"max request body bytes kept for retries, 0 disables replaying the body\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978555', '13', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978556', '13', 'protocol', 'protocol', 2, 1, 2, '{\"defaultValue\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978557', '13', 'upstreamUrl', 'ip:port', 2, 1, 1, '{\"required\":\"1\",\"placeholder\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1418,6 +1421,9 @@ INSERT INTO `plugin_handle` VALUES ('1899802529972371604', '50', 'fallbackApiKey
 INSERT INTO `plugin_handle` VALUES ('1899802529972371605', '50', 'fallbackModel', 'fallbackModel', 2, 1, 13, '{\"required\":\"0\",\"placeholder\":\"gpt-4.1\",\"rule\":\"\"}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
 INSERT INTO `plugin_handle` VALUES ('1899802529972371606', '50', 'fallbackTemperature', 'fallbackTemperature', 1, 1, 14, '{\"required\":\"0\"}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
 INSERT INTO `plugin_handle` VALUES ('1899802529972371607', '50', 'fallbackMaxTokens', 'fallbackMaxTokens', 1, 1, 15, '{\"required\":\"0\"}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273005', '50', 'cacheEnabled', 'cacheEnabled', 2, 1, 15, '{\"required\":\"0\",\"defaultValue\":\"false\",\"placeholder\":\"cache deterministic (temperature 0) completions\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273006', '50', 'cacheTtlSeconds', 'cacheTtlSeconds', 1, 1, 16, '{\"required\":\"0\",\"defaultValue\":\"300\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1953229897210273007', '50', 'cacheMaxBytes', 'cacheMaxBytes', 1, 1, 17, '{\"required\":\"0\",\"defaultValue\":\"262144\",\"placeholder\":\"larger responses are not cached\",\"rule\":\"\"}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 
 INSERT INTO `plugin_handle` VALUES ('1722804548510507049', '51', 'database', 'database', 1, 3, 2, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1722804548510507050', '51', 'master', 'master', 2, 3, 3, '{\"required\":\"0\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -2228,6 +2234,7 @@ INSERT INTO `shenyu_dict` VALUES ('1529402613195784237', 'threadpool', 'THREADPO
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784238', 'threadpool', 'THREADPOOL', 'limited', 'limited', '', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784239', 'retryStrategy', 'RETRY_STRATEGY', 'current', 'current', 'current', 0, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784240', 'retryStrategy', 'RETRY_STRATEGY', 'failover', 'failover', 'failover', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `shenyu_dict` VALUES ('1953229897210273003', 'retryStrategy', 'RETRY_STRATEGY', 'hedged', 'hedged', 'hedged', 2, 1, '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784241', 'table', 'INIT_FLAG', 'status', 'true', 'table(resource,permission) init status', 0, 0, '2022-05-25 18:02:53', '2022-05-25 18:02:58');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784242', 'compressAlg', 'COMPRESS_ALG', 'none', 'none', '', 0, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784243', 'compressAlg', 'COMPRESS_ALG', 'LZ4', 'LZ4', '', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1149,6 +1149,9 @@ INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330564', '5', 'multiR
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330565', '5', 'headerMaxSize', 'headerMaxSize', 1, 2, 3, '{"defaultValue":"10240","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330566', '5', 'requestMaxSize', 'requestMaxSize', 1, 2, 4, '{"defaultValue":"102400","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330567', '5', 'retryStrategy', 'retryStrategy', 3, 2, 0, '{"required":"0","defaultValue":"current","placeholder":"retryStrategy","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273001', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{"required":"0","defaultValue":"95","placeholder":"latency percentile that triggers a hedge","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273002', '5', 'hedgeBudgetPercent', 'hedgeBudgetPercent', 1, 2, 6, '{"required":"0","defaultValue":"10","placeholder":"max hedged requests in percent","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273004', '5', 'retryBodyMaxSize', 'retryBodyMaxSize', 1, 2, 7, '{"required":"0","defaultValue":"0","placeholder":"max request body bytes kept for retries, 0 disables replaying the body","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330568', '13', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330569', '13', 'protocol', 'protocol', 2, 1, 2, '{"defaultValue":"","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
 INSERT INTO "public"."plugin_handle" VALUES ('1529403902779330570', '13', 'upstreamUrl', 'ip:port', 2, 1, 1, '{"required":"1","placeholder":"","rule":""}', '2022-05-25 18:08:01', '2022-05-25 18:08:01');
@@ -2308,6 +2311,7 @@ INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302089', 'threadpool',
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302090', 'threadpool', 'THREADPOOL', 'limited', 'limited', '', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302091', 'retryStrategy', 'RETRY_STRATEGY', 'current', 'current', 'current', 0, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302092', 'retryStrategy', 'RETRY_STRATEGY', 'failover', 'failover', 'failover', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
+INSERT INTO "public"."shenyu_dict" VALUES ('1953229897210273003', 'retryStrategy', 'RETRY_STRATEGY', 'hedged', 'hedged', 'hedged', 2, 1, '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302094', 'compressAlg', 'COMPRESS_ALG', 'none', 'none', '', 0, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302095', 'compressAlg', 'COMPRESS_ALG', 'LZ4', 'LZ4', '', 1, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
 INSERT INTO "public"."shenyu_dict" VALUES ('1529403902800302096', 'cacheType', 'CACHE_TYPE_MEMORY', 'memory', 'memory', 'use memory to cache data', 0, 1, '2022-05-25 18:08:02', '2022-05-25 18:08:02');
@@ -3043,6 +3047,9 @@ INSERT INTO "public"."plugin_handle" VALUES ('1899802529972371604', '50', 'fallb
 INSERT INTO "public"."plugin_handle" VALUES ('1899802529972371605', '50', 'fallbackModel', 'fallbackModel', 2, 1, 13, '{"required":"0","placeholder":"gpt-4.1","rule":""}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
 INSERT INTO "public"."plugin_handle" VALUES ('1899802529972371606', '50', 'fallbackTemperature', 'fallbackTemperature', 1, 1, 14, '{"required":"0"}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
 INSERT INTO "public"."plugin_handle" VALUES ('1899802529972371607', '50', 'fallbackMaxTokens', 'fallbackMaxTokens', 1, 1, 15, '{"required":"0"}', '2024-01-02 17:20:50.233', '2024-01-02 17:20:50.233');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273005', '50', 'cacheEnabled', 'cacheEnabled', 2, 1, 15, '{"required":"0","defaultValue":"false","placeholder":"cache deterministic (temperature 0) completions","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273006', '50', 'cacheTtlSeconds', 'cacheTtlSeconds', 1, 1, 16, '{"required":"0","defaultValue":"300","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273007', '50', 'cacheMaxBytes', 'cacheMaxBytes', 1, 1, 17, '{"required":"0","defaultValue":"262144","placeholder":"larger responses are not cached","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507350', '66', 'provider', 'provider', 3, 3, 0, '{"required":"0","rule":""}', '2025-03-12 06:01:49.725', '2025-03-12 06:07:49.856');
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507351', '66', 'baseUrl', 'baseUrl', 2, 3, 1, '{"required":"0","rule":""}', '2025-03-12 06:02:04.155', '2025-03-12 06:02:04.155');
 INSERT INTO "public"."plugin_handle" VALUES ('1722804548510507352', '66', 'apiKey', 'apiKey', 2, 3, 2, '{"required":"0","rule":""}', '2025-03-12 06:02:18.707', '2025-03-12 06:02:18.707');
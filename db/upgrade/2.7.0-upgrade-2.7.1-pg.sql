@@ -345,3 +345,16 @@ ALTER TABLE "public"."discovery_upstream" RENAME COLUMN "url" TO "upstream_url";
 ALTER TABLE "public"."discovery_upstream" RENAME COLUMN "status" TO "upstream_status";
 
 ALTER TABLE "public"."discovery" RENAME COLUMN "level" TO "discovery_level";
+
+-- hedged retry strategy of the divide plugin
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273001', '5', 'hedgePercentile', 'hedgePercentile', 1, 2, 5, '{"required":"0","defaultValue":"95","placeholder":"latency percentile that triggers a hedge","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273002', '5', 'hedgeBudgetPercent', 'hedgeBudgetPercent', 1, 2, 6, '{"required":"0","defaultValue":"10","placeholder":"max hedged requests in percent","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1953229897210273003', 'retryStrategy', 'RETRY_STRATEGY', 'hedged', 'hedged', 'hedged', 2, 1, '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+
+-- retry body size of the divide plugin
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273004', '5', 'retryBodyMaxSize', 'retryBodyMaxSize', 1, 2, 7, '{"required":"0","defaultValue":"0","placeholder":"max request body bytes kept for retries, 0 disables replaying the body","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+
+-- response cache of the ai proxy plugin
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273005', '50', 'cacheEnabled', 'cacheEnabled', 2, 1, 15, '{"required":"0","defaultValue":"false","placeholder":"cache deterministic (temperature 0) completions","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273006', '50', 'cacheTtlSeconds', 'cacheTtlSeconds', 1, 1, 16, '{"required":"0","defaultValue":"300","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1953229897210273007', '50', 'cacheMaxBytes', 'cacheMaxBytes', 1, 1, 17, '{"required":"0","defaultValue":"262144","placeholder":"larger responses are not cached","rule":""}', '2026-10-19 10:00:00', '2026-10-19 10:00:00');
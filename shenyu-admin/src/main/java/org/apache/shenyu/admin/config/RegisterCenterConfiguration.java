@@ -23,6 +23,7 @@ import org.apache.shenyu.admin.lock.impl.PlatformTransactionRegisterExecutionRep
 import org.apache.shenyu.admin.mapper.PluginMapper;
 import org.apache.shenyu.admin.service.DiscoveryService;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -57,13 +58,16 @@ public class RegisterCenterConfiguration {
      *
      * @param shenyuClientRegisterService the shenyu client register service
      * @param discoveryService the discovery service
+     * @param shenyuRegisterCenterConfig the shenyu register center config
      * @return the shenyu server register repository
      */
     @Bean
-    public RegisterClientServerDisruptorPublisher registerClientServerDisruptorPublisher(final List<ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService) {
+    public RegisterClientServerDisruptorPublisher registerClientServerDisruptorPublisher(final List<ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService,
+                                                                                         final ShenyuRegisterCenterConfig shenyuRegisterCenterConfig) {
         RegisterClientServerDisruptorPublisher publisher = RegisterClientServerDisruptorPublisher.getInstance();
         Map<String, ShenyuClientRegisterService> registerServiceMap = shenyuClientRegisterService.stream().collect(Collectors.toMap(ShenyuClientRegisterService::rpcType, Function.identity()));
-        publisher.start(registerServiceMap, discoveryService);
+        long uriCoalesceWindow = Long.parseLong(shenyuRegisterCenterConfig.getProps().getProperty(Constants.URI_COALESCE_WINDOW, Constants.URI_COALESCE_WINDOW_VALUE));
+        publisher.start(registerServiceMap, discoveryService, uriCoalesceWindow);
         return publisher;
     }
     
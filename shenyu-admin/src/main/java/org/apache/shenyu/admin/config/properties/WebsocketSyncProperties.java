@@ -40,6 +40,16 @@ public class WebsocketSyncProperties {
      */
     private String allowOrigins;
 
+    /**
+     * send compressed binary frames to the gateways asking for them, default: true.
+     */
+    private boolean compress = true;
+
+    /**
+     * the max characters of json in one compressed frame, larger messages are chunked, default: 262144.
+     */
+    private int chunkSize = 256 * 1024;
+
     /**
      * Gets the value of enabled.
      *
@@ -91,4 +101,40 @@ public class WebsocketSyncProperties {
     public void setAllowOrigins(final String allowOrigins) {
         this.allowOrigins = allowOrigins;
     }
+
+    /**
+     * get compress.
+     *
+     * @return compress
+     */
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * set compress.
+     *
+     * @param compress compress
+     */
+    public void setCompress(final boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * get chunkSize.
+     *
+     * @return chunkSize
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * set chunkSize.
+     *
+     * @param chunkSize chunkSize
+     */
+    public void setChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
 }
@@ -37,9 +37,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Date;
 import java.util.Objects;
 
@@ -93,16 +95,14 @@ public class ConfigsExportImportController {
      */
     @GetMapping("/exportByNamespace")
     @RequiresPermissions("system:manager:exportConfig")
-    public ResponseEntity<byte[]> exportConfigsByNamespace(final String namespace, final HttpServletResponse response) {
-        ShenyuAdminResult result = configsService.configsExport(namespace);
-        if (!Objects.equals(CommonErrorCode.SUCCESSFUL, result.getCode())) {
-            throw new ShenyuException(result.getMessage());
-        }
+    public ResponseEntity<StreamingResponseBody> exportConfigsByNamespace(final String namespace, final HttpServletResponse response) {
         HttpHeaders headers = new HttpHeaders();
         String fileName = generateFileName(namespace);
         response.setHeader("Access-Control-Expose-Headers", "Content-Disposition");
         headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>((byte[]) result.getData(), headers, HttpStatus.OK);
+        // the sections are paged from the database straight into the response
+        StreamingResponseBody body = outputStream -> configsService.configsExport(namespace, outputStream);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
 
     /**
@@ -134,8 +134,8 @@ public class ConfigsExportImportController {
         if (StringUtils.isBlank(namespace) || Objects.isNull(file)) {
             return ShenyuAdminResult.error(ShenyuResultMessage.PARAMETER_ERROR);
         }
-        try {
-            ShenyuAdminResult importResult = configsService.configsImport(namespace, file.getBytes());
+        try (InputStream source = file.getInputStream()) {
+            ShenyuAdminResult importResult = configsService.configsImport(namespace, source);
             if (Objects.equals(CommonErrorCode.SUCCESSFUL, importResult.getCode())) {
                 // sync data only for the target namespace to avoid cross-namespace refresh events
                 syncDataService.syncAllByNamespaceId(DataEventTypeEnum.REFRESH, namespace);
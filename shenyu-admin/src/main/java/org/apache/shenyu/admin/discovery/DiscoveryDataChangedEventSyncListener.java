@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.discovery;
 
+import com.google.common.collect.Lists;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.discovery.listener.DataChangedEventListener;
@@ -26,6 +27,7 @@ import org.apache.shenyu.admin.listener.DataChangedEvent;
 import org.apache.shenyu.admin.mapper.DiscoveryUpstreamMapper;
 import org.apache.shenyu.admin.model.entity.DiscoveryUpstreamDO;
 import org.apache.shenyu.admin.transfer.DiscoveryTransfer;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.dto.DiscoverySyncData;
 import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
@@ -39,9 +41,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
@@ -53,6 +63,19 @@ public class DiscoveryDataChangedEventSyncListener implements DataChangedEventLi
 
     private static final Logger LOG = LoggerFactory.getLogger(DiscoveryDataChangedEventSyncListener.class);
 
+    /**
+     * the changes of a handler within this window are published as one event.
+     */
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+    /**
+     * the max upstreams written by one statement, oracle rejects IN lists of more than 1000 items.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final ScheduledExecutorService PUBLISH_SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            ShenyuThreadFactory.create("discovery-upstream-sync", true));
+
     private final KeyValueParser keyValueParser;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -63,16 +86,33 @@ public class DiscoveryDataChangedEventSyncListener implements DataChangedEventLi
 
     private final String discoveryId;
 
+    private final long debounceMillis;
+
+    /**
+     * discovery handler id and selector id -> the latest upstream set waiting to be published.
+     */
+    private final Map<String, DiscoverySyncData> pendingSyncData = new ConcurrentHashMap<>();
+
     public DiscoveryDataChangedEventSyncListener(final ApplicationEventPublisher eventPublisher,
                                                  final DiscoveryUpstreamMapper discoveryUpstreamMapper,
                                                  final KeyValueParser keyValueParser,
                                                  final DiscoverySyncData contextInfo,
                                                  final String discoveryId) {
+        this(eventPublisher, discoveryUpstreamMapper, keyValueParser, contextInfo, discoveryId, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public DiscoveryDataChangedEventSyncListener(final ApplicationEventPublisher eventPublisher,
+                                                 final DiscoveryUpstreamMapper discoveryUpstreamMapper,
+                                                 final KeyValueParser keyValueParser,
+                                                 final DiscoverySyncData contextInfo,
+                                                 final String discoveryId,
+                                                 final long debounceMillis) {
         this.discoverySyncDataList = new ArrayList<>();
         this.eventPublisher = eventPublisher;
         this.keyValueParser = keyValueParser;
         this.discoveryId = discoveryId;
         this.discoveryUpstreamMapper = discoveryUpstreamMapper;
+        this.debounceMillis = debounceMillis;
         discoverySyncDataList.add(contextInfo);
     }
 
@@ -99,43 +139,142 @@ public class DiscoveryDataChangedEventSyncListener implements DataChangedEventLi
             return;
         }
         final String discoveryHandlerId = discoverySyncData.getDiscoveryHandlerId();
+        // load the current upstream set once, the difference is applied in a single statement
+        final Map<String, DiscoveryUpstreamDO> currentUpstreams = discoveryUpstreamMapper.selectByDiscoveryHandlerId(discoveryHandlerId).stream()
+                .collect(Collectors.toMap(DiscoveryUpstreamDO::getUpstreamUrl, Function.identity(), (u1, u2) -> u1, LinkedHashMap::new));
+        final Map<String, DiscoveryUpstreamData> changedUpstreams = upstreamDataList.stream()
+                .collect(Collectors.toMap(DiscoveryUpstreamData::getUrl, Function.identity(), (u1, u2) -> u2, LinkedHashMap::new));
+        final boolean changed;
         switch (currentEvent) {
             case ADDED:
-                upstreamDataList.forEach(d -> {
-                    try {
-                        DiscoveryUpstreamDO discoveryUpstreamDO = discoveryUpstreamMapper.selectByDiscoveryHandlerIdAndUrl(discoveryHandlerId, d.getUrl());
-                        if (Objects.isNull(discoveryUpstreamDO)) {
-                            d.setId(UUIDUtils.getInstance().generateShortUuid());
-                            d.setDateCreated(new Timestamp(System.currentTimeMillis()));
-                            d.setDateUpdated(new Timestamp(System.currentTimeMillis()));
-                            discoveryUpstreamMapper.insert(DiscoveryTransfer.INSTANCE.mapToDo(d));
-                            LOG.info("[DiscoveryDataChangedEventSyncListener] ADDED Upstream {}", d.getUrl());
-                        }
-                    } catch (DuplicateKeyException ex) {
-                        LOG.info("[DiscoveryDataChangedEventSyncListener]  Upstream {} exist", d.getUrl());
-                    }
-                });
+                changed = addUpstreams(discoveryHandlerId, currentUpstreams, changedUpstreams.values());
                 break;
             case UPDATED:
-                upstreamDataList.stream().map(DiscoveryTransfer.INSTANCE::mapToDo).forEach(discoveryUpstreamDO -> {
-                    discoveryUpstreamDO.setDiscoveryHandlerId(discoveryHandlerId);
-                    int effect = discoveryUpstreamMapper.updateDiscoveryHandlerIdAndUrl(discoveryUpstreamDO);
-                    LOG.info("[DiscoveryDataChangedEventSyncListener] UPDATE Upstream {}, effect = {} ", discoveryUpstreamDO.getUpstreamUrl(), effect);
-                });
+                changed = updateUpstreams(currentUpstreams, changedUpstreams.values());
                 break;
             case DELETED:
-                if (CollectionUtils.isNotEmpty(upstreamDataList)) {
-                    upstreamDataList.forEach(up -> {
-                        discoveryUpstreamMapper.deleteByUrl(discoveryHandlerId, up.getUrl());
-                        LOG.info("[DiscoveryDataChangedEventSyncListener] DELETE Upstream {}", up.getUrl());
-                    });
-                }
+                changed = deleteUpstreams(currentUpstreams, changedUpstreams.keySet());
                 break;
             default:
                 throw new IllegalStateException("DiscoveryDataChangedEventSyncListener find IllegalState");
         }
-        DataChangedEvent dataChangedEvent = new DataChangedEvent(ConfigGroupEnum.DISCOVER_UPSTREAM, DataEventTypeEnum.UPDATE, Collections.singletonList(syncData));
-        eventPublisher.publishEvent(dataChangedEvent);
+        if (changed) {
+            syncData.setUpstreamDataList(currentUpstreams.values().stream().map(this::buildUpstreamData).collect(Collectors.toList()));
+            publishDebounced(discoveryHandlerId + ":" + syncData.getSelectorId(), syncData);
+        }
+    }
+
+    private boolean addUpstreams(final String discoveryHandlerId, final Map<String, DiscoveryUpstreamDO> currentUpstreams,
+                                 final Collection<DiscoveryUpstreamData> upstreams) {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        final List<DiscoveryUpstreamDO> addedUpstreams = new ArrayList<>();
+        upstreams.stream().filter(d -> !currentUpstreams.containsKey(d.getUrl())).forEach(d -> {
+            d.setId(UUIDUtils.getInstance().generateShortUuid());
+            d.setDateCreated(now);
+            d.setDateUpdated(now);
+            addedUpstreams.add(DiscoveryTransfer.INSTANCE.mapToDo(d));
+        });
+        if (addedUpstreams.isEmpty()) {
+            return false;
+        }
+        final List<DiscoveryUpstreamDO> savedUpstreams = new ArrayList<>(addedUpstreams.size());
+        for (List<DiscoveryUpstreamDO> batch : Lists.partition(addedUpstreams, BATCH_SIZE)) {
+            try {
+                discoveryUpstreamMapper.saveBatch(batch);
+                savedUpstreams.addAll(batch);
+            } catch (DuplicateKeyException ex) {
+                // another admin added some of them meanwhile, fall back to adding them one by one
+                LOG.info("[DiscoveryDataChangedEventSyncListener] Upstreams of {} exist, add them one by one", discoveryHandlerId);
+                batch.stream().filter(this::insertIfAbsent).forEach(savedUpstreams::add);
+            }
+        }
+        savedUpstreams.forEach(upstream -> {
+            currentUpstreams.put(upstream.getUpstreamUrl(), upstream);
+            LOG.info("[DiscoveryDataChangedEventSyncListener] ADDED Upstream {}", upstream.getUpstreamUrl());
+        });
+        return !savedUpstreams.isEmpty();
+    }
+
+    private boolean insertIfAbsent(final DiscoveryUpstreamDO upstream) {
+        try {
+            return discoveryUpstreamMapper.insert(upstream) > 0;
+        } catch (DuplicateKeyException ex) {
+            LOG.info("[DiscoveryDataChangedEventSyncListener]  Upstream {} exist", upstream.getUpstreamUrl());
+            return false;
+        }
+    }
+
+    private boolean updateUpstreams(final Map<String, DiscoveryUpstreamDO> currentUpstreams, final Collection<DiscoveryUpstreamData> upstreams) {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        final List<DiscoveryUpstreamDO> updatedUpstreams = new ArrayList<>();
+        for (DiscoveryUpstreamData upstream : upstreams) {
+            DiscoveryUpstreamDO current = currentUpstreams.get(upstream.getUrl());
+            if (Objects.isNull(current) || !isChanged(current, upstream)) {
+                continue;
+            }
+            current.setProtocol(upstream.getProtocol());
+            current.setUpstreamStatus(upstream.getStatus());
+            current.setWeight(upstream.getWeight());
+            current.setProps(upstream.getProps());
+            current.setDateUpdated(now);
+            updatedUpstreams.add(current);
+        }
+        if (updatedUpstreams.isEmpty()) {
+            return false;
+        }
+        int effect = 0;
+        for (List<DiscoveryUpstreamDO> batch : Lists.partition(updatedUpstreams, BATCH_SIZE)) {
+            effect += discoveryUpstreamMapper.updateBatch(batch);
+        }
+        LOG.info("[DiscoveryDataChangedEventSyncListener] UPDATE Upstreams {}, effect = {} ", updatedUpstreams.size(), effect);
+        return true;
+    }
+
+    private boolean isChanged(final DiscoveryUpstreamDO current, final DiscoveryUpstreamData upstream) {
+        return !Objects.equals(current.getProtocol(), upstream.getProtocol())
+                || current.getUpstreamStatus() != upstream.getStatus()
+                || current.getWeight() != upstream.getWeight()
+                || !Objects.equals(current.getProps(), upstream.getProps());
+    }
+
+    private boolean deleteUpstreams(final Map<String, DiscoveryUpstreamDO> currentUpstreams, final Collection<String> urls) {
+        final List<String> deletedIds = urls.stream()
+                .map(currentUpstreams::remove)
+                .filter(Objects::nonNull)
+                .map(DiscoveryUpstreamDO::getId)
+                .collect(Collectors.toList());
+        if (deletedIds.isEmpty()) {
+            return false;
+        }
+        Lists.partition(deletedIds, BATCH_SIZE).forEach(discoveryUpstreamMapper::deleteByIds);
+        LOG.info("[DiscoveryDataChangedEventSyncListener] DELETE Upstreams {}", urls);
+        return true;
+    }
+
+    private DiscoveryUpstreamData buildUpstreamData(final DiscoveryUpstreamDO discoveryUpstreamDO) {
+        DiscoveryUpstreamData discoveryUpstreamData = DiscoveryTransfer.INSTANCE.mapToData(discoveryUpstreamDO);
+        discoveryUpstreamData.setNamespaceId(discoveryUpstreamDO.getNamespaceId());
+        return discoveryUpstreamData;
+    }
+
+    /**
+     * Publish the whole upstream set of the selector once the debounce window ends,
+     * the changes made meanwhile only replace the pending set.
+     *
+     * @param key the discovery handler id and selector id
+     * @param syncData the upstream set
+     */
+    private void publishDebounced(final String key, final DiscoverySyncData syncData) {
+        if (Objects.isNull(pendingSyncData.put(key, syncData))) {
+            PUBLISH_SCHEDULER.schedule(() -> publish(key), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void publish(final String key) {
+        DiscoverySyncData syncData = pendingSyncData.remove(key);
+        if (Objects.nonNull(syncData)) {
+            eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.DISCOVER_UPSTREAM, DataEventTypeEnum.UPDATE, Collections.singletonList(syncData)));
+        }
     }
 
     private DiscoverySyncData buildProxySelectorData(final DiscoverySyncData discoverySyncData, final String value) {
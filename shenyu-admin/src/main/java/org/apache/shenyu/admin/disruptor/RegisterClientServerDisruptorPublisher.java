@@ -28,12 +28,15 @@ import org.apache.shenyu.admin.service.DiscoveryService;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * The type Disruptor publisher.
@@ -44,6 +47,8 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
     
     private DisruptorProviderManage<Collection<DataTypeParent>> providerManage;
     
+    private volatile URIRegisterCoalescer uriRegisterCoalescer;
+    
     /**
      * Gets instance.
      *
@@ -60,6 +65,18 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
      * @param discoveryService the discovery service
      */
     public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService) {
+        start(shenyuClientRegisterService, discoveryService, 0);
+    }
+    
+    /**
+     * start.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param discoveryService the discovery service
+     * @param uriCoalesceWindow the window in milliseconds the uri registrations of a service are coalesced in, 0 disables it
+     */
+    public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final DiscoveryService discoveryService,
+                      final long uriCoalesceWindow) {
         RegisterServerExecutorFactory factory = new RegisterServerExecutorFactory();
         factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new MetadataExecutorSubscriber(shenyuClientRegisterService));
@@ -68,23 +85,47 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
         factory.addSubscribers(new McpToolsRegisterExecutorSubscriber(shenyuClientRegisterService));
         providerManage = new DisruptorProviderManage<>(factory);
         providerManage.startup();
+        if (Objects.nonNull(uriRegisterCoalescer)) {
+            uriRegisterCoalescer.close();
+        }
+        uriRegisterCoalescer = uriCoalesceWindow > 0
+                ? new URIRegisterCoalescer(uriCoalesceWindow, dataList -> providerManage.getProvider().onData(new ArrayList<>(dataList)))
+                : null;
     }
     
     @Override
     public void publish(final DataTypeParent data) {
+        URIRegisterCoalescer coalescer = uriRegisterCoalescer;
+        if (Objects.nonNull(coalescer) && data instanceof URIRegisterDTO) {
+            coalescer.submit((URIRegisterDTO) data);
+            return;
+        }
         DisruptorProvider<Collection<DataTypeParent>> provider = providerManage.getProvider();
         provider.onData(Collections.singleton(data));
     }
     
     @Override
     public void publish(final Collection<? extends DataTypeParent> dataList) {
-        DisruptorProvider<Collection<DataTypeParent>> provider = providerManage.getProvider();
-        provider.onData(dataList.stream().map(DataTypeParent.class::cast).collect(Collectors.toList()));
-        
+        URIRegisterCoalescer coalescer = uriRegisterCoalescer;
+        List<DataTypeParent> others = new ArrayList<>(dataList.size());
+        for (DataTypeParent data : dataList) {
+            if (Objects.nonNull(coalescer) && data instanceof URIRegisterDTO) {
+                coalescer.submit((URIRegisterDTO) data);
+            } else {
+                others.add(data);
+            }
+        }
+        if (!others.isEmpty()) {
+            DisruptorProvider<Collection<DataTypeParent>> provider = providerManage.getProvider();
+            provider.onData(others);
+        }
     }
     
     @Override
     public void close() {
+        if (Objects.nonNull(uriRegisterCoalescer)) {
+            uriRegisterCoalescer.close();
+        }
         providerManage.getProvider().shutdown();
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.disruptor;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
+import org.apache.shenyu.register.common.enums.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces the uri registrations of a service within a window.
+ *
+ * <p>The first registration of a service opens its window, the later ones only replace the pending
+ * event of their instance, so a register and offline flap of an instance ends as its last event.
+ * A heartbeat never replaces a pending register or offline. When the window closes the pending
+ * events of the service are handed over as one collection.</p>
+ */
+public final class URIRegisterCoalescer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(URIRegisterCoalescer.class);
+
+    private final long windowMillis;
+
+    private final Consumer<Collection<URIRegisterDTO>> consumer;
+
+    private final Map<String, Map<String, URIRegisterDTO>> buffers = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean closed;
+
+    /**
+     * Instantiates a new uri register coalescer.
+     *
+     * @param windowMillis the window in milliseconds
+     * @param consumer     consumes the coalesced registrations of a service
+     */
+    public URIRegisterCoalescer(final long windowMillis, final Consumer<Collection<URIRegisterDTO>> consumer) {
+        this.windowMillis = windowMillis;
+        this.consumer = consumer;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("uri-register-coalescer", true));
+    }
+
+    /**
+     * Submit a uri registration.
+     *
+     * @param uriRegisterDTO the uri registration
+     */
+    public void submit(final URIRegisterDTO uriRegisterDTO) {
+        final String service = serviceKey(uriRegisterDTO);
+        if (closed) {
+            // a late registration after close is published on its own
+            publish(service, Collections.singletonList(uriRegisterDTO));
+            return;
+        }
+        final boolean[] opened = new boolean[1];
+        buffers.compute(service, (key, pending) -> {
+            Map<String, URIRegisterDTO> buffer = pending;
+            if (Objects.isNull(buffer)) {
+                buffer = new LinkedHashMap<>();
+                opened[0] = true;
+            }
+            buffer.merge(instanceKey(uriRegisterDTO), uriRegisterDTO, URIRegisterCoalescer::merge);
+            return buffer;
+        });
+        if (opened[0]) {
+            schedule(service);
+        }
+    }
+
+    /**
+     * Hand over all the pending registrations and stop, later registrations are published directly.
+     */
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        new ArrayList<>(buffers.keySet()).forEach(this::flush);
+    }
+
+    private void schedule(final String service) {
+        try {
+            scheduler.schedule(() -> flush(service), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // closed while the window was opened, nothing would close it any more
+            flush(service);
+        }
+    }
+
+    private void flush(final String service) {
+        // the buffer is only changed inside compute, once removed it is no longer shared
+        final Map<String, URIRegisterDTO> buffer = buffers.remove(service);
+        if (Objects.isNull(buffer) || buffer.isEmpty()) {
+            return;
+        }
+        publish(service, new ArrayList<>(buffer.values()));
+    }
+
+    private void publish(final String service, final Collection<URIRegisterDTO> registrations) {
+        try {
+            consumer.accept(registrations);
+        } catch (Exception e) {
+            LOG.error("publish the coalesced uri registrations of {} error", service, e);
+        }
+    }
+
+    private static URIRegisterDTO merge(final URIRegisterDTO pending, final URIRegisterDTO current) {
+        if (EventType.HEARTBEAT == current.getEventType() && EventType.HEARTBEAT != pending.getEventType()) {
+            return pending;
+        }
+        return current;
+    }
+
+    private static String serviceKey(final URIRegisterDTO uriRegisterDTO) {
+        final String selectorName = StringUtils.isNotEmpty(uriRegisterDTO.getContextPath())
+                ? uriRegisterDTO.getContextPath() : uriRegisterDTO.getAppName();
+        return String.join("|", uriRegisterDTO.getRpcType(), uriRegisterDTO.getNamespaceId(), selectorName);
+    }
+
+    private static String instanceKey(final URIRegisterDTO uriRegisterDTO) {
+        return uriRegisterDTO.getHost() + ":" + uriRegisterDTO.getPort();
+    }
+}
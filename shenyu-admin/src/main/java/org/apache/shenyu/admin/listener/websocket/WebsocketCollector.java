@@ -36,6 +36,7 @@ import org.apache.shenyu.common.enums.RunningModeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +48,8 @@ import jakarta.websocket.Session;
 import jakarta.websocket.server.ServerEndpoint;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -242,17 +245,18 @@ public class WebsocketCollector {
             return;
         }
         
+        SyncMessage syncMessage = new SyncMessage(message);
         if (DataEventTypeEnum.MYSELF == type) {
             Session session = (Session) ThreadLocalUtils.get(SESSION_KEY);
             if (Objects.nonNull(session)) {
                 if (session.isOpen()) {
-                    sendMessageBySession(session, message);
+                    sendMessageBySession(session, syncMessage);
                 } else {
                     SESSION_SET.remove(session);
                 }
             }
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            SESSION_SET.forEach(session -> sendMessageBySession(session, syncMessage));
         }
         
     }
@@ -272,29 +276,51 @@ public class WebsocketCollector {
             throw new ShenyuException("namespaceId can not be null");
         }
         LOG.info("websocket send message to namespaceId: {}, message: {}", namespaceId, maskSensitive(message));
+        // the frames are encoded once for all the sessions asking for them
+        SyncMessage syncMessage = new SyncMessage(message);
         if (DataEventTypeEnum.MYSELF == type) {
             Session session = (Session) ThreadLocalUtils.get(SESSION_KEY);
             if (Objects.nonNull(session)) {
                 if (session.isOpen()) {
-                    sendMessageBySession(session, message);
+                    sendMessageBySession(session, syncMessage);
                 } else {
                     NAMESPACE_SESSION_MAP.getOrDefault(namespaceId, Sets.newConcurrentHashSet()).remove(session);
                 }
             }
         } else {
             NAMESPACE_SESSION_MAP.getOrDefault(namespaceId, Sets.newConcurrentHashSet())
-                    .forEach(session -> sendMessageBySession(session, message));
+                    .forEach(session -> sendMessageBySession(session, syncMessage));
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
+    private static void sendMessageBySession(final Session session, final String message) {
+        sendMessageBySession(session, new SyncMessage(message));
+    }
+
+    private static synchronized void sendMessageBySession(final Session session, final SyncMessage message) {
         try {
-            session.getBasicRemote().sendText(message);
+            Integer chunkSize = getChunkSize(session);
+            if (Objects.isNull(chunkSize)) {
+                session.getBasicRemote().sendText(message.text);
+                return;
+            }
+            for (ByteBuffer frame : message.frames(chunkSize)) {
+                session.getBasicRemote().sendBinary(frame.duplicate());
+            }
         } catch (IOException e) {
             LOG.error("websocket send result is exception: ", e);
         }
     }
+
+    private static Integer getChunkSize(final Session session) {
+        Map<String, Object> userProperties = session.getUserProperties();
+        if (MapUtils.isEmpty(userProperties)) {
+            return null;
+        }
+        Object chunkSize = userProperties.get(Constants.SYNC_ENCODING_NAME);
+        return chunkSize instanceof Integer ? (Integer) chunkSize : null;
+    }
     
     private void clearSession(final Session session) {
         SESSION_SET.remove(session);
@@ -325,4 +351,28 @@ public class WebsocketCollector {
             return json;
         }
     }
+
+    /**
+     * A message to send, with its compressed frames encoded on first use.
+     */
+    private static final class SyncMessage {
+
+        private final String text;
+
+        private List<ByteBuffer> frames;
+
+        private int chunkSize;
+
+        SyncMessage(final String text) {
+            this.text = text;
+        }
+
+        private List<ByteBuffer> frames(final int chunkSize) {
+            if (Objects.isNull(frames) || this.chunkSize != chunkSize) {
+                frames = WebsocketFrameUtils.encode(text, chunkSize);
+                this.chunkSize = chunkSize;
+            }
+            return frames;
+        }
+    }
 }
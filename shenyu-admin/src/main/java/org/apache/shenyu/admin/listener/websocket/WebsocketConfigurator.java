@@ -33,6 +33,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.ServletContextInitializer;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.Objects;
+
 import static org.apache.tomcat.websocket.server.Constants.BINARY_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
 import static org.apache.tomcat.websocket.server.Constants.TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM;
 
@@ -56,9 +59,23 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator imp
         sec.getUserProperties().put(WebsocketListener.CLIENT_IP_NAME, httpSession.getAttribute(WebsocketListener.CLIENT_IP_NAME));
         sec.getUserProperties().put(Constants.CLIENT_PORT_NAME, httpSession.getAttribute(Constants.CLIENT_PORT_NAME));
         sec.getUserProperties().put(Constants.SHENYU_NAMESPACE_ID, httpSession.getAttribute(Constants.SHENYU_NAMESPACE_ID));
+        negotiateEncoding(sec, request);
         super.modifyHandshake(sec, request, response);
     }
 
+    private void negotiateEncoding(final ServerEndpointConfig sec, final HandshakeRequest request) {
+        List<String> encodings = request.getHeaders().get(Constants.SYNC_ENCODING_NAME);
+        if (Objects.nonNull(encodings) && encodings.contains(Constants.SYNC_ENCODING_DEFLATE)) {
+            final WebsocketSyncProperties bean = SpringBeanUtils.getInstance().getBean(WebsocketSyncProperties.class);
+            if (bean.isCompress()) {
+                // the chunk size marks the session as accepting compressed binary frames
+                sec.getUserProperties().put(Constants.SYNC_ENCODING_NAME, bean.getChunkSize());
+                return;
+            }
+        }
+        sec.getUserProperties().remove(Constants.SYNC_ENCODING_NAME);
+    }
+
     @Override
     public boolean checkOrigin(final String originHeaderValue) {
         final WebsocketSyncProperties bean = SpringBeanUtils.getInstance().getBean(WebsocketSyncProperties.class);
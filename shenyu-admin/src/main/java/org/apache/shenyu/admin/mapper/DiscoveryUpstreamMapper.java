@@ -126,6 +126,14 @@ public interface DiscoveryUpstreamMapper extends ExistProvider {
      */
     int saveBatch(@Param("list") List<DiscoveryUpstreamDO> list);
 
+    /**
+     * update the protocol, status, weight and props of the discovery upstream list by id in one statement.
+     *
+     * @param list discovery upstream list
+     * @return rows int
+     */
+    int updateBatch(@Param("list") List<DiscoveryUpstreamDO> list);
+
     /**
      * delete discovery upstream by discovery handler id.
      *
@@ -85,6 +85,14 @@ public interface RuleConditionMapper {
      * @return rows
      */
     int insertSelective(RuleConditionDO ruleConditionDO);
+
+    /**
+     * batch insert rule conditions.
+     *
+     * @param ruleConditionDOList list of {@linkplain RuleConditionDO}
+     * @return rows
+     */
+    int insertBatch(@Param("ruleConditionDOList") List<RuleConditionDO> ruleConditionDOList);
     
     /**
      * update rule condition.
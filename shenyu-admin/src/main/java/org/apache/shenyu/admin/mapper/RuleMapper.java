@@ -115,6 +115,14 @@ public interface RuleMapper extends ExistProvider {
      */
     int insertSelective(RuleDO ruleDO);
 
+    /**
+     * batch insert rules.
+     *
+     * @param ruleDOList list of {@linkplain RuleDO}
+     * @return rows int
+     */
+    int insertBatch(@Param("ruleDOList") List<RuleDO> ruleDOList);
+
     /**
      * update rule.
      *
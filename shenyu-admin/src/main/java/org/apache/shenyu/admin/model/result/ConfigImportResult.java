@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.admin.model.result;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.io.Serializable;
 
 /**
@@ -71,6 +73,23 @@ public class ConfigImportResult implements Serializable {
         return new ConfigImportResult(successCount, failMessage);
     }
 
+    /**
+     * Merge the result of another import batch.
+     *
+     * @param other the result of another batch
+     * @return {@linkplain ConfigImportResult}
+     */
+    public ConfigImportResult merge(final ConfigImportResult other) {
+        int count = successCount + other.getSuccessCount();
+        if (StringUtils.isEmpty(other.getFailMessage())) {
+            return new ConfigImportResult(count, failMessage);
+        }
+        if (StringUtils.isEmpty(failMessage)) {
+            return new ConfigImportResult(count, other.getFailMessage());
+        }
+        return new ConfigImportResult(count, failMessage + ";" + other.getFailMessage());
+    }
+
     /**
      * Gets the success count.
      *
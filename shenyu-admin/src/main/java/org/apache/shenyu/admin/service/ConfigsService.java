@@ -19,6 +19,10 @@ package org.apache.shenyu.admin.service;
 
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 /**
  * this is configs import/export service.
  */
@@ -39,6 +43,15 @@ public interface ConfigsService {
      */
     ShenyuAdminResult configsExport(String namespace);
 
+    /**
+     * Export all configs of the namespace straight into the output stream.
+     *
+     * @param namespace namespace
+     * @param outputStream the zip output stream
+     * @throws IOException if the configs can not be written
+     */
+    void configsExport(String namespace, OutputStream outputStream) throws IOException;
+
     /**
      * Import configs.
      *
@@ -56,4 +69,14 @@ public interface ConfigsService {
      */
     ShenyuAdminResult configsImport(String namespace, byte[] source);
 
+    /**
+     * Import configs from the zip stream, section by section.
+     *
+     * @param namespace namespace
+     * @param source the zip input stream
+     * @return shenyu admin result
+     * @throws IOException if the configs can not be read
+     */
+    ShenyuAdminResult configsImport(String namespace, InputStream source) throws IOException;
+
 }
@@ -34,6 +34,7 @@ import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * this is rule service.
@@ -143,6 +144,15 @@ public interface RuleService extends PageService<RuleQueryCondition, RuleVO> {
      */
     List<RuleVO> listAllDataByNamespaceId(String namespaceId);
 
+    /**
+     * List all the rule vo list page by page, ordered by id.
+     *
+     * @param namespaceId the namespaceId
+     * @param pageSize the rows loaded for every page
+     * @param consumer the consumer of every page
+     */
+    void listAllDataByNamespaceId(String namespaceId, int pageSize, Consumer<? super List<RuleVO>> consumer);
+
     /**
      * Find by selector id list.
      *
@@ -33,6 +33,7 @@ import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * this is selector service.
@@ -248,6 +249,15 @@ public interface SelectorService extends PageService<SelectorQueryCondition, Sel
      */
     List<SelectorVO> listAllDataByNamespaceId(String namespaceId);
 
+    /**
+     * List all the export vo list page by page, ordered by id.
+     *
+     * @param namespaceId the namespaceId
+     * @param pageSize the rows loaded for every page
+     * @param consumer the consumer of every page
+     */
+    void listAllDataByNamespaceId(String namespaceId, int pageSize, Consumer<? super List<SelectorVO>> consumer);
+
     /**
      * Import the plugin selector list.
      *
@@ -18,6 +18,12 @@
 package org.apache.shenyu.admin.service.configs;
 
 
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Optional;
 
 public interface ConfigsExportImportHandler {
@@ -26,5 +32,35 @@ public interface ConfigsExportImportHandler {
 
     Optional<String> configsExport(String namespaceId);
 
+    /**
+     * Export the configs of the namespace into the writer, handlers of large sections stream them page by page.
+     *
+     * @param namespaceId the namespace id
+     * @param writer the entry writer, nothing is written when there is no config
+     * @throws IOException if the entry can not be written
+     */
+    default void configsExport(final String namespaceId, final Writer writer) throws IOException {
+        Optional<String> data = configsExport(namespaceId);
+        if (data.isPresent()) {
+            writer.write(data.get());
+        }
+    }
+
     void configsImport(String namespaceId, String data, ConfigsImportContext context);
+
+    /**
+     * Import the configs read from the reader, handlers of large sections import them batch by batch.
+     *
+     * @param namespaceId the namespace id
+     * @param reader the entry reader
+     * @param context the import context
+     * @throws IOException if the entry can not be read
+     */
+    default void configsImport(final String namespaceId, final Reader reader, final ConfigsImportContext context) throws IOException {
+        StringWriter data = new StringWriter();
+        reader.transferTo(data);
+        if (StringUtils.isNoneBlank(data.toString())) {
+            configsImport(namespaceId, data.toString(), context);
+        }
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.service.configs;
+
+import com.google.gson.stream.JsonReader;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.JsonUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the json array of a configs entry, so large sections are never held in memory as a whole.
+ */
+public final class ConfigsJsonStreams {
+
+    /**
+     * the rows loaded from the database for every export page.
+     */
+    public static final int EXPORT_PAGE_SIZE = 500;
+
+    /**
+     * the rows imported in every batch, each batch is imported in its own transaction.
+     */
+    public static final int IMPORT_BATCH_SIZE = 500;
+
+    private ConfigsJsonStreams() {
+    }
+
+    /**
+     * Read the json array element by element, handing them to the consumer in batches.
+     *
+     * @param reader the entry reader
+     * @param clazz the element class
+     * @param batchSize the batch size
+     * @param batchConsumer the batch consumer
+     * @param <T> the element type
+     * @throws IOException if the entry can not be read
+     */
+    public static <T> void readArray(final Reader reader, final Class<T> clazz, final int batchSize,
+                                     final Consumer<List<T>> batchConsumer) throws IOException {
+        JsonReader jsonReader = new JsonReader(reader);
+        try {
+            jsonReader.peek();
+        } catch (EOFException e) {
+            // blank entry, nothing to import
+            return;
+        }
+        List<T> batch = new ArrayList<>(batchSize);
+        jsonReader.beginArray();
+        while (jsonReader.hasNext()) {
+            batch.add(GsonUtils.getGson().fromJson(jsonReader, clazz));
+            if (batch.size() >= batchSize) {
+                batchConsumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        jsonReader.endArray();
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * Writes the pages it accepts as one json array, nothing is written when all pages are empty.
+     */
+    public static class ArrayWriter implements Consumer<List<?>> {
+
+        private final Writer writer;
+
+        private boolean empty = true;
+
+        public ArrayWriter(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(final List<?> items) {
+            try {
+                for (Object item : items) {
+                    writer.write(empty ? "[" : ",");
+                    writer.write(JsonUtils.toJson(item));
+                    empty = false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Close the json array.
+         *
+         * @throws IOException if the entry can not be written
+         */
+        public void finish() throws IOException {
+            if (!empty) {
+                writer.write("]");
+            }
+        }
+    }
+}
@@ -28,8 +28,12 @@ import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 public class RuleDataConfigsExportImportHandler implements ConfigsExportImportHandler {
@@ -54,6 +58,13 @@ public class RuleDataConfigsExportImportHandler implements ConfigsExportImportHa
         return Optional.empty();
     }
 
+    @Override
+    public void configsExport(final String namespaceId, final Writer writer) throws IOException {
+        ConfigsJsonStreams.ArrayWriter arrayWriter = new ConfigsJsonStreams.ArrayWriter(writer);
+        ruleService.listAllDataByNamespaceId(namespaceId, ConfigsJsonStreams.EXPORT_PAGE_SIZE, arrayWriter);
+        arrayWriter.finish();
+    }
+
     @Override
     public void configsImport(final String namespaceId, final String data, final ConfigsImportContext context) {
         List<RuleDTO> ruleList = GsonUtils.getInstance().fromList(data, RuleDTO.class);
@@ -63,4 +74,15 @@ public class RuleDataConfigsExportImportHandler implements ConfigsExportImportHa
             context.getResult().put(ExportImportConstants.RULE_IMPORT_FAIL_MESSAGE, configImportResult.getFailMessage());
         }
     }
+
+    @Override
+    public void configsImport(final String namespaceId, final Reader reader, final ConfigsImportContext context) throws IOException {
+        AtomicReference<ConfigImportResult> configImportResult = new AtomicReference<>(ConfigImportResult.success());
+        ConfigsJsonStreams.readArray(reader, RuleDTO.class, ConfigsJsonStreams.IMPORT_BATCH_SIZE,
+            ruleList -> configImportResult.set(configImportResult.get().merge(ruleService.importData(namespaceId, ruleList, context))));
+        context.getResult().put(ExportImportConstants.RULE_IMPORT_SUCCESS_COUNT, configImportResult.get().getSuccessCount());
+        if (StringUtils.isNotEmpty(configImportResult.get().getFailMessage())) {
+            context.getResult().put(ExportImportConstants.RULE_IMPORT_FAIL_MESSAGE, configImportResult.get().getFailMessage());
+        }
+    }
 }
@@ -28,8 +28,12 @@ import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 public class SelectorDataConfigsExportImportHandler implements ConfigsExportImportHandler {
@@ -55,6 +59,16 @@ public class SelectorDataConfigsExportImportHandler implements ConfigsExportImpo
         return Optional.empty();
     }
 
+    @Override
+    public void configsExport(final String namespaceId, final Writer writer) throws IOException {
+        ConfigsJsonStreams.ArrayWriter arrayWriter = new ConfigsJsonStreams.ArrayWriter(writer);
+        selectorService.listAllDataByNamespaceId(namespaceId, ConfigsJsonStreams.EXPORT_PAGE_SIZE, selectorDataList -> {
+            selectorDataList.forEach(selectorVO -> selectorVO.setNamespaceId(null));
+            arrayWriter.accept(selectorDataList);
+        });
+        arrayWriter.finish();
+    }
+
     @Override
     public void configsImport(final String namespaceId, final String data, final ConfigsImportContext context) {
         List<SelectorDTO> selectorList = GsonUtils.getInstance().fromList(data, SelectorDTO.class);
@@ -64,4 +78,15 @@ public class SelectorDataConfigsExportImportHandler implements ConfigsExportImpo
             context.getResult().put(ExportImportConstants.SELECTOR_IMPORT_FAIL_MESSAGE, configImportResult.getFailMessage());
         }
     }
+
+    @Override
+    public void configsImport(final String namespaceId, final Reader reader, final ConfigsImportContext context) throws IOException {
+        AtomicReference<ConfigImportResult> configImportResult = new AtomicReference<>(ConfigImportResult.success());
+        ConfigsJsonStreams.readArray(reader, SelectorDTO.class, ConfigsJsonStreams.IMPORT_BATCH_SIZE,
+            selectorList -> configImportResult.set(configImportResult.get().merge(selectorService.importData(namespaceId, selectorList, context))));
+        context.getResult().put(ExportImportConstants.SELECTOR_IMPORT_SUCCESS_COUNT, configImportResult.get().getSuccessCount());
+        if (StringUtils.isNotEmpty(configImportResult.get().getFailMessage())) {
+            context.getResult().put(ExportImportConstants.SELECTOR_IMPORT_FAIL_MESSAGE, configImportResult.get().getFailMessage());
+        }
+    }
 }
@@ -61,15 +61,30 @@ import org.apache.shenyu.common.constant.ExportImportConstants;
 import org.apache.shenyu.common.dto.ProxySelectorData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
-import org.apache.shenyu.common.utils.ListUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 /**
  * Implementation of the {@link org.apache.shenyu.admin.service.ConfigsService}.
@@ -192,14 +207,27 @@ public class ConfigsServiceImpl implements ConfigsService {
     
     @Override
     public ShenyuAdminResult configsExport(final String namespace) {
-        List<ZipUtil.ZipItem> zipItemList = Lists.newArrayList();
-
-        for (ConfigsExportImportHandler configsExportImportHandler : configsExportImportHandlers) {
-            configsExportImportHandler.configsExport(namespace)
-                    .ifPresent(data -> zipItemList.add(new ZipUtil.ZipItem(configsExportImportHandler.configsEnum().getConfigName(), data)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            configsExport(namespace, out);
+        } catch (IOException e) {
+            LOG.error("an error occurred while compressing data.", e);
+            return ShenyuAdminResult.error(e.getMessage());
         }
+        return ShenyuAdminResult.success(out.toByteArray());
+    }
 
-        return ShenyuAdminResult.success(ZipUtil.zip(zipItemList));
+    @Override
+    public void configsExport(final String namespace, final OutputStream outputStream) throws IOException {
+        try (ZipUtil.ZipStreamWriter zipWriter = new ZipUtil.ZipStreamWriter(outputStream)) {
+            for (ConfigsExportImportHandler configsExportImportHandler : configsExportImportHandlers) {
+                try (Writer writer = zipWriter.entryWriter(configsExportImportHandler.configsEnum().getConfigName())) {
+                    configsExportImportHandler.configsExport(namespace, writer);
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        }
     }
     
     private void exportPluginHandleData(final List<ZipItem> zipItemList) {
@@ -387,21 +415,44 @@ public class ConfigsServiceImpl implements ConfigsService {
     
     @Override
     public ShenyuAdminResult configsImport(final String namespace, final byte[] source) {
-        ZipUtil.UnZipResult unZipResult = ZipUtil.unzip(source);
-        List<ZipUtil.ZipItem> zipItemList = unZipResult.getZipItemList();
-        if (CollectionUtils.isEmpty(zipItemList)) {
-            LOG.info("import file is empty");
+        try {
+            return configsImport(namespace, new ByteArrayInputStream(source));
+        } catch (IOException e) {
+            LOG.error("unzip error", e);
             return ShenyuAdminResult.success();
         }
-        ConfigsImportContext context = new ConfigsImportContext();
-        Map<String, ZipUtil.ZipItem> zipItemNameMap = ListUtil.toMap(zipItemList, ZipUtil.ZipItem::getItemName);
-        for (ConfigsExportImportHandler configsExportImportHandler : configsExportImportHandlers) {
-            ZipUtil.ZipItem zipItem = zipItemNameMap.get(configsExportImportHandler.configsEnum().getConfigName());
-            if (Objects.nonNull(zipItem) && StringUtils.isNoneBlank(zipItem.getItemData())) {
-                configsExportImportHandler.configsImport(namespace, zipItem.getItemData(), context);
+    }
+
+    @Override
+    public ShenyuAdminResult configsImport(final String namespace, final InputStream source) throws IOException {
+        // spool the upload, so the sections can be read in import order whatever their order in the archive
+        Path file = Files.createTempFile("shenyu-configs-import", ".zip");
+        try {
+            Files.copy(source, file, StandardCopyOption.REPLACE_EXISTING);
+            return configsImport(namespace, file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private ShenyuAdminResult configsImport(final String namespace, final Path file) throws IOException {
+        try (ZipFile zipFile = new ZipFile(file.toFile(), StandardCharsets.UTF_8)) {
+            if (zipFile.size() == 0) {
+                LOG.info("import file is empty");
+                return ShenyuAdminResult.success();
+            }
+            ConfigsImportContext context = new ConfigsImportContext();
+            for (ConfigsExportImportHandler configsExportImportHandler : configsExportImportHandlers) {
+                ZipEntry entry = zipFile.getEntry(configsExportImportHandler.configsEnum().getConfigName());
+                if (Objects.isNull(entry) || entry.isDirectory()) {
+                    continue;
+                }
+                try (Reader reader = new BufferedReader(new InputStreamReader(zipFile.getInputStream(entry), StandardCharsets.UTF_8))) {
+                    configsExportImportHandler.configsImport(namespace, reader, context);
+                }
             }
+            return ShenyuAdminResult.success(context.getResult());
         }
-        return ShenyuAdminResult.success(context.getResult());
     }
     
     private void importDiscoveryUpstreamData(final Map<String, Object> result, final ZipUtil.ZipItem zipItem) {
@@ -72,6 +72,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -258,6 +259,17 @@ public class RuleServiceImpl implements RuleService {
     public List<RuleVO> listAllDataByNamespaceId(final String namespaceId) {
         return this.buildRuleVOList(ruleMapper.selectAllByNamespaceId(namespaceId));
     }
+
+    @Override
+    public void listAllDataByNamespaceId(final String namespaceId, final int pageSize, final Consumer<? super List<RuleVO>> consumer) {
+        int pageNum = 1;
+        List<RuleDO> page;
+        do {
+            PageHelper.startPage(pageNum++, pageSize, false).setOrderBy("id");
+            page = ruleMapper.selectAllByNamespaceId(namespaceId);
+            consumer.accept(this.buildRuleVOList(page));
+        } while (page.size() >= pageSize);
+    }
     
     @Override
     public List<RuleData> findBySelectorId(final String selectorId) {
@@ -330,12 +342,19 @@ public class RuleServiceImpl implements RuleService {
             return ConfigImportResult.success();
         }
         Map<String, String> selectorIdMapping = context.getSelectorIdMapping();
-        Map<String, List<RuleDO>> selectorRuleMap = ruleMapper
-                .selectAllByNamespaceId(namespace)
+        // only the rules of the selectors in this import batch are needed to check the names
+        List<String> newSelectorIds = ruleList.stream()
+                .map(ruleDTO -> selectorIdMapping.get(ruleDTO.getSelectorId()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<String, List<RuleDO>> selectorRuleMap = newSelectorIds.isEmpty() ? Collections.emptyMap() : ruleMapper
+                .findBySelectorIds(newSelectorIds)
                 .stream()
                 .collect(Collectors.groupingBy(RuleDO::getSelectorId));
         
-        int successCount = 0;
+        List<RuleDO> ruleDOList = new ArrayList<>(ruleList.size());
+        List<RuleConditionDO> ruleConditionDOList = new ArrayList<>();
         StringBuilder errorMsgBuilder = new StringBuilder();
         for (RuleDTO ruleDTO : ruleList) {
             String selectorId = ruleDTO.getSelectorId();
@@ -365,16 +384,18 @@ public class RuleServiceImpl implements RuleService {
             String ruleId = UUIDUtils.getInstance().generateShortUuid();
             ruleDTO.setId(ruleId);
             RuleDO ruleDO = RuleDO.buildRuleDO(ruleDTO);
-            final int ruleCount = ruleMapper.insertSelective(ruleDO);
+            ruleDO.setDateCreated(ruleDO.getDateUpdated());
+            ruleDOList.add(ruleDO);
             Optional.ofNullable(ruleDTO.getRuleConditions())
                             .orElse(Collections.emptyList()).forEach(c -> {
                                 c.setRuleId(ruleId);
                                 c.setId(null);
+                                ruleConditionDOList.add(RuleConditionDO.buildRuleConditionDO(c));
                             });
-            addCondition(ruleDO, ruleDTO.getRuleConditions());
-            if (ruleCount > 0) {
-                successCount++;
-            }
+        }
+        int successCount = ruleDOList.isEmpty() ? 0 : ruleMapper.insertBatch(ruleDOList);
+        if (!ruleConditionDOList.isEmpty()) {
+            ruleConditionMapper.insertBatch(ruleConditionDOList);
         }
         if (StringUtils.isNotEmpty(errorMsgBuilder)) {
             errorMsgBuilder.setLength(errorMsgBuilder.length() - 1);
@@ -96,6 +96,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
@@ -473,6 +474,17 @@ public class SelectorServiceImpl implements SelectorService {
         return this.buildSelectorExportVOList(selectorMapper.selectAllByNamespaceId(namespaceId));
     }
 
+    @Override
+    public void listAllDataByNamespaceId(final String namespaceId, final int pageSize, final Consumer<? super List<SelectorVO>> consumer) {
+        int pageNum = 1;
+        List<SelectorDO> page;
+        do {
+            PageHelper.startPage(pageNum++, pageSize, false).setOrderBy("id");
+            page = selectorMapper.selectAllByNamespaceId(namespaceId);
+            consumer.accept(this.buildSelectorExportVOList(page));
+        } while (page.size() >= pageSize);
+    }
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public ConfigImportResult importData(final List<SelectorDTO> selectorList) {
@@ -37,6 +37,7 @@ import org.apache.shenyu.admin.service.converter.SelectorHandleConverterFactor;
 import org.apache.shenyu.admin.transfer.ConditionTransfer;
 import org.apache.shenyu.admin.transfer.DiscoveryTransfer;
 import org.apache.shenyu.admin.utils.CommonUpstreamUtils;
+import org.apache.shenyu.admin.utils.UpstreamProbeWindow;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
@@ -104,6 +105,12 @@ public class UpstreamCheckService {
 
     private final Integer scheduledThreads;
 
+    private final int checkMaxInFlight;
+
+    private final int checkTimeout;
+
+    private final long checkJitter;
+
     private final SelectorMapper selectorMapper;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -122,6 +129,8 @@ public class UpstreamCheckService {
 
     private ScheduledThreadPoolExecutor invokeExecutor;
 
+    private UpstreamProbeWindow probeWindow;
+
     private final List<CompletableFuture<Void>> futures = Lists.newArrayList();
 
     /**
@@ -152,6 +161,9 @@ public class UpstreamCheckService {
         this.scheduledThreads = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_THREADS, Constants.ZOMBIE_CHECK_THREADS_VALUE));
         this.zombieCheckTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_CHECK_TIMES, Constants.ZOMBIE_CHECK_TIMES_VALUE));
         this.scheduledTime = Integer.parseInt(props.getProperty(Constants.SCHEDULED_TIME, Constants.SCHEDULED_TIME_VALUE));
+        this.checkMaxInFlight = Integer.parseInt(props.getProperty(Constants.CHECK_MAX_IN_FLIGHT, Constants.CHECK_MAX_IN_FLIGHT_VALUE));
+        this.checkTimeout = Integer.parseInt(props.getProperty(Constants.CHECK_TIMEOUT, Constants.CHECK_TIMEOUT_VALUE));
+        this.checkJitter = Long.parseLong(props.getProperty(Constants.CHECK_JITTER, Constants.CHECK_JITTER_VALUE));
         this.registerType = shenyuRegisterCenterConfig.getRegisterType();
         zombieRemovalTimes = Integer.parseInt(props.getProperty(Constants.ZOMBIE_REMOVAL_TIMES, Constants.ZOMBIE_REMOVAL_TIMES_VALUE));
     }
@@ -168,6 +180,8 @@ public class UpstreamCheckService {
 
             ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
             invokeExecutor = new ScheduledThreadPoolExecutor(this.scheduledThreads, requestFactory);
+            // the probes do not block, the threads only delay them and handle their results
+            probeWindow = new UpstreamProbeWindow(checkMaxInFlight, checkTimeout, Math.min(checkJitter, TimeUnit.SECONDS.toMillis(scheduledTime) / 2), invokeExecutor);
         }
     }
 
@@ -183,6 +197,9 @@ public class UpstreamCheckService {
             if (Objects.nonNull(executor)) {
                 executor.shutdown();
             }
+            if (Objects.nonNull(invokeExecutor)) {
+                invokeExecutor.shutdown();
+            }
         }
     }
 
@@ -259,7 +276,7 @@ public class UpstreamCheckService {
             this.submit(selectorId, commonUpstream);
             return false;
         }
-        final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
+        final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl(), checkTimeout);
         if (pass) {
             this.submit(selectorId, commonUpstream);
             return false;
@@ -284,8 +301,13 @@ public class UpstreamCheckService {
 
     private void scheduled() {
         try {
+            final long start = System.currentTimeMillis();
             doCheck();
             waitFinish();
+            final long cost = System.currentTimeMillis() - start;
+            if (cost > TimeUnit.SECONDS.toMillis(scheduledTime)) {
+                LOG.warn("upstream check round took {}ms, longer than the check interval {}s", cost, scheduledTime);
+            }
         } catch (Exception e) {
             LOG.error("upstream scheduled check error", e);
         }
@@ -310,11 +332,18 @@ public class UpstreamCheckService {
     }
 
     private void checkZombie(final ZombieUpstream zombieUpstream) {
-        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> checkZombie0(zombieUpstream), invokeExecutor);
+        CommonUpstream commonUpstream = zombieUpstream.getCommonUpstream();
+        CompletableFuture<Boolean> probe = commonUpstream.isHealthCheckEnabled()
+                ? probeWindow.probe(commonUpstream.getUpstreamUrl()) : CompletableFuture.completedFuture(true);
+        CompletableFuture<Void> future = probe.thenAcceptAsync(pass -> checkZombie0(zombieUpstream, pass), invokeExecutor)
+                .exceptionally(ex -> {
+                    LOG.error("An exception occurred during the check of zombie url {}: ", commonUpstream.getUpstreamUrl(), ex);
+                    return null;
+                });
         futures.add(future);
     }
 
-    private void checkZombie0(final ZombieUpstream zombieUpstream) {
+    private void checkZombie0(final ZombieUpstream zombieUpstream, final boolean pass) {
         ZOMBIE_SET.remove(zombieUpstream);
         String selectorId = zombieUpstream.getSelectorId();
         CommonUpstream commonUpstream = zombieUpstream.getCommonUpstream();
@@ -326,7 +355,6 @@ public class UpstreamCheckService {
             updateHandler(selectorId, old, UPSTREAM_MAP.get(selectorId));
             return;
         }
-        final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
         if (pass) {
             commonUpstream.setTimestamp(System.currentTimeMillis());
             commonUpstream.setStatus(true);
@@ -347,16 +375,16 @@ public class UpstreamCheckService {
     private void check(final String selectorId, final List<CommonUpstream> upstreamList) {
         final List<CompletableFuture<CommonUpstream>> checkFutures = new ArrayList<>(upstreamList.size());
         for (CommonUpstream commonUpstream : upstreamList) {
-            checkFutures.add(CompletableFuture.supplyAsync(() -> {
-                if (!commonUpstream.isHealthCheckEnabled()) {
-                    if (!commonUpstream.isStatus()) {
-                        commonUpstream.setTimestamp(System.currentTimeMillis());
-                        commonUpstream.setStatus(true);
-                        PENDING_SYNC.add(commonUpstream.hashCode());
-                    }
-                    return commonUpstream;
+            if (!commonUpstream.isHealthCheckEnabled()) {
+                if (!commonUpstream.isStatus()) {
+                    commonUpstream.setTimestamp(System.currentTimeMillis());
+                    commonUpstream.setStatus(true);
+                    PENDING_SYNC.add(commonUpstream.hashCode());
                 }
-                final boolean pass = UpstreamCheckUtils.checkUrl(commonUpstream.getUpstreamUrl());
+                checkFutures.add(CompletableFuture.completedFuture(commonUpstream));
+                continue;
+            }
+            checkFutures.add(probeWindow.probe(commonUpstream.getUpstreamUrl()).thenApplyAsync(pass -> {
                 if (pass) {
                     if (!commonUpstream.isStatus()) {
                         commonUpstream.setTimestamp(System.currentTimeMillis());
@@ -365,13 +393,12 @@ public class UpstreamCheckService {
                         LOG.info("UpstreamCacheManager check success the url: {}, host: {} ", commonUpstream.getUpstreamUrl(), commonUpstream.getUpstreamHost());
                     }
                     return commonUpstream;
-                } else {
-                    commonUpstream.setStatus(false);
-                    ZOMBIE_SET.add(ZombieUpstream.transform(commonUpstream, zombieCheckTimes, selectorId));
-                    LOG.info("change unlive selectorId={}|url={}", selectorId, commonUpstream.getUpstreamUrl());
-                    discoveryUpstreamService.changeStatusBySelectorIdAndUrl(selectorId, commonUpstream.getUpstreamUrl(), Boolean.FALSE);
-                    LOG.error("check the url={} is fail ", commonUpstream.getUpstreamUrl());
                 }
+                commonUpstream.setStatus(false);
+                ZOMBIE_SET.add(ZombieUpstream.transform(commonUpstream, zombieCheckTimes, selectorId));
+                LOG.info("change unlive selectorId={}|url={}", selectorId, commonUpstream.getUpstreamUrl());
+                discoveryUpstreamService.changeStatusBySelectorIdAndUrl(selectorId, commonUpstream.getUpstreamUrl(), Boolean.FALSE);
+                LOG.error("check the url={} is fail ", commonUpstream.getUpstreamUrl());
                 return null;
             }, invokeExecutor).exceptionally(ex -> {
                 LOG.error("An exception occurred during the check of url {}: ", commonUpstream.getUpstreamUrl(), ex);
@@ -379,18 +406,18 @@ public class UpstreamCheckService {
             }));
         }
 
-        this.futures.add(CompletableFuture.runAsync(() -> {
+        this.futures.add(CompletableFuture.allOf(checkFutures.toArray(new CompletableFuture[0])).thenRunAsync(() -> {
             List<CommonUpstream> successList = checkFutures.stream()
                     .map(CompletableFuture::join)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
             updateHandler(selectorId, upstreamList, successList);
-        }));
+        }, invokeExecutor));
     }
 
     private void updateHandler(final String selectorId, final List<CommonUpstream> upstreamList, final List<CommonUpstream> successList) {
         //No node changes, including zombie node resurrection and live node death
-        if (successList.size() == upstreamList.size() && PENDING_SYNC.isEmpty()) {
+        if (!hasTransition(upstreamList, successList)) {
             return;
         }
         removePendingSync(successList);
@@ -403,6 +430,13 @@ public class UpstreamCheckService {
         }
     }
 
+    private boolean hasTransition(final List<CommonUpstream> upstreamList, final List<CommonUpstream> successList) {
+        // only the transitions of this selector publish its handler, the pending ones of others wait for their own check
+        return successList.size() != upstreamList.size()
+                || PENDING_SYNC.contains(NumberUtils.INTEGER_ZERO)
+                || successList.stream().anyMatch(upstream -> PENDING_SYNC.contains(upstream.hashCode()));
+    }
+
     private void removePendingSync(final List<CommonUpstream> successList) {
         PENDING_SYNC.removeIf(NumberUtils.INTEGER_ZERO::equals);
         successList.forEach(commonUpstream -> PENDING_SYNC.remove(commonUpstream.hashCode()));
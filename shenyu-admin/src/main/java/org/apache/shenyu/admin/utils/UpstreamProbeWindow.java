@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.utils;
+
+import org.apache.shenyu.common.utils.UpstreamCheckUtils;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Runs non-blocking upstream connect probes with a bounded number of probes in flight.
+ *
+ * <p>Each upstream starts its probe at a stable offset within the jitter window, so the probes
+ * of a check round are spread out instead of hitting every upstream at the same instant.
+ * Probes over the window wait in a queue and are started as earlier ones finish,
+ * a blackholed upstream therefore only holds its slot until the timeout.
+ */
+public final class UpstreamProbeWindow {
+
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int maxInFlight;
+
+    private final int timeout;
+
+    private final long jitterMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final BiFunction<String, Integer, CompletableFuture<Boolean>> connector;
+
+    /**
+     * Instantiates a new upstream probe window.
+     *
+     * @param maxInFlight  the max probes in flight
+     * @param timeout      the connect timeout in milliseconds
+     * @param jitterMillis the window the probe start offsets are spread over
+     * @param scheduler    the scheduler delaying the probes and completing their results
+     */
+    public UpstreamProbeWindow(final int maxInFlight, final int timeout, final long jitterMillis, final ScheduledExecutorService scheduler) {
+        this(maxInFlight, timeout, jitterMillis, scheduler, UpstreamCheckUtils::checkUrlAsync);
+    }
+
+    /**
+     * Instantiates a new upstream probe window with its own connector.
+     *
+     * @param maxInFlight  the max probes in flight
+     * @param timeout      the connect timeout in milliseconds
+     * @param jitterMillis the window the probe start offsets are spread over
+     * @param scheduler    the scheduler delaying the probes and completing their results
+     * @param connector    starts the probe of a url with the timeout, it must not block
+     */
+    UpstreamProbeWindow(final int maxInFlight, final int timeout, final long jitterMillis, final ScheduledExecutorService scheduler,
+                        final BiFunction<String, Integer, CompletableFuture<Boolean>> connector) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.timeout = timeout;
+        this.jitterMillis = Math.max(0, jitterMillis);
+        this.scheduler = scheduler;
+        this.connector = connector;
+    }
+
+    /**
+     * Probe the upstream url.
+     *
+     * @param url the upstream url
+     * @return the future of whether the url is connectable, it never completes exceptionally
+     */
+    public CompletableFuture<Boolean> probe(final String url) {
+        final Probe probe = new Probe(url);
+        final long delay = jitterMillis > 0 ? Math.floorMod(Objects.hashCode(url), jitterMillis) : 0;
+        if (delay > 0) {
+            scheduler.schedule(() -> enqueue(probe), delay, TimeUnit.MILLISECONDS);
+        } else {
+            enqueue(probe);
+        }
+        return probe.result;
+    }
+
+    /**
+     * Get the number of probes in flight.
+     *
+     * @return the number of probes in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void enqueue(final Probe probe) {
+        pending.offer(probe);
+        drain();
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            final int current = inFlight.get();
+            if (current >= maxInFlight) {
+                // the probe finishing next drains the queue again
+                return;
+            }
+            if (!inFlight.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            final Probe probe = pending.poll();
+            if (Objects.isNull(probe)) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            // complete off the channel threads, the callers may touch the database
+            connector.apply(probe.url, timeout).whenCompleteAsync((pass, ex) -> {
+                inFlight.decrementAndGet();
+                drain();
+                probe.result.complete(Boolean.TRUE.equals(pass));
+            }, scheduler);
+        }
+    }
+
+    private static final class Probe {
+
+        private final String url;
+
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        Probe(final String url) {
+            this.url = url;
+        }
+    }
+}
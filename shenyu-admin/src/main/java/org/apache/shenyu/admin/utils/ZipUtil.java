@@ -21,9 +21,14 @@ import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -97,6 +102,75 @@ public final class ZipUtil {
         return new UnZipResult(itemList);
     }
 
+    /**
+     * Writes the zip entries straight into the target stream, without buffering the archive.
+     */
+    public static class ZipStreamWriter implements Closeable {
+
+        private final ZipOutputStream zipOut;
+
+        public ZipStreamWriter(final OutputStream out) {
+            this.zipOut = new ZipOutputStream(out);
+        }
+
+        /**
+         * Open a writer of the entry, the entry is only added once something is written to it.
+         * Closing the writer closes the entry but leaves the archive open.
+         *
+         * @param itemName the entry name
+         * @return the entry writer
+         */
+        public Writer entryWriter(final String itemName) {
+            return new BufferedWriter(new OutputStreamWriter(new EntryOutputStream(itemName), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            zipOut.finish();
+            zipOut.flush();
+        }
+
+        private final class EntryOutputStream extends OutputStream {
+
+            private final String itemName;
+
+            private boolean opened;
+
+            EntryOutputStream(final String itemName) {
+                this.itemName = itemName;
+            }
+
+            @Override
+            public void write(final int b) throws IOException {
+                open();
+                zipOut.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                if (len == 0) {
+                    return;
+                }
+                open();
+                zipOut.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (opened) {
+                    zipOut.closeEntry();
+                }
+            }
+
+            private void open() throws IOException {
+                if (!opened) {
+                    zipOut.putNextEntry(new ZipEntry(itemName));
+                    opened = true;
+                }
+            }
+        }
+    }
+
     public static class ZipItem {
 
         private final String itemName;
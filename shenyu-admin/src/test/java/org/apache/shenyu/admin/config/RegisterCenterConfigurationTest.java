@@ -52,7 +52,7 @@ public class RegisterCenterConfigurationTest {
         DiscoveryService discoveryService = mock(DiscoveryService.class);
         List<ShenyuClientRegisterService> shenyuClientRegisterService = new ArrayList<>();
         RegisterClientServerDisruptorPublisher publisher = registerCenterConfiguration
-                .registerClientServerDisruptorPublisher(shenyuClientRegisterService, discoveryService);
+                .registerClientServerDisruptorPublisher(shenyuClientRegisterService, discoveryService, new ShenyuRegisterCenterConfig());
         assertNotNull(publisher);
     }
 }
@@ -37,6 +37,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -104,7 +105,7 @@ public class ConfigsExportImportControllerTest {
         // mock import data
         List<ZipUtil.ZipItem> zipItemList = Lists.newArrayList();
 
-        when(this.configsService.configsImport(anyString(), any())).thenReturn(
+        when(this.configsService.configsImport(anyString(), any(InputStream.class))).thenReturn(
                 ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS));
 
         // mock file
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.discovery;
+
+import org.apache.shenyu.admin.AbstractSpringIntegrationTest;
+import org.apache.shenyu.admin.discovery.listener.DiscoveryDataChangedEvent;
+import org.apache.shenyu.admin.discovery.parse.KeyValueParser;
+import org.apache.shenyu.admin.listener.DataChangedEvent;
+import org.apache.shenyu.admin.mapper.DiscoveryUpstreamMapper;
+import org.apache.shenyu.common.dto.DiscoverySyncData;
+import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
+import org.apache.shenyu.common.utils.UUIDUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test cases for {@link DiscoveryDataChangedEventSyncListener} against the embedded database,
+ * the number of statements of an event must not depend on the number of upstreams.
+ */
+public final class DiscoveryDataChangedEventSyncListenerH2Test extends AbstractSpringIntegrationTest {
+
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    @Resource
+    private DiscoveryUpstreamMapper discoveryUpstreamMapper;
+
+    private final List<String> discoveryHandlerIds = new ArrayList<>();
+
+    @AfterEach
+    public void after() {
+        discoveryHandlerIds.forEach(discoveryUpstreamMapper::deleteByDiscoveryHandlerId);
+    }
+
+    @Test
+    public void testStatementCountIsConstant() {
+        assertEquals(syncAndCountStatements(20), syncAndCountStatements(400));
+    }
+
+    private List<Integer> syncAndCountStatements(final int upstreamCount) {
+        final String discoveryHandlerId = UUIDUtils.getInstance().generateShortUuid();
+        discoveryHandlerIds.add(discoveryHandlerId);
+        final DiscoveryUpstreamMapper countingMapper = mock(DiscoveryUpstreamMapper.class, AdditionalAnswers.delegatesTo(discoveryUpstreamMapper));
+        final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        final KeyValueParser keyValueParser = value -> buildUpstreams(upstreamCount, Integer.parseInt(value));
+        final DiscoveryDataChangedEventSyncListener listener = new DiscoveryDataChangedEventSyncListener(eventPublisher, countingMapper,
+                keyValueParser, buildContextInfo(discoveryHandlerId), "discoveryId", DEBOUNCE_MILLIS);
+        final List<Integer> statementCounts = new ArrayList<>();
+
+        listener.onChange(new DiscoveryDataChangedEvent("key", "10", DiscoveryDataChangedEvent.Event.ADDED));
+        statementCounts.add(mockingDetails(countingMapper).getInvocations().size());
+        assertEquals(upstreamCount, discoveryUpstreamMapper.selectByDiscoveryHandlerId(discoveryHandlerId).size());
+        assertPublished(eventPublisher, upstreamCount);
+
+        clearInvocations(countingMapper, eventPublisher);
+        listener.onChange(new DiscoveryDataChangedEvent("key", "20", DiscoveryDataChangedEvent.Event.UPDATED));
+        statementCounts.add(mockingDetails(countingMapper).getInvocations().size());
+        assertTrue(discoveryUpstreamMapper.selectByDiscoveryHandlerId(discoveryHandlerId).stream().allMatch(upstream -> upstream.getWeight() == 20));
+        assertPublished(eventPublisher, upstreamCount);
+
+        clearInvocations(countingMapper, eventPublisher);
+        listener.onChange(new DiscoveryDataChangedEvent("key", "20", DiscoveryDataChangedEvent.Event.DELETED));
+        statementCounts.add(mockingDetails(countingMapper).getInvocations().size());
+        assertTrue(discoveryUpstreamMapper.selectByDiscoveryHandlerId(discoveryHandlerId).isEmpty());
+        assertPublished(eventPublisher, 0);
+        return statementCounts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertPublished(final ApplicationEventPublisher eventPublisher, final int upstreamCount) {
+        ArgumentCaptor<DataChangedEvent> captor = ArgumentCaptor.forClass(DataChangedEvent.class);
+        verify(eventPublisher, timeout(5000)).publishEvent(captor.capture());
+        List<DiscoverySyncData> source = (List<DiscoverySyncData>) captor.getValue().getSource();
+        assertEquals(upstreamCount, source.get(0).getUpstreamDataList().size());
+    }
+
+    private DiscoverySyncData buildContextInfo(final String discoveryHandlerId) {
+        DiscoverySyncData contextInfo = new DiscoverySyncData();
+        contextInfo.setDiscoveryHandlerId(discoveryHandlerId);
+        contextInfo.setSelectorId("selectorId");
+        contextInfo.setSelectorName("selectorName");
+        contextInfo.setPluginName("divide");
+        contextInfo.setNamespaceId(SYS_DEFAULT_NAMESPACE_ID);
+        return contextInfo;
+    }
+
+    private List<DiscoveryUpstreamData> buildUpstreams(final int upstreamCount, final int weight) {
+        List<DiscoveryUpstreamData> upstreams = new ArrayList<>(upstreamCount);
+        for (int i = 0; i < upstreamCount; i++) {
+            DiscoveryUpstreamData upstream = new DiscoveryUpstreamData();
+            upstream.setUrl("127.0.0.1:" + (10000 + i));
+            upstream.setProtocol("http://");
+            upstream.setStatus(0);
+            upstream.setWeight(weight);
+            upstream.setProps("{}");
+            upstreams.add(upstream);
+        }
+        return upstreams;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,12 +36,20 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -84,14 +93,58 @@ public class DiscoveryDataChangedEventSyncListenerTest {
         when(contextInfo.getDiscoveryHandlerId()).thenReturn("discoveryHandlerId");
         DiscoveryDataChangedEvent event = new DiscoveryDataChangedEvent("key", "value", DiscoveryDataChangedEvent.Event.ADDED);
         discoveryDataChangedEventSyncListener.onChange(event);
-        verify(discoveryUpstreamMapper).insert(any(DiscoveryUpstreamDO.class));
+        verify(discoveryUpstreamMapper).saveBatch(anyList());
+
+        DiscoveryUpstreamDO discoveryUpstreamDO = new DiscoveryUpstreamDO();
+        discoveryUpstreamDO.setId("1");
+        discoveryUpstreamDO.setProtocol("http");
+        discoveryUpstreamDO.setUpstreamUrl("1111");
+        discoveryUpstreamDO.setWeight(50);
+        discoveryUpstreamDO.setDiscoveryHandlerId("discoveryHandlerId");
+        when(discoveryUpstreamMapper.selectByDiscoveryHandlerId("discoveryHandlerId")).thenReturn(Collections.singletonList(discoveryUpstreamDO));
         DiscoveryDataChangedEvent event2 = new DiscoveryDataChangedEvent("key", "value", DiscoveryDataChangedEvent.Event.UPDATED);
         discoveryDataChangedEventSyncListener.onChange(event2);
-        verify(discoveryUpstreamMapper).updateDiscoveryHandlerIdAndUrl(any(DiscoveryUpstreamDO.class));
+        verify(discoveryUpstreamMapper).updateBatch(anyList());
         DiscoveryDataChangedEvent event3 = new DiscoveryDataChangedEvent("key", "value", DiscoveryDataChangedEvent.Event.DELETED);
 
         discoveryDataChangedEventSyncListener.onChange(event3);
-        verify(discoveryUpstreamMapper).deleteByUrl(anyString(), anyString());
+        verify(discoveryUpstreamMapper).deleteByIds(Collections.singletonList("1"));
+        // the three changes fall in one debounce window and are published once
+        verify(eventPublisher, timeout(5000)).publishEvent(any(DataChangedEvent.class));
+        verify(eventPublisher, after(600).times(1)).publishEvent(any(DataChangedEvent.class));
     }
 
+    @Test
+    public void testLargeChangesAreChunked() {
+        final int count = 1201;
+        final List<DiscoveryUpstreamData> upstreams = IntStream.range(0, count).mapToObj(i -> {
+            DiscoveryUpstreamData upstream = new DiscoveryUpstreamData();
+            upstream.setProtocol("http");
+            upstream.setUrl("url-" + i);
+            upstream.setWeight(100);
+            return upstream;
+        }).collect(Collectors.toList());
+        final List<DiscoveryUpstreamDO> current = IntStream.range(0, count).mapToObj(i -> {
+            DiscoveryUpstreamDO upstream = new DiscoveryUpstreamDO();
+            upstream.setId("id-" + i);
+            upstream.setProtocol("http");
+            upstream.setUpstreamUrl("url-" + i);
+            upstream.setWeight(50);
+            return upstream;
+        }).collect(Collectors.toList());
+        when(keyValueParser.parseValue(anyString())).thenReturn(upstreams);
+        when(contextInfo.getDiscoveryHandlerId()).thenReturn("discoveryHandlerId");
+        when(discoveryUpstreamMapper.selectByDiscoveryHandlerId("discoveryHandlerId")).thenReturn(current);
+
+        discoveryDataChangedEventSyncListener.onChange(new DiscoveryDataChangedEvent("key", "value", DiscoveryDataChangedEvent.Event.UPDATED));
+        ArgumentCaptor<List<DiscoveryUpstreamDO>> updated = ArgumentCaptor.forClass(List.class);
+        verify(discoveryUpstreamMapper, times(3)).updateBatch(updated.capture());
+        assertEquals(List.of(500, 500, 201), updated.getAllValues().stream().map(List::size).collect(Collectors.toList()));
+
+        discoveryDataChangedEventSyncListener.onChange(new DiscoveryDataChangedEvent("key", "value", DiscoveryDataChangedEvent.Event.DELETED));
+        ArgumentCaptor<List<String>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(discoveryUpstreamMapper, times(3)).deleteByIds(deleted.capture());
+        assertEquals(List.of(500, 500, 201), deleted.getAllValues().stream().map(List::size).collect(Collectors.toList()));
+        assertEquals("id-1200", deleted.getAllValues().get(2).get(200));
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.disruptor;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.register.common.dto.URIRegisterDTO;
+import org.apache.shenyu.register.common.enums.EventType;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link URIRegisterCoalescer}.
+ */
+public final class URIRegisterCoalescerTest {
+
+    private static final int SERVICES = 3;
+
+    private static final int INSTANCES = 100;
+
+    private final List<Collection<URIRegisterDTO>> published = new CopyOnWriteArrayList<>();
+
+    private final URIRegisterCoalescer coalescer = new URIRegisterCoalescer(300, published::add);
+
+    @AfterEach
+    public void tearDown() {
+        coalescer.close();
+    }
+
+    @Test
+    public void testRestartStormIsCoalescedPerService() throws InterruptedException {
+        // 300 instances of 3 services restart at once: offline, register and heartbeat from 8 watcher threads
+        ExecutorService watchers = Executors.newFixedThreadPool(8);
+        for (int service = 0; service < SERVICES; service++) {
+            for (int instance = 0; instance < INSTANCES; instance++) {
+                final String contextPath = "/service-" + service;
+                final int port = 8000 + instance;
+                watchers.execute(() -> {
+                    coalescer.submit(uri(contextPath, port, EventType.OFFLINE));
+                    coalescer.submit(uri(contextPath, port, EventType.REGISTER));
+                    coalescer.submit(uri(contextPath, port, EventType.HEARTBEAT));
+                });
+            }
+        }
+        watchers.shutdown();
+        assertTrue(watchers.awaitTermination(5, TimeUnit.SECONDS));
+
+        Awaitility.await().atMost(Duration.ofSeconds(3)).until(() -> published.size() == SERVICES);
+        for (Collection<URIRegisterDTO> registrations : published) {
+            assertEquals(INSTANCES, registrations.size());
+            assertEquals(1, registrations.stream().map(URIRegisterDTO::getContextPath).distinct().count());
+            assertTrue(registrations.stream().allMatch(dto -> EventType.REGISTER == dto.getEventType()));
+        }
+        // nothing else is published once the windows are closed
+        Awaitility.await().during(Duration.ofMillis(400)).atMost(Duration.ofSeconds(1)).until(() -> published.size() == SERVICES);
+    }
+
+    @Test
+    public void testFlapKeepsTheLastEvent() {
+        coalescer.submit(uri("/flap", 8080, EventType.REGISTER));
+        coalescer.submit(uri("/flap", 8080, EventType.OFFLINE));
+        coalescer.submit(uri("/flap", 8081, EventType.OFFLINE));
+        coalescer.submit(uri("/flap", 8081, EventType.REGISTER));
+
+        Awaitility.await().atMost(Duration.ofSeconds(3)).until(() -> published.size() == 1);
+        Map<Integer, EventType> events = published.get(0).stream()
+                .collect(Collectors.toMap(URIRegisterDTO::getPort, URIRegisterDTO::getEventType));
+        assertEquals(EventType.OFFLINE, events.get(8080));
+        assertEquals(EventType.REGISTER, events.get(8081));
+    }
+
+    @Test
+    public void testCloseFlushesPending() {
+        coalescer.submit(uri("/pending", 8080, EventType.REGISTER));
+        coalescer.close();
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    public void testSubmitAfterClosePublishesDirectly() {
+        coalescer.close();
+        coalescer.submit(uri("/late", 8080, EventType.REGISTER));
+        assertEquals(1, published.size());
+        assertEquals(8080, published.get(0).iterator().next().getPort());
+    }
+
+    private static URIRegisterDTO uri(final String contextPath, final int port, final EventType eventType) {
+        return URIRegisterDTO.builder()
+                .rpcType("http")
+                .namespaceId(Constants.SYS_DEFAULT_NAMESPACE_ID)
+                .appName(contextPath.substring(1))
+                .contextPath(contextPath)
+                .host("127.0.0.1")
+                .port(port)
+                .eventType(eventType)
+                .build();
+    }
+}
@@ -24,11 +24,13 @@ import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +42,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -47,11 +50,13 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -161,6 +166,27 @@ public final class WebsocketCollectorTest {
         ThreadLocalUtils.remove("sessionKey");
     }
 
+    @Test
+    public void testSendCompressedFrames() throws IOException {
+        RemoteEndpoint.Basic basic = mock(RemoteEndpoint.Basic.class);
+        when(session.getBasicRemote()).thenReturn(basic);
+        session.getUserProperties().put(Constants.SYNC_ENCODING_NAME, 64);
+        websocketCollector.onOpen(session);
+        String message = "{\"groupType\":\"SELECTOR\",\"eventType\":\"REFRESH\",\"data\":"
+                + "[{\"id\":\"1\",\"name\":\"selector-1\"},{\"id\":\"2\",\"name\":\"selector-2\"},{\"id\":\"3\",\"name\":\"selector-3\"}]}";
+        WebsocketCollector.send(Constants.SYS_DEFAULT_NAMESPACE_ID, message, DataEventTypeEnum.REFRESH);
+        ArgumentCaptor<ByteBuffer> frames = ArgumentCaptor.forClass(ByteBuffer.class);
+        verify(basic, times(3)).sendBinary(frames.capture());
+        verify(basic, never()).sendText(anyString());
+        for (int seq = 0; seq < 3; seq++) {
+            WebsocketFrameUtils.Frame frame = WebsocketFrameUtils.decode(frames.getAllValues().get(seq));
+            assertEquals(seq, frame.getSeq());
+            assertEquals(3, frame.getTotal());
+            assertTrue(frame.getMessage().contains("selector-" + (seq + 1)));
+        }
+        websocketCollector.onClose(session);
+    }
+
     private long getSessionSetSize() {
         Set sessionSet = (Set) ReflectionTestUtils.getField(WebsocketCollector.class, "SESSION_SET");
         return Objects.isNull(sessionSet) ? -1 : sessionSet.size();
@@ -17,6 +17,10 @@
 
 package org.apache.shenyu.admin.mapper;
 
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.Configuration;
 import org.apache.shenyu.admin.AbstractSpringIntegrationTest;
 import org.apache.shenyu.admin.model.entity.RuleConditionDO;
 import org.apache.shenyu.admin.model.query.RuleConditionQuery;
@@ -24,15 +28,21 @@ import org.apache.shenyu.common.utils.UUIDUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import jakarta.annotation.Resource;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -99,6 +109,34 @@ public final class RuleConditionMapperTest extends AbstractSpringIntegrationTest
         assertEquals(1, count);
     }
 
+    @Test
+    public void insertBatch() {
+        RuleConditionDO first = buildRuleConditionDo();
+        RuleConditionDO second = buildRuleConditionDo();
+        int count = ruleConditionMapper.insertBatch(Arrays.asList(first, second));
+        assertEquals(2, count);
+
+        List<RuleConditionDO> ruleConditionDOList = ruleConditionMapper.selectByRuleIdSet(Stream.of(first.getRuleId(), second.getRuleId()).collect(Collectors.toSet()));
+        assertThat(ruleConditionDOList, hasItems(first, second));
+    }
+
+    @Test
+    public void insertBatchOracle() throws IOException {
+        Configuration configuration = new Configuration();
+        configuration.setDatabaseId("oracle");
+        String resource = "mappers/rule-condition-sqlmap.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        BoundSql boundSql = configuration.getMappedStatement(RuleConditionMapper.class.getName() + ".insertBatch")
+                .getBoundSql(Collections.singletonMap("ruleConditionDOList", Arrays.asList(buildRuleConditionDo(), buildRuleConditionDo())));
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        assertThat(sql, startsWith("INSERT ALL INTO rule_condition ("));
+        assertEquals(2, sql.split("INTO rule_condition \\(").length - 1);
+        assertThat(sql, endsWith("SELECT 1 FROM DUAL"));
+        assertEquals(16, boundSql.getParameterMappings().size());
+    }
+
     @Test
     public void update() {
         record.setParamType("post");
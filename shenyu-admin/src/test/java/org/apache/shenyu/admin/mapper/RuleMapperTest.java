@@ -17,18 +17,28 @@
 
 package org.apache.shenyu.admin.mapper;
 
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.session.Configuration;
 import org.apache.shenyu.admin.AbstractSpringIntegrationTest;
 import org.apache.shenyu.admin.model.entity.RuleDO;
 import org.apache.shenyu.admin.model.query.RuleQuery;
 import org.apache.shenyu.common.utils.UUIDUtils;
 import org.junit.jupiter.api.Test;
 import jakarta.annotation.Resource;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 /**
@@ -130,6 +140,39 @@ public final class RuleMapperTest extends AbstractSpringIntegrationTest {
         assertThat(delete, equalTo(1));
     }
 
+    @Test
+    public void insertBatch() {
+        RuleDO first = buildRuleDO();
+        RuleDO second = buildRuleDO();
+        int insert = ruleMapper.insertBatch(Arrays.asList(first, second));
+        assertThat(insert, equalTo(2));
+
+        assertThat(ruleMapper.selectById(first.getId()), equalTo(first));
+        assertThat(ruleMapper.selectById(second.getId()), equalTo(second));
+        List<RuleDO> ruleDOList = ruleMapper.findBySelectorIds(Collections.singletonList(first.getSelectorId()));
+        assertThat(ruleDOList.size(), equalTo(2));
+
+        int delete = ruleMapper.deleteByIds(Arrays.asList(first.getId(), second.getId()));
+        assertThat(delete, equalTo(2));
+    }
+
+    @Test
+    public void insertBatchOracle() throws IOException {
+        Configuration configuration = new Configuration();
+        configuration.setDatabaseId("oracle");
+        String resource = "mappers/rule-sqlmap.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        BoundSql boundSql = configuration.getMappedStatement(RuleMapper.class.getName() + ".insertBatch")
+                .getBoundSql(Collections.singletonMap("ruleDOList", Arrays.asList(buildRuleDO(), buildRuleDO())));
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        assertThat(sql, startsWith("INSERT ALL INTO rule ("));
+        assertThat(sql.split("INTO rule \\(").length - 1, equalTo(2));
+        assertThat(sql, endsWith("SELECT 1 FROM DUAL"));
+        assertThat(boundSql.getParameterMappings().size(), equalTo(24));
+    }
+
     @Test
     public void update() {
         RuleDO ruleDO = buildRuleDO();
@@ -18,8 +18,13 @@
 package org.apache.shenyu.admin.service;
 
 import com.google.common.collect.Lists;
+import org.apache.shenyu.admin.model.dto.RuleDTO;
 import org.apache.shenyu.admin.model.result.ConfigImportResult;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
+import org.apache.shenyu.admin.model.vo.RuleVO;
+import org.apache.shenyu.admin.service.configs.ConfigsImportContext;
+import org.apache.shenyu.admin.service.configs.ConfigsJsonStreams;
+import org.apache.shenyu.admin.service.configs.RuleDataConfigsExportImportHandler;
 import org.apache.shenyu.admin.service.impl.ConfigsServiceImpl;
 import org.apache.shenyu.admin.utils.ZipUtil;
 import org.apache.shenyu.common.constant.ExportImportConstants;
@@ -30,14 +35,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * Test cases for ConfigsService.
@@ -137,6 +157,18 @@ public final class ConfigsServiceTest {
         assertThat(resultData.get(ExportImportConstants.DISCOVERY_IMPORT_SUCCESS_COUNT), is(1));
     }
 
+    @Test
+    public void testConfigsStreamingRoundTrip() throws IOException, InterruptedException {
+        // the inflated export is several times larger than the heap of the child jvm,
+        // so the round-trip only passes when neither side buffers a whole section in memory
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + StreamingRoundTrip.MAX_HEAP, "-cp", System.getProperty("java.class.path"), StreamingRoundTrip.class.getName())
+                .inheritIO()
+                .start();
+        assertTrue(process.waitFor(5, TimeUnit.MINUTES), "the streaming round-trip did not finish");
+        assertThat(process.exitValue(), is(0));
+    }
+
     private byte[] buildImportData() {
         List<ZipUtil.ZipItem> zipItemList = Lists.newArrayList();
 
@@ -389,4 +421,87 @@ public final class ConfigsServiceTest {
                 + "]");
     }
 
+    /**
+     * Exports and imports a namespace of rules through a temp file, run by {@link #testConfigsStreamingRoundTrip} in a jvm of its own.
+     */
+    static final class StreamingRoundTrip {
+
+        static final String MAX_HEAP = "48m";
+
+        private static final String NAMESPACE = "649330b6-c2d7-4edc-be8e-8a54df9eb385";
+
+        private static final int TOTAL = 200 * ConfigsJsonStreams.EXPORT_PAGE_SIZE + 7;
+
+        private static final String PADDING = String.join("", Collections.nCopies(1024, "x"));
+
+        private StreamingRoundTrip() {
+        }
+
+        /**
+         * Runs the round-trip, the jvm exits with a non-zero status when it fails or runs out of memory.
+         *
+         * @param args unused
+         * @throws IOException if the temp file cannot be written or read
+         */
+        public static void main(final String[] args) throws IOException {
+            // stub only, so the mock does not record the invocations and their rule lists
+            RuleService ruleService = mock(RuleService.class, withSettings().stubOnly());
+            // only the rule section is exported and imported
+            ConfigsServiceImpl configsService = new ConfigsServiceImpl(null, null, null, null, null, ruleService, null, null, null, null, null,
+                    Collections.singletonList(new RuleDataConfigsExportImportHandler(ruleService)));
+            // the rules are generated page by page, the whole section never exists in memory
+            doAnswer(invocation -> {
+                Consumer<List<RuleVO>> consumer = invocation.getArgument(2);
+                for (int from = 0; from < TOTAL; from += ConfigsJsonStreams.EXPORT_PAGE_SIZE) {
+                    consumer.accept(buildRulePage(from, Math.min(from + ConfigsJsonStreams.EXPORT_PAGE_SIZE, TOTAL)));
+                }
+                return null;
+            }).when(ruleService).listAllDataByNamespaceId(eq(NAMESPACE), eq(ConfigsJsonStreams.EXPORT_PAGE_SIZE), any());
+            AtomicInteger imported = new AtomicInteger();
+            AtomicInteger maxBatchSize = new AtomicInteger();
+            when(ruleService.importData(eq(NAMESPACE), anyList(), any(ConfigsImportContext.class))).thenAnswer(invocation -> {
+                List<RuleDTO> ruleList = invocation.getArgument(1);
+                maxBatchSize.accumulateAndGet(ruleList.size(), Math::max);
+                for (RuleDTO ruleDTO : ruleList) {
+                    assertThat(ruleDTO.getName(), is("rule-" + imported.getAndIncrement()));
+                }
+                return ConfigImportResult.success(ruleList.size());
+            });
+
+            Path export = Files.createTempFile("shenyu-configs-export", ".zip");
+            try {
+                try (OutputStream out = Files.newOutputStream(export)) {
+                    configsService.configsExport(NAMESPACE, out);
+                }
+                ShenyuAdminResult result;
+                try (InputStream in = Files.newInputStream(export)) {
+                    result = configsService.configsImport(NAMESPACE, in);
+                }
+                assertThat(result.getCode(), is(CommonErrorCode.SUCCESSFUL));
+                Map<String, Object> resultData = (Map<String, Object>) result.getData();
+                assertThat(resultData.get(ExportImportConstants.RULE_IMPORT_SUCCESS_COUNT), is(TOTAL));
+                assertThat(imported.get(), is(TOTAL));
+                assertThat(maxBatchSize.get(), is(ConfigsJsonStreams.IMPORT_BATCH_SIZE));
+            } finally {
+                Files.deleteIfExists(export);
+            }
+        }
+
+        private static List<RuleVO> buildRulePage(final int from, final int to) {
+            List<RuleVO> page = Lists.newArrayListWithCapacity(to - from);
+            for (int i = from; i < to; i++) {
+                RuleVO ruleVO = new RuleVO();
+                ruleVO.setId(String.valueOf(i));
+                ruleVO.setSelectorId("1");
+                ruleVO.setName("rule-" + i);
+                ruleVO.setMatchMode(0);
+                ruleVO.setEnabled(true);
+                ruleVO.setLoged(true);
+                ruleVO.setSort(i);
+                ruleVO.setHandle("{\"loadBalance\":\"random\",\"retry\":0,\"timeout\":3000,\"padding\":\"" + PADDING + "\"}");
+                page.add(ruleVO);
+            }
+            return page;
+        }
+    }
 }
@@ -40,6 +40,7 @@ import org.apache.shenyu.admin.model.query.RuleConditionQuery;
 import org.apache.shenyu.admin.model.query.RuleQuery;
 import org.apache.shenyu.admin.model.result.ConfigImportResult;
 import org.apache.shenyu.admin.model.vo.RuleVO;
+import org.apache.shenyu.admin.service.configs.ConfigsImportContext;
 import org.apache.shenyu.admin.service.impl.RuleServiceImpl;
 import org.apache.shenyu.admin.service.publish.RuleEventPublisher;
 import org.apache.shenyu.admin.utils.JwtUtils;
@@ -47,6 +48,7 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -66,12 +68,17 @@ import java.util.stream.IntStream;
 
 import static org.apache.shenyu.common.constant.Constants.SYS_DEFAULT_NAMESPACE_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -195,6 +202,50 @@ public final class RuleServiceTest {
 
     }
 
+    @Test
+    public void testImportDataWithNamespace() {
+        ConfigsImportContext context = new ConfigsImportContext();
+        context.getSelectorIdMapping().put("456", "new-456");
+        RuleDO exist = buildRuleDO("123", "exist");
+        exist.setSelectorId("new-456");
+        given(this.ruleMapper.findBySelectorIds(Collections.singletonList("new-456"))).willReturn(Collections.singletonList(exist));
+        given(this.ruleMapper.insertBatch(any())).willAnswer((Answer<Integer>) invocation -> invocation.<List<RuleDO>>getArgument(0).size());
+
+        RuleDTO first = buildRuleDTO(null);
+        first.setName("first");
+        RuleDTO second = buildRuleDTO(null);
+        second.setName("second");
+        RuleDTO duplicated = buildRuleDTO(null);
+        duplicated.setName("exist");
+        RuleDTO orphan = buildRuleDTO(null);
+        orphan.setName("orphan");
+        orphan.setSelectorId("unknown");
+        ConfigImportResult configImportResult = this.ruleService.importData("test-namespace", Arrays.asList(first, second, duplicated, orphan), context);
+
+        // the selectors of the batch are looked up once, without the unmapped one
+        verify(this.ruleMapper).findBySelectorIds(Collections.singletonList("new-456"));
+        ArgumentCaptor<List<RuleDO>> ruleCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.ruleMapper).insertBatch(ruleCaptor.capture());
+        List<RuleDO> rules = ruleCaptor.getValue();
+        assertEquals(Arrays.asList("first", "second"), rules.stream().map(RuleDO::getRuleName).collect(Collectors.toList()));
+        rules.forEach(rule -> {
+            assertNotNull(rule.getId());
+            assertEquals("new-456", rule.getSelectorId());
+            assertEquals("test-namespace", rule.getNamespaceId());
+        });
+        ArgumentCaptor<List<RuleConditionDO>> conditionCaptor = ArgumentCaptor.forClass(List.class);
+        verify(this.ruleConditionMapper).insertBatch(conditionCaptor.capture());
+        List<RuleConditionDO> conditions = conditionCaptor.getValue();
+        assertEquals(6, conditions.size());
+        assertEquals(Arrays.asList(rules.get(0).getId(), rules.get(1).getId()), conditions.stream().map(RuleConditionDO::getRuleId).distinct().collect(Collectors.toList()));
+        // the exported condition ids are dropped, fresh ones are generated
+        conditions.forEach(condition -> assertThat(condition.getId(), not(anyOf(equalTo("111"), equalTo("222")))));
+
+        assertEquals(2, configImportResult.getSuccessCount());
+        assertThat(configImportResult.getFailMessage(), containsString("exist"));
+        assertThat(configImportResult.getFailMessage(), containsString("orphan"));
+    }
+
     @Test
     public void testListAllWithSelectorNull() {
         mockFindSelectorIsNull();
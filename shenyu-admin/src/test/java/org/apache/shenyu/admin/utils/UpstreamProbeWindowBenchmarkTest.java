@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.utils;
+
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of UpstreamProbeWindow against a local fleet of stub servers.
+ * The blackholed servers have a full accept backlog, so the kernel drops the SYNs sent to them.
+ * It depends on the kernel backlog behaviour and on wall-clock time, so it is not run in CI,
+ * run it by hand after removing {@link Disabled}, the fleet is sized to stay under a default limit of 1024 open files.
+ */
+@Disabled("benchmark on real sockets, run by hand")
+public final class UpstreamProbeWindowBenchmarkTest {
+
+    private static final int TIMEOUT = 300;
+
+    private static final int LIVE_COUNT = 300;
+
+    private static final int BLACKHOLED_COUNT = 20;
+
+    private static final int MAX_IN_FLIGHT = 256;
+
+    private static final long JITTER = 100;
+
+    private final List<ServerSocket> servers = new ArrayList<>();
+
+    private final List<Socket> backlogFillers = new ArrayList<>();
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(2, ShenyuThreadFactory.create("upstream-probe-benchmark", true));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        scheduler.shutdownNow();
+        for (Socket socket : backlogFillers) {
+            socket.close();
+        }
+        for (ServerSocket server : servers) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testRoundTimeStaysBounded() throws IOException {
+        final List<String> liveUrls = startServers(LIVE_COUNT, false);
+        final List<String> blackholedUrls = startServers(BLACKHOLED_COUNT, true);
+        final UpstreamProbeWindow window = new UpstreamProbeWindow(MAX_IN_FLIGHT, TIMEOUT, JITTER, scheduler);
+
+        final long start = System.nanoTime();
+        final List<CompletableFuture<Boolean>> live = liveUrls.stream().map(window::probe).collect(Collectors.toList());
+        final List<CompletableFuture<Boolean>> blackholed = blackholedUrls.stream().map(window::probe).collect(Collectors.toList());
+        CompletableFuture.allOf(live.toArray(new CompletableFuture[0])).join();
+        CompletableFuture.allOf(blackholed.toArray(new CompletableFuture[0])).join();
+        final long roundMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(live.stream().allMatch(CompletableFuture::join));
+        assertTrue(blackholed.stream().noneMatch(CompletableFuture::join));
+        // the blackholed upstreams fit in the window together, so they time out at once instead of one after another,
+        // a blocking connect per upstream on a fixed pool would take about BLACKHOLED_COUNT / threads timeouts
+        assertTrue(roundMillis < JITTER + TIMEOUT * 3L, "round of " + (LIVE_COUNT + BLACKHOLED_COUNT) + " upstreams took " + roundMillis + "ms");
+        assertEquals(0, window.getInFlight());
+    }
+
+    private List<String> startServers(final int count, final boolean blackholed) throws IOException {
+        final List<String> urls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ServerSocket server = new ServerSocket(0, blackholed ? 1 : 50, InetAddress.getLoopbackAddress());
+            servers.add(server);
+            if (blackholed) {
+                fillBacklog(server);
+            }
+            urls.add("http://127.0.0.1:" + server.getLocalPort());
+        }
+        return urls;
+    }
+
+    private void fillBacklog(final ServerSocket server) throws IOException {
+        for (int i = 0; i < 8; i++) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()), 100);
+                backlogFillers.add(socket);
+            } catch (SocketTimeoutException e) {
+                socket.close();
+                return;
+            }
+        }
+    }
+}
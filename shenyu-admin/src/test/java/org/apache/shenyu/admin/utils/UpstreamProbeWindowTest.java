@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.utils;
+
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for UpstreamProbeWindow.
+ * The connects are completed by the test, so the window is observed without real sockets or wall-clock bounds.
+ */
+public final class UpstreamProbeWindowTest {
+
+    private static final int TIMEOUT = 300;
+
+    private final List<String> started = new CopyOnWriteArrayList<>();
+
+    private final Map<String, CompletableFuture<Boolean>> connects = new ConcurrentHashMap<>();
+
+    private final AtomicInteger maxObserved = new AtomicInteger();
+
+    private ScheduledThreadPoolExecutor scheduler;
+
+    private UpstreamProbeWindow window;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new ScheduledThreadPoolExecutor(2, ShenyuThreadFactory.create("upstream-probe-test", true));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testInFlightIsBounded() {
+        final int maxInFlight = 2;
+        window = new UpstreamProbeWindow(maxInFlight, TIMEOUT, 0, scheduler, this::connect);
+        final List<String> urls = urls(6);
+        final List<CompletableFuture<Boolean>> results = urls.stream().map(window::probe).collect(Collectors.toList());
+
+        assertEquals(urls.subList(0, maxInFlight), started);
+        assertEquals(maxInFlight, window.getInFlight());
+        for (int i = 0; i < urls.size(); i++) {
+            connects.get(urls.get(i)).complete(i % 2 == 0);
+            final int next = Math.min(urls.size(), i + 1 + maxInFlight);
+            // a finished probe hands its slot to the next queued one, in the order they were queued
+            await().until(() -> started.size() == next);
+            assertEquals(urls.subList(0, next), started);
+        }
+
+        for (int i = 0; i < urls.size(); i++) {
+            assertEquals(i % 2 == 0, results.get(i).join());
+        }
+        assertEquals(maxInFlight, maxObserved.get());
+        await().until(() -> window.getInFlight() == 0);
+    }
+
+    @Test
+    public void testBlackholedProbeOnlyHoldsItsSlot() {
+        window = new UpstreamProbeWindow(2, TIMEOUT, 0, scheduler, this::connect);
+        final CompletableFuture<Boolean> blackholed = window.probe("http://blackholed:80");
+        final List<String> urls = urls(5);
+        final List<CompletableFuture<Boolean>> live = urls.stream().map(window::probe).collect(Collectors.toList());
+
+        for (String url : urls) {
+            await().until(() -> connects.containsKey(url));
+            connects.get(url).complete(true);
+        }
+        // every live probe finishes through the other slot while the blackholed one is still connecting
+        CompletableFuture.allOf(live.toArray(new CompletableFuture[0])).join();
+        assertTrue(live.stream().allMatch(CompletableFuture::join));
+        assertFalse(blackholed.isDone());
+        assertEquals(1, window.getInFlight());
+
+        // the connector gives up at the timeout
+        connects.get("http://blackholed:80").complete(false);
+        assertFalse(blackholed.join());
+        await().until(() -> window.getInFlight() == 0);
+    }
+
+    @Test
+    public void testFailedConnectIsUnreachable() {
+        window = new UpstreamProbeWindow(1, TIMEOUT, 0, scheduler, this::connect);
+        final CompletableFuture<Boolean> result = window.probe("http://refused:80");
+
+        connects.get("http://refused:80").completeExceptionally(new IllegalStateException("refused"));
+        assertFalse(result.join());
+        await().until(() -> window.getInFlight() == 0);
+    }
+
+    private CompletableFuture<Boolean> connect(final String url, final Integer timeout) {
+        maxObserved.accumulateAndGet(window.getInFlight(), Math::max);
+        final CompletableFuture<Boolean> connect = new CompletableFuture<>();
+        connects.put(url, connect);
+        started.add(url);
+        return connect;
+    }
+
+    private static List<String> urls(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> "http://upstream-" + i + ":80").collect(Collectors.toList());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shenyu.client.grpc.server;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.protobuf.services.ProtoReflectionService;
 import org.apache.shenyu.client.grpc.GrpcClientEventListener;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -60,6 +61,8 @@ public class GrpcServerRunner implements ApplicationListener<ContextRefreshedEve
             serverBuilder.addService(serviceDefinition);
             LOG.info("{} has been add to grpc server", serviceDefinition.getServiceDescriptor().getName());
         }
+        // lets the gateway load the service descriptors and call the protobuf methods directly
+        serverBuilder.addService(ProtoReflectionService.newInstance());
 
         try {
             Server server = serverBuilder.build().start();
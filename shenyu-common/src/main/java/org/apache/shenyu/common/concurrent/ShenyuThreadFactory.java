@@ -64,6 +64,19 @@ public final class ShenyuThreadFactory implements ThreadFactory {
         return new ShenyuThreadFactory(namePrefix, daemon, priority);
     }
 
+    /**
+     * create a factory of virtual threads, or of daemon platform threads when the runtime has no virtual threads.
+     *
+     * @param namePrefix prefix
+     * @return {@linkplain ThreadFactory}
+     */
+    public static ThreadFactory createVirtual(final String namePrefix) {
+        if (VirtualThreads.isSupported()) {
+            return VirtualThreads.factory(namePrefix);
+        }
+        return create(namePrefix, true);
+    }
+
     @Override
     public Thread newThread(final Runnable runnable) {
         Thread thread = new Thread(THREAD_GROUP, runnable,
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.concurrent;
+
+import org.apache.shenyu.common.exception.ShenyuException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread support.
+ * ShenYu is built for java 17, so the java 21 api is looked up reflectively and
+ * {@link #isSupported()} is false on older runtimes.
+ */
+public final class VirtualThreads {
+    
+    private static final String TRACE_PINNED_THREADS = "jdk.tracePinnedThreads";
+    
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method NAME = findMethod(findClass("java.lang.Thread$Builder"), "name", String.class, long.class);
+    
+    private static final Method FACTORY = findMethod(findClass("java.lang.Thread$Builder"), "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * Whether the runtime has virtual threads.
+     *
+     * @return true on java 21 and later
+     */
+    public static boolean isSupported() {
+        return Objects.nonNull(OF_VIRTUAL) && Objects.nonNull(NAME) && Objects.nonNull(FACTORY) && Objects.nonNull(NEW_THREAD_PER_TASK_EXECUTOR);
+    }
+    
+    /**
+     * Create a factory of virtual threads named {@code shenyu-<namePrefix>-<n>}.
+     *
+     * @param namePrefix the thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory factory(final String namePrefix) {
+        if (!isSupported()) {
+            throw new ShenyuException("virtual threads need java 21 or later, the runtime is java " + Runtime.version().feature());
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), "shenyu-" + namePrefix + "-", 1L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ShenyuException(e);
+        }
+    }
+    
+    /**
+     * Create an executor starting a new virtual thread for each task.
+     *
+     * @param namePrefix the thread name prefix
+     * @return the executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory(namePrefix));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ShenyuException(e);
+        }
+    }
+    
+    /**
+     * Make the jvm print to stdout the stack of a virtual thread that blocks while pinned to its carrier,
+     * such as inside a synchronized block. Takes effect only before the first virtual thread starts,
+     * an explicit {@code -Djdk.tracePinnedThreads} wins.
+     */
+    public static void enablePinningDiagnostics() {
+        if (Objects.isNull(System.getProperty(TRACE_PINNED_THREADS))) {
+            System.setProperty(TRACE_PINNED_THREADS, "short");
+        }
+    }
+    
+    private static Class<?> findClass(final String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+    
+    private static Method findMethod(final Class<?> clazz, final String name, final Class<?>... parameterTypes) {
+        if (Objects.isNull(clazz)) {
+            return null;
+        }
+        try {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
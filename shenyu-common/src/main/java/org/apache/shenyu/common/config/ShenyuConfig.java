@@ -440,10 +440,19 @@ public class ShenyuConfig {
     
         private boolean enabled;
     
+        /**
+         * fixed and elastic run the whole plugin chain on the scheduler,
+         * virtual runs only the plugins declaring {@code isBlocking()} on virtual threads (java 21+).
+         */
         private String type = "fixed";
     
         private Integer threads = Math.max((Runtime.getRuntime().availableProcessors() << 1) + 1, 16);
     
+        /**
+         * Print the stack of virtual threads blocking while pinned to their carrier thread.
+         */
+        private boolean pinningDiagnostics;
+    
         /**
          * Gets enabled.
          *
@@ -497,6 +506,24 @@ public class ShenyuConfig {
         public void setThreads(final Integer threads) {
             this.threads = threads;
         }
+    
+        /**
+         * Gets pinning diagnostics.
+         *
+         * @return the pinning diagnostics
+         */
+        public boolean getPinningDiagnostics() {
+            return pinningDiagnostics;
+        }
+    
+        /**
+         * Sets pinning diagnostics.
+         *
+         * @param pinningDiagnostics the pinning diagnostics
+         */
+        public void setPinningDiagnostics(final boolean pinningDiagnostics) {
+            this.pinningDiagnostics = pinningDiagnostics;
+        }
         
     }
     
@@ -1739,6 +1766,11 @@ public class ShenyuConfig {
          * @see org.apache.shenyu.common.concurrent.MemorySafeLinkedBlockingQueue#getMaxFreeMemory()
          */
         private Integer maxFreeMemory;
+
+        /**
+         * Run the pool on virtual threads instead of platform threads, needs java 21 or later.
+         */
+        private Boolean virtualThreads = Boolean.FALSE;
     
         /**
          * Whether to enable shared thread pool.
@@ -1865,6 +1897,25 @@ public class ShenyuConfig {
         public void setMaxFreeMemory(final Integer maxFreeMemory) {
             this.maxFreeMemory = maxFreeMemory;
         }
+
+
+        /**
+         * Whether the pool runs on virtual threads.
+         *
+         * @return whether virtual threads are used
+         */
+        public Boolean getVirtualThreads() {
+            return virtualThreads;
+        }
+
+        /**
+         * Set virtual threads.
+         *
+         * @param virtualThreads whether virtual threads are used
+         */
+        public void setVirtualThreads(final Boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
     }
     
     /**
@@ -2080,6 +2131,12 @@ public class ShenyuConfig {
         
         private String admins = "localhost:9095";
         
+        private long aggregationWindow = 60000L;
+        
+        private double maxPerSecond = 5;
+        
+        private int burst = 20;
+        
         /**
          * get shenyu spring cloud cache status.
          * @return the enabled status
@@ -2112,5 +2169,53 @@ public class ShenyuConfig {
         public void setAdmins(final String admins) {
             this.admins = admins;
         }
+        
+        /**
+         * Get the window in milliseconds the duplicated alarms are summarized in.
+         * @return the aggregation window
+         */
+        public long getAggregationWindow() {
+            return aggregationWindow;
+        }
+        
+        /**
+         * Set the window in milliseconds the duplicated alarms are summarized in.
+         * @param aggregationWindow the aggregation window
+         */
+        public void setAggregationWindow(final long aggregationWindow) {
+            this.aggregationWindow = aggregationWindow;
+        }
+        
+        /**
+         * Get the alarms sent to admin per second in the long run.
+         * @return the max alarms per second
+         */
+        public double getMaxPerSecond() {
+            return maxPerSecond;
+        }
+        
+        /**
+         * Set the alarms sent to admin per second in the long run.
+         * @param maxPerSecond the max alarms per second
+         */
+        public void setMaxPerSecond(final double maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+        
+        /**
+         * Get the alarms that can be sent to admin at once.
+         * @return the burst
+         */
+        public int getBurst() {
+            return burst;
+        }
+        
+        /**
+         * Set the alarms that can be sent to admin at once.
+         * @param burst the burst
+         */
+        public void setBurst(final int burst) {
+            this.burst = burst;
+        }
     }
 }
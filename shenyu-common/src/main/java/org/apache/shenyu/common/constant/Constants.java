@@ -152,6 +152,36 @@ public interface Constants {
      */
     String DIVIDE_SELECTOR_ID = "divideSelectorId";
 
+    /**
+     * divide online rule id.
+     */
+    String DIVIDE_RULE_ID = "divideRuleId";
+
+    /**
+     * The constant HTTP_HEDGE_PERCENTILE.
+     */
+    String HTTP_HEDGE_PERCENTILE = "httpHedgePercentile";
+
+    /**
+     * The constant HTTP_HEDGE_BUDGET_PERCENT.
+     */
+    String HTTP_HEDGE_BUDGET_PERCENT = "httpHedgeBudgetPercent";
+
+    /**
+     * The constant HTTP_HEDGE_RESPONSE_CLAIMED.
+     */
+    String HTTP_HEDGE_RESPONSE_CLAIMED = "httpHedgeResponseClaimed";
+
+    /**
+     * The constant HTTP_RETRY_BODY_MAX_SIZE.
+     */
+    String HTTP_RETRY_BODY_MAX_SIZE = "httpRetryBodyMaxSize";
+
+    /**
+     * The constant HTTP_REPLAYABLE_BODY.
+     */
+    String HTTP_REPLAYABLE_BODY = "httpReplayableBody";
+
     /**
      * Original response Content-Type attribute name.
      */
@@ -538,6 +568,46 @@ public interface Constants {
      */
     String SCHEDULED_TIME_VALUE = "10";
 
+    /**
+     * the max upstream checks in flight.
+     */
+    String CHECK_MAX_IN_FLIGHT = "checkMaxInFlight";
+
+    /**
+     * default max upstream checks in flight value.
+     */
+    String CHECK_MAX_IN_FLIGHT_VALUE = "256";
+
+    /**
+     * the upstream check timeout in milliseconds.
+     */
+    String CHECK_TIMEOUT = "checkTimeout";
+
+    /**
+     * default upstream check timeout value.
+     */
+    String CHECK_TIMEOUT_VALUE = "3000";
+
+    /**
+     * the upstream check jitter in milliseconds.
+     */
+    String CHECK_JITTER = "checkJitter";
+
+    /**
+     * default upstream check jitter value.
+     */
+    String CHECK_JITTER_VALUE = "1000";
+
+    /**
+     * the window in milliseconds the uri registrations of a service are coalesced in.
+     */
+    String URI_COALESCE_WINDOW = "uriCoalesceWindow";
+
+    /**
+     * default uri coalesce window value, 0 publishes every registration at once.
+     */
+    String URI_COALESCE_WINDOW_VALUE = "200";
+
     /**
      * default headerMaxSize value.
      */
@@ -909,6 +979,17 @@ public interface Constants {
      * The constant Client Port.
      */
     String CLIENT_PORT_NAME = "ClientPort";
+
+    /**
+     * The constant of the websocket sync frame encoding a gateway accepts.
+     */
+    String SYNC_ENCODING_NAME = "SyncEncoding";
+
+    /**
+     * The websocket sync encoding of chunked and deflate compressed binary frames.
+     */
+    String SYNC_ENCODING_DEFLATE = "deflate-chunked";
+
     /**
      * The constant SYS_DEFAULT_NAMESPACE_ID.
      */
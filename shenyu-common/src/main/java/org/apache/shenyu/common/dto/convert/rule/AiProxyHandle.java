@@ -86,6 +86,21 @@ public class AiProxyHandle {
      */
     private String proxyEnabled;
 
+    /**
+     * enable the response cache of deterministic (temperature 0) chat completions.
+     */
+    private String cacheEnabled;
+
+    /**
+     * response cache ttl seconds.
+     */
+    private Long cacheTtlSeconds;
+
+    /**
+     * the max bytes of a cached response, larger responses are not cached.
+     */
+    private Integer cacheMaxBytes;
+
     /**
      * new default instance.
      *
@@ -299,6 +314,60 @@ public class AiProxyHandle {
         this.proxyEnabled = proxyEnabled;
     }
 
+    /**
+     * get cacheEnabled.
+     *
+     * @return cacheEnabled
+     */
+    public String getCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * set cacheEnabled.
+     *
+     * @param cacheEnabled cacheEnabled flag string
+     */
+    public void setCacheEnabled(final String cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    /**
+     * get cacheTtlSeconds.
+     *
+     * @return cacheTtlSeconds
+     */
+    public Long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    /**
+     * set cacheTtlSeconds.
+     *
+     * @param cacheTtlSeconds cacheTtlSeconds
+     */
+    public void setCacheTtlSeconds(final Long cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+
+    /**
+     * get cacheMaxBytes.
+     *
+     * @return cacheMaxBytes
+     */
+    public Integer getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    /**
+     * set cacheMaxBytes.
+     *
+     * @param cacheMaxBytes cacheMaxBytes
+     */
+    public void setCacheMaxBytes(final Integer cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -316,12 +385,16 @@ public class AiProxyHandle {
                 && Objects.equals(maxTokens, that.maxTokens)
                 && Objects.equals(stream, that.stream)
                 && Objects.equals(fallbackConfig, that.fallbackConfig)
-                && Objects.equals(proxyEnabled, that.proxyEnabled);
+                && Objects.equals(proxyEnabled, that.proxyEnabled)
+                && Objects.equals(cacheEnabled, that.cacheEnabled)
+                && Objects.equals(cacheTtlSeconds, that.cacheTtlSeconds)
+                && Objects.equals(cacheMaxBytes, that.cacheMaxBytes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(provider, baseUrl, apiKey, model, temperature, maxTokens, stream, fallbackConfig, proxyEnabled);
+        return Objects.hash(provider, baseUrl, apiKey, model, temperature, maxTokens, stream, fallbackConfig, proxyEnabled,
+                cacheEnabled, cacheTtlSeconds, cacheMaxBytes);
     }
 
     @Override
@@ -336,6 +409,9 @@ public class AiProxyHandle {
                 + ", stream=" + stream
                 + ", fallbackConfig=" + fallbackConfig
                 + ", proxyEnabled=" + proxyEnabled
+                + ", cacheEnabled=" + cacheEnabled
+                + ", cacheTtlSeconds=" + cacheTtlSeconds
+                + ", cacheMaxBytes=" + cacheMaxBytes
                 + '}';
     }
 
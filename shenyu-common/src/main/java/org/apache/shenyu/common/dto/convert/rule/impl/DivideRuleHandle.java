@@ -60,6 +60,21 @@ public class DivideRuleHandle implements RuleHandle {
      * requestMaxSize.
      */
     private long requestMaxSize;
+
+    /**
+     * latency percentile after which a hedged request is sent.
+     */
+    private int hedgePercentile = 95;
+
+    /**
+     * percentage of requests that may be hedged.
+     */
+    private int hedgeBudgetPercent = 10;
+
+    /**
+     * max size of a request body kept for retries, 0 disables replaying the body.
+     */
+    private long retryBodyMaxSize;
     
     /**
      * New instance divide rule handle.
@@ -178,6 +193,60 @@ public class DivideRuleHandle implements RuleHandle {
         this.requestMaxSize = requestMaxSize;
     }
 
+    /**
+     * get hedgePercentile.
+     *
+     * @return hedgePercentile hedge percentile
+     */
+    public int getHedgePercentile() {
+        return hedgePercentile;
+    }
+
+    /**
+     * set hedgePercentile.
+     *
+     * @param hedgePercentile hedgePercentile
+     */
+    public void setHedgePercentile(final int hedgePercentile) {
+        this.hedgePercentile = hedgePercentile;
+    }
+
+    /**
+     * get hedgeBudgetPercent.
+     *
+     * @return hedgeBudgetPercent hedge budget percent
+     */
+    public int getHedgeBudgetPercent() {
+        return hedgeBudgetPercent;
+    }
+
+    /**
+     * set hedgeBudgetPercent.
+     *
+     * @param hedgeBudgetPercent hedgeBudgetPercent
+     */
+    public void setHedgeBudgetPercent(final int hedgeBudgetPercent) {
+        this.hedgeBudgetPercent = hedgeBudgetPercent;
+    }
+
+    /**
+     * get retryBodyMaxSize.
+     *
+     * @return retryBodyMaxSize retry body max size
+     */
+    public long getRetryBodyMaxSize() {
+        return retryBodyMaxSize;
+    }
+
+    /**
+     * set retryBodyMaxSize.
+     *
+     * @param retryBodyMaxSize retryBodyMaxSize
+     */
+    public void setRetryBodyMaxSize(final long retryBodyMaxSize) {
+        this.retryBodyMaxSize = retryBodyMaxSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -189,12 +258,13 @@ public class DivideRuleHandle implements RuleHandle {
         DivideRuleHandle that = (DivideRuleHandle) o;
         return retry == that.retry && timeout == that.timeout && headerMaxSize == that.headerMaxSize
                 && requestMaxSize == that.requestMaxSize && Objects.equals(loadBalance, that.loadBalance)
+                && hedgePercentile == that.hedgePercentile && hedgeBudgetPercent == that.hedgeBudgetPercent && retryBodyMaxSize == that.retryBodyMaxSize
                 && Objects.equals(retryStrategy, that.retryStrategy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize);
+        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize, hedgePercentile, hedgeBudgetPercent, retryBodyMaxSize);
     }
 
     @Override
@@ -214,6 +284,12 @@ public class DivideRuleHandle implements RuleHandle {
                 + headerMaxSize
                 + ", requestMaxSize="
                 + requestMaxSize
+                + ", hedgePercentile="
+                + hedgePercentile
+                + ", hedgeBudgetPercent="
+                + hedgeBudgetPercent
+                + ", retryBodyMaxSize="
+                + retryBodyMaxSize
                 + '}';
     }
 }
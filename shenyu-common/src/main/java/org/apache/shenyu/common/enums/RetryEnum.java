@@ -30,7 +30,12 @@ public enum RetryEnum {
     /**
      * Retry other servers when failed.
      */
-    FAILOVER(2, "failover", true);
+    FAILOVER(2, "failover", true),
+
+    /**
+     * Send a second request to another server when the first one is slow.
+     */
+    HEDGED(3, "hedged", true);
 
     private final int code;
 
@@ -18,12 +18,22 @@
 package org.apache.shenyu.common.utils;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.constant.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Uri utils.
@@ -36,6 +46,13 @@ public class UpstreamCheckUtils {
 
     private static final int DEFAULT_TIMEOUT = 3000;
 
+    private static final int RESOLVER_THREADS = 4;
+
+    /**
+     * the host lookups of the asynchronous checks block, they run here instead of on the caller.
+     */
+    private static final ExecutorService RESOLVER = createResolver();
+
     /**
      * logger.
      */
@@ -62,6 +79,69 @@ public class UpstreamCheckUtils {
         if (StringUtils.isBlank(url)) {
             return false;
         }
+        final InetSocketAddress address = parseAddress(url);
+        return isHostConnector(address.getHostString(), address.getPort(), timeout);
+    }
+
+    /**
+     * Check url without blocking the calling thread, the host lookup runs on a small resolver pool
+     * and the connect is driven by the default asynchronous channel group.
+     *
+     * @param url     the url
+     * @param timeout timeout in milliseconds, it bounds the lookup and the connect together
+     * @return the future of whether the url is connectable, it never completes exceptionally
+     */
+    public static CompletableFuture<Boolean> checkUrlAsync(final String url, final int timeout) {
+        if (StringUtils.isBlank(url)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        final InetSocketAddress unresolved;
+        try {
+            unresolved = parseAddress(url);
+        } catch (Exception e) {
+            LOG.error("socket connect is error. url:{} timeout:{}", url, timeout, e);
+            return CompletableFuture.completedFuture(false);
+        }
+        final CompletableFuture<AsynchronousSocketChannel> channel = new CompletableFuture<>();
+        return CompletableFuture.supplyAsync(() -> new InetSocketAddress(unresolved.getHostString(), unresolved.getPort()), RESOLVER)
+                .thenCompose(address -> connect(address, channel))
+                .orTimeout(timeout, TimeUnit.MILLISECONDS)
+                .handle((pass, ex) -> {
+                    channel.thenAccept(UpstreamCheckUtils::closeQuietly);
+                    if (Objects.nonNull(ex)) {
+                        LOG.error("socket connect is error. url:{} timeout:{} cause:{}", url, timeout, ex.toString());
+                        return false;
+                    }
+                    return pass;
+                });
+    }
+
+    private static CompletableFuture<Boolean> connect(final InetSocketAddress address, final CompletableFuture<AsynchronousSocketChannel> channel) {
+        final AsynchronousSocketChannel socketChannel;
+        try {
+            socketChannel = AsynchronousSocketChannel.open();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // a channel opened after the timeout is closed as soon as it is published
+        channel.complete(socketChannel);
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        socketChannel.connect(address, address, new CompletionHandler<Void, InetSocketAddress>() {
+
+            @Override
+            public void completed(final Void result, final InetSocketAddress attachment) {
+                future.complete(true);
+            }
+
+            @Override
+            public void failed(final Throwable exc, final InetSocketAddress attachment) {
+                future.completeExceptionally(exc);
+            }
+        });
+        return future;
+    }
+
+    private static InetSocketAddress parseAddress(final String url) {
         String[] hostPort;
         if (url.startsWith(HTTP) || url.startsWith(HTTPS)) {
             final String[] http = StringUtils.split(url, "\\/\\/");
@@ -71,7 +151,22 @@ public class UpstreamCheckUtils {
         }
         final boolean isHttps = url.startsWith(HTTPS);
         final int port = hostPort.length > 1 ? Integer.parseInt(hostPort[1].trim()) : isHttps ? 443 : 80;
-        return isHostConnector(hostPort[0].trim(), port, timeout);
+        return InetSocketAddress.createUnresolved(hostPort[0].trim(), port);
+    }
+
+    private static ExecutorService createResolver() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(RESOLVER_THREADS, RESOLVER_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("upstream-check-resolver", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static void closeQuietly(final AsynchronousSocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the probe result is already known
+        }
     }
 
     private static boolean isHostConnector(final String host, final int port, final int timeout) {
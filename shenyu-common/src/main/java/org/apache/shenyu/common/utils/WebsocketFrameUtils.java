@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.exception.ShenyuException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The binary frames of the websocket sync.
+ *
+ * <p>A frame is a header of magic, version, message id, sequence and total, followed by the deflate compressed
+ * json of one {@link org.apache.shenyu.common.dto.WebsocketData}. A message larger than the chunk size is split
+ * by its data list into chunks that are each a complete message, the chunks after the first of a refresh
+ * are updates, so a gateway applies every chunk as it arrives.</p>
+ */
+public final class WebsocketFrameUtils {
+
+    private static final byte MAGIC = 0x53;
+
+    private static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 2 + Long.BYTES + Integer.BYTES * 2;
+
+    private static final String DATA = "data";
+
+    private static final String EVENT_TYPE = "eventType";
+
+    private static final AtomicLong MESSAGE_ID = new AtomicLong();
+
+    private WebsocketFrameUtils() {
+    }
+
+    /**
+     * Encode a message into frames of at most chunk size characters of json each.
+     *
+     * @param message   the json message
+     * @param chunkSize the chunk size, a single data element larger than it is sent alone
+     * @return the frames, in sequence
+     */
+    public static List<ByteBuffer> encode(final String message, final int chunkSize) {
+        final List<String> chunks = split(message, chunkSize);
+        final long messageId = MESSAGE_ID.incrementAndGet();
+        final List<ByteBuffer> frames = new ArrayList<>(chunks.size());
+        for (int seq = 0; seq < chunks.size(); seq++) {
+            frames.add(encode(chunks.get(seq), messageId, seq, chunks.size()));
+        }
+        return frames;
+    }
+
+    private static ByteBuffer encode(final String chunk, final long messageId, final int seq, final int total) {
+        final byte[] compressed = deflate(chunk.getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + compressed.length);
+        frame.put(MAGIC).put(VERSION).putLong(messageId).putInt(seq).putInt(total).put(compressed);
+        frame.flip();
+        return frame.asReadOnlyBuffer();
+    }
+
+    /**
+     * Decode a frame.
+     *
+     * @param buffer the frame
+     * @return the decoded frame
+     */
+    public static Frame decode(final ByteBuffer buffer) {
+        final ByteBuffer frame = buffer.duplicate();
+        if (frame.remaining() < HEADER_LENGTH || frame.get() != MAGIC || frame.get() != VERSION) {
+            throw new ShenyuException("illegal websocket sync frame");
+        }
+        final long messageId = frame.getLong();
+        final int seq = frame.getInt();
+        final int total = frame.getInt();
+        final byte[] compressed = new byte[frame.remaining()];
+        frame.get(compressed);
+        return new Frame(messageId, seq, total, inflate(compressed));
+    }
+
+    /**
+     * Split a message by its data list into messages of at most chunk size characters.
+     *
+     * @param message   the json message
+     * @param chunkSize the chunk size
+     * @return the messages
+     */
+    public static List<String> split(final String message, final int chunkSize) {
+        if (chunkSize <= 0 || message.length() <= chunkSize) {
+            return Collections.singletonList(message);
+        }
+        final JsonObject json;
+        try {
+            json = JsonParser.parseString(message).getAsJsonObject();
+        } catch (RuntimeException e) {
+            return Collections.singletonList(message);
+        }
+        final JsonElement data = json.get(DATA);
+        if (Objects.isNull(data) || !data.isJsonArray() || data.getAsJsonArray().size() <= 1) {
+            return Collections.singletonList(message);
+        }
+        final int overhead = message.length() - data.toString().length();
+        final List<String> chunks = new ArrayList<>();
+        JsonArray chunk = new JsonArray();
+        int length = overhead;
+        for (JsonElement element : data.getAsJsonArray()) {
+            final int elementLength = element.toString().length() + 1;
+            if (!chunk.isEmpty() && length + elementLength > chunkSize) {
+                chunks.add(chunk(json, chunk, chunks.size()));
+                chunk = new JsonArray();
+                length = overhead;
+            }
+            chunk.add(element);
+            length += elementLength;
+        }
+        chunks.add(chunk(json, chunk, chunks.size()));
+        return chunks;
+    }
+
+    private static String chunk(final JsonObject message, final JsonArray data, final int seq) {
+        final JsonObject chunk = message.deepCopy();
+        chunk.add(DATA, data);
+        final JsonElement eventType = message.get(EVENT_TYPE);
+        // only the first chunk of a refresh replaces the cached data, the rest add to it
+        if (seq > 0 && Objects.nonNull(eventType)
+                && (DataEventTypeEnum.REFRESH.name().equals(eventType.getAsString())
+                || DataEventTypeEnum.MYSELF.name().equals(eventType.getAsString()))) {
+            chunk.addProperty(EVENT_TYPE, DataEventTypeEnum.UPDATE.name());
+        }
+        return chunk.toString();
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(final byte[] bytes) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            final byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ShenyuException("truncated websocket sync frame");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new ShenyuException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * A decoded frame.
+     */
+    public static final class Frame {
+
+        private final long messageId;
+
+        private final int seq;
+
+        private final int total;
+
+        private final String message;
+
+        private Frame(final long messageId, final int seq, final int total, final String message) {
+            this.messageId = messageId;
+            this.seq = seq;
+            this.total = total;
+            this.message = message;
+        }
+
+        /**
+         * Get the id of the message the frame is a chunk of.
+         *
+         * @return the message id
+         */
+        public long getMessageId() {
+            return messageId;
+        }
+
+        /**
+         * Get the sequence of the chunk in the message, starting at 0.
+         *
+         * @return the sequence
+         */
+        public int getSeq() {
+            return seq;
+        }
+
+        /**
+         * Get the number of chunks of the message.
+         *
+         * @return the total
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Get the json of the chunk.
+         *
+         * @return the json
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -43,6 +43,23 @@ public final class UpstreamCheckUtilsTest {
         assertFalse(UpstreamCheckUtils.checkUrl(""));
     }
 
+    @Test
+    public void testCheckUrlAsync() throws IOException {
+        assertFalse(UpstreamCheckUtils.checkUrlAsync("", 100).join());
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            int localPort = serverSocket.getLocalPort();
+            assertTrue(UpstreamCheckUtils.checkUrlAsync("http://127.0.0.1:" + localPort, 1000).join());
+            serverSocket.close();
+            assertFalse(UpstreamCheckUtils.checkUrlAsync("127.0.0.1:" + localPort, 1000).join());
+        }
+    }
+
+    @Test
+    public void testCheckUrlAsyncUnresolvable() {
+        // the lookup fails or is cut off by the timeout, either way the url is unreachable
+        assertFalse(UpstreamCheckUtils.checkUrlAsync("http://upstream.shenyu.invalid:80", 1000).join());
+    }
+
     @Test
     @Disabled
     public void testSocketConnect() {
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.utils;
+
+import com.google.gson.JsonParser;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link WebsocketFrameUtils}.
+ */
+public final class WebsocketFrameUtilsTest {
+
+    @Test
+    public void testSmallMessageIsOneFrame() {
+        String message = "{\"groupType\":\"PLUGIN\",\"eventType\":\"UPDATE\",\"data\":[{\"name\":\"divide\"}]}";
+        List<ByteBuffer> frames = WebsocketFrameUtils.encode(message, 1024);
+        assertEquals(1, frames.size());
+        WebsocketFrameUtils.Frame frame = WebsocketFrameUtils.decode(frames.get(0));
+        assertEquals(0, frame.getSeq());
+        assertEquals(1, frame.getTotal());
+        assertEquals(message, frame.getMessage());
+    }
+
+    @Test
+    public void testRefreshIsChunked() {
+        StringBuilder message = new StringBuilder("{\"groupType\":\"RULE\",\"eventType\":\"REFRESH\",\"data\":[");
+        for (int i = 0; i < 1000; i++) {
+            message.append(i == 0 ? "" : ",").append("{\"id\":\"").append(i).append("\",\"name\":\"rule-").append(i).append("\"}");
+        }
+        message.append("]}");
+        List<ByteBuffer> frames = WebsocketFrameUtils.encode(message.toString(), 1024);
+        assertTrue(frames.size() > 1);
+        long bytes = 0;
+        int rules = 0;
+        for (int seq = 0; seq < frames.size(); seq++) {
+            bytes += frames.get(seq).remaining();
+            WebsocketFrameUtils.Frame frame = WebsocketFrameUtils.decode(frames.get(seq));
+            assertEquals(seq, frame.getSeq());
+            assertEquals(frames.size(), frame.getTotal());
+            assertTrue(frame.getMessage().length() <= 1024);
+            assertTrue(frame.getMessage().contains(seq == 0 ? "\"REFRESH\"" : "\"UPDATE\""));
+            rules += JsonParser.parseString(frame.getMessage()).getAsJsonObject().getAsJsonArray("data").size();
+        }
+        assertEquals(1000, rules);
+        assertTrue(bytes < message.length());
+    }
+
+    @Test
+    public void testIllegalFrame() {
+        assertThrows(ShenyuException.class, () -> WebsocketFrameUtils.decode(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.k8s.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.k8s.common.IngressConfiguration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The cache for the route configurations applied to shenyu for an ingress.
+ */
+public final class IngressConfigCache implements K8sResourceCache<List<IngressConfiguration>> {
+
+    private static final IngressConfigCache INSTANCE = new IngressConfigCache();
+
+    private static final Map<String, List<IngressConfiguration>> CONFIG_MAP = Maps.newConcurrentMap();
+
+    private IngressConfigCache() {
+    }
+
+    /**
+     * Get singleton of IngressConfigCache.
+     *
+     * @return IngressConfigCache
+     */
+    public static IngressConfigCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Put the applied route configurations of ingress.
+     *
+     * @param namespace namespace
+     * @param name name
+     * @param resource the applied route configurations
+     */
+    @Override
+    public void put(final String namespace, final String name, final List<IngressConfiguration> resource) {
+        CONFIG_MAP.put(getKey(namespace, name), resource);
+    }
+
+    /**
+     * Get the applied route configurations of ingress.
+     *
+     * @param namespace namespace
+     * @param name name
+     * @return the applied route configurations
+     */
+    @Override
+    public List<IngressConfiguration> get(final String namespace, final String name) {
+        return CONFIG_MAP.get(getKey(namespace, name));
+    }
+
+    /**
+     * Remove the applied route configurations of ingress.
+     *
+     * @param namespace namespace
+     * @param name name
+     * @return the applied route configurations
+     */
+    @Override
+    public List<IngressConfiguration> remove(final String namespace, final String name) {
+        return CONFIG_MAP.remove(getKey(namespace, name));
+    }
+
+    private String getKey(final String namespace, final String name) {
+        return String.format("%s-%s", namespace, name);
+    }
+}
@@ -30,6 +30,7 @@ import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1Ingress;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.selector.DivideUpstream;
 import org.apache.shenyu.common.enums.PluginEnum;
@@ -42,10 +43,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Reconciler of Endpoints.
@@ -54,6 +60,11 @@ public class EndpointsReconciler implements Reconciler {
 
     private static final Logger LOG = LoggerFactory.getLogger(EndpointsReconciler.class);
 
+    /**
+     * the endpoints changes within this window are applied once.
+     */
+    private static final long DEFAULT_COALESCE_MILLIS = 200;
+
     private final Lister<V1Ingress> ingressLister;
 
     private final Lister<V1Endpoints> endpointsLister;
@@ -62,6 +73,12 @@ public class EndpointsReconciler implements Reconciler {
 
     private final ApiClient apiClient;
 
+    private final long coalesceMillis;
+
+    private final Set<String> pendingEndpoints = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService coalesceExecutor;
+
     /**
      * EndpointsReconciler Constructor.
      *
@@ -74,20 +91,61 @@ public class EndpointsReconciler implements Reconciler {
                                final SharedIndexInformer<V1Endpoints> endpointsInformer,
                                final ShenyuCacheRepository shenyuCacheRepository,
                                final ApiClient apiClient) {
+        this(ingressInformer, endpointsInformer, shenyuCacheRepository, apiClient, DEFAULT_COALESCE_MILLIS);
+    }
+
+    /**
+     * EndpointsReconciler Constructor.
+     *
+     * @param ingressInformer       ingressInformer
+     * @param endpointsInformer     endpointsInformer
+     * @param shenyuCacheRepository shenyuCacheRepository
+     * @param apiClient             apiClient
+     * @param coalesceMillis        the window the changes of an endpoints are coalesced in, 0 applies them at once
+     */
+    public EndpointsReconciler(final SharedIndexInformer<V1Ingress> ingressInformer,
+                               final SharedIndexInformer<V1Endpoints> endpointsInformer,
+                               final ShenyuCacheRepository shenyuCacheRepository,
+                               final ApiClient apiClient,
+                               final long coalesceMillis) {
         this.ingressLister = new Lister<>(ingressInformer.getIndexer());
         this.endpointsLister = new Lister<>(endpointsInformer.getIndexer());
         this.shenyuCacheRepository = shenyuCacheRepository;
         this.apiClient = apiClient;
+        this.coalesceMillis = coalesceMillis;
+        this.coalesceExecutor = coalesceMillis > 0
+                ? Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("endpoints-reconcile", true)) : null;
     }
 
     /**
      * Reconcile cycle.
      *
+     * <p>Pod churn produces bursts of endpoints events, the first event of a burst schedules one
+     * apply at the end of the window, which reads the latest endpoints.</p>
+     *
      * @param request request
      * @return reconcile result
      */
     @Override
     public Result reconcile(final Request request) {
+        if (Objects.isNull(coalesceExecutor)) {
+            return doReconcile(request);
+        }
+        final String key = request.getNamespace() + "/" + request.getName();
+        if (pendingEndpoints.add(key)) {
+            coalesceExecutor.schedule(() -> {
+                pendingEndpoints.remove(key);
+                try {
+                    doReconcile(request);
+                } catch (Exception e) {
+                    LOG.error("Reconcile endpoints {} error", request, e);
+                }
+            }, coalesceMillis, TimeUnit.MILLISECONDS);
+        }
+        return new Result(false);
+    }
+
+    private Result doReconcile(final Request request) {
         List<Pair<String, String>> ingressList = ServiceIngressCache.getInstance().getIngressName(request.getNamespace(), request.getName());
         if (CollectionUtils.isEmpty(ingressList)) {
             return new Result(false);
@@ -101,8 +159,10 @@ public class EndpointsReconciler implements Reconciler {
             return new Result(false);
         }
 
-        // 1. Obtain upstream according to endpoints
+        // 1. Obtain upstream according to endpoints, sorted so the same endpoints give the same handler
         List<DivideUpstream> upstreamList = getUpstreamFromEndpoints(v1Endpoints);
+        upstreamList.sort(Comparator.comparing(DivideUpstream::getUpstreamUrl));
+        final String handle = GsonUtils.getInstance().toJson(upstreamList);
 
         // 2. Update the handler of the selector
         List<SelectorData> totalSelectors = shenyuCacheRepository.findSelectorDataList(PluginEnum.DIVIDE.getName());
@@ -112,8 +172,10 @@ public class EndpointsReconciler implements Reconciler {
             List<String> selectorIdList = IngressSelectorCache.getInstance().get(item.getLeft(), item.getRight(), PluginEnum.DIVIDE.getName());
             needUpdateSelectorId.addAll(selectorIdList);
         });
+        List<SelectorData> changedSelectors = new ArrayList<>();
         totalSelectors.forEach(selectorData -> {
-            if (needUpdateSelectorId.contains(selectorData.getId())) {
+            // the selectors already routing to these upstreams are left untouched
+            if (needUpdateSelectorId.contains(selectorData.getId()) && !handle.equals(selectorData.getHandle())) {
                 SelectorData newSelectorData = SelectorData.builder().id(selectorData.getId())
                         .pluginId(selectorData.getPluginId())
                         .pluginName(selectorData.getPluginName())
@@ -124,13 +186,14 @@ public class EndpointsReconciler implements Reconciler {
                         .enabled(selectorData.getEnabled())
                         .logged(selectorData.getLogged())
                         .continued(selectorData.getContinued())
-                        .handle(GsonUtils.getInstance().toJson(upstreamList))
+                        .handle(handle)
                         .conditionList(selectorData.getConditionList())
                         .matchRestful(selectorData.getMatchRestful()).build();
-                shenyuCacheRepository.saveOrUpdateSelectorData(newSelectorData);
+                changedSelectors.add(newSelectorData);
             }
         });
-        LOG.info("Update selector for endpoint {}", request);
+        changedSelectors.forEach(shenyuCacheRepository::saveOrUpdateSelectorData);
+        LOG.info("Update {} selectors for endpoint {}", changedSelectors.size(), request);
 
         return new Result(false);
     }
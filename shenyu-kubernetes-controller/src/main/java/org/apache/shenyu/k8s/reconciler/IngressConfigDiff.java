@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.k8s.reconciler;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.k8s.cache.IngressSelectorCache;
+import org.apache.shenyu.k8s.common.IngressConfiguration;
+import org.apache.shenyu.k8s.repository.ShenyuCacheRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The difference between the route configurations applied for an ingress and the freshly parsed ones.
+ *
+ * <p>Selectors are matched by plugin, name and conditions, rules by name and conditions within their
+ * selector and metadata by path. A matched entity keeps its id and is only written when its content changed,
+ * so re-parsing an ingress does not notify the subscribers of the entities it left untouched.</p>
+ */
+public final class IngressConfigDiff {
+
+    private final List<IngressConfiguration> applied = new ArrayList<>();
+
+    private final List<SelectorData> upsertSelectors = new ArrayList<>();
+
+    private final List<RuleData> upsertRules = new ArrayList<>();
+
+    private final List<MetaData> upsertMetaData = new ArrayList<>();
+
+    private final List<SelectorData> deleteSelectors = new ArrayList<>();
+
+    private final List<RuleData> deleteRules = new ArrayList<>();
+
+    private final List<MetaData> deleteMetaData = new ArrayList<>();
+
+    private IngressConfigDiff() {
+    }
+
+    /**
+     * Compute the difference, the parsed entities get the ids of the applied ones they match or new ids.
+     *
+     * @param previous the applied route configurations, null if none
+     * @param current  the parsed route configurations
+     * @return the difference
+     */
+    public static IngressConfigDiff compute(final List<IngressConfiguration> previous, final List<IngressConfiguration> current) {
+        final IngressConfigDiff diff = new IngressConfigDiff();
+        final Map<String, IngressConfiguration> previousRoutes = new LinkedHashMap<>();
+        final Map<String, MetaData> previousMetaData = new LinkedHashMap<>();
+        Optional.ofNullable(previous).orElse(Collections.emptyList()).forEach(config -> {
+            if (Objects.nonNull(config.getSelectorData())) {
+                previousRoutes.putIfAbsent(selectorKey(config.getSelectorData()), config);
+            }
+            nonNullList(config.getMetaDataList()).stream().filter(Objects::nonNull)
+                    .forEach(metaData -> previousMetaData.putIfAbsent(metaData.getPath(), metaData));
+        });
+        for (IngressConfiguration config : current) {
+            final SelectorData selectorData = config.getSelectorData();
+            final List<RuleData> ruleDataList = new ArrayList<>(nonNullList(config.getRuleDataList()));
+            if (Objects.nonNull(selectorData)) {
+                final IngressConfiguration previousRoute = previousRoutes.remove(selectorKey(selectorData));
+                diff.diffSelector(Objects.isNull(previousRoute) ? null : previousRoute.getSelectorData(), selectorData);
+                diff.diffRules(Objects.isNull(previousRoute) ? Collections.emptyList() : previousRoute.getRuleDataList(), selectorData, ruleDataList);
+            }
+            final List<MetaData> metaDataList = new ArrayList<>();
+            for (MetaData metaData : nonNullList(config.getMetaDataList())) {
+                if (Objects.isNull(metaData)) {
+                    continue;
+                }
+                diff.diffMetaData(previousMetaData.remove(metaData.getPath()), metaData);
+                metaDataList.add(metaData);
+            }
+            diff.applied.add(new IngressConfiguration(selectorData, ruleDataList, metaDataList));
+        }
+        previousRoutes.values().forEach(config -> {
+            diff.deleteRules.addAll(nonNullList(config.getRuleDataList()));
+            diff.deleteSelectors.add(config.getSelectorData());
+        });
+        diff.deleteMetaData.addAll(previousMetaData.values());
+        return diff;
+    }
+
+    /**
+     * Apply the changed entities to the repository, the removed ones first.
+     *
+     * @param shenyuCacheRepository shenyuCacheRepository
+     */
+    public void apply(final ShenyuCacheRepository shenyuCacheRepository) {
+        deleteRules.forEach(ruleData -> shenyuCacheRepository.deleteRuleData(ruleData.getPluginName(), ruleData.getSelectorId(), ruleData.getId()));
+        deleteSelectors.forEach(selectorData -> shenyuCacheRepository.deleteSelectorData(selectorData.getPluginName(), selectorData.getId()));
+        deleteMetaData.forEach(shenyuCacheRepository::deleteMetaData);
+        upsertSelectors.forEach(shenyuCacheRepository::saveOrUpdateSelectorData);
+        upsertRules.forEach(shenyuCacheRepository::saveOrUpdateRuleData);
+        upsertMetaData.forEach(shenyuCacheRepository::saveOrUpdateMetaData);
+    }
+
+    /**
+     * Get the route configurations applied once this difference is applied.
+     *
+     * @return the route configurations
+     */
+    public List<IngressConfiguration> getApplied() {
+        return applied;
+    }
+
+    /**
+     * Get the number of entities written by this difference.
+     *
+     * @return the number of changed entities
+     */
+    public int size() {
+        return upsertSelectors.size() + upsertRules.size() + upsertMetaData.size()
+                + deleteSelectors.size() + deleteRules.size() + deleteMetaData.size();
+    }
+
+    private void diffSelector(final SelectorData previous, final SelectorData selectorData) {
+        if (Objects.isNull(previous)) {
+            selectorData.setId(IngressSelectorCache.getInstance().generateSelectorId());
+            upsertSelectors.add(selectorData);
+            return;
+        }
+        selectorData.setId(previous.getId());
+        if (!sameContent(previous, selectorData)) {
+            upsertSelectors.add(selectorData);
+        }
+    }
+
+    private void diffRules(final List<RuleData> previous, final SelectorData selectorData, final List<RuleData> ruleDataList) {
+        final Map<String, RuleData> previousRules = new LinkedHashMap<>();
+        nonNullList(previous).forEach(ruleData -> previousRules.putIfAbsent(ruleKey(ruleData), ruleData));
+        ruleDataList.removeIf(Objects::isNull);
+        for (RuleData ruleData : ruleDataList) {
+            ruleData.setSelectorId(selectorData.getId());
+            final RuleData previousRule = previousRules.remove(ruleKey(ruleData));
+            if (Objects.isNull(previousRule)) {
+                ruleData.setId(IngressSelectorCache.getInstance().generateRuleId());
+                upsertRules.add(ruleData);
+                continue;
+            }
+            ruleData.setId(previousRule.getId());
+            if (!sameContent(previousRule, ruleData)) {
+                upsertRules.add(ruleData);
+            }
+        }
+        deleteRules.addAll(previousRules.values());
+    }
+
+    private void diffMetaData(final MetaData previous, final MetaData metaData) {
+        if (Objects.isNull(previous)) {
+            metaData.setId(IngressSelectorCache.getInstance().generateMetaDataId());
+            upsertMetaData.add(metaData);
+            return;
+        }
+        metaData.setId(previous.getId());
+        if (!sameContent(previous, metaData)) {
+            upsertMetaData.add(metaData);
+        }
+    }
+
+    private static String selectorKey(final SelectorData selectorData) {
+        return selectorData.getPluginName() + "|" + selectorData.getName() + "|" + GsonUtils.getInstance().toJson(selectorData.getConditionList());
+    }
+
+    private static String ruleKey(final RuleData ruleData) {
+        return ruleData.getName() + "|" + GsonUtils.getInstance().toJson(ruleData.getConditionDataList());
+    }
+
+    private static boolean sameContent(final Object previous, final Object current) {
+        return GsonUtils.getInstance().toJson(previous).equals(GsonUtils.getInstance().toJson(current));
+    }
+
+    private static <T> List<T> nonNullList(final List<T> list) {
+        return CollectionUtils.isEmpty(list) ? Collections.emptyList() : list;
+    }
+}
@@ -45,6 +45,7 @@ import org.apache.shenyu.common.enums.PluginRoleEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.k8s.cache.IngressCache;
+import org.apache.shenyu.k8s.cache.IngressConfigCache;
 import org.apache.shenyu.k8s.cache.IngressSecretCache;
 import org.apache.shenyu.k8s.cache.IngressSelectorCache;
 import org.apache.shenyu.k8s.cache.ServiceIngressCache;
@@ -64,6 +65,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.apache.shenyu.common.utils.IpUtils.getZookeeperHost;
 import static org.apache.shenyu.common.utils.IpUtils.isCompleteHost;
@@ -129,8 +131,6 @@ public class IngressReconciler implements Reconciler {
         // Do not modify current ingress object directly
         final V1Ingress v1Ingress = this.ingressLister.namespace(request.getNamespace()).get(request.getName());
         final V1Ingress oldIngress = IngressCache.getInstance().get(request.getNamespace(), request.getName());
-        Map<String, String> annotations = v1Ingress.getMetadata().getAnnotations();
-        enablePluginsBasedOnAnnotations(annotations, request);
         if (Objects.isNull(v1Ingress)) {
             if (Objects.nonNull(oldIngress)) {
                 // Delete ingress binding selectors
@@ -150,12 +150,15 @@ public class IngressReconciler implements Reconciler {
                 IngressSecretCache.getInstance().removeDomainByIngress(request.getNamespace(), request.getName());
 
                 IngressCache.getInstance().remove(request.getNamespace(), request.getName());
+                IngressConfigCache.getInstance().remove(request.getNamespace(), request.getName());
                 LOG.info("Delete selector and rule for ingress {}", request);
             } else {
                 LOG.info("Cannot find ingress {}", request);
             }
             return new Result(false);
         }
+        Map<String, String> annotations = v1Ingress.getMetadata().getAnnotations();
+        enablePluginsBasedOnAnnotations(annotations, request);
 
         if (!checkIngressClass(v1Ingress)) {
             LOG.info("IngressClass is not match {}", request);
@@ -170,10 +173,17 @@ public class IngressReconciler implements Reconciler {
             }
         } else if (needUpdate(oldIngress, v1Ingress)) {
             // Update logic
-            // 1. clean old config
-            doDeleteConfigByIngress(request, oldIngress);
+            // 1. clean old config, the route config is kept to diff the new one against when the plugin is unchanged
+            if (Objects.isNull(IngressConfigCache.getInstance().get(request.getNamespace(), request.getName()))
+                    || !getPluginName(oldIngress).equals(getPluginName(v1Ingress))) {
+                doDeleteConfigByIngress(request, oldIngress);
+                IngressConfigCache.getInstance().remove(request.getNamespace(), request.getName());
+            } else {
+                deleteGlobalDefaultBackendConfig(request.getNamespace(), request.getName(), getPluginName(oldIngress));
+                removeServiceCache(request, oldIngress);
+            }
 
-            // 2. add new config
+            // 2. apply the changes of new config
             try {
                 addNewIngressConfigToShenyu(v1Ingress, new CoreV1Api(apiClient));
             } catch (IOException e) {
@@ -240,12 +250,28 @@ public class IngressReconciler implements Reconciler {
                 IngressSelectorCache.getInstance().remove(request.getNamespace(), request.getName(), PluginEnum.DIVIDE.getName());
             }
         }
+        removeServiceCache(request, oldIngress);
+        deleteGlobalDefaultBackend(request.getNamespace(), request.getName());
+    }
+
+    private void removeServiceCache(final Request request, final V1Ingress oldIngress) {
         List<Pair<String, String>> serviceList = parseServiceFromIngress(oldIngress);
         Objects.requireNonNull(serviceList).forEach(pair -> {
             ServiceIngressCache.getInstance().removeSpecifiedIngressName(pair.getLeft(), pair.getRight(), request.getNamespace(), request.getName());
             LOG.info("Delete service cache {} for ingress {}", pair.getLeft() + "/" + pair.getRight(), request.getNamespace() + "/" + request.getName());
         });
-        deleteGlobalDefaultBackend(request.getNamespace(), request.getName());
+    }
+
+    private void deleteGlobalDefaultBackendConfig(final String namespace, final String name, final String pluginName) {
+        if (Objects.isNull(globalDefaultBackend) || !(namespace + "/" + name).equals(globalDefaultBackend.getLeft().getLeft())) {
+            return;
+        }
+        String selectorId = globalDefaultBackend.getRight().getSelectorData().getId();
+        List<RuleData> ruleList = new ArrayList<>(shenyuCacheRepository.findRuleDataList(selectorId));
+        ruleList.forEach(rule -> shenyuCacheRepository.deleteRuleData(pluginName, selectorId, rule.getId()));
+        shenyuCacheRepository.deleteSelectorData(pluginName, selectorId);
+        Optional.ofNullable(IngressSelectorCache.getInstance().get(namespace, name, pluginName)).ifPresent(selectorIdList -> selectorIdList.remove(selectorId));
+        globalDefaultBackend = null;
     }
 
     private void deleteGlobalDefaultBackend(final String namespace, final String name) {
@@ -429,79 +455,51 @@ public class IngressReconciler implements Reconciler {
     private void addNewIngressConfigToShenyu(final V1Ingress v1Ingress, final CoreV1Api apiClient) throws IOException {
         V1Ingress ingressCopy = new V1IngressBuilder(v1Ingress).build();
         List<ShenyuMemoryConfig> shenyuMemoryConfigList = ingressParser.parse(ingressCopy, apiClient);
-        String pluginName = getPluginName(ingressCopy);
+        final String pluginName = getPluginName(ingressCopy);
 
+        List<IngressConfiguration> routeConfigList = new ArrayList<>();
         for (ShenyuMemoryConfig shenyuMemoryConfig : shenyuMemoryConfigList) {
-            if (Objects.nonNull(shenyuMemoryConfig)) {
-                processShenyuMemoryConfig(shenyuMemoryConfig, v1Ingress, pluginName);
+            if (Objects.nonNull(shenyuMemoryConfig) && CollectionUtils.isNotEmpty(shenyuMemoryConfig.getRouteConfigList())) {
+                shenyuMemoryConfig.getRouteConfigList().stream().filter(Objects::nonNull).forEach(routeConfig -> {
+                    prepareRouteConfig(routeConfig);
+                    routeConfigList.add(routeConfig);
+                });
             }
         }
-    }
-
-    private void processShenyuMemoryConfig(final ShenyuMemoryConfig shenyuMemoryConfig, final V1Ingress v1Ingress, final String pluginName) throws IOException {
-        List<IngressConfiguration> routeConfigList = shenyuMemoryConfig.getRouteConfigList();
-
-        if (CollectionUtils.isEmpty(routeConfigList)) {
-            return;
-        }
-
-        for (IngressConfiguration routeConfig : routeConfigList) {
-            SelectorData selectorData = routeConfig.getSelectorData();
 
-            if (Objects.nonNull(selectorData)) {
-                processSelectorData(routeConfig, selectorData, v1Ingress, pluginName);
-            }
+        final String namespace = Objects.requireNonNull(v1Ingress.getMetadata()).getNamespace();
+        final String name = v1Ingress.getMetadata().getName();
+        // Only the selectors, rules and metadata changed since the last reconcile are written
+        IngressConfigDiff diff = IngressConfigDiff.compute(IngressConfigCache.getInstance().get(namespace, name), routeConfigList);
+        diff.apply(shenyuCacheRepository);
+        IngressConfigCache.getInstance().put(namespace, name, diff.getApplied());
+        List<String> selectorIdList = diff.getApplied().stream()
+                .map(IngressConfiguration::getSelectorData)
+                .filter(Objects::nonNull)
+                .map(SelectorData::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+        IngressSelectorCache.getInstance().put(namespace, name, pluginName, selectorIdList);
+        LOG.info("Apply {} changed selectors, rules and metadata for ingress {}", diff.size(), namespace + "/" + name);
 
-            List<MetaData> metaDataList = routeConfig.getMetaDataList();
+        for (ShenyuMemoryConfig shenyuMemoryConfig : shenyuMemoryConfigList) {
+            if (Objects.nonNull(shenyuMemoryConfig) && CollectionUtils.isNotEmpty(shenyuMemoryConfig.getRouteConfigList())) {
+                // Process global default backend if present
+                processGlobalDefaultBackend(shenyuMemoryConfig, v1Ingress, pluginName);
 
-            if (Objects.nonNull(metaDataList)) {
-                processMetaDataList(metaDataList);
+                // Process TLS configurations
+                processTlsConfigurations(shenyuMemoryConfig, v1Ingress);
             }
         }
-
-        // Process global default backend if present
-        processGlobalDefaultBackend(shenyuMemoryConfig, v1Ingress, pluginName);
-
-        // Process TLS configurations
-        processTlsConfigurations(shenyuMemoryConfig, v1Ingress);
     }
 
-    private void processSelectorData(final IngressConfiguration routeConfig, final SelectorData selectorData, final V1Ingress v1Ingress, final String pluginName) {
-        selectorData.setId(IngressSelectorCache.getInstance().generateSelectorId());
-        selectorData.setSort(100);
-        shenyuCacheRepository.saveOrUpdateSelectorData(selectorData);
-
-        List<RuleData> ruleDataList = routeConfig.getRuleDataList();
-
-        if (CollectionUtils.isNotEmpty(ruleDataList)) {
-            processRuleDataList(ruleDataList, selectorData);
-        }
-
-        IngressSelectorCache.getInstance().put(
-                Objects.requireNonNull(v1Ingress.getMetadata()).getNamespace(),
-                v1Ingress.getMetadata().getName(),
-                pluginName,
-                selectorData.getId()
-        );
-    }
-
-    private void processRuleDataList(final List<RuleData> ruleDataList, final SelectorData selectorData) {
-        for (RuleData ruleData : ruleDataList) {
-            if (Objects.nonNull(ruleData)) {
-                ruleData.setId(IngressSelectorCache.getInstance().generateRuleId());
-                ruleData.setSelectorId(selectorData.getId());
-                ruleData.setSort(100);
-                shenyuCacheRepository.saveOrUpdateRuleData(ruleData);
-            }
+    private void prepareRouteConfig(final IngressConfiguration routeConfig) {
+        SelectorData selectorData = routeConfig.getSelectorData();
+        if (Objects.isNull(selectorData)) {
+            return;
         }
-    }
-
-    private void processMetaDataList(final List<MetaData> metaDataList) {
-        for (MetaData metaData : metaDataList) {
-            if (Objects.nonNull(metaData)) {
-                metaData.setId(IngressSelectorCache.getInstance().generateMetaDataId());
-                shenyuCacheRepository.saveOrUpdateMetaData(metaData);
-            }
+        selectorData.setSort(100);
+        if (CollectionUtils.isNotEmpty(routeConfig.getRuleDataList())) {
+            routeConfig.getRuleDataList().stream().filter(Objects::nonNull).forEach(ruleData -> ruleData.setSort(100));
         }
     }
 
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.k8s;
+
+import io.kubernetes.client.extended.controller.reconciler.Request;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.cache.Indexer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.CoreV1EndpointPort;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1EndpointSubsetBuilder;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsBuilder;
+import io.kubernetes.client.openapi.models.V1Ingress;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.k8s.cache.IngressSelectorCache;
+import org.apache.shenyu.k8s.cache.ServiceIngressCache;
+import org.apache.shenyu.k8s.reconciler.EndpointsReconciler;
+import org.apache.shenyu.k8s.repository.ShenyuCacheRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Endpoints Reconciler Test.
+ */
+public final class EndpointsReconcilerTest {
+
+    private static final String NAMESPACE = "flapNamespace";
+
+    private static final String SERVICE = "flapService";
+
+    private static final String INGRESS = "flapIngress";
+
+    private static final int FLAPS = 200;
+
+    private SharedIndexInformer<V1Ingress> ingressInformer;
+
+    private SharedIndexInformer<V1Endpoints> endpointsInformer;
+
+    private ShenyuCacheRepository shenyuCacheRepository;
+
+    private final AtomicReference<V1Endpoints> currentEndpoints = new AtomicReference<>();
+
+    private final AtomicReference<SelectorData> currentSelector = new AtomicReference<>();
+
+    @BeforeEach
+    public void init() {
+        ingressInformer = mock(SharedIndexInformer.class);
+        when(ingressInformer.getIndexer()).thenReturn(mock(Indexer.class));
+        endpointsInformer = mock(SharedIndexInformer.class);
+        Indexer<V1Endpoints> endpointsIndexer = mock(Indexer.class);
+        when(endpointsIndexer.getByKey(NAMESPACE + "/" + SERVICE)).thenAnswer(invocation -> currentEndpoints.get());
+        when(endpointsInformer.getIndexer()).thenReturn(endpointsIndexer);
+
+        // the repository keeps the latest selector like the plugin data cache does
+        shenyuCacheRepository = mock(ShenyuCacheRepository.class);
+        currentSelector.set(SelectorData.builder().id("flapSelector").pluginName(PluginEnum.DIVIDE.getName()).name("/flap").handle("[]").build());
+        when(shenyuCacheRepository.findSelectorDataList(PluginEnum.DIVIDE.getName()))
+                .thenAnswer(invocation -> Collections.singletonList(currentSelector.get()));
+        doAnswer(invocation -> {
+            currentSelector.set(invocation.getArgument(0));
+            return null;
+        }).when(shenyuCacheRepository).saveOrUpdateSelectorData(any());
+
+        ServiceIngressCache.getInstance().putIngressName(NAMESPACE, SERVICE, NAMESPACE, INGRESS);
+        IngressSelectorCache.getInstance().put(NAMESPACE, INGRESS, PluginEnum.DIVIDE.getName(), "flapSelector");
+    }
+
+    @AfterEach
+    public void destroy() {
+        ServiceIngressCache.getInstance().removeSpecifiedIngressName(NAMESPACE, SERVICE, NAMESPACE, INGRESS);
+        IngressSelectorCache.getInstance().remove(NAMESPACE, INGRESS, PluginEnum.DIVIDE.getName());
+    }
+
+    /**
+     * A burst of endpoint flaps within the window is applied once with the final endpoints.
+     */
+    @Test
+    public void testFlapsAreCoalesced() {
+        EndpointsReconciler reconciler = new EndpointsReconciler(ingressInformer, endpointsInformer, shenyuCacheRepository, mock(ApiClient.class), 300);
+        flap(reconciler);
+        verify(shenyuCacheRepository, after(1000).times(1)).saveOrUpdateSelectorData(any());
+
+        // the endpoints flap again and settle where they were, nothing is written
+        flap(reconciler);
+        verify(shenyuCacheRepository, after(1000).times(1)).saveOrUpdateSelectorData(any());
+    }
+
+    /**
+     * Without a window only the events changing the upstreams are written.
+     */
+    @Test
+    public void testUnchangedEndpointsAreSkipped() {
+        EndpointsReconciler reconciler = new EndpointsReconciler(ingressInformer, endpointsInformer, shenyuCacheRepository, mock(ApiClient.class), 0);
+        currentEndpoints.set(endpoints("10.0.0.1"));
+        for (int i = 0; i < FLAPS; i++) {
+            reconciler.reconcile(new Request(NAMESPACE, SERVICE));
+        }
+        verify(shenyuCacheRepository, times(1)).saveOrUpdateSelectorData(any());
+
+        flap(reconciler);
+        verify(shenyuCacheRepository, times(1 + FLAPS)).saveOrUpdateSelectorData(any());
+        verify(shenyuCacheRepository, never()).deleteSelectorData(any(), any());
+    }
+
+    private void flap(final EndpointsReconciler reconciler) {
+        for (int i = 0; i < FLAPS; i++) {
+            // a pod of the rolling deploy goes away and comes back
+            currentEndpoints.set(i % 2 == 0 ? endpoints("10.0.0.1") : endpoints("10.0.0.2", "10.0.0.1"));
+            reconciler.reconcile(new Request(NAMESPACE, SERVICE));
+        }
+        currentEndpoints.set(endpoints("10.0.0.1"));
+        reconciler.reconcile(new Request(NAMESPACE, SERVICE));
+    }
+
+    private V1Endpoints endpoints(final String... ips) {
+        return new V1EndpointsBuilder().withKind("Endpoints")
+                .withNewMetadata().withNamespace(NAMESPACE).withName(SERVICE).endMetadata()
+                .withSubsets(new V1EndpointSubsetBuilder()
+                        .withPorts(new CoreV1EndpointPort().port(8080).protocol("TCP"))
+                        .withAddresses(Arrays.stream(ips).map(ip -> new V1EndpointAddress().ip(ip)).toArray(V1EndpointAddress[]::new))
+                        .build())
+                .build();
+    }
+}
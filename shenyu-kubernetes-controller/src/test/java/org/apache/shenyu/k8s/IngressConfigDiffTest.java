@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.k8s;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.k8s.common.IngressConfiguration;
+import org.apache.shenyu.k8s.reconciler.IngressConfigDiff;
+import org.apache.shenyu.k8s.repository.ShenyuCacheRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Ingress Config Diff Test.
+ */
+public final class IngressConfigDiffTest {
+
+    @Test
+    public void testOnlyChangedEntitiesAreApplied() {
+        ShenyuCacheRepository shenyuCacheRepository = mock(ShenyuCacheRepository.class);
+        IngressConfigDiff added = IngressConfigDiff.compute(null, parse("/a", "/b"));
+        added.apply(shenyuCacheRepository);
+        assertEquals(6, added.size());
+        verify(shenyuCacheRepository, times(2)).saveOrUpdateSelectorData(any());
+        verify(shenyuCacheRepository, times(2)).saveOrUpdateRuleData(any());
+        verify(shenyuCacheRepository, times(2)).saveOrUpdateMetaData(any());
+
+        // re-parsing the same ingress changes nothing
+        IngressConfigDiff unchanged = IngressConfigDiff.compute(added.getApplied(), parse("/a", "/b"));
+        assertEquals(0, unchanged.size());
+        assertEquals(added.getApplied().get(0).getSelectorData().getId(), unchanged.getApplied().get(0).getSelectorData().getId());
+
+        // a changed rule handle keeps its ids, a removed path deletes its selector, rule and metadata
+        List<IngressConfiguration> changedConfigs = parse("/a");
+        changedConfigs.get(0).getRuleDataList().get(0).setHandle("{\"timeout\":1000}");
+        IngressConfigDiff changed = IngressConfigDiff.compute(unchanged.getApplied(), changedConfigs);
+        ShenyuCacheRepository changedRepository = mock(ShenyuCacheRepository.class);
+        changed.apply(changedRepository);
+        assertEquals(4, changed.size());
+        RuleData changedRule = changed.getApplied().get(0).getRuleDataList().get(0);
+        assertEquals(unchanged.getApplied().get(0).getRuleDataList().get(0).getId(), changedRule.getId());
+        verify(changedRepository).saveOrUpdateRuleData(changedRule);
+        verify(changedRepository, never()).saveOrUpdateSelectorData(any());
+        String removedSelectorId = unchanged.getApplied().get(1).getSelectorData().getId();
+        verify(changedRepository).deleteRuleData(eq(PluginEnum.DIVIDE.getName()), eq(removedSelectorId), any());
+        verify(changedRepository).deleteSelectorData(PluginEnum.DIVIDE.getName(), removedSelectorId);
+        verify(changedRepository).deleteMetaData(any());
+    }
+
+    private List<IngressConfiguration> parse(final String... paths) {
+        List<IngressConfiguration> configs = new ArrayList<>();
+        for (String path : paths) {
+            ConditionData conditionData = new ConditionData();
+            conditionData.setParamType("uri");
+            conditionData.setOperator("pathPattern");
+            conditionData.setParamValue(path);
+            SelectorData selectorData = SelectorData.builder().pluginName(PluginEnum.DIVIDE.getName()).name(path)
+                    .conditionList(Collections.singletonList(conditionData)).handle("[]").sort(100).build();
+            RuleData ruleData = RuleData.builder().pluginName(PluginEnum.DIVIDE.getName()).name(path)
+                    .conditionDataList(Collections.singletonList(conditionData)).handle("{}").sort(100).build();
+            MetaData metaData = MetaData.builder().path(path).rpcType("http").build();
+            configs.add(new IngressConfiguration(selectorData, new ArrayList<>(Collections.singletonList(ruleData)),
+                    Collections.singletonList(metaData)));
+        }
+        return configs;
+    }
+}
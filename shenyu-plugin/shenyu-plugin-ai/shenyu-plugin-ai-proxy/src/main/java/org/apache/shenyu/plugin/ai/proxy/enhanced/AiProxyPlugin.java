@@ -27,6 +27,7 @@ import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.ai.common.config.AiCommonConfig;
 import org.apache.shenyu.plugin.ai.common.spring.ai.registry.AiModelFactoryRegistry;
 import org.apache.shenyu.plugin.ai.proxy.enhanced.cache.AiProxyApiKeyCache;
+import org.apache.shenyu.plugin.ai.proxy.enhanced.cache.AiProxyResponseCache;
 import org.apache.shenyu.plugin.ai.proxy.enhanced.cache.ChatClientCache;
 import org.apache.shenyu.plugin.ai.proxy.enhanced.handler.AiProxyPluginHandler;
 import org.apache.shenyu.plugin.ai.proxy.enhanced.service.AiProxyConfigService;
@@ -51,9 +52,14 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /** AI proxy plugin. This plugin is used to proxy requests to AI services. */
 public class AiProxyPlugin extends AbstractShenyuPlugin {
@@ -75,6 +81,8 @@ public class AiProxyPlugin extends AbstractShenyuPlugin {
 
     private final AiProxyPluginHandler aiProxyPluginHandler;
 
+    private final AiProxyResponseCache responseCache = new AiProxyResponseCache();
+
     public AiProxyPlugin(
             final AiModelFactoryRegistry aiModelFactoryRegistry,
             final AiProxyConfigService aiProxyConfigService,
@@ -161,25 +169,67 @@ public class AiProxyPlugin extends AbstractShenyuPlugin {
             final String requestBody,
             final AiCommonConfig primaryConfig,
             final AiProxyHandle selectorHandle) {
-        final ChatClient mainClient = createMainChatClient(selector.getId(), primaryConfig);
         final String prompt = aiProxyConfigService.extractPrompt(requestBody);
-        final Optional<ChatClient> fallbackClient = resolveFallbackClient(primaryConfig, selectorHandle,
-                selector.getId(), requestBody);
         final ServerHttpResponse response = exchange.getResponse();
         response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        final Optional<String> cacheKey = responseCache.cacheKey(selector.getId(), selectorHandle, primaryConfig, prompt);
+        if (cacheKey.isEmpty()) {
+            return response.writeWith(streamFromModel(response, selector, requestBody, prompt, primaryConfig, selectorHandle, null));
+        }
+        return lookupCache(cacheKey.get())
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        LOG.debug("[AiProxy] stream response cache hit, selectorId={}", selector.getId());
+                        return response.writeWith(Flux.fromIterable(splitSseEvents(cached.get())).map(response.bufferFactory()::wrap));
+                    }
+                    return response.writeWith(streamFromModel(response, selector, requestBody, prompt, primaryConfig, selectorHandle, cacheKey.get()));
+                });
+    }
 
-        final Flux<ChatResponse> chatResponseFlux = aiProxyExecutorService.executeStream(mainClient, fallbackClient,
-                prompt);
+    private Flux<DataBuffer> streamFromModel(
+            final ServerHttpResponse response,
+            final SelectorData selector,
+            final String requestBody,
+            final String prompt,
+            final AiCommonConfig primaryConfig,
+            final AiProxyHandle selectorHandle,
+            final String cacheKey) {
+        final ChatClient mainClient = createMainChatClient(selector.getId(), primaryConfig);
+        final Optional<ChatClient> fallbackClient = resolveFallbackClient(primaryConfig, selectorHandle,
+                selector.getId(), requestBody);
 
+        // record the sse events while streaming, until they exceed the cache size limit, a fallback answer is not recorded
+        final int maxBytes = Objects.isNull(cacheKey) ? 0 : responseCache.maxBytes(selectorHandle);
+        final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+        final AtomicBoolean recordable = new AtomicBoolean(Objects.nonNull(cacheKey));
+        final Flux<ChatResponse> chatResponseFlux = aiProxyExecutorService.executeStream(mainClient, fallbackClient,
+                prompt, () -> {
+                    recordable.set(false);
+                    recorded.reset();
+                });
         final Flux<DataBuffer> sseFlux = chatResponseFlux.map(
                 chatResponse -> {
                     final String json = JsonUtils.toJson(chatResponse);
                     final String sseData = "data: " + json + "\n\n";
-                    return response.bufferFactory()
-                            .wrap(sseData.getBytes(StandardCharsets.UTF_8));
+                    final byte[] bytes = sseData.getBytes(StandardCharsets.UTF_8);
+                    if (recordable.get()) {
+                        if (recorded.size() + bytes.length > maxBytes) {
+                            recordable.set(false);
+                            recorded.reset();
+                        } else {
+                            recorded.write(bytes, 0, bytes.length);
+                        }
+                    }
+                    return response.bufferFactory().wrap(bytes);
                 });
-
-        return response.writeWith(sseFlux);
+        if (Objects.isNull(cacheKey)) {
+            return sseFlux;
+        }
+        return sseFlux.doOnComplete(() -> {
+            if (recordable.get()) {
+                responseCache.put(selectorHandle, cacheKey, recorded.toByteArray());
+            }
+        });
     }
 
     private Mono<Void> handleNonStreamRequest(
@@ -188,20 +238,68 @@ public class AiProxyPlugin extends AbstractShenyuPlugin {
             final String requestBody,
             final AiCommonConfig primaryConfig,
             final AiProxyHandle selectorHandle) {
-        final ChatClient mainClient = createMainChatClient(selector.getId(), primaryConfig);
         final String prompt = aiProxyConfigService.extractPrompt(requestBody);
+        final Optional<String> cacheKey = responseCache.cacheKey(selector.getId(), selectorHandle, primaryConfig, prompt);
+        if (cacheKey.isEmpty()) {
+            return callModel(exchange, selector, requestBody, prompt, primaryConfig, selectorHandle, null);
+        }
+        return lookupCache(cacheKey.get())
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        LOG.debug("[AiProxy] response cache hit, selectorId={}", selector.getId());
+                        return WebFluxResultUtils.result(exchange, cached.get());
+                    }
+                    return callModel(exchange, selector, requestBody, prompt, primaryConfig, selectorHandle, cacheKey.get());
+                });
+    }
+
+    private Mono<Void> callModel(
+            final ServerWebExchange exchange,
+            final SelectorData selector,
+            final String requestBody,
+            final String prompt,
+            final AiCommonConfig primaryConfig,
+            final AiProxyHandle selectorHandle,
+            final String cacheKey) {
+        final ChatClient mainClient = createMainChatClient(selector.getId(), primaryConfig);
         final Optional<ChatClient> fallbackClient = resolveFallbackClient(primaryConfig, selectorHandle,
                 selector.getId(), requestBody);
 
+        // a fallback answer is not cached under the key of the primary model
+        final AtomicBoolean fromFallback = new AtomicBoolean();
         return aiProxyExecutorService
-                .execute(mainClient, fallbackClient, prompt)
+                .execute(mainClient, fallbackClient, prompt, () -> fromFallback.set(true))
                 .flatMap(
                         response -> {
                             byte[] jsonBytes = JsonUtils.toJson(response).getBytes(StandardCharsets.UTF_8);
+                            if (Objects.nonNull(cacheKey) && !fromFallback.get()) {
+                                responseCache.put(selectorHandle, cacheKey, jsonBytes);
+                            }
                             return WebFluxResultUtils.result(exchange, jsonBytes);
                         });
     }
 
+    private Mono<Optional<byte[]>> lookupCache(final String cacheKey) {
+        return responseCache.get(cacheKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private static List<byte[]> splitSseEvents(final byte[] recorded) {
+        final List<byte[]> events = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i < recorded.length; i++) {
+            if (recorded[i] == '\n' && recorded[i - 1] == '\n') {
+                events.add(Arrays.copyOfRange(recorded, start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < recorded.length) {
+            events.add(Arrays.copyOfRange(recorded, start, recorded.length));
+        }
+        return events;
+    }
+
     private Optional<ChatClient> resolveFallbackClient(
             final AiCommonConfig primaryConfig,
             final AiProxyHandle selectorHandle,
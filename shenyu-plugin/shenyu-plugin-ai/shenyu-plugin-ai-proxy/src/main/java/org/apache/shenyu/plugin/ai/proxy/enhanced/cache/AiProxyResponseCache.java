@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ai.proxy.enhanced.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shenyu.common.dto.convert.rule.AiProxyHandle;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.ai.common.config.AiCommonConfig;
+import org.apache.shenyu.plugin.cache.ICache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * The response cache of deterministic chat completions, backed by the {@link ICache} of the cache plugin.
+ * The key is the hash of the selector, the api key, the model parameters and the normalized prompt, so the same prompt sent
+ * with a different json layout or whitespace still hits.
+ */
+public final class AiProxyResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AiProxyResponseCache.class);
+
+    private static final String KEY_PREFIX = "shenyu-ai-proxy-";
+
+    private static final long DEFAULT_TTL_SECONDS = 300L;
+
+    private static final int DEFAULT_MAX_BYTES = 256 * 1024;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * Resolve the cache key of the request, empty if the request can not be cached.
+     * Responses are never shared across selectors or api keys.
+     *
+     * @param selectorId the selector id
+     * @param handle the selector handle
+     * @param config the resolved primary config
+     * @param prompt the prompt sent to the model
+     * @return the cache key
+     */
+    public Optional<String> cacheKey(final String selectorId, final AiProxyHandle handle, final AiCommonConfig config, final String prompt) {
+        if (!isEnabled(handle) || Objects.isNull(prompt) || Objects.isNull(getCache())) {
+            return Optional.empty();
+        }
+        // only deterministic completions are replayable
+        if (Objects.isNull(config.getTemperature()) || config.getTemperature() != 0D) {
+            return Optional.empty();
+        }
+        String canonical = String.join("\n",
+                String.valueOf(selectorId),
+                String.valueOf(config.getApiKey()),
+                String.valueOf(config.getProvider()),
+                String.valueOf(config.getBaseUrl()),
+                String.valueOf(config.getModel()),
+                String.valueOf(config.getMaxTokens()),
+                String.valueOf(Boolean.TRUE.equals(config.getStream())),
+                normalize(prompt));
+        return Optional.of(KEY_PREFIX + DigestUtils.sha256Hex(canonical));
+    }
+
+    /**
+     * Get the cached response.
+     *
+     * @param key the cache key
+     * @return the cached response, empty if missed
+     */
+    public Mono<byte[]> get(final String key) {
+        ICache cache = getCache();
+        if (Objects.isNull(cache)) {
+            return Mono.empty();
+        }
+        return cache.getData(key)
+                .onErrorResume(e -> {
+                    LOG.warn("[AiProxy] read response cache error", e);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Cache the response if it does not exceed the size limit of the selector.
+     *
+     * @param handle the selector handle
+     * @param key the cache key
+     * @param bytes the response
+     */
+    public void put(final AiProxyHandle handle, final String key, final byte[] bytes) {
+        ICache cache = getCache();
+        if (Objects.isNull(cache) || bytes.length > maxBytes(handle)) {
+            return;
+        }
+        long ttl = Optional.ofNullable(handle.getCacheTtlSeconds()).filter(t -> t > 0).orElse(DEFAULT_TTL_SECONDS);
+        cache.cacheData(key, bytes, ttl)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> LOG.warn("[AiProxy] write response cache error", e));
+    }
+
+    /**
+     * The max bytes of a cached response.
+     *
+     * @param handle the selector handle
+     * @return max bytes
+     */
+    public int maxBytes(final AiProxyHandle handle) {
+        return Optional.ofNullable(handle.getCacheMaxBytes()).filter(m -> m > 0).orElse(DEFAULT_MAX_BYTES);
+    }
+
+    private static boolean isEnabled(final AiProxyHandle handle) {
+        return Objects.nonNull(handle) && "true".equalsIgnoreCase(String.valueOf(handle.getCacheEnabled()));
+    }
+
+    private static String normalize(final String prompt) {
+        String trimmed = prompt.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            try {
+                JsonNode node = CANONICAL_MAPPER.readTree(trimmed);
+                return CANONICAL_MAPPER.writeValueAsString(CANONICAL_MAPPER.treeToValue(node, Object.class));
+            } catch (Exception e) {
+                // not json, normalize it as plain text
+            }
+        }
+        return WHITESPACE.matcher(trimmed).replaceAll(" ");
+    }
+
+    private static ICache getCache() {
+        return Singleton.INST.get(ICache.class);
+    }
+}
@@ -47,6 +47,21 @@ public class AiProxyExecutorService {
      * @return a Mono containing the ChatResponse
      */
     public Mono<ChatResponse> execute(final ChatClient mainClient, final Optional<ChatClient> fallbackClientOpt, final String requestBody) {
+        return execute(mainClient, fallbackClientOpt, requestBody, () -> {
+        });
+    }
+
+    /**
+     * Execute the AI call with retry and fallback.
+     *
+     * @param mainClient      the main chat client
+     * @param fallbackClientOpt the optional fallback chat client
+     * @param requestBody     the request body
+     * @param onFallback      runs when the fallback client takes over
+     * @return a Mono containing the ChatResponse
+     */
+    public Mono<ChatResponse> execute(final ChatClient mainClient, final Optional<ChatClient> fallbackClientOpt, final String requestBody,
+                                      final Runnable onFallback) {
         final Mono<ChatResponse> mainCall = doChatCall(mainClient, requestBody);
 
         return mainCall
@@ -59,7 +74,7 @@ public class AiProxyExecutorService {
                                     retrySignal.failure());
                         }))
                 .onErrorResume(NonTransientAiException.class,
-                        throwable -> handleFallback(throwable, fallbackClientOpt, requestBody));
+                        throwable -> handleFallback(throwable, fallbackClientOpt, requestBody, onFallback));
     }
 
     protected Mono<ChatResponse> doChatCall(final ChatClient client, final String requestBody) {
@@ -67,12 +82,14 @@ public class AiProxyExecutorService {
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
-    private Mono<ChatResponse> handleFallback(final Throwable throwable, final Optional<ChatClient> fallbackClientOpt, final String requestBody) {
+    private Mono<ChatResponse> handleFallback(final Throwable throwable, final Optional<ChatClient> fallbackClientOpt, final String requestBody,
+                                              final Runnable onFallback) {
         LOG.warn("AI main call failed or retries exhausted, attempting to fallback...", throwable);
 
         if (fallbackClientOpt.isEmpty()) {
             return Mono.error(throwable);
         }
+        onFallback.run();
 
         return SimpleModelFallbackStrategy.INSTANCE.fallback(fallbackClientOpt.get(), requestBody, throwable);
     }
@@ -86,6 +103,21 @@ public class AiProxyExecutorService {
      * @return a Flux containing the ChatResponse
      */
     public Flux<ChatResponse> executeStream(final ChatClient mainClient, final Optional<ChatClient> fallbackClientOpt, final String requestBody) {
+        return executeStream(mainClient, fallbackClientOpt, requestBody, () -> {
+        });
+    }
+
+    /**
+     * Execute the AI call with retry and fallback.
+     *
+     * @param mainClient      the main chat client
+     * @param fallbackClientOpt the optional fallback chat client
+     * @param requestBody     the request body
+     * @param onFallback      runs when the fallback client takes over
+     * @return a Flux containing the ChatResponse
+     */
+    public Flux<ChatResponse> executeStream(final ChatClient mainClient, final Optional<ChatClient> fallbackClientOpt, final String requestBody,
+                                            final Runnable onFallback) {
         final Flux<ChatResponse> mainStream = doChatStream(mainClient, requestBody);
 
         return mainStream
@@ -96,7 +128,7 @@ public class AiProxyExecutorService {
                             return new NonTransientAiException("Stream failed after 1 retry. Triggering fallback.", retrySignal.failure());
                         }))
                 .onErrorResume(NonTransientAiException.class,
-                        throwable -> handleFallbackStream(throwable, fallbackClientOpt, requestBody));
+                        throwable -> handleFallbackStream(throwable, fallbackClientOpt, requestBody, onFallback));
     }
 
     protected Flux<ChatResponse> doChatStream(final ChatClient client, final String requestBody) {
@@ -104,12 +136,14 @@ public class AiProxyExecutorService {
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
-    private Flux<ChatResponse> handleFallbackStream(final Throwable throwable, final Optional<ChatClient> fallbackClientOpt, final String requestBody) {
+    private Flux<ChatResponse> handleFallbackStream(final Throwable throwable, final Optional<ChatClient> fallbackClientOpt, final String requestBody,
+                                                    final Runnable onFallback) {
         LOG.warn("AI main stream failed or retries exhausted, attempting to fallback...", throwable);
 
         if (fallbackClientOpt.isEmpty()) {
             return Flux.error(throwable);
         }
+        onFallback.run();
 
         return SimpleModelFallbackStrategy.INSTANCE.fallbackStream(fallbackClientOpt.get(), requestBody, throwable);
     }
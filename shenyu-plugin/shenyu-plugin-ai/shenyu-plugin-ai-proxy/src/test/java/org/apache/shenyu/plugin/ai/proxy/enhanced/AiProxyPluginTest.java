@@ -156,7 +156,7 @@ public class AiProxyPluginTest {
         when(configService.resolveDynamicFallbackConfig(primaryConfig, REQUEST_BODY)).thenReturn(fallbackConfig);
         when(configService.resolveAdminFallbackConfig(primaryConfig, handle)).thenReturn(fallbackConfig);
         when(configService.extractPrompt(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(executorService.execute(any(), any(), any())).thenReturn(Mono.just(chatResponse));
+        when(executorService.execute(any(), any(), any(), any())).thenReturn(Mono.just(chatResponse));
     }
 
     @Test
@@ -173,7 +173,7 @@ public class AiProxyPluginTest {
         verify(configService).resolvePrimaryConfig(handle);
         verify(configService).resolveDynamicFallbackConfig(primaryConfig, REQUEST_BODY);
         verify(configService).resolveAdminFallbackConfig(primaryConfig, handle);
-        verify(executorService).execute(any(), any(), any());
+        verify(executorService).execute(any(), any(), any(), any());
     }
 
     @Test
@@ -190,7 +190,7 @@ public class AiProxyPluginTest {
         StepVerifier.create(plugin.doExecute(exchange, mock(ShenyuPluginChain.class), selector, rule))
                 .verifyComplete();
 
-        verify(executorService).execute(any(ChatClient.class), any(Optional.class), any());
+        verify(executorService).execute(any(ChatClient.class), any(Optional.class), any(), any());
     }
 
     @Test
@@ -262,7 +262,7 @@ public class AiProxyPluginTest {
         StepVerifier.create(plugin.doExecute(exchange, mock(ShenyuPluginChain.class), selector, rule))
                 .verifyComplete();
 
-        verify(executorService).execute(any(ChatClient.class), any(Optional.class), any());
+        verify(executorService).execute(any(ChatClient.class), any(Optional.class), any(), any());
     }
 
     @Test
@@ -282,7 +282,7 @@ public class AiProxyPluginTest {
         when(configService.resolveDynamicFallbackConfig(primaryConfig, REQUEST_BODY)).thenReturn(Optional.empty());
         when(configService.resolveAdminFallbackConfig(primaryConfig, handle)).thenReturn(Optional.of(fallbackConfig));
         when(configService.extractPrompt(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(executorService.execute(any(), any(), any())).thenReturn(Mono.just(chatResponse));
+        when(executorService.execute(any(), any(), any(), any())).thenReturn(Mono.just(chatResponse));
 
         // Execute the test - focus on successful execution rather than cache verification
         StepVerifier.create(plugin.doExecute(exchange, mock(ShenyuPluginChain.class), selector, rule))
@@ -291,7 +291,7 @@ public class AiProxyPluginTest {
         // Verify that the configuration methods were called correctly
         verify(configService).resolvePrimaryConfig(handle);
         verify(configService).resolveAdminFallbackConfig(primaryConfig, handle);
-        verify(executorService).execute(any(), any(), any());
+        verify(executorService).execute(any(), any(), any(), any());
     }
 
     @Test
@@ -313,7 +313,7 @@ public class AiProxyPluginTest {
         when(registry.getFactory(any())).thenReturn(null);
         
         // Mock executorService to return a proper Mono to avoid NullPointerException
-        when(executorService.execute(any(), any(), any())).thenReturn(Mono.error(new IllegalArgumentException("AI model factory not found")));
+        when(executorService.execute(any(), any(), any(), any())).thenReturn(Mono.error(new IllegalArgumentException("AI model factory not found")));
 
         StepVerifier.create(plugin.doExecute(exchange, mock(ShenyuPluginChain.class), selector, rule))
                 .expectError(IllegalArgumentException.class)
@@ -328,7 +328,7 @@ public class AiProxyPluginTest {
         final RuntimeException exception = new RuntimeException("AI execution failed");
         setupSuccessMocks(handle, primaryConfig, Optional.empty());
 
-        when(executorService.execute(any(), any(), any())).thenReturn(Mono.error(exception));
+        when(executorService.execute(any(), any(), any(), any())).thenReturn(Mono.error(exception));
 
         StepVerifier.create(plugin.doExecute(exchange, mock(ShenyuPluginChain.class), selector, rule))
                 .expectErrorMatches(exception::equals)
@@ -337,6 +337,6 @@ public class AiProxyPluginTest {
         verify(configService).resolvePrimaryConfig(handle);
         verify(configService).resolveDynamicFallbackConfig(primaryConfig, REQUEST_BODY);
         verify(configService).resolveAdminFallbackConfig(primaryConfig, handle);
-        verify(executorService).execute(any(), any(), any());
+        verify(executorService).execute(any(), any(), any(), any());
     }
 }
\ No newline at end of file
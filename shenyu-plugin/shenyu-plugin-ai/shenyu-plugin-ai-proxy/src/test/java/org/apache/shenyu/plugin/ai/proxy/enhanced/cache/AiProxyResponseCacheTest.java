@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ai.proxy.enhanced.cache;
+
+import org.apache.shenyu.common.dto.convert.rule.AiProxyHandle;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.ai.common.config.AiCommonConfig;
+import org.apache.shenyu.plugin.cache.ICache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiProxyResponseCacheTest {
+
+    private static final String SELECTOR_ID = "1";
+
+    private final AiProxyResponseCache responseCache = new AiProxyResponseCache();
+
+    private ICache cache;
+
+    private AiProxyHandle handle;
+
+    private AiCommonConfig config;
+
+    @BeforeEach
+    void setUp() {
+        // every test installs its own cache mock, so no state leaks between them
+        cache = mock(ICache.class);
+        when(cache.cacheData(eq("key"), any(), anyLong())).thenReturn(Mono.just(Boolean.TRUE));
+        Singleton.INST.single(ICache.class, cache);
+        handle = new AiProxyHandle();
+        handle.setCacheEnabled("true");
+        handle.setCacheMaxBytes(4);
+        config = new AiCommonConfig();
+        config.setProvider("OpenAI");
+        config.setModel("gpt-4o-mini");
+        config.setTemperature(0D);
+        config.setApiKey("sk-first");
+    }
+
+    @Test
+    void testCacheKeyIsNormalized() {
+        Optional<String> key = responseCache.cacheKey(SELECTOR_ID, handle, config, "{\"model\":\"m\",\"messages\":[{\"role\":\"user\",\"content\":\"Hello\"}]}");
+        Optional<String> sameKey = responseCache.cacheKey(SELECTOR_ID, handle, config, " { \"messages\" : [ {\"content\":\"Hello\", \"role\":\"user\"} ], \"model\":\"m\" } ");
+        Assertions.assertTrue(key.isPresent());
+        Assertions.assertEquals(key, sameKey);
+        Assertions.assertEquals(responseCache.cacheKey(SELECTOR_ID, handle, config, "hello   world"), responseCache.cacheKey(SELECTOR_ID, handle, config, "hello world\n"));
+        Assertions.assertNotEquals(key, responseCache.cacheKey(SELECTOR_ID, handle, config, "{\"messages\":[{\"role\":\"user\",\"content\":\"Bye\"}]}"));
+    }
+
+    @Test
+    void testCacheKeyIsScopedBySelectorAndApiKey() {
+        Optional<String> key = responseCache.cacheKey(SELECTOR_ID, handle, config, "hello");
+        Assertions.assertNotEquals(key, responseCache.cacheKey("2", handle, config, "hello"));
+        config.setApiKey("sk-second");
+        Assertions.assertNotEquals(key, responseCache.cacheKey(SELECTOR_ID, handle, config, "hello"));
+    }
+
+    @Test
+    void testNotCacheableRequest() {
+        config.setTemperature(0.8D);
+        Assertions.assertTrue(responseCache.cacheKey(SELECTOR_ID, handle, config, "hello").isEmpty());
+        config.setTemperature(0D);
+        handle.setCacheEnabled("false");
+        Assertions.assertTrue(responseCache.cacheKey(SELECTOR_ID, handle, config, "hello").isEmpty());
+    }
+
+    @Test
+    void testPutRespectsSizeLimit() {
+        responseCache.put(handle, "key", new byte[8]);
+        verify(cache, never()).cacheData(eq("key"), any(), anyLong());
+        responseCache.put(handle, "key", new byte[4]);
+        verify(cache, timeout(1000)).cacheData(eq("key"), any(), anyLong());
+    }
+}
@@ -31,7 +31,9 @@ import org.springframework.web.client.RestClientException;
 import reactor.test.StepVerifier;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -115,6 +117,20 @@ public class AiProxyExecutorServiceTest {
         verify(fallbackChatModel, times(1)).call(any(Prompt.class));
     }
 
+    @Test
+    void testExecuteNotifiesFallback() {
+        final ChatResponse fallbackResponse = mock(ChatResponse.class);
+        when(mainChatModel.call(any(Prompt.class))).thenThrow(new NonTransientAiException("non-transient error"));
+        when(fallbackChatModel.call(any(Prompt.class))).thenReturn(fallbackResponse);
+        final AtomicBoolean fromFallback = new AtomicBoolean();
+
+        StepVerifier.create(executorService.execute(mainClient, Optional.of(fallbackClient), "request", () -> fromFallback.set(true)))
+                .expectNext(fallbackResponse)
+                .verifyComplete();
+
+        assertTrue(fromFallback.get());
+    }
+
     @Test
     void testExecuteFallbackFails() {
         final RestClientException fallbackException = new RestClientException("fallback failed");
@@ -17,8 +17,6 @@
 
 package org.apache.shenyu.plugin.ai.token.limiter;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
@@ -37,7 +35,6 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -51,19 +48,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
@@ -76,8 +65,6 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
 
     private static final String REDIS_KEY_PREFIX = "SHENYU:AI:TOKENLIMIT:";
 
-    private static final Pattern COMPLETION_TOKENS_PATTERN = Pattern.compile("\"completion_tokens\"\\s*:\\s*(\\d+)");
-
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                    final SelectorData selector, final RuleData rule) {
@@ -88,8 +75,8 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
             return chain.execute(exchange);
         }
 
-        ReactiveRedisTemplate reactiveRedisTemplate = AiTokenLimiterPluginHandler.REDIS_CACHED_HANDLE.get().obtainHandle(PluginEnum.AI_TOKEN_LIMITER.getName());
-        Assert.notNull(reactiveRedisTemplate, "reactiveRedisTemplate is null");
+        TokenLedger tokenLedger = AiTokenLimiterPluginHandler.LEDGER_CACHED_HANDLE.get().obtainHandle(PluginEnum.AI_TOKEN_LIMITER.getName());
+        Assert.notNull(tokenLedger, "tokenLedger is null");
 
         // generate redis key
         String tokenLimitType = aiTokenLimiterHandle.getAiTokenLimitType();
@@ -100,13 +87,10 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
         String cacheKey = REDIS_KEY_PREFIX + getCacheKey(exchange, tokenLimitType, keyName);
 
         final AiStatisticServerHttpResponse loggingServerHttpResponse = new AiStatisticServerHttpResponse(exchange, exchange.getResponse(),
-                tokens -> recordTokensUsage(reactiveRedisTemplate,
-                        cacheKey,
-                        tokens,
-                        timeWindowSeconds));
+                tokens -> tokenLedger.record(cacheKey, tokens, timeWindowSeconds));
 
         // check if the request is allowed
-        return isAllowed(reactiveRedisTemplate, cacheKey, tokenLimit)
+        return tokenLedger.isAllowed(cacheKey, tokenLimit, timeWindowSeconds)
                 .flatMap(allowed -> {
                     if (!allowed) {
                         exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
@@ -125,26 +109,6 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
 
     }
 
-    /**
-     * Check if the request is allowed based on rate limiting rules.
-     *
-     * @param reactiveRedisTemplate the reactive Redis template
-     * @param cacheKey the cache key for the request
-     * @param tokenLimit the token limit for the request
-     * @return whether the request is allowed
-     */
-    private Mono<Boolean> isAllowed(final ReactiveRedisTemplate reactiveRedisTemplate, final String cacheKey, final Long tokenLimit) {
-
-        return reactiveRedisTemplate.opsForValue().get(cacheKey)
-                .defaultIfEmpty(0L)
-                .flatMap(currentTokens -> {
-                    if (Long.parseLong(currentTokens.toString()) >= tokenLimit) {
-                        return Mono.just(false);
-                    }
-                    return Mono.just(true);
-                });
-    }
-
     /**
      * Get the cache key based on the configured key resolver type.
      *
@@ -174,14 +138,6 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
         return StringUtils.isBlank(key) ? "" : key;
     }
 
-    private void recordTokensUsage(final ReactiveRedisTemplate reactiveRedisTemplate, final String cacheKey, final Long tokens, final Long windowSeconds) {
-        // Record token usage with expiration
-        reactiveRedisTemplate.opsForValue()
-                .increment(cacheKey, tokens)
-                .flatMap(currentValue -> reactiveRedisTemplate.expire(cacheKey, Duration.ofSeconds(windowSeconds)))
-                .subscribe();
-    }
-
     @Override
     public int getOrder() {
         return PluginEnum.AI_TOKEN_LIMITER.getCode();
@@ -193,7 +149,6 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
     }
 
     static class AiStatisticServerHttpResponse extends ServerHttpResponseDecorator {
-        private static final ObjectMapper MAPPER = new ObjectMapper();
 
         private final ServerWebExchange exchange;
 
@@ -201,8 +156,6 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
 
         private final Consumer<Long> tokensRecorder;
 
-        private final AtomicBoolean streamingUsageRecorded = new AtomicBoolean(false);
-
         AiStatisticServerHttpResponse(final ServerWebExchange exchange, final ServerHttpResponse delegate, final Consumer<Long> tokensRecorder) {
             super(delegate);
             this.exchange = exchange;
@@ -226,69 +179,37 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
 
         @NonNull
         private Flux<? extends DataBuffer> appendResponse(final Publisher<? extends DataBuffer> body) {
-            BodyWriter writer = new BodyWriter();
             HttpHeaders headers = serverHttpResponse.getHeaders();
             boolean isGzip = headers.containsKey(Constants.CONTENT_ENCODING)
                     && headers.getFirst(Constants.CONTENT_ENCODING)
                     .contains(Constants.HTTP_ACCEPT_ENCODING_GZIP);
 
+            final CompletionTokensScanner scanner = new CompletionTokensScanner();
             final Inflater inflater = isGzip ? new Inflater(true) : null;
-            final byte[] outBuf = new byte[4096];
+            final byte[] outBuf = isGzip ? new byte[4096] : null;
             final AtomicBoolean headerSkipped = new AtomicBoolean(!isGzip);
 
             return Flux.<DataBuffer>from(body)
                     .doOnNext(buffer -> {
                         try (DataBuffer.ByteBufferIterator it = buffer.readableByteBuffers()) {
                             it.forEachRemaining(bb -> {
+                                if (!isGzip) {
+                                    scanner.scan(bb);
+                                    return;
+                                }
                                 ByteBuffer ro = bb.asReadOnlyBuffer();
-                                byte[] inBytes = new byte[ro.remaining()];
-                                ro.get(inBytes);
-
-                                byte[] processedBytes;
-                                if (isGzip) {
-                                    int offset = 0;
-                                    if (headerSkipped.compareAndSet(false, true)) {
-                                        offset = skipGzipHeader(inBytes);
-                                    }
-                                    inflater.setInput(inBytes, offset, inBytes.length - offset);
-                                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                                    try {
-                                        int cnt;
-                                        while ((cnt = inflater.inflate(outBuf)) > 0) {
-                                            baos.write(outBuf, 0, cnt);
-                                        }
-                                    } catch (DataFormatException ex) {
-                                        LOG.error("Inflater decompression failed", ex);
-                                    }
-                                    processedBytes = baos.toByteArray();
-                                } else {
-                                    processedBytes = inBytes;
+                                if (headerSkipped.compareAndSet(false, true)) {
+                                    ro.position(ro.position() + skipGzipHeader(ro));
                                 }
-                                String chunk = new String(processedBytes, StandardCharsets.UTF_8);
-                                for (String line : chunk.split("\\r?\\n")) {
-                                    if (!line.startsWith("data:")) {
-                                        continue;
-                                    }
-                                    String payload = line.substring("data:".length()).trim();
-                                    if (payload.isEmpty() || "[DONE]".equals(payload)) {
-                                        continue;
-                                    }
-                                    if (!payload.startsWith("{")) {
-                                        continue;
-                                    }
-                                    try {
-                                        JsonNode node = MAPPER.readTree(payload);
-                                        JsonNode usage = node.get(Constants.USAGE);
-                                        if (Objects.nonNull(usage) && usage.has(Constants.COMPLETION_TOKENS)) {
-                                            long c = usage.get(Constants.COMPLETION_TOKENS).asLong();
-                                            tokensRecorder.accept(c);
-                                            streamingUsageRecorded.set(true);
-                                        }
-                                    } catch (Exception e) {
-                                        LOG.error("Failed to parse AI response JSON payload", e);
+                                inflater.setInput(ro);
+                                try {
+                                    int cnt;
+                                    while ((cnt = inflater.inflate(outBuf)) > 0) {
+                                        scanner.scan(outBuf, 0, cnt);
                                     }
+                                } catch (DataFormatException ex) {
+                                    LOG.error("Inflater decompression failed", ex);
                                 }
-                                writer.write(ByteBuffer.wrap(processedBytes));
                             });
                         } catch (Exception e) {
                             LOG.error("read dataBuffer error", e);
@@ -298,41 +219,29 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
                         if (Objects.nonNull(inflater)) {
                             inflater.end();
                         }
-                        if (!streamingUsageRecorded.get()) {
-                            String sse = writer.output();
-                            long usageTokens = extractUsageTokensFromSse(sse);
-                            tokensRecorder.accept(usageTokens);
-                        }
+                        tokensRecorder.accept(scanner.completionTokens());
                     });
         }
 
-        private long extractUsageTokensFromSse(final String sse) {
-            Matcher m = COMPLETION_TOKENS_PATTERN.matcher(sse);
-            long last = 0L;
-            while (m.find()) {
-                last = Long.parseLong(m.group(1));
-            }
-            return last;
-        }
-
-        private int skipGzipHeader(final byte[] b) {
+        private int skipGzipHeader(final ByteBuffer b) {
+            int base = b.position();
             int pos = 10;
-            int flg = b[3] & 0xFF;
+            int flg = b.get(base + 3) & 0xFF;
 
             if ((flg & 0x04) != 0) {
-                int xlen = (b[pos] & 0xFF) | ((b[pos + 1] & 0xFF) << 8);
+                int xlen = (b.get(base + pos) & 0xFF) | ((b.get(base + pos + 1) & 0xFF) << 8);
                 pos += 2 + xlen;
             }
 
             if ((flg & 0x08) != 0) {
-                while (b[pos] != 0) {
+                while (b.get(base + pos) != 0) {
                     pos++;
                 }
                 pos++;
             }
 
             if ((flg & 0x10) != 0) {
-                while (b[pos] != 0) {
+                while (b.get(base + pos) != 0) {
                     pos++;
                 }
                 pos++;
@@ -345,49 +254,4 @@ public class AiTokenLimiterPlugin extends AbstractShenyuPlugin {
         }
 
     }
-
-    static class BodyWriter {
-
-        private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
-
-        private final WritableByteChannel channel = Channels.newChannel(stream);
-
-        private final AtomicBoolean isClosed = new AtomicBoolean(false);
-
-        void write(final ByteBuffer buffer) {
-            if (!isClosed.get()) {
-                try {
-                    channel.write(buffer);
-                } catch (IOException e) {
-                    isClosed.compareAndSet(false, true);
-                    LOG.error("Parse Failed.", e);
-                }
-            }
-        }
-
-        boolean isEmpty() {
-            return stream.size() == 0;
-        }
-
-        String output() {
-            try {
-                isClosed.compareAndSet(false, true);
-                return stream.toString(StandardCharsets.UTF_8);
-            } catch (Exception e) {
-                LOG.error("Write failed: ", e);
-                return "Write failed: " + e.getMessage();
-            } finally {
-                try {
-                    stream.close();
-                } catch (IOException e) {
-                    LOG.error("Close stream error: ", e);
-                }
-                try {
-                    channel.close();
-                } catch (IOException e) {
-                    LOG.error("Close channel error: ", e);
-                }
-            }
-        }
-    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ai.token.limiter;
+
+import org.apache.shenyu.common.constant.Constants;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Incremental scanner of {@code "completion_tokens" : <digits>} over the response bytes.
+ * It keeps its state across chunk boundaries, so the body never has to be buffered.
+ */
+final class CompletionTokensScanner {
+
+    private static final byte[] KEY = ("\"" + Constants.COMPLETION_TOKENS + "\"").getBytes(StandardCharsets.UTF_8);
+
+    private static final int MATCH_KEY = 0;
+
+    private static final int AFTER_KEY = 1;
+
+    private static final int AFTER_COLON = 2;
+
+    private static final int DIGITS = 3;
+
+    private int state = MATCH_KEY;
+
+    private int matched;
+
+    private long value;
+
+    private long last;
+
+    /**
+     * Scan the readable bytes of the buffer without moving its position.
+     *
+     * @param buffer the buffer
+     */
+    void scan(final ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            accept(buffer.get(i));
+        }
+    }
+
+    /**
+     * Scan the bytes of the array.
+     *
+     * @param bytes the bytes
+     * @param offset the offset
+     * @param length the length
+     */
+    void scan(final byte[] bytes, final int offset, final int length) {
+        for (int i = offset; i < offset + length; i++) {
+            accept(bytes[i]);
+        }
+    }
+
+    /**
+     * The last completion tokens found so far.
+     *
+     * @return the completion tokens, 0 if not found
+     */
+    long completionTokens() {
+        return state == DIGITS ? value : last;
+    }
+
+    private void accept(final byte b) {
+        switch (state) {
+            case AFTER_KEY:
+                if (isWhitespace(b)) {
+                    return;
+                }
+                if (b == ':') {
+                    state = AFTER_COLON;
+                    return;
+                }
+                break;
+            case AFTER_COLON:
+                if (isWhitespace(b)) {
+                    return;
+                }
+                if (isDigit(b)) {
+                    value = b - '0';
+                    state = DIGITS;
+                    return;
+                }
+                break;
+            case DIGITS:
+                if (isDigit(b)) {
+                    value = value * 10 + (b - '0');
+                    return;
+                }
+                last = value;
+                break;
+            default:
+                break;
+        }
+        state = MATCH_KEY;
+        matchKey(b);
+    }
+
+    private void matchKey(final byte b) {
+        if (b == KEY[matched]) {
+            matched++;
+            if (matched == KEY.length) {
+                matched = 0;
+                state = AFTER_KEY;
+            }
+            return;
+        }
+        matched = b == KEY[0] ? 1 : 0;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+}
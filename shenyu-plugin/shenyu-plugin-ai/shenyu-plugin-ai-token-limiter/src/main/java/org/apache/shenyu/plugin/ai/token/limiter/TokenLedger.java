@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ai.token.limiter;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory token accounting per limit key.
+ * The local usage is settled to redis periodically, all dirty keys of one round are sent
+ * as pipelined INCRBY/EXPIRE commands over a single connection, the other keys are only read,
+ * and the totals returned by redis refresh the local view with the usage of the other gateways.
+ */
+public class TokenLedger implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenLedger.class);
+
+    private static final long DEFAULT_SETTLE_INTERVAL_MILLIS = 1000L;
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean settling = new AtomicBoolean(false);
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    public TokenLedger(final ReactiveRedisTemplate<String, String> reactiveRedisTemplate) {
+        this(reactiveRedisTemplate, DEFAULT_SETTLE_INTERVAL_MILLIS);
+    }
+
+    public TokenLedger(final ReactiveRedisTemplate<String, String> reactiveRedisTemplate, final long settleIntervalMillis) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.scheduledExecutorService = new ScheduledThreadPoolExecutor(1, ShenyuThreadFactory.create("shenyu-ai-token-ledger", true));
+        this.scheduledExecutorService.scheduleWithFixedDelay(this::settle, settleIntervalMillis, settleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check if the key still has tokens left in its window.
+     * Only the first check of a key reads redis, later checks are answered locally.
+     *
+     * @param key the limit key
+     * @param tokenLimit the token limit of the window
+     * @param windowSeconds the window seconds
+     * @return whether the request is allowed
+     */
+    public Mono<Boolean> isAllowed(final String key, final long tokenLimit, final long windowSeconds) {
+        Account account = accounts.computeIfAbsent(key, k -> new Account(windowSeconds));
+        account.touch(windowSeconds);
+        if (account.seeded) {
+            return Mono.just(account.current() < tokenLimit);
+        }
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .map(value -> NumberUtils.toLong(value, 0L))
+                .defaultIfEmpty(0L)
+                .onErrorResume(e -> {
+                    LOG.error("ai token limiter read tokens of {} error", key, e);
+                    return Mono.just(0L);
+                })
+                .map(settled -> {
+                    account.seed(settled);
+                    return account.current() < tokenLimit;
+                });
+    }
+
+    /**
+     * Record the tokens used by a response, they are settled to redis in the next round.
+     *
+     * @param key the limit key
+     * @param tokens the used tokens
+     * @param windowSeconds the window seconds
+     */
+    public void record(final String key, final long tokens, final long windowSeconds) {
+        if (tokens <= 0) {
+            return;
+        }
+        // recorded inside the mapping so a concurrent settle round cannot drop the account in between
+        accounts.compute(key, (k, account) -> {
+            Account recorded = Objects.isNull(account) ? new Account(windowSeconds) : account;
+            recorded.touch(windowSeconds);
+            recorded.pending.add(tokens);
+            return recorded;
+        });
+    }
+
+    /**
+     * Settle the pending tokens of all keys to redis.
+     */
+    void settle() {
+        if (!settling.compareAndSet(false, true)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        accounts.keySet().forEach(key -> accounts.computeIfPresent(key, (k, account) -> account.isIdle(now) ? null : account));
+        RedisSerializationContext<String, String> serializationContext = reactiveRedisTemplate.getSerializationContext();
+        RedisSerializationContext.SerializationPair<String> keySerializer = serializationContext.getKeySerializationPair();
+        RedisSerializationContext.SerializationPair<String> valueSerializer = serializationContext.getValueSerializationPair();
+        reactiveRedisTemplate.execute(connection -> Flux.fromIterable(accounts.entrySet())
+                .flatMap(entry -> {
+                    Account account = entry.getValue();
+                    long delta = account.pending.sumThenReset();
+                    ByteBuffer key = keySerializer.write(entry.getKey());
+                    // a key without local usage is only read, an INCRBY of zero would recreate it without a ttl
+                    Mono<Long> total = delta > 0
+                            ? connection.numberCommands().incrBy(key, delta)
+                                    .flatMap(value -> connection.keyCommands()
+                                            .expire(keySerializer.write(entry.getKey()), Duration.ofSeconds(account.windowSeconds))
+                                            .thenReturn(value))
+                            : connection.stringCommands().get(key).map(value -> NumberUtils.toLong(valueSerializer.read(value), 0L));
+                    return total.defaultIfEmpty(0L)
+                            .doOnNext(account::seed)
+                            .onErrorResume(e -> {
+                                account.pending.add(delta);
+                                LOG.error("ai token limiter settle tokens of {} error", entry.getKey(), e);
+                                return Mono.empty();
+                            });
+                }))
+                .doFinally(signal -> settling.set(false))
+                .subscribe();
+    }
+
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdown();
+        settle();
+    }
+
+    private static final class Account {
+
+        private final LongAdder pending = new LongAdder();
+
+        private volatile long settled;
+
+        private volatile boolean seeded;
+
+        private volatile long windowSeconds;
+
+        private volatile long lastAccessMillis;
+
+        Account(final long windowSeconds) {
+            touch(windowSeconds);
+        }
+
+        void touch(final long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+            this.lastAccessMillis = System.currentTimeMillis();
+        }
+
+        void seed(final Long settled) {
+            this.settled = Objects.isNull(settled) ? 0L : settled;
+            this.seeded = true;
+        }
+
+        long current() {
+            return settled + pending.sum();
+        }
+
+        boolean isIdle(final long now) {
+            return pending.sum() == 0 && now - lastAccessMillis > TimeUnit.SECONDS.toMillis(windowSeconds);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shenyu.infra.redis.RedisConfigProperties;
 import org.apache.shenyu.infra.redis.RedisConnectionFactory;
 import org.apache.shenyu.infra.redis.ShenyuReactiveRedisTemplate;
 import org.apache.shenyu.infra.redis.serializer.ShenyuRedisSerializationContext;
+import org.apache.shenyu.plugin.ai.token.limiter.TokenLedger;
 import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
@@ -49,6 +50,8 @@ public class AiTokenLimiterPluginHandler implements PluginDataHandler {
     
     public static final Supplier<CommonHandleCache<String, RedisConfigProperties>> REDIS_PROPERTIES_CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
     
+    public static final Supplier<CommonHandleCache<String, TokenLedger>> LEDGER_CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
+    
     public static final Supplier<CommonHandleCache<String, AiTokenLimiterHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
     
     private static final Logger LOG = LoggerFactory.getLogger(AiTokenLimiterPluginHandler.class);
@@ -68,8 +71,15 @@ public class AiTokenLimiterPluginHandler implements PluginDataHandler {
                         ShenyuRedisSerializationContext.stringSerializationContext());
                 REDIS_CACHED_HANDLE.get().cachedHandle(PluginEnum.AI_TOKEN_LIMITER.getName(), reactiveRedisTemplate);
                 REDIS_PROPERTIES_CACHED_HANDLE.get().cachedHandle(PluginEnum.AI_TOKEN_LIMITER.getName(), redisConfigProperties);
+                Optional.ofNullable(LEDGER_CACHED_HANDLE.get().obtainHandle(PluginEnum.AI_TOKEN_LIMITER.getName())).ifPresent(TokenLedger::close);
+                LEDGER_CACHED_HANDLE.get().cachedHandle(PluginEnum.AI_TOKEN_LIMITER.getName(), new TokenLedger(reactiveRedisTemplate));
             }
+            return;
         }
+        // stop settling while the plugin is disabled, the redis template and the ledger are created again once it is enabled
+        Optional.ofNullable(LEDGER_CACHED_HANDLE.get().obtainHandle(PluginEnum.AI_TOKEN_LIMITER.getName())).ifPresent(TokenLedger::close);
+        LEDGER_CACHED_HANDLE.get().removeHandle(PluginEnum.AI_TOKEN_LIMITER.getName());
+        REDIS_PROPERTIES_CACHED_HANDLE.get().removeHandle(PluginEnum.AI_TOKEN_LIMITER.getName());
     }
     
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ai.token.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test case for {@link CompletionTokensScanner}.
+ */
+public final class CompletionTokensScannerTest {
+
+    @Test
+    public void testScanJson() {
+        CompletionTokensScanner scanner = new CompletionTokensScanner();
+        scanner.scan(ByteBuffer.wrap("{\"usage\":{\"prompt_tokens\":9,\"completion_tokens\" : 12,\"total_tokens\":21}}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(12L, scanner.completionTokens());
+    }
+
+    @Test
+    public void testScanAcrossChunks() {
+        String sse = "data: {\"choices\":[]}\n\ndata: {\"usage\":{\"completion_tokens\":345}}\n\ndata: [DONE]\n\n";
+        byte[] bytes = sse.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size < bytes.length; size++) {
+            CompletionTokensScanner scanner = new CompletionTokensScanner();
+            for (int offset = 0; offset < bytes.length; offset += size) {
+                scanner.scan(bytes, offset, Math.min(size, bytes.length - offset));
+            }
+            assertEquals(345L, scanner.completionTokens());
+        }
+    }
+
+    @Test
+    public void testKeepLastValue() {
+        CompletionTokensScanner scanner = new CompletionTokensScanner();
+        byte[] bytes = "\"completion_tokens\":1 \"completion_tokens\":\"x\" \"completion_tokens\":27".getBytes(StandardCharsets.UTF_8);
+        scanner.scan(bytes, 0, bytes.length);
+        assertEquals(27L, scanner.completionTokens());
+    }
+
+    @Test
+    public void testNotFound() {
+        CompletionTokensScanner scanner = new CompletionTokensScanner();
+        scanner.scan(ByteBuffer.wrap("{\"completion\":\"tokens\"}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(0L, scanner.completionTokens());
+    }
+}
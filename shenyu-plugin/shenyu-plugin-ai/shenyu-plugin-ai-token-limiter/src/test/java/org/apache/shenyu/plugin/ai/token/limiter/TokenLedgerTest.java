@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.plugin.ai.token.limiter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveKeyCommands;
+import org.springframework.data.redis.connection.ReactiveNumberCommands;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveStringCommands;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link TokenLedger}.
+ */
+public final class TokenLedgerTest {
+
+    private static final String KEY = "ai-token-limiter:test";
+
+    private final ReactiveValueOperations<String, String> valueOperations = mock(ReactiveValueOperations.class);
+
+    private final ReactiveNumberCommands numberCommands = mock(ReactiveNumberCommands.class);
+
+    private final ReactiveKeyCommands keyCommands = mock(ReactiveKeyCommands.class);
+
+    private final ReactiveStringCommands stringCommands = mock(ReactiveStringCommands.class);
+
+    private TokenLedger tokenLedger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ReactiveRedisTemplate<String, String> reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        ReactiveRedisConnection connection = mock(ReactiveRedisConnection.class);
+        when(connection.numberCommands()).thenReturn(numberCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(reactiveRedisTemplate.getSerializationContext()).thenReturn(RedisSerializationContext.string());
+        when(reactiveRedisTemplate.execute(any(ReactiveRedisCallback.class)))
+                .thenAnswer(invocation -> Flux.from(invocation.<ReactiveRedisCallback<?>>getArgument(0).doInRedis(connection)));
+        when(valueOperations.get(KEY)).thenReturn(Mono.just("0"));
+        when(keyCommands.expire(any(ByteBuffer.class), any(Duration.class))).thenReturn(Mono.just(true));
+        when(stringCommands.get(any(ByteBuffer.class))).thenReturn(Mono.empty());
+        // settle rounds are driven by the test
+        tokenLedger = new TokenLedger(reactiveRedisTemplate, Duration.ofHours(1).toMillis());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tokenLedger.close();
+    }
+
+    @Test
+    public void testSettlePendingTokens() {
+        when(numberCommands.incrBy(buffer(KEY), 10L)).thenReturn(Mono.just(25L));
+        assertEquals(Boolean.TRUE, tokenLedger.isAllowed(KEY, 11, 60).block());
+        tokenLedger.record(KEY, 10, 60);
+        assertEquals(Boolean.FALSE, tokenLedger.isAllowed(KEY, 10, 60).block());
+        tokenLedger.settle();
+        verify(numberCommands).incrBy(buffer(KEY), 10L);
+        verify(keyCommands).expire(buffer(KEY), Duration.ofSeconds(60));
+        // the total returned by redis includes the usage of the other gateways
+        assertEquals(Boolean.TRUE, tokenLedger.isAllowed(KEY, 26, 60).block());
+        assertEquals(Boolean.FALSE, tokenLedger.isAllowed(KEY, 25, 60).block());
+        verify(valueOperations, times(1)).get(KEY);
+    }
+
+    @Test
+    public void testSettleWithoutPendingTokens() {
+        when(stringCommands.get(buffer(KEY))).thenReturn(Mono.just(buffer("30")));
+        assertEquals(Boolean.TRUE, tokenLedger.isAllowed(KEY, 30, 60).block());
+        tokenLedger.settle();
+        verify(numberCommands, never()).incrBy(any(ByteBuffer.class), anyLong());
+        verify(keyCommands, never()).expire(any(ByteBuffer.class), any(Duration.class));
+        assertEquals(Boolean.FALSE, tokenLedger.isAllowed(KEY, 30, 60).block());
+    }
+
+    @Test
+    public void testSettleErrorKeepsPendingTokens() {
+        when(numberCommands.incrBy(buffer(KEY), 10L)).thenReturn(Mono.error(new IllegalStateException("redis unavailable")));
+        tokenLedger.isAllowed(KEY, 100, 60).block();
+        tokenLedger.record(KEY, 10, 60);
+        tokenLedger.settle();
+        when(numberCommands.incrBy(buffer(KEY), 10L)).thenReturn(Mono.just(10L));
+        tokenLedger.settle();
+        verify(numberCommands, times(2)).incrBy(buffer(KEY), 10L);
+    }
+
+    @Test
+    public void testIdleAccountExpires() {
+        when(numberCommands.incrBy(buffer(KEY), 5L)).thenReturn(Mono.just(5L));
+        tokenLedger.isAllowed(KEY, 100, 0).block();
+        tokenLedger.record(KEY, 5, 0);
+        tokenLedger.settle();
+        verify(numberCommands).incrBy(buffer(KEY), 5L);
+        // once nothing is pending and the window passed, the account is dropped and the next check reads redis again
+        await().atMost(Duration.ofSeconds(3)).untilAsserted(() -> {
+            tokenLedger.settle();
+            tokenLedger.isAllowed(KEY, 100, 0).block();
+            verify(valueOperations, times(2)).get(KEY);
+        });
+    }
+
+    private static ByteBuffer buffer(final String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -132,6 +132,17 @@ public interface ShenyuPlugin {
         return !skip(exchange, RpcTypeEnum.HTTP, RpcTypeEnum.SPRING_CLOUD, RpcTypeEnum.AI);
     }
 
+    /**
+     * Whether the plugin blocks the calling thread, such as a synchronous rpc invocation.
+     * With the virtual scheduler enabled, the chain runs such a plugin on a virtual thread
+     * instead of the event loop.
+     *
+     * @return default false.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
     /**
      * Plugin before operation.
      *
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.alert;
+
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.dto.AlarmContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Aggregates the alarms of the gateway before they are sent to admin.
+ *
+ * <p>Alarms are fingerprinted by level, title, content and the plugin, selector, upstream and exception labels.
+ * The first alarm of a fingerprint is sent at once and opens a window, the duplicates within
+ * the window are only counted and sent as one summarized alarm when it closes. While duplicates
+ * keep coming, every window sends one summary. A token bucket caps the alarms sent in total,
+ * an alarm without a token is counted into the next summary of its fingerprint instead.</p>
+ */
+public class AlarmAggregator {
+
+    /**
+     * the label of the number of alarms a summary stands for.
+     */
+    public static final String COUNT_LABEL = "aggregatedCount";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlarmAggregator.class);
+
+    private static final String[] FINGERPRINT_LABELS = {"plugin", "selector", "upstream", "exception"};
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private final long windowMillis;
+
+    private final TokenBucket tokenBucket;
+
+    private final Consumer<AlarmContent> sender;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Instantiates a new alarm aggregator.
+     *
+     * @param windowMillis    the aggregation window in milliseconds
+     * @param permitsPerSecond the alarms sent per second in the long run
+     * @param burst           the alarms that can be sent at once
+     * @param sender          sends an alarm to admin
+     */
+    public AlarmAggregator(final long windowMillis, final double permitsPerSecond, final int burst, final Consumer<AlarmContent> sender) {
+        this.windowMillis = windowMillis;
+        this.tokenBucket = new TokenBucket(permitsPerSecond, burst);
+        this.sender = sender;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("alarm-aggregator", true));
+    }
+
+    /**
+     * Submit an alarm, it is sent at once when it opens a window and the egress allows it.
+     *
+     * @param alarmContent the alarm
+     */
+    public void submit(final AlarmContent alarmContent) {
+        final String fingerprint = fingerprint(alarmContent);
+        final boolean[] opened = new boolean[1];
+        final Window window = windows.compute(fingerprint, (key, current) -> {
+            if (Objects.nonNull(current)) {
+                current.suppressed.incrementAndGet();
+                return current;
+            }
+            opened[0] = true;
+            return new Window(alarmContent);
+        });
+        if (!opened[0]) {
+            return;
+        }
+        if (tokenBucket.tryAcquire()) {
+            sender.accept(alarmContent);
+        } else {
+            window.suppressed.incrementAndGet();
+        }
+        scheduler.schedule(() -> close(fingerprint, window), windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Shutdown the aggregator, the pending summaries are dropped.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void close(final String fingerprint, final Window window) {
+        final long suppressed = window.suppressed.getAndSet(0);
+        if (suppressed == 0) {
+            // remove only when no duplicate arrived meanwhile, otherwise it is summarized with the next window
+            final boolean[] removed = new boolean[1];
+            windows.computeIfPresent(fingerprint, (key, current) -> {
+                if (current == window && current.suppressed.get() == 0) {
+                    removed[0] = true;
+                    return null;
+                }
+                return current;
+            });
+            if (removed[0]) {
+                return;
+            }
+        } else if (tokenBucket.tryAcquire()) {
+            sender.accept(summarize(window.first, suppressed));
+        } else {
+            window.suppressed.addAndGet(suppressed);
+            LOG.warn("alarm egress limit reached, {} alarms of {} are delayed to the next window", suppressed, window.first.getTitle());
+        }
+        scheduler.schedule(() -> close(fingerprint, window), windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private AlarmContent summarize(final AlarmContent first, final long count) {
+        Map<String, String> labels = new HashMap<>(Optional.ofNullable(first.getLabels()).orElse(Collections.emptyMap()));
+        labels.put(COUNT_LABEL, String.valueOf(count));
+        return new AlarmContent.Builder()
+                .level(first.getLevel())
+                .title(first.getTitle())
+                .content(String.format("%s (repeated %d times in the last %d ms)", first.getContent(), count, windowMillis))
+                .labels(labels)
+                .namespaceId(first.getNamespaceId())
+                .dateCreated(new Date())
+                .build();
+    }
+
+    private static String fingerprint(final AlarmContent alarmContent) {
+        final StringBuilder fingerprint = new StringBuilder().append(alarmContent.getLevel()).append('|').append(alarmContent.getTitle())
+                .append('|').append(Objects.hashCode(alarmContent.getContent()));
+        final Map<String, String> labels = Optional.ofNullable(alarmContent.getLabels()).orElse(Collections.emptyMap());
+        for (String label : FINGERPRINT_LABELS) {
+            fingerprint.append('|').append(labels.get(label));
+        }
+        return fingerprint.toString();
+    }
+
+    private static final class Window {
+
+        private final AlarmContent first;
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        Window(final AlarmContent first) {
+            this.first = first;
+        }
+    }
+
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+
+        private final double capacity;
+
+        private double tokens;
+
+        private long lastRefillNanos;
+
+        TokenBucket(final double permitsPerSecond, final int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            final long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
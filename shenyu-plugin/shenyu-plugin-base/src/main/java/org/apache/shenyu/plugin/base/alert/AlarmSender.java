@@ -47,6 +47,7 @@ import java.util.Objects;
  * labels.put("env", "test");
  * AlarmSender.alarm((byte) 0, "alarm-title", "alarm-content", labels);
  * }</pre>
+ * Duplicated alarms are summarized by {@link AlarmAggregator} before they are sent.
  * 
  */
 public class AlarmSender {
@@ -57,6 +58,8 @@ public class AlarmSender {
 
     private static String namespaceId;
     
+    private static volatile AlarmAggregator aggregator;
+    
     /**
      * Send alarm content.
      * @param alarmContent alarm content
@@ -74,9 +77,12 @@ public class AlarmSender {
             ShenyuConfig shenyuConfig = SpringBeanUtils.getInstance().getBean(ShenyuConfig.class);
             enabled = shenyuConfig.getAlert().getEnabled();
         }
-        AlarmThreadPoolExecutor.getInstance().execute(() -> alarmService.alarm(alarmContent));
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        getAggregator().submit(alarmContent);
     }
-
+    
     /**
      * Send alarm content.
      * @param level Alarm level. 0: high-emergency-critical 1: medium-critical-critical 2: low-warning-warning
@@ -147,4 +153,29 @@ public class AlarmSender {
                                             .dateCreated(new Date()).build();
         alarm(alarmContent);
     }
+    
+    /**
+     * Shutdown the alarm aggregator, the next alarm creates a new one.
+     */
+    public static void shutdown() {
+        synchronized (AlarmSender.class) {
+            if (Objects.nonNull(aggregator)) {
+                aggregator.shutdown();
+                aggregator = null;
+            }
+        }
+    }
+    
+    private static AlarmAggregator getAggregator() {
+        if (Objects.isNull(aggregator)) {
+            synchronized (AlarmSender.class) {
+                if (Objects.isNull(aggregator)) {
+                    ShenyuConfig.AlertConfig alertConfig = SpringBeanUtils.getInstance().getBean(ShenyuConfig.class).getAlert();
+                    aggregator = new AlarmAggregator(alertConfig.getAggregationWindow(), alertConfig.getMaxPerSecond(), alertConfig.getBurst(),
+                        content -> AlarmThreadPoolExecutor.getInstance().execute(() -> alarmService.alarm(content)));
+                }
+            }
+        }
+        return aggregator;
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shenyu.common.dto.AlarmContent;
 import org.apache.shenyu.common.utils.UriUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -37,7 +38,7 @@ import java.util.Objects;
 /**
  * Alarm service implement.
  */
-public class AlarmServiceImpl implements AlarmService {
+public class AlarmServiceImpl implements AlarmService, DisposableBean {
     
     private static final Logger LOGGER = LoggerFactory.getLogger(AlarmServiceImpl.class);
     
@@ -98,4 +99,9 @@ public class AlarmServiceImpl implements AlarmService {
             LOGGER.error(errorMsg);
         }
     }
+    
+    @Override
+    public void destroy() {
+        AlarmSender.shutdown();
+    }
 }
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ParseContext;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.convert.rule.impl.ModifyResponseRuleHandle;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A json transformation compiled from the add / replace / remove keys of a rule handle.
+ * All json paths are compiled once per handle and the document is parsed straight from the
+ * {@link DataBuffer}, with the same json provider as {@link JsonPath#parse(String)}.
+ */
+public final class JsonTransformProgram {
+
+    private static final ParseContext PARSER = JsonPath.using(Configuration.defaultConfiguration());
+
+    private static final Function<String, Object> AS_IS = value -> value;
+
+    /**
+     * handle -> compiled program, released together with the rule handle.
+     */
+    private static final Cache<Object, JsonTransformProgram> COMPILED = Caffeine.newBuilder().weakKeys().build();
+
+    private static final JsonTransformProgram EMPTY = new JsonTransformProgram(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    private final List<KeyOperation> addOperations;
+
+    private final List<KeyOperation> renameOperations;
+
+    private final List<JsonPath> removeOperations;
+
+    private JsonTransformProgram(final List<KeyOperation> addOperations, final List<KeyOperation> renameOperations, final List<JsonPath> removeOperations) {
+        this.addOperations = addOperations;
+        this.renameOperations = renameOperations;
+        this.removeOperations = removeOperations;
+    }
+
+    /**
+     * Obtain the compiled program of the param mapping handle.
+     *
+     * @param handle the param mapping rule handle
+     * @return the compiled program
+     */
+    public static JsonTransformProgram of(final ParamMappingRuleHandle handle) {
+        return COMPILED.get(handle, key -> compile(handle.getAddParameterKeys(), handle.getReplaceParameterKeys(), handle.getRemoveParameterKeys()));
+    }
+
+    /**
+     * Obtain the compiled program of the modify response handle.
+     *
+     * @param handle the modify response rule handle
+     * @return the compiled program
+     */
+    public static JsonTransformProgram of(final ModifyResponseRuleHandle handle) {
+        return COMPILED.get(handle, key -> compile(handle.getAddBodyKeys(), handle.getReplaceBodyKeys(), handle.getRemoveBodyKeys()));
+    }
+
+    /**
+     * Compile the operations into a program.
+     *
+     * @param addKeys    the keys to add
+     * @param renameKeys the keys to rename, value is the new key name
+     * @param removeKeys the paths to remove
+     * @return the compiled program
+     */
+    public static JsonTransformProgram compile(final List<ParamMappingRuleHandle.ParamMapInfo> addKeys,
+                                               final List<ParamMappingRuleHandle.ParamMapInfo> renameKeys,
+                                               final Collection<String> removeKeys) {
+        if (CollectionUtils.isEmpty(addKeys) && CollectionUtils.isEmpty(renameKeys) && CollectionUtils.isEmpty(removeKeys)) {
+            return EMPTY;
+        }
+        List<JsonPath> removeOperations = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(removeKeys)) {
+            removeKeys.forEach(path -> removeOperations.add(JsonPath.compile(path)));
+        }
+        return new JsonTransformProgram(compile(addKeys), compile(renameKeys), removeOperations);
+    }
+
+    private static List<KeyOperation> compile(final List<ParamMappingRuleHandle.ParamMapInfo> infos) {
+        if (CollectionUtils.isEmpty(infos)) {
+            return Collections.emptyList();
+        }
+        List<KeyOperation> operations = new ArrayList<>(infos.size());
+        infos.forEach(info -> operations.add(new KeyOperation(JsonPath.compile(info.getPath()), info.getKey(), info.getValue())));
+        return operations;
+    }
+
+    /**
+     * Whether the program does nothing.
+     *
+     * @return true if there is no operation
+     */
+    public boolean isEmpty() {
+        return addOperations.isEmpty() && renameOperations.isEmpty() && removeOperations.isEmpty();
+    }
+
+    /**
+     * Apply the program on the parsed document.
+     *
+     * @param context     the document
+     * @param valueMapper maps the configured value of an added key to the json value
+     */
+    public void apply(final DocumentContext context, final Function<String, Object> valueMapper) {
+        addOperations.forEach(operation -> context.put(operation.path, operation.key, valueMapper.apply(operation.value)));
+        renameOperations.forEach(operation -> context.renameKey(operation.path, operation.key, operation.value));
+        removeOperations.forEach(context::delete);
+    }
+
+    /**
+     * Transform the json string.
+     *
+     * @param json        the json
+     * @param valueMapper maps the configured value of an added key to the json value
+     * @return the transformed json
+     */
+    public String transform(final String json, final Function<String, Object> valueMapper) {
+        if (isEmpty()) {
+            return json;
+        }
+        DocumentContext context = PARSER.parse(json);
+        apply(context, valueMapper);
+        return context.jsonString();
+    }
+
+    /**
+     * Transform the json string.
+     *
+     * @param json the json
+     * @return the transformed json
+     */
+    public String transform(final String json) {
+        return transform(json, AS_IS);
+    }
+
+    /**
+     * Transform the json buffer, the source buffer is always released.
+     * The document is parsed straight from the source and serialized into a buffer of the factory.
+     *
+     * @param source        the json buffer
+     * @param bufferFactory the factory of the result buffer
+     * @return the transformed json buffer
+     */
+    public DataBuffer transform(final DataBuffer source, final DataBufferFactory bufferFactory) {
+        if (isEmpty()) {
+            return source;
+        }
+        int capacity = source.readableByteCount();
+        DocumentContext context;
+        try (InputStream inputStream = source.asInputStream(true)) {
+            context = PARSER.parse(inputStream, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+        apply(context, AS_IS);
+        DataBuffer target = bufferFactory.allocateBuffer(capacity);
+        boolean written = false;
+        try {
+            target.write(context.jsonString(), StandardCharsets.UTF_8);
+            written = true;
+        } finally {
+            if (!written) {
+                DataBufferUtils.release(target);
+            }
+        }
+        return target;
+    }
+
+    private static final class KeyOperation {
+
+        private final JsonPath path;
+
+        private final String key;
+
+        private final String value;
+
+        KeyOperation(final JsonPath path, final String key, final String value) {
+            this.path = Objects.requireNonNull(path);
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.alert;
+
+import org.apache.shenyu.common.dto.AlarmContent;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link AlarmAggregator}.
+ */
+public final class AlarmAggregatorTest {
+
+    private static final int ALARMS = 5000;
+
+    private final List<AlarmContent> sent = new CopyOnWriteArrayList<>();
+
+    private AlarmAggregator aggregator;
+
+    @AfterEach
+    public void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    public void testDuplicatesAreSummarized() throws InterruptedException {
+        aggregator = new AlarmAggregator(300, 1000, 1000, sent::add);
+        for (int i = 0; i < ALARMS; i++) {
+            aggregator.submit(alarm("upstream-" + i % 2));
+        }
+        assertEquals(2, sent.size());
+        Awaitility.await().atMost(Duration.ofSeconds(3)).until(() -> sent.size() == 4);
+        long aggregated = sent.subList(2, 4).stream()
+                .mapToLong(alarm -> Long.parseLong(alarm.getLabels().get(AlarmAggregator.COUNT_LABEL)))
+                .sum();
+        assertEquals(ALARMS - 2, aggregated);
+        Thread.sleep(700);
+        assertEquals(4, sent.size());
+    }
+
+    @Test
+    public void testEgressIsRateLimited() throws InterruptedException {
+        aggregator = new AlarmAggregator(60_000, 1, 10, sent::add);
+        for (int i = 0; i < 1000; i++) {
+            aggregator.submit(alarm("upstream-" + i));
+        }
+        assertEquals(10, sent.size());
+        aggregator.submit(alarm("upstream-late"));
+        Thread.sleep(1100);
+        aggregator.submit(alarm("upstream-later"));
+        assertTrue(sent.size() <= 11);
+    }
+
+    @Test
+    public void testDifferentContentIsNotMerged() {
+        aggregator = new AlarmAggregator(60_000, 1000, 1000, sent::add);
+        aggregator.submit(new AlarmContent.Builder().level((byte) 1).title("gateway error").content("Bad Request").build());
+        aggregator.submit(new AlarmContent.Builder().level((byte) 1).title("gateway error").content("Not Found").build());
+        aggregator.submit(new AlarmContent.Builder().level((byte) 1).title("gateway error").content("Not Found").build());
+        assertEquals(2, sent.size());
+    }
+
+    private static AlarmContent alarm(final String upstream) {
+        return new AlarmContent.Builder()
+                .level((byte) 1)
+                .title("upstream unavailable")
+                .content("upstream health check failed")
+                .labels(Map.of("plugin", "divide", "selector", "selector-1", "upstream", upstream))
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link JsonTransformProgram}.
+ */
+public final class JsonTransformProgramTest {
+
+    private static final String BODY = "{\"name\":\"shenyu\",\"age\":\"18\"}";
+
+    private static final String EXPECTED = "{\"webName\":\"SHENYU\",\"realName\":\"shenyu\"}";
+
+    private ParamMappingRuleHandle handle;
+
+    @BeforeEach
+    public void setUp() {
+        ParamMappingRuleHandle.ParamMapInfo add = new ParamMappingRuleHandle.ParamMapInfo();
+        add.setPath("$");
+        add.setKey("webName");
+        add.setValue("SHENYU");
+        ParamMappingRuleHandle.ParamMapInfo replace = new ParamMappingRuleHandle.ParamMapInfo();
+        replace.setPath("$");
+        replace.setKey("name");
+        replace.setValue("realName");
+        handle = new ParamMappingRuleHandle();
+        handle.setAddParameterKeys(Collections.singletonList(add));
+        handle.setReplaceParameterKeys(Collections.singletonList(replace));
+        handle.setRemoveParameterKeys(Collections.singleton("$.age"));
+    }
+
+    @Test
+    public void testCompiledOnce() {
+        assertSame(JsonTransformProgram.of(handle), JsonTransformProgram.of(handle));
+        assertTrue(JsonTransformProgram.of(new ParamMappingRuleHandle()).isEmpty());
+    }
+
+    @Test
+    public void testTransformString() {
+        assertEquals(EXPECTED, JsonTransformProgram.of(handle).transform(BODY));
+        assertEquals("{\"webName\":[\"SHENYU\"],\"realName\":\"shenyu\"}",
+                JsonTransformProgram.of(handle).transform(BODY, Collections::singletonList));
+    }
+
+    @Test
+    public void testTransformDataBuffer() {
+        DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        DataBuffer source = bufferFactory.wrap(BODY.getBytes(StandardCharsets.UTF_8));
+        DataBuffer target = JsonTransformProgram.of(handle).transform(source, bufferFactory);
+        assertEquals(EXPECTED, target.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -21,11 +21,15 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -71,32 +75,41 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         }
         final long timeout = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_TIME_OUT)).orElse(3000L);
         final Duration duration = Duration.ofMillis(timeout);
-        final int retryTimes = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0);
+        final ReplayableRequestBody replayableBody = ReplayableRequestBody.capture(exchange);
+        // a body known to be larger than the replay limit can only be sent once
+        final int retryTimes = ReplayableRequestBody.canReplay(exchange) ? (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0) : 0;
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LogUtils.debug(LOG, () -> String.format("The request urlPath is: %s, retryTimes is : %s, retryStrategy is : %s", uri, retryTimes, retryStrategy));
-        final Mono<R> response = doRequest(exchange,
+        final Mono<R> response = Mono.defer(() -> doRequest(exchange,
                         Objects.nonNull(exchange.getRequest().getMethod()) ? exchange.getRequest().getMethod().name() : "UNKNOWN",
                         uri,
-                        exchange.getRequest().getBody())
+                        ReplayableRequestBody.requestBody(exchange)))
                 .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
                 .doOnError(e -> LOG.error(e.getMessage(), e));
         RetryStrategy<R> strategy;
-        //Is it better to go with the configuration file here?
-        String retryStrategyType = (String) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY_BACK_OFF_SPEC)).orElse(HttpRetryBackoffSpecEnum.getDefault());
-        switch (retryStrategyType) {
-            case "exponential":
-                strategy = new ExponentialRetryBackoffStrategy<>(this);
-                break;
-            case "fixed":
-                strategy = new FixedRetryStrategy<>(this);
-                break;
-            case "custom":
-                strategy = new CustomRetryStrategy<>(this);
-                break;
-            default:
-                strategy = new DefaultRetryStrategy<>(this);
+        if (RetryEnum.HEDGED.getName().equals(retryStrategy)) {
+            strategy = new HedgedRetryStrategy<>(this);
+        } else {
+            //Is it better to go with the configuration file here?
+            String retryStrategyType = (String) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY_BACK_OFF_SPEC)).orElse(HttpRetryBackoffSpecEnum.getDefault());
+            switch (retryStrategyType) {
+                case "exponential":
+                    strategy = new ExponentialRetryBackoffStrategy<>(this);
+                    break;
+                case "fixed":
+                    strategy = new FixedRetryStrategy<>(this);
+                    break;
+                case "custom":
+                    strategy = new CustomRetryStrategy<>(this);
+                    break;
+                default:
+                    strategy = new DefaultRetryStrategy<>(this);
+            }
         }
         Mono<R> retriedResponse = strategy.execute(response, exchange, duration, retryTimes);
+        if (Objects.nonNull(replayableBody)) {
+            retriedResponse = retriedResponse.doFinally(signal -> replayableBody.release());
+        }
         return retriedResponse
                 .onErrorMap(ShenyuException.class, th -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
                         ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg(), th))
@@ -117,6 +130,18 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
     protected abstract Mono<R> doRequest(ServerWebExchange exchange, String httpMethod,
                                          URI uri, Flux<DataBuffer> body);
 
+    /**
+     * Claim the right to write the upstream response into the exchange.
+     * Only hedged requests race on the same exchange, every other request always wins.
+     *
+     * @param exchange the current server exchange
+     * @return false when another attempt has already claimed the response
+     */
+    protected boolean claimResponse(final ServerWebExchange exchange) {
+        final AtomicBoolean claimed = exchange.getAttribute(Constants.HTTP_HEDGE_RESPONSE_CLAIMED);
+        return Objects.isNull(claimed) || claimed.compareAndSet(false, true);
+    }
+
     protected void duplicateHeaders(final ServerWebExchange exchange, final HttpHeaders headers, final UniqueHeaderEnum uniqueHeaderEnum) {
         final String duplicateHeader = exchange.getAttribute(uniqueHeaderEnum.getName());
         if (StringUtils.isEmpty(duplicateHeader)) {
@@ -137,16 +162,44 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         if (Objects.isNull(headerValues) || headerValues.size() <= 1) {
             return;
         }
+        headers.put(header, new ArrayList<>(retain(headerValues, strategy)));
+    }
+
+    /**
+     * Get the headers configured to keep a single value, matched ignoring case.
+     *
+     * @param exchange         the current server exchange
+     * @param uniqueHeaderEnum request or response side
+     * @return the header names, empty when none are configured
+     */
+    protected Set<String> uniqueHeaders(final ServerWebExchange exchange, final UniqueHeaderEnum uniqueHeaderEnum) {
+        final String duplicateHeader = exchange.getAttribute(uniqueHeaderEnum.getName());
+        if (StringUtils.isEmpty(duplicateHeader)) {
+            return Collections.emptySet();
+        }
+        final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        Collections.addAll(headers, StringUtils.split(duplicateHeader, Constants.SEPARATOR_CHARS));
+        return headers;
+    }
+
+    /**
+     * Apply the unique header strategy to the values of one header.
+     *
+     * @param values   the header values
+     * @param strategy the strategy
+     * @return the values to keep
+     */
+    protected List<String> retain(final List<String> values, final HeaderUniqueStrategyEnum strategy) {
+        if (values.size() <= 1) {
+            return values;
+        }
         switch (strategy) {
             case RETAIN_FIRST:
-                headers.set(header, headerValues.get(0));
-                break;
+                return Collections.singletonList(values.get(0));
             case RETAIN_LAST:
-                headers.set(header, headerValues.get(headerValues.size() - 1));
-                break;
+                return Collections.singletonList(values.get(values.size() - 1));
             case RETAIN_UNIQUE:
-                headers.put(header, new ArrayList<>(new LinkedHashSet<>(headerValues)));
-                break;
+                return new ArrayList<>(new LinkedHashSet<>(values));
             default:
                 throw new IllegalStateException("Unexpected value: " + strategy);
         }
@@ -69,8 +69,9 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
                     .maxBackoff(Duration.ofSeconds(20L))
                     .transientErrors(true)
                     .jitter(0.5d)
-                    .filter(t -> t instanceof java.util.concurrent.TimeoutException || t instanceof io.netty.channel.ConnectTimeoutException
+                    .filter(t -> (t instanceof java.util.concurrent.TimeoutException || t instanceof io.netty.channel.ConnectTimeoutException
                             || t instanceof io.netty.handler.timeout.ReadTimeoutException || t instanceof IllegalStateException)
+                            && ReplayableRequestBody.canReplay(exchange))
                     .onRetryExhaustedThrow((retryBackoffSpecErr, retrySignal) -> {
                         throw new ShenyuTimeoutException("Request timeout, the maximum number of retry times has been exceeded");
                     });
@@ -103,6 +104,10 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
                            final Set<URI> exclude) {
         // does it necessary to add backoff interval time ?
         return response.onErrorResume(th -> {
+            if (!ReplayableRequestBody.canReplay(exchange)) {
+                // the body is gone, another upstream would only get part of it
+                return Mono.error(th);
+            }
             final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
             final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
             //always query the latest available list
@@ -128,7 +133,7 @@ public class DefaultRetryStrategy<R> implements RetryStrategy<R> {
             final URI newUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
             // in order not to affect the next retry call, newUri needs to be excluded
             exclude.add(newUri);
-            return httpClientPlugin.doRequest(exchange, exchange.getRequest().getMethod().name(), newUri, exchange.getRequest().getBody())
+            return httpClientPlugin.doRequest(exchange, exchange.getRequest().getMethod().name(), newUri, ReplayableRequestBody.requestBody(exchange))
                     .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration)))
                     .doOnError(e -> LOG.error(e.getMessage(), e));
         });
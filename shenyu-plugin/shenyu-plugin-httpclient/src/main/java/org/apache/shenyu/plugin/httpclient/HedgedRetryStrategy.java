@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.plugin.api.utils.RequestUrlUtils;
+import org.apache.shenyu.plugin.base.utils.LoadbalancerUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Hedged request strategy.
+ * When the primary request has not answered within the configured latency percentile of its rule,
+ * one extra request is sent to another upstream and the first successful response wins.
+ * Only idempotent methods are hedged, and the number of hedges is bounded by a per-rule budget.
+ * @param <R> Request Response Type
+ */
+public class HedgedRetryStrategy<R> implements RetryStrategy<R> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HedgedRetryStrategy.class);
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private static final int DEFAULT_PERCENTILE = 95;
+
+    private static final int DEFAULT_BUDGET_PERCENT = 10;
+
+    // the state of a removed rule is no longer read and expires
+    private static final Cache<String, HedgeState> HEDGE_STATES = Caffeine.newBuilder()
+            .maximumSize(5000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    private final AbstractHttpClientPlugin<R> httpClientPlugin;
+
+    public HedgedRetryStrategy(final AbstractHttpClientPlugin<R> httpClientPlugin) {
+        this.httpClientPlugin = httpClientPlugin;
+    }
+
+    @Override
+    public Mono<R> execute(final Mono<R> clientResponse, final ServerWebExchange exchange, final Duration duration, final int retryTimes) {
+        final String ruleId = Optional.ofNullable(exchange.getAttribute(Constants.DIVIDE_RULE_ID))
+                .map(String::valueOf).orElseGet(() -> exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID));
+        if (Objects.isNull(ruleId) || !IDEMPOTENT_METHODS.contains(exchange.getRequest().getMethod())) {
+            // a hedge may reach the upstream twice, so anything that is not idempotent falls back to failover
+            return new DefaultRetryStrategy<>(httpClientPlugin).execute(clientResponse, exchange, duration, retryTimes);
+        }
+        final int percentile = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_PERCENTILE)).orElse(DEFAULT_PERCENTILE);
+        final int budgetPercent = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_BUDGET_PERCENT)).orElse(DEFAULT_BUDGET_PERCENT);
+        final HedgeState state = HEDGE_STATES.get(ruleId, key -> new HedgeState());
+        state.budget.deposit(budgetPercent);
+        final long delayMicros = state.histogram.percentile(percentile);
+        // the primary keeps the normal retries, they still apply when no hedge is sent
+        final Mono<R> primary = new DefaultRetryStrategy<>(httpClientPlugin)
+                .execute(recordLatency(clientResponse, state.histogram), exchange, duration, retryTimes);
+        if (delayMicros < 0 || delayMicros >= duration.toNanos() / 1000) {
+            // not enough samples yet, or hedging would only fire after the request already timed out
+            return primary;
+        }
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_RESPONSE_CLAIMED, new AtomicBoolean());
+        final AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        final Mono<R> hedge = Mono.delay(Duration.ofNanos(delayMicros * 1000))
+                .flatMap(tick -> state.budget.tryWithdraw() ? hedge(exchange, duration, state) : Mono.empty());
+        return Mono.firstWithValue(primary.doOnError(primaryError::set), hedge)
+                .onErrorMap(NoSuchElementException.class, th -> Optional.ofNullable(primaryError.get()).orElse(th));
+    }
+
+    private Mono<R> hedge(final ServerWebExchange exchange, final Duration duration, final HedgeState state) {
+        final URI current = exchange.getAttribute(Constants.HTTP_URI);
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
+        final List<Upstream> upstreamList = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId)
+                .stream().filter(data -> Objects.isNull(current)
+                        || !(current.getHost() + ":" + current.getPort()).equals(data.getUrl().trim()))
+                .collect(Collectors.toList());
+        if (upstreamList.isEmpty()) {
+            return Mono.empty();
+        }
+        final Upstream upstream = LoadbalancerUtils.getForExchange(upstreamList, loadBalance, exchange);
+        if (Objects.isNull(upstream)) {
+            return Mono.empty();
+        }
+        final URI hedgeUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
+        LOG.debug("hedging request {} to {}", current, hedgeUri);
+        return recordLatency(httpClientPlugin.doRequest(exchange, exchange.getRequest().getMethod().name(), hedgeUri, ReplayableRequestBody.requestBody(exchange))
+                .timeout(duration, Mono.error(() -> new TimeoutException("Response took longer than timeout: " + duration))), state.histogram);
+    }
+
+    private Mono<R> recordLatency(final Mono<R> response, final LatencyHistogram histogram) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            // only completed responses are recorded, the truncated time of a cancelled attempt would drag the percentile down
+            return response.doOnNext(r -> histogram.record((System.nanoTime() - start) / 1000));
+        });
+    }
+
+    private static final class HedgeState {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private final HedgeBudget budget = new HedgeBudget();
+    }
+
+    /**
+     * Lock free latency histogram with quarter-octave buckets starting at 256 microseconds.
+     * Counts are halved once the window is full so the percentile follows the recent latency.
+     */
+    static final class LatencyHistogram {
+
+        static final int MIN_SAMPLES = 100;
+
+        private static final int BUCKETS = 64;
+
+        private static final int BASE_OCTAVE = 8;
+
+        private static final long DECAY_THRESHOLD = 2048;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        private final AtomicLong total = new AtomicLong();
+
+        private final AtomicBoolean decaying = new AtomicBoolean();
+
+        /**
+         * Record one latency sample.
+         *
+         * @param micros the latency in microseconds
+         */
+        void record(final long micros) {
+            buckets.incrementAndGet(indexOf(micros));
+            if (total.incrementAndGet() >= DECAY_THRESHOLD && decaying.compareAndSet(false, true)) {
+                try {
+                    long remaining = 0;
+                    for (int i = 0; i < BUCKETS; i++) {
+                        remaining += buckets.updateAndGet(i, count -> count >>> 1);
+                    }
+                    total.set(remaining);
+                } finally {
+                    decaying.set(false);
+                }
+            }
+        }
+
+        /**
+         * Get the upper bound of the bucket holding the given percentile.
+         *
+         * @param percentile the percentile, 1 to 99
+         * @return the latency in microseconds, or -1 when there are not enough samples
+         */
+        long percentile(final int percentile) {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += buckets.get(i);
+            }
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            final long target = (long) Math.ceil(count * Math.min(Math.max(percentile, 1), 99) / 100.0d);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return upperBound(i);
+                }
+            }
+            return upperBound(BUCKETS - 1);
+        }
+
+        static int indexOf(final long micros) {
+            final long value = Math.max(micros, 1L << BASE_OCTAVE);
+            final int octave = 63 - Long.numberOfLeadingZeros(value);
+            final int sub = (int) (value >>> (octave - 2)) & 3;
+            return Math.min((octave - BASE_OCTAVE) * 4 + sub, BUCKETS - 1);
+        }
+
+        static long upperBound(final int index) {
+            final int octave = index / 4 + BASE_OCTAVE;
+            return (1L << octave) + (long) (index % 4 + 1) * (1L << (octave - 2));
+        }
+    }
+
+    /**
+     * Token bucket that earns a fraction of a hedge for every request.
+     */
+    static final class HedgeBudget {
+
+        private static final long TOKEN = 1000;
+
+        private static final long MAX_TOKENS = 10 * TOKEN;
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        /**
+         * Earn the share of a hedge that one request is worth.
+         *
+         * @param percent the percentage of requests that may be hedged
+         */
+        void deposit(final int percent) {
+            final long earned = TOKEN * Math.min(Math.max(percent, 0), 100) / 100;
+            tokens.updateAndGet(current -> Math.min(current + earned, MAX_TOKENS));
+        }
+
+        /**
+         * Spend one hedge if the budget allows it.
+         *
+         * @return true when a hedge may be sent
+         */
+        boolean tryWithdraw() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current < TOKEN) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - TOKEN));
+            return true;
+        }
+    }
+}
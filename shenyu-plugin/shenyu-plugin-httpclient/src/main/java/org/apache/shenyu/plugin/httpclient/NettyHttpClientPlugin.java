@@ -21,6 +21,7 @@ import io.netty.handler.codec.http.HttpMethod;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.HeaderUniqueStrategyEnum;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.UniqueHeaderEnum;
 import org.slf4j.Logger;
@@ -35,11 +36,18 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.client.HttpClientResponse;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * The type Netty http client plugin.
@@ -48,46 +56,85 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpClientPlugin.class);
 
+    private static final String H2C_SCHEME = "h2c";
+
+    private static final String H2_SCHEME = "h2";
+
+    private static final Set<String> HOP_BY_HOP_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Collections.addAll(HOP_BY_HOP_HEADERS, HttpHeaders.CONNECTION, "Keep-Alive", "Proxy-Connection", HttpHeaders.UPGRADE);
+    }
+
     private final HttpClient httpClient;
 
+    private final HttpClient h2cClient;
+
+    private final HttpClient h2Client;
+
     /**
      * Instantiates a new Netty http client plugin.
      *
      * @param httpClient the http client
      */
     public NettyHttpClientPlugin(final HttpClient httpClient) {
+        // an HTTP/1.1 ssl context does not negotiate h2 through ALPN, so h2 always gets its own
+        this(httpClient, httpClient.protocol(HttpProtocol.H2C),
+                httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2).secure(spec -> spec.sslContext(Http2SslContextSpec.forClient())));
+    }
+
+    /**
+     * Instantiates a new Netty http client plugin.
+     *
+     * @param httpClient the http client
+     * @param h2cClient the client of upstreams registered with the h2c:// protocol
+     * @param h2Client the client of upstreams registered with the h2:// protocol
+     */
+    public NettyHttpClientPlugin(final HttpClient httpClient, final HttpClient h2cClient, final HttpClient h2Client) {
         this.httpClient = httpClient;
+        this.h2cClient = h2cClient;
+        this.h2Client = h2Client;
     }
 
     @Override
     protected Mono<HttpClientResponse> doRequest(final ServerWebExchange exchange, final String httpMethod,
                                                  final URI uri, final Flux<DataBuffer> body) {
         ServerHttpRequest request = exchange.getRequest();
-        final HttpHeaders httpHeaders = new HttpHeaders(request.getHeaders());
-        this.duplicateHeaders(exchange, httpHeaders, UniqueHeaderEnum.REQ_UNIQUE_HEADER);
+        final Set<String> requestUniqueHeaders = uniqueHeaders(exchange, UniqueHeaderEnum.REQ_UNIQUE_HEADER);
+        final HeaderUniqueStrategyEnum requestStrategy = exchange.getAttributeOrDefault(UniqueHeaderEnum.REQ_UNIQUE_HEADER.getStrategy(), HeaderUniqueStrategyEnum.RETAIN_FIRST);
         if (LOG.isDebugEnabled()) {
             LOG.debug("NettyHttpClient request: method={}, uri={}", httpMethod, uri);
         }
-        return Mono.from(httpClient.headers(headers -> {
-            httpHeaders.forEach(headers::set);
-            headers.remove(HttpHeaders.HOST);
+        return Mono.from(selectClient(uri).headers(headers -> {
+            // copy straight into the netty headers, skipping the host and connection scoped headers
+            final HttpHeaders requestHeaders = request.getHeaders();
+            final Set<String> connectionHeaders = connectionHeaders(requestHeaders.get(HttpHeaders.CONNECTION));
+            requestHeaders.forEach((name, values) -> {
+                if (HttpHeaders.HOST.equalsIgnoreCase(name) || HOP_BY_HOP_HEADERS.contains(name) || connectionHeaders.contains(name)) {
+                    return;
+                }
+                headers.set(name, requestUniqueHeaders.contains(name) ? retain(values, requestStrategy) : values);
+            });
             Boolean preserveHost = exchange.getAttributeOrDefault(Constants.PRESERVE_HOST, Boolean.FALSE);
             if (preserveHost) {
-                headers.add(HttpHeaders.HOST, request.getHeaders().getFirst(HttpHeaders.HOST));
+                headers.add(HttpHeaders.HOST, requestHeaders.getFirst(HttpHeaders.HOST));
             }
-        }).request(HttpMethod.valueOf(httpMethod)).uri(uri.toASCIIString())
+        }).request(HttpMethod.valueOf(httpMethod)).uri(requestUri(uri))
                 .send((req, nettyOutbound) -> nettyOutbound.send(body.map(dataBuffer -> ((NettyDataBuffer) dataBuffer).getNativeBuffer())))
                 .responseConnection((res, connection) -> {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("NettyHttpClient response: status={}", res.status().code());
                     }
+                    if (!claimResponse(exchange)) {
+                        // a hedged attempt already answered, drop this connection without reading the body
+                        connection.dispose();
+                        return Mono.empty();
+                    }
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
                     final ServerHttpResponse response = exchange.getResponse();
-                    HttpHeaders headers = new HttpHeaders();
-                    res.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
-                    this.duplicateHeaders(exchange, headers, UniqueHeaderEnum.RESP_UNIQUE_HEADER);
-                    String contentTypeValue = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+                    final io.netty.handler.codec.http.HttpHeaders responseHeaders = res.responseHeaders();
+                    String contentTypeValue = responseHeaders.get(HttpHeaders.CONTENT_TYPE);
                     if (StringUtils.isNotBlank(contentTypeValue)) {
                         exchange.getAttributes().put(Constants.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentTypeValue);
                     }
@@ -100,7 +147,7 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
                         throw new IllegalStateException("Unable to set status code on response: " + res.status().code() + ", " + response.getClass());
                     }
                     try {
-                        response.getHeaders().putAll(headers);
+                        copyResponseHeaders(exchange, responseHeaders, response.getHeaders());
                     } catch (UnsupportedOperationException ex) {
                         LOG.warn("Failed to set response headers because they are read-only. "
                                 + "This may indicate unexpected response decorator usage. "
@@ -122,6 +169,56 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
         return skipExceptHttpLike(exchange);
     }
 
+    private void copyResponseHeaders(final ServerWebExchange exchange, final io.netty.handler.codec.http.HttpHeaders source, final HttpHeaders target) {
+        if (source.isEmpty()) {
+            return;
+        }
+        final Set<String> responseUniqueHeaders = uniqueHeaders(exchange, UniqueHeaderEnum.RESP_UNIQUE_HEADER);
+        final HeaderUniqueStrategyEnum responseStrategy = exchange.getAttributeOrDefault(UniqueHeaderEnum.RESP_UNIQUE_HEADER.getStrategy(), HeaderUniqueStrategyEnum.RETAIN_FIRST);
+        final Set<String> connectionHeaders = connectionHeaders(source.getAll(HttpHeaders.CONNECTION));
+        for (String name : source.names()) {
+            if (HOP_BY_HOP_HEADERS.contains(name) || connectionHeaders.contains(name)) {
+                continue;
+            }
+            final List<String> values = source.getAll(name);
+            target.put(name, responseUniqueHeaders.contains(name) ? new ArrayList<>(retain(values, responseStrategy)) : values);
+        }
+    }
+
+    private static Set<String> connectionHeaders(final List<String> connection) {
+        if (Objects.isNull(connection) || connection.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String value : connection) {
+            for (String token : StringUtils.split(value, ',')) {
+                headers.add(token.trim());
+            }
+        }
+        return headers;
+    }
+
+    HttpClient selectClient(final URI uri) {
+        if (H2C_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+            return h2cClient;
+        }
+        if (H2_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+            return h2Client;
+        }
+        return httpClient;
+    }
+
+    private static String requestUri(final URI uri) {
+        final String uriString = uri.toASCIIString();
+        if (H2C_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+            return "http" + uriString.substring(H2C_SCHEME.length());
+        }
+        if (H2_SCHEME.equalsIgnoreCase(uri.getScheme())) {
+            return "https" + uriString.substring(H2_SCHEME.length());
+        }
+        return uriString;
+    }
+
     @Override
     public String named() {
         return PluginEnum.NETTY_HTTP_CLIENT.getName();
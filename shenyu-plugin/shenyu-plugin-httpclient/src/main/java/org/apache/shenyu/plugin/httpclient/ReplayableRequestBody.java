@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.plugin.httpclient.exception.ShenyuBodyNotReplayableException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Request body that can be sent again by a retry.
+ * The first attempt streams the original body and keeps retained slices of it up to a size limit,
+ * later attempts replay those slices without copying. Once the body outgrows the limit the slices
+ * are released and the body can no longer be replayed.
+ */
+public final class ReplayableRequestBody {
+
+    private static final NettyDataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+
+    private final Flux<DataBuffer> original;
+
+    private final long maxSize;
+
+    private final List<ByteBuf> chunks = new ArrayList<>();
+
+    private long size;
+
+    private boolean subscribed;
+
+    private boolean complete;
+
+    private boolean overflow;
+
+    private boolean released;
+
+    ReplayableRequestBody(final Flux<DataBuffer> original, final long maxSize, final long contentLength) {
+        this.original = original;
+        this.maxSize = maxSize;
+        this.overflow = contentLength > maxSize;
+    }
+
+    /**
+     * Capture the request body of the exchange when the rule enables it.
+     *
+     * @param exchange the current server exchange
+     * @return the replayable body, or null when capturing is disabled
+     */
+    public static ReplayableRequestBody capture(final ServerWebExchange exchange) {
+        final long maxSize = (long) exchange.getAttributeOrDefault(Constants.HTTP_RETRY_BODY_MAX_SIZE, 0L);
+        if (maxSize <= 0) {
+            return null;
+        }
+        final ReplayableRequestBody body = new ReplayableRequestBody(exchange.getRequest().getBody(), maxSize,
+                exchange.getRequest().getHeaders().getContentLength());
+        exchange.getAttributes().put(Constants.HTTP_REPLAYABLE_BODY, body);
+        return body;
+    }
+
+    /**
+     * Get the body to send for the next attempt.
+     *
+     * @param exchange the current server exchange
+     * @return the captured body when there is one, or else the original request body
+     */
+    public static Flux<DataBuffer> requestBody(final ServerWebExchange exchange) {
+        final ReplayableRequestBody body = exchange.getAttribute(Constants.HTTP_REPLAYABLE_BODY);
+        return Objects.isNull(body) ? exchange.getRequest().getBody() : body.body();
+    }
+
+    /**
+     * Whether another attempt may be sent for the exchange.
+     *
+     * @param exchange the current server exchange
+     * @return false when the captured body outgrew its limit
+     */
+    public static boolean canReplay(final ServerWebExchange exchange) {
+        final ReplayableRequestBody body = exchange.getAttribute(Constants.HTTP_REPLAYABLE_BODY);
+        return Objects.isNull(body) || body.isReplayable();
+    }
+
+    /**
+     * Get the body for one attempt, the first subscriber streams and records the original body.
+     *
+     * @return the body
+     */
+    public Flux<DataBuffer> body() {
+        return Flux.defer(() -> {
+            synchronized (this) {
+                if (!subscribed) {
+                    subscribed = true;
+                    return original.doOnNext(this::record).doOnComplete(this::markComplete);
+                }
+                if (!complete || overflow || released) {
+                    return Flux.error(new ShenyuBodyNotReplayableException("The request body exceeded " + maxSize
+                            + " bytes or was not fully sent, it can not be sent again"));
+                }
+                final List<DataBuffer> replay = new ArrayList<>(chunks.size());
+                for (ByteBuf chunk : chunks) {
+                    replay.add(BUFFER_FACTORY.wrap(chunk.retainedDuplicate()));
+                }
+                return Flux.fromIterable(replay);
+            }
+        });
+    }
+
+    /**
+     * Whether the body can be replayed, an attempt that never read the body leaves it replayable.
+     *
+     * @return true when a later attempt can send the body
+     */
+    public synchronized boolean isReplayable() {
+        return !released && !overflow && (!subscribed || complete);
+    }
+
+    /**
+     * Release the captured slices, no attempt can be sent afterwards.
+     */
+    public synchronized void release() {
+        released = true;
+        releaseChunks();
+    }
+
+    private synchronized void record(final DataBuffer buffer) {
+        if (overflow || released) {
+            return;
+        }
+        final int length = buffer.readableByteCount();
+        if (size + length > maxSize) {
+            overflow = true;
+            releaseChunks();
+            return;
+        }
+        size += length;
+        if (buffer instanceof NettyDataBuffer) {
+            chunks.add(((NettyDataBuffer) buffer).getNativeBuffer().retainedSlice());
+        } else {
+            final ByteBuffer copy = ByteBuffer.allocate(length);
+            buffer.toByteBuffer(buffer.readPosition(), copy, 0, length);
+            chunks.add(Unpooled.wrappedBuffer(copy));
+        }
+    }
+
+    private synchronized void markComplete() {
+        complete = true;
+    }
+
+    private void releaseChunks() {
+        chunks.forEach(ByteBuf::release);
+        chunks.clear();
+    }
+}
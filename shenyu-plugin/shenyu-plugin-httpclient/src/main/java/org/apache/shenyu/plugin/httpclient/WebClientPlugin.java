@@ -35,6 +35,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.Objects;
 
 /**
  * The type Web client plugin.
@@ -83,6 +84,10 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ResponseEntity<Flu
                 .onRawStatus(httpStatus -> httpStatus >= 400, clientResponse -> Mono.empty());
         return responseSpec.toEntityFlux(DataBuffer.class)
                 .flatMap(fluxResponseEntity -> {
+                    if (!claimResponse(exchange)) {
+                        // a hedged attempt already answered, cancel this body instead of reading it
+                        return Flux.from(Objects.requireNonNull(fluxResponseEntity.getBody())).take(0).then(Mono.empty());
+                    }
                     if (fluxResponseEntity.getStatusCode().is2xxSuccessful()) {
                         exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
                     } else {
@@ -91,6 +91,11 @@ public class HttpClientProperties {
      */
     private Pool pool = new Pool();
 
+    /**
+     * HTTP/2 configuration for Netty HttpClient.
+     */
+    private Http2 http2 = new Http2();
+
     /**
      * ThreadPool configuration for Netty HttpClient.
      */
@@ -284,6 +289,24 @@ public class HttpClientProperties {
         this.pool = pool;
     }
 
+    /**
+     * Gets http2.
+     *
+     * @return the http2
+     */
+    public Http2 getHttp2() {
+        return http2;
+    }
+
+    /**
+     * Sets http2.
+     *
+     * @param http2 the http2
+     */
+    public void setHttp2(final Http2 http2) {
+        this.http2 = http2;
+    }
+
     /**
      * Gets thread pool.
      *
@@ -603,6 +626,148 @@ public class HttpClientProperties {
         }
     }
 
+    /**
+     * The type Http2.
+     */
+    public static class Http2 {
+
+        /**
+         * Protocol used for upstreams that do not ask for one, defaults to HTTP11.
+         */
+        private Protocol protocol = Protocol.HTTP11;
+
+        /**
+         * The maximum number of HTTP/2 connections per upstream.
+         */
+        private Integer maxConnections = 8;
+
+        /**
+         * The minimum number of HTTP/2 connections per upstream kept open.
+         */
+        private Integer minConnections = 1;
+
+        /**
+         * The maximum number of concurrent streams opened on one connection.
+         */
+        private Long maxConcurrentStreams = 100L;
+
+        /**
+         * Enables HTTP/2 pool metrics, including active streams, to be registered in Micrometer.
+         */
+        private Boolean metrics = Boolean.FALSE;
+
+        /**
+         * Gets protocol.
+         *
+         * @return the protocol
+         */
+        public Protocol getProtocol() {
+            return protocol;
+        }
+
+        /**
+         * Sets protocol.
+         *
+         * @param protocol the protocol
+         */
+        public void setProtocol(final Protocol protocol) {
+            this.protocol = protocol;
+        }
+
+        /**
+         * Gets max connections.
+         *
+         * @return the max connections
+         */
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        /**
+         * Sets max connections.
+         *
+         * @param maxConnections the max connections
+         */
+        public void setMaxConnections(final Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        /**
+         * Gets min connections.
+         *
+         * @return the min connections
+         */
+        public Integer getMinConnections() {
+            return minConnections;
+        }
+
+        /**
+         * Sets min connections.
+         *
+         * @param minConnections the min connections
+         */
+        public void setMinConnections(final Integer minConnections) {
+            this.minConnections = minConnections;
+        }
+
+        /**
+         * Gets max concurrent streams.
+         *
+         * @return the max concurrent streams
+         */
+        public Long getMaxConcurrentStreams() {
+            return maxConcurrentStreams;
+        }
+
+        /**
+         * Sets max concurrent streams.
+         *
+         * @param maxConcurrentStreams the max concurrent streams
+         */
+        public void setMaxConcurrentStreams(final Long maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        /**
+         * Gets metrics.
+         *
+         * @return the metrics
+         */
+        public Boolean getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * Sets metrics.
+         *
+         * @param metrics the metrics
+         */
+        public void setMetrics(final Boolean metrics) {
+            this.metrics = metrics;
+        }
+
+        /**
+         * The enum Protocol.
+         */
+        public enum Protocol {
+
+            /**
+             * HTTP/1.1 only.
+             */
+            HTTP11,
+
+            /**
+             * HTTP/2 over TLS, negotiated with ALPN and falling back to HTTP/1.1.
+             */
+            H2,
+
+            /**
+             * HTTP/2 over cleartext with prior knowledge.
+             */
+            H2C
+        }
+    }
+
     /**
      * The type Thread Pool.
      */
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.RetryEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * hedged retry strategy test.
+ */
+public class HedgedRetryStrategyTest {
+
+    @Test
+    void testPrimaryResponseWithoutSamples() {
+        AbstractHttpClientPlugin<String> httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        HedgedRetryStrategy<String> strategy = new HedgedRetryStrategy<>(httpClientPlugin);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost:8080/test").build());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "testPrimaryResponseWithoutSamples");
+        StepVerifier.create(strategy.execute(Mono.just("primary"), exchange, Duration.ofSeconds(3), 0))
+                .expectNext("primary")
+                .verifyComplete();
+    }
+
+    @Test
+    void testPrimaryErrorIsKeptWhenNoHedgeIsSent() {
+        AbstractHttpClientPlugin<String> httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        HedgedRetryStrategy<String> strategy = new HedgedRetryStrategy<>(httpClientPlugin);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost:8080/test").build());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "testPrimaryErrorIsKeptWhenNoHedgeIsSent");
+        exchange.getAttributes().put(Constants.RETRY_STRATEGY, RetryEnum.HEDGED.getName());
+        exchange.getAttributes().put(Constants.HTTP_URI, exchange.getRequest().getURI());
+        // budget of zero never allows a hedge
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_BUDGET_PERCENT, 0);
+        for (int i = 0; i < HedgedRetryStrategy.LatencyHistogram.MIN_SAMPLES; i++) {
+            strategy.execute(Mono.just("warm"), exchange, Duration.ofSeconds(3), 0).block();
+        }
+        StepVerifier.create(strategy.execute(Mono.error(new IllegalStateException("primary")), exchange, Duration.ofSeconds(3), 0))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    void testPrimaryIsRetriedWhenNoHedgeIsSent() {
+        AbstractHttpClientPlugin<String> httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        HedgedRetryStrategy<String> strategy = new HedgedRetryStrategy<>(httpClientPlugin);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost:8080/test").build());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "testPrimaryIsRetriedWhenNoHedgeIsSent");
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> response = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("primary")) : Mono.just("retried"));
+        StepVerifier.create(strategy.execute(response, exchange, Duration.ofSeconds(3), 1))
+                .expectNext("retried")
+                .verifyComplete();
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testLatencyHistogramPercentile() {
+        HedgedRetryStrategy.LatencyHistogram histogram = new HedgedRetryStrategy.LatencyHistogram();
+        assertEquals(-1, histogram.percentile(95));
+        for (int i = 0; i < 90; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(100_000);
+        }
+        long p50 = histogram.percentile(50);
+        long p95 = histogram.percentile(95);
+        assertTrue(p50 >= 1_000 && p50 < 1_250);
+        assertTrue(p95 >= 100_000 && p95 < 125_000);
+    }
+
+    @Test
+    void testLatencyHistogramBuckets() {
+        assertEquals(0, HedgedRetryStrategy.LatencyHistogram.indexOf(1));
+        assertEquals(0, HedgedRetryStrategy.LatencyHistogram.indexOf(256));
+        assertEquals(4, HedgedRetryStrategy.LatencyHistogram.indexOf(512));
+        assertEquals(63, HedgedRetryStrategy.LatencyHistogram.indexOf(Long.MAX_VALUE));
+        assertEquals(320, HedgedRetryStrategy.LatencyHistogram.upperBound(0));
+    }
+
+    @Test
+    void testHedgeBudget() {
+        HedgedRetryStrategy.HedgeBudget budget = new HedgedRetryStrategy.HedgeBudget();
+        assertFalse(budget.tryWithdraw());
+        for (int i = 0; i < 10; i++) {
+            budget.deposit(10);
+        }
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void testNonIdempotentMethodFallsBack() {
+        AbstractHttpClientPlugin<String> httpClientPlugin = mock(AbstractHttpClientPlugin.class);
+        HedgedRetryStrategy<String> strategy = new HedgedRetryStrategy<>(httpClientPlugin);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(HttpMethod.POST, "http://localhost:8080/test").build());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "testNonIdempotentMethodFallsBack");
+        exchange.getAttributes().put(Constants.HTTP_URI, exchange.getRequest().getURI());
+        StepVerifier.create(strategy.execute(Mono.just("primary"), exchange, Duration.ofSeconds(3), 0))
+                .expectNext("primary")
+                .verifyComplete();
+        assertFalse(exchange.getAttributes().containsKey(Constants.HTTP_HEDGE_RESPONSE_CLAIMED));
+    }
+}
@@ -177,4 +177,23 @@ public class HttpClientPropertiesTest {
         Assertions.assertEquals(httpClientProperties.getWriterIdleTime(), 1);
         Assertions.assertEquals(httpClientProperties.getWriteTimeout(), 1);
     }
+
+    @Test
+    public void httpClientPropertiesHttp2Test() {
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        HttpClientProperties.Http2 http2 = httpClientProperties.getHttp2();
+        Assertions.assertEquals(http2.getProtocol(), HttpClientProperties.Http2.Protocol.HTTP11);
+        Assertions.assertFalse(http2.getMetrics());
+        http2.setProtocol(HttpClientProperties.Http2.Protocol.H2C);
+        http2.setMaxConnections(2);
+        http2.setMinConnections(1);
+        http2.setMaxConcurrentStreams(256L);
+        http2.setMetrics(true);
+        httpClientProperties.setHttp2(http2);
+        Assertions.assertEquals(httpClientProperties.getHttp2().getProtocol(), HttpClientProperties.Http2.Protocol.H2C);
+        Assertions.assertEquals(httpClientProperties.getHttp2().getMaxConnections(), 2);
+        Assertions.assertEquals(httpClientProperties.getHttp2().getMinConnections(), 1);
+        Assertions.assertEquals(httpClientProperties.getHttp2().getMaxConcurrentStreams(), 256L);
+        Assertions.assertTrue(httpClientProperties.getHttp2().getMetrics());
+    }
 }
@@ -19,9 +19,12 @@ package org.apache.shenyu.plugin.httpclient;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.HeaderUniqueStrategyEnum;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.common.enums.UniqueHeaderEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
@@ -37,13 +40,20 @@ import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -118,6 +128,55 @@ public final class NettyHttpClientPluginTest {
         assertEquals(PluginEnum.NETTY_HTTP_CLIENT.getName(), nettyHttpClientPlugin.named());
     }
 
+    /**
+     * test case for NettyHttpClientPlugin unique header rules.
+     */
+    @Test
+    public void testUniqueHeaders() {
+        ServerWebExchange exchange = generateServerWebExchange();
+        assertTrue(nettyHttpClientPlugin.uniqueHeaders(exchange, UniqueHeaderEnum.REQ_UNIQUE_HEADER).isEmpty());
+        exchange.getAttributes().put(UniqueHeaderEnum.REQ_UNIQUE_HEADER.getName(), "X-Trace;Accept");
+        Set<String> uniqueHeaders = nettyHttpClientPlugin.uniqueHeaders(exchange, UniqueHeaderEnum.REQ_UNIQUE_HEADER);
+        assertTrue(uniqueHeaders.contains("x-trace"));
+        assertTrue(uniqueHeaders.contains("ACCEPT"));
+        List<String> values = Arrays.asList("a", "b", "a");
+        assertEquals(Collections.singletonList("a"), nettyHttpClientPlugin.retain(values, HeaderUniqueStrategyEnum.RETAIN_FIRST));
+        assertEquals(Collections.singletonList("a"), nettyHttpClientPlugin.retain(values, HeaderUniqueStrategyEnum.RETAIN_LAST));
+        assertEquals(Arrays.asList("a", "b"), nettyHttpClientPlugin.retain(values, HeaderUniqueStrategyEnum.RETAIN_UNIQUE));
+    }
+
+    /**
+     * test case for NettyHttpClientPlugin {@link NettyHttpClientPlugin#selectClient(URI)}.
+     */
+    @Test
+    public void testSelectClient() {
+        HttpClient httpClient = HttpClient.create();
+        NettyHttpClientPlugin plugin = new NettyHttpClientPlugin(httpClient);
+        assertSame(httpClient, plugin.selectClient(URI.create("http://localhost:8080/test")));
+        HttpClient h2cClient = plugin.selectClient(URI.create("h2c://localhost:8080/test"));
+        assertArrayEquals(new HttpProtocol[]{HttpProtocol.H2C}, h2cClient.configuration().protocols());
+        assertFalse(h2cClient.configuration().isSecure());
+        assertNegotiatesH2(plugin.selectClient(URI.create("H2://localhost:8443/test")));
+    }
+
+    /**
+     * test case for NettyHttpClientPlugin h2 client when the shared client is already secured for HTTP/1.1.
+     */
+    @Test
+    public void testSelectClientWithSecureHttpClient() {
+        HttpClient httpClient = HttpClient.create().secure();
+        NettyHttpClientPlugin plugin = new NettyHttpClientPlugin(httpClient);
+        assertSame(httpClient, plugin.selectClient(URI.create("https://localhost:8443/test")));
+        assertNegotiatesH2(plugin.selectClient(URI.create("h2://localhost:8443/test")));
+    }
+
+    private static void assertNegotiatesH2(final HttpClient h2Client) {
+        assertArrayEquals(new HttpProtocol[]{HttpProtocol.HTTP11, HttpProtocol.H2}, h2Client.configuration().protocols());
+        assertTrue(h2Client.configuration().isSecure());
+        List<String> protocols = h2Client.configuration().sslProvider().getSslContext().applicationProtocolNegotiator().protocols();
+        assertTrue(protocols.contains(ApplicationProtocolNames.HTTP_2));
+    }
+
     private ServerWebExchange generateServerWebExchange() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
         exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient;
+
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.shenyu.plugin.httpclient.exception.ShenyuBodyNotReplayableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * replayable request body test.
+ */
+public class ReplayableRequestBodyTest {
+
+    private final NettyDataBufferFactory factory = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+
+    @Test
+    void testReplayAfterFirstAttempt() {
+        DataBuffer hello = buffer("hello ");
+        DataBuffer world = buffer("world");
+        ReplayableRequestBody body = new ReplayableRequestBody(Flux.just(hello, world), 64, -1);
+        assertEquals("hello world", read(body.body()));
+        assertTrue(body.isReplayable());
+        assertEquals("hello world", read(body.body()));
+        assertEquals("hello world", read(body.body()));
+        body.release();
+        assertEquals(0, refCnt(hello));
+        assertEquals(0, refCnt(world));
+    }
+
+    @Test
+    void testBodyLargerThanLimitIsNotReplayable() {
+        DataBuffer hello = buffer("hello ");
+        DataBuffer world = buffer("world");
+        ReplayableRequestBody body = new ReplayableRequestBody(Flux.just(hello, world), 8, -1);
+        assertEquals("hello world", read(body.body()));
+        assertFalse(body.isReplayable());
+        assertEquals(0, refCnt(hello));
+        StepVerifier.create(body.body())
+                .expectError(ShenyuBodyNotReplayableException.class)
+                .verify();
+    }
+
+    @Test
+    void testKnownContentLengthLargerThanLimit() {
+        ReplayableRequestBody body = new ReplayableRequestBody(Flux.just(buffer("hello")), 4, 5);
+        assertFalse(body.isReplayable());
+        assertEquals("hello", read(body.body()));
+    }
+
+    @Test
+    void testUnreadBodyStaysReplayable() {
+        ReplayableRequestBody body = new ReplayableRequestBody(Flux.just(buffer("hello")), 64, 5);
+        assertTrue(body.isReplayable());
+        assertEquals("hello", read(body.body()));
+        assertEquals("hello", read(body.body()));
+        body.release();
+        assertFalse(body.isReplayable());
+    }
+
+    private DataBuffer buffer(final String value) {
+        return factory.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int refCnt(final DataBuffer buffer) {
+        return ((NettyDataBuffer) buffer).getNativeBuffer().refCnt();
+    }
+
+    private String read(final Flux<DataBuffer> body) {
+        return DataBufferUtils.join(body).map(joined -> {
+            String value = joined.toString(StandardCharsets.UTF_8);
+            DataBufferUtils.release(joined);
+            return value;
+        }).block();
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shenyu.plugin.logging.common;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -36,6 +35,7 @@ import org.apache.shenyu.plugin.logging.common.handler.AbstractLogPluginDataHand
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectUtils;
 import org.apache.shenyu.plugin.logging.desensitize.api.enums.DataDesensitizeEnum;
+import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -45,7 +45,6 @@ import reactor.core.publisher.Mono;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 
 
 /**
@@ -55,6 +54,8 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLoggingPlugin.class);
 
+    private static final KeyWordMatch NONE_KEYWORD_MATCH = new KeyWordMatch(Collections.emptySet());
+
     /**
      * LogCollector.
      *
@@ -84,13 +85,13 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
                                 final SelectorData selector, final RuleData rule) {
         CommonLoggingRuleHandle commonLoggingRuleHandle = AbstractLogPluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
         boolean desensitized = Boolean.FALSE;
-        Set<String> keywordSets = Sets.newHashSet();
+        KeyWordMatch keyWordMatch = NONE_KEYWORD_MATCH;
         String dataDesensitizeAlg = DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg();
         if (Objects.nonNull(commonLoggingRuleHandle)) {
             String keywords = commonLoggingRuleHandle.getKeyword();
             desensitized = StringUtils.isNotBlank(keywords) && commonLoggingRuleHandle.getMaskStatus();
             if (desensitized) {
-                Collections.addAll(keywordSets, keywords.split(";"));
+                keyWordMatch = commonLoggingRuleHandle.obtainKeyWordMatch();
                 dataDesensitizeAlg = Optional.ofNullable(commonLoggingRuleHandle.getMaskType()).orElse(DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
                 LOG.info("current plugin:{}, keyword:{}, dataDesensitizeAlg:{}", pluginEnum().getName(), keywords, dataDesensitizeAlg);
             }
@@ -116,7 +117,7 @@ public abstract class AbstractLoggingPlugin<L extends ShenyuRequestLog> extends
         requestInfo.setNamespaceId(rule.getNamespaceId());
         LoggingServerHttpRequest<L> loggingServerHttpRequest = new LoggingServerHttpRequest<>(request, requestInfo);
         LoggingServerHttpResponse<L> loggingServerHttpResponse = new LoggingServerHttpResponse<>(exchange.getResponse(),
-                requestInfo, this.logCollector(), desensitized, keywordSets, dataDesensitizeAlg);
+                requestInfo, this.logCollector(), desensitized, keyWordMatch, dataDesensitizeAlg);
         ServerWebExchange webExchange = exchange.mutate().request(loggingServerHttpRequest)
                 .response(loggingServerHttpResponse).build();
         loggingServerHttpResponse.setExchange(webExchange);
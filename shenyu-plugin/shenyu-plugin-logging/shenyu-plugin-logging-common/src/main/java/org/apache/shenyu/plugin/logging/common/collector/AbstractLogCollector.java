@@ -77,7 +77,8 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
         ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
                 sharedPool.getMaximumPoolSize(), sharedPool.getKeepAliveTime(), TimeUnit.MILLISECONDS,
                 new MemorySafeTaskQueue<>(Constants.THE_256_MB),
-                ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
+                Boolean.TRUE.equals(sharedPool.getVirtualThreads()) ? ShenyuThreadFactory.createVirtual(sharedPool.getPrefix())
+                        : ShenyuThreadFactory.create(sharedPool.getPrefix(), true),
                 new ThreadPoolExecutor.AbortPolicy());
         started.set(true);
         threadExecutor.execute(this::consume);
@@ -17,7 +17,13 @@
 
 package org.apache.shenyu.plugin.logging.common.entity;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.convert.rule.RuleHandle;
+import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
 
 /**
  * common logging rule handle.
@@ -39,6 +45,11 @@ public class CommonLoggingRuleHandle implements RuleHandle {
      */
     private Boolean maskStatus;
 
+    /**
+     * keyword match compiled from the keyword, the handle is rebuilt whenever the rule changes.
+     */
+    private transient volatile KeyWordMatch keyWordMatch;
+
     /**
      * get keyword.
      *
@@ -91,4 +102,18 @@ public class CommonLoggingRuleHandle implements RuleHandle {
     public void setMaskStatus(final Boolean desensitizeStatus) {
         this.maskStatus = desensitizeStatus;
     }
+
+    /**
+     * obtain the keyword match compiled from the keywords split by ';'.
+     *
+     * @return keyword match
+     */
+    public KeyWordMatch obtainKeyWordMatch() {
+        KeyWordMatch match = keyWordMatch;
+        if (Objects.isNull(match)) {
+            match = new KeyWordMatch(StringUtils.isBlank(keyword) ? new HashSet<>() : new HashSet<>(Arrays.asList(keyword.split(";"))));
+            keyWordMatch = match;
+        }
+        return match;
+    }
 }
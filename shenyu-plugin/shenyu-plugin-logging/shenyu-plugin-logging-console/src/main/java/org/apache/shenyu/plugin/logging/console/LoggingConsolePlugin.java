@@ -18,7 +18,6 @@
 package org.apache.shenyu.plugin.logging.console;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.RuleData;
@@ -77,22 +76,22 @@ public class LoggingConsolePlugin extends AbstractShenyuPlugin {
     
     private static final Logger LOG = LoggerFactory.getLogger(LoggingConsolePlugin.class);
     
+    private static final KeyWordMatch NONE_KEYWORD_MATCH = new KeyWordMatch(Collections.emptySet());
+    
     private static String dataDesensitizeAlg = DataDesensitizeEnum.CHARACTER_REPLACE.getDataDesensitizeAlg();
     
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                    final SelectorData selector, final RuleData rule) {
         CommonLoggingRuleHandle commonLoggingRuleHandle = LoggingConsolePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
-        Set<String> keywordSets = Sets.newHashSet();
         boolean desensitized = Boolean.FALSE;
-        KeyWordMatch keyWordMatch = new KeyWordMatch(Collections.emptySet());
+        KeyWordMatch keyWordMatch = NONE_KEYWORD_MATCH;
         if (Objects.nonNull(commonLoggingRuleHandle)) {
             String keywords = commonLoggingRuleHandle.getKeyword();
             desensitized = StringUtils.isNotBlank(keywords) && commonLoggingRuleHandle.getMaskStatus();
             if (desensitized) {
-                Collections.addAll(keywordSets, keywords.split(";"));
                 dataDesensitizeAlg = Optional.ofNullable(commonLoggingRuleHandle.getMaskType()).orElse(DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
-                keyWordMatch = new KeyWordMatch(keywordSets);
+                keyWordMatch = commonLoggingRuleHandle.obtainKeyWordMatch();
                 LOG.info("current plugin:{}, keyword:{}, dataDesensitizedAlg:{}", this.named(), keywords, dataDesensitizeAlg);
             }
         }
@@ -17,42 +17,103 @@
 
 package org.apache.shenyu.plugin.logging.desensitize.api.matcher;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
- * according input keyWord generate regex.
+ * according input keyWord compile a matcher once, a key matches a keyWord of at most six characters
+ * when they are equal ignoring case, and a longer keyWord when it has the same first and last three characters.
  */
 public class KeyWordMatch {
 
-    private final Pattern p;
+    private static final int EXACT_LENGTH = 6;
+
+    private static final int AFFIX_LENGTH = 3;
+
+    private final Node root = new Node();
+
+    private final List<String> affixes = new ArrayList<>();
 
     /**
-     * generate regex.
+     * compile keyWords.
      *
      * @param keyWordSet keyWord set
      */
     public KeyWordMatch(final Set<String> keyWordSet) {
-        StringBuilder sb = new StringBuilder();
-        keyWordSet.forEach(tempKeyWord -> {
-            sb.append("(?i)");
-            if (tempKeyWord.length() <= 6) {
-                sb.append(tempKeyWord);
+        keyWordSet.stream().filter(Objects::nonNull).map(String::trim).filter(keyWord -> !keyWord.isEmpty()).forEach(keyWord -> {
+            if (keyWord.length() <= EXACT_LENGTH) {
+                Node node = root;
+                for (int i = 0; i < keyWord.length(); i++) {
+                    node = node.children.computeIfAbsent(Character.toLowerCase(keyWord.charAt(i)), key -> new Node());
+                }
+                node.terminal = true;
             } else {
-                sb.append("^").append(tempKeyWord.substring(0, 3)).append("(.*?)").append(tempKeyWord.substring(tempKeyWord.length() - 3)).append("$");
+                affixes.add(keyWord);
             }
-            sb.append("||");
         });
-        p = Pattern.compile(sb.toString());
     }
 
     /**
-     * according regex match keyWord.
+     * according compiled keyWords match keyWord.
      *
      * @param keyWord keyWord
      * @return isMatch
      */
     public boolean matches(final String keyWord) {
-        return p.matcher(keyWord).matches();
+        return Objects.nonNull(keyWord) && matches(keyWord, 0, keyWord.length());
+    }
+
+    /**
+     * according compiled keyWords match the keyWord between start and end of the source, without copying it.
+     *
+     * @param source source
+     * @param start start index, inclusive
+     * @param end end index, exclusive
+     * @return isMatch
+     */
+    public boolean matches(final CharSequence source, final int start, final int end) {
+        final int length = end - start;
+        if (length <= 0) {
+            return false;
+        }
+        if (length <= EXACT_LENGTH) {
+            Node node = root;
+            for (int i = start; i < end && Objects.nonNull(node); i++) {
+                node = node.children.get(Character.toLowerCase(source.charAt(i)));
+            }
+            if (Objects.nonNull(node) && node.terminal) {
+                return true;
+            }
+        }
+        if (length < AFFIX_LENGTH * 2) {
+            return false;
+        }
+        for (String affix : affixes) {
+            if (regionMatches(source, start, affix, 0)
+                    && regionMatches(source, end - AFFIX_LENGTH, affix, affix.length() - AFFIX_LENGTH)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final CharSequence source, final int offset, final String keyWord, final int keyWordOffset) {
+        for (int i = 0; i < AFFIX_LENGTH; i++) {
+            if (Character.toLowerCase(source.charAt(offset + i)) != Character.toLowerCase(keyWord.charAt(keyWordOffset + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        private boolean terminal;
     }
 }
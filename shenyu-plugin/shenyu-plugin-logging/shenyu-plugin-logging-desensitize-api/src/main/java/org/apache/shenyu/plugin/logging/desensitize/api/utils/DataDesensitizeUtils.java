@@ -17,13 +17,12 @@
 
 package org.apache.shenyu.plugin.logging.desensitize.api.utils;
 
-import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.plugin.logging.desensitize.api.factory.DataDesensitizeFactory;
 import org.apache.shenyu.plugin.logging.desensitize.api.matcher.KeyWordMatch;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * data desensitize utils.
@@ -76,7 +75,9 @@ public final class DataDesensitizeUtils {
     }
 
     /**
-     * mask for body.
+     * mask for body, the values of the json or form keys matched by the keyword match strategy are desensitized
+     * in a single pass over the source, everything else is kept as it is. Every scalar inside an object or array
+     * under a matched key is desensitized.
      *
      * @param desensitized desensitized flag
      * @param source source data
@@ -87,13 +88,11 @@ public final class DataDesensitizeUtils {
     public static String desensitizeBody(final boolean desensitized, final String source,
                                      final KeyWordMatch keyWordMatch, final String dataDesensitizeAlg) {
         if (StringUtils.hasLength(source) && desensitized) {
-            Map<String, String> bodyMap = JsonUtils.jsonToMap(source, String.class);
-            bodyMap.forEach((key, value) -> {
-                if (keyWordMatch.matches(key)) {
-                    bodyMap.put(key, DataDesensitizeFactory.selectDesensitize(value, dataDesensitizeAlg));
-                }
-            });
-            return JsonUtils.toJson(bodyMap);
+            int first = skipWhitespace(source, 0);
+            if (first < source.length() && (source.charAt(first) == '{' || source.charAt(first) == '[')) {
+                return desensitizeJson(source, keyWordMatch, dataDesensitizeAlg);
+            }
+            return desensitizeForm(source, keyWordMatch, dataDesensitizeAlg);
         } else {
             return source;
         }
@@ -117,4 +116,221 @@ public final class DataDesensitizeUtils {
             }
         }
     }
+
+    private static String desensitizeJson(final String source, final KeyWordMatch keyWordMatch, final String dataDesensitizeAlg) {
+        StringBuilder sb = null;
+        int copied = 0;
+        int i = 0;
+        while (i < source.length()) {
+            if (source.charAt(i) != '"') {
+                i++;
+                continue;
+            }
+            int keyEnd = closingQuote(source, i + 1);
+            if (keyEnd < 0) {
+                break;
+            }
+            int colon = skipWhitespace(source, keyEnd + 1);
+            if (colon >= source.length() || source.charAt(colon) != ':') {
+                // a string value
+                i = keyEnd + 1;
+                continue;
+            }
+            int valueStart = skipWhitespace(source, colon + 1);
+            if (!keyWordMatch.matches(source, i + 1, keyEnd)) {
+                i = valueStart;
+                continue;
+            }
+            if (Objects.isNull(sb)) {
+                sb = new StringBuilder(source.length() + 32);
+            }
+            int valueEnd = scalarEnd(source, valueStart);
+            if (valueEnd >= 0) {
+                copied = maskScalar(sb, source, copied, valueStart, valueEnd, dataDesensitizeAlg);
+                i = valueEnd;
+                continue;
+            }
+            // the object or array of a sensitive key is masked as a whole, every scalar inside it is desensitized
+            int depth = 0;
+            i = valueStart;
+            while (i < source.length()) {
+                char c = source.charAt(i);
+                if (c == '{' || c == '[') {
+                    depth++;
+                    i++;
+                } else if (c == '}' || c == ']') {
+                    i++;
+                    if (--depth <= 0) {
+                        break;
+                    }
+                } else if (c == ',' || c == ':' || Character.isWhitespace(c)) {
+                    i++;
+                } else {
+                    int end = scalarEnd(source, i);
+                    if (end < 0) {
+                        // an unterminated string, nothing after it can be trusted
+                        i = source.length();
+                    } else {
+                        int next = skipWhitespace(source, end);
+                        if (c != '"' || next >= source.length() || source.charAt(next) != ':') {
+                            copied = maskScalar(sb, source, copied, i, end, dataDesensitizeAlg);
+                        }
+                        i = end;
+                    }
+                }
+            }
+        }
+        return Objects.isNull(sb) ? source : sb.append(source, copied, source.length()).toString();
+    }
+
+    private static int maskScalar(final StringBuilder sb, final String source, final int copied, final int start, final int end,
+                                  final String dataDesensitizeAlg) {
+        String value = scalarValue(source, start, end);
+        if (Objects.isNull(value)) {
+            return copied;
+        }
+        sb.append(source, copied, start).append('"');
+        appendEscaped(sb, DataDesensitizeFactory.selectDesensitize(value, dataDesensitizeAlg));
+        sb.append('"');
+        return end;
+    }
+
+    private static String desensitizeForm(final String source, final KeyWordMatch keyWordMatch, final String dataDesensitizeAlg) {
+        StringBuilder sb = null;
+        int copied = 0;
+        int i = 0;
+        while (i < source.length()) {
+            int pairEnd = source.indexOf('&', i);
+            if (pairEnd < 0) {
+                pairEnd = source.length();
+            }
+            int equal = source.indexOf('=', i);
+            if (equal >= 0 && equal < pairEnd && keyWordMatch.matches(source, i, equal)) {
+                if (Objects.isNull(sb)) {
+                    sb = new StringBuilder(source.length() + 32);
+                }
+                sb.append(source, copied, equal + 1)
+                        .append(DataDesensitizeFactory.selectDesensitize(source.substring(equal + 1, pairEnd), dataDesensitizeAlg));
+                copied = pairEnd;
+            }
+            i = pairEnd + 1;
+        }
+        return Objects.isNull(sb) ? source : sb.append(source, copied, source.length()).toString();
+    }
+
+    private static int skipWhitespace(final String source, final int from) {
+        int i = from;
+        while (i < source.length() && Character.isWhitespace(source.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int closingQuote(final String source, final int from) {
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"') {
+                return i;
+            }
+            // skip the escaped character
+            i += c == '\\' ? 2 : 1;
+        }
+        return -1;
+    }
+
+    private static int scalarEnd(final String source, final int start) {
+        if (start >= source.length()) {
+            return -1;
+        }
+        char c = source.charAt(start);
+        if (c == '"') {
+            int end = closingQuote(source, start + 1);
+            return end < 0 ? -1 : end + 1;
+        }
+        if (c == '{' || c == '[') {
+            return -1;
+        }
+        int i = start;
+        while (i < source.length()) {
+            c = source.charAt(i);
+            if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            i++;
+        }
+        return i == start ? -1 : i;
+    }
+
+    private static String scalarValue(final String source, final int start, final int end) {
+        if (source.charAt(start) != '"') {
+            String literal = source.substring(start, end);
+            return "null".equals(literal) ? null : literal;
+        }
+        int backslash = source.indexOf('\\', start + 1);
+        if (backslash < 0 || backslash >= end - 1) {
+            return source.substring(start + 1, end - 1);
+        }
+        StringBuilder sb = new StringBuilder(end - start);
+        int i = start + 1;
+        while (i < end - 1) {
+            char c = source.charAt(i++);
+            if (c != '\\' || i >= end - 1) {
+                sb.append(c);
+                continue;
+            }
+            c = source.charAt(i++);
+            switch (c) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 <= end - 1 && isHex(source, i, i + 4)) {
+                        sb.append((char) Integer.parseInt(source.substring(i, i + 4), 16));
+                        i += 4;
+                    } else {
+                        sb.append(c);
+                    }
+                    break;
+                default:
+                    sb.append(c);
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isHex(final String source, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.digit(source.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendEscaped(final StringBuilder sb, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+    }
 }
@@ -45,5 +45,17 @@ class KeyWordMatchTest {
         Assertions.assertTrue(keyWordMatch.matches("name"));
         Assertions.assertTrue(keyWordMatch.matches("test"));
         Assertions.assertFalse(keyWordMatch.matches("dsaer"));
+        Assertions.assertTrue(keyWordMatch.matches("DSAxxxDER"));
+        Assertions.assertTrue(keyWordMatch.matches("dsader"));
+        Assertions.assertFalse(keyWordMatch.matches("names"));
+        Assertions.assertFalse(keyWordMatch.matches(""));
+    }
+
+    @Test
+    public void matchesRegion() {
+        String source = "{\"Name\":\"jack\",\"nick\":\"j\"}";
+        Assertions.assertTrue(keyWordMatch.matches(source, 2, 6));
+        Assertions.assertFalse(keyWordMatch.matches(source, 16, 20));
+        Assertions.assertFalse(keyWordMatch.matches(source, 2, 2));
     }
 }
@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 @ExtendWith(MockitoExtension.class)
 public class DataDesensitizeUtilsTest {
@@ -65,11 +66,75 @@ public class DataDesensitizeUtilsTest {
         Assertions.assertEquals(JSON_TEXT, noDesensitizedData);
 
         String desensitizedData = DataDesensitizeUtils.desensitizeBody(true, JSON_TEXT, keyWordMatch, DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
-        Map<String, String> jsonMap = JsonUtils.jsonToMap(JSON_TEXT, String.class);
-        jsonMap.put("name", DigestUtils.md5Hex(jsonMap.get("name")));
-        String jsonRet = JsonUtils.toJson(jsonMap);
-        Assertions.assertEquals(jsonRet, desensitizedData);
+        Assertions.assertEquals("{\"id\":\"123\",\"name\":\"" + DigestUtils.md5Hex("jack") + "\"}", desensitizedData);
+    }
+
+    @Test
+    public void desensitizeNestedBodyTest() {
+        String source = "{\"user\": {\"Name\": \"ja\\\"ck\", \"age\": 3}, \"name\": {\"first\": \"a\"}, \"tags\": [\"name\", {\"name\": 12}, {\"name\": null}]}";
+        String desensitizedData = DataDesensitizeUtils.desensitizeBody(true, source, keyWordMatch, DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
+        Assertions.assertEquals("{\"user\": {\"Name\": \"" + DigestUtils.md5Hex("ja\"ck") + "\", \"age\": 3}, \"name\": {\"first\": \"" + DigestUtils.md5Hex("a")
+                + "\"}, \"tags\": [\"name\", {\"name\": \"" + DigestUtils.md5Hex("12") + "\"}, {\"name\": null}]}", desensitizedData);
+    }
+
+    @Test
+    public void desensitizeContainerValueTest() {
+        String source = "{\"name\":{\"value\":\"x\",\"inner\":[1, true, null]},\"id\":1,\"NAME\":[\"a\",\"b\"]}";
+        String desensitizedData = DataDesensitizeUtils.desensitizeBody(true, source, keyWordMatch, DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
+        Assertions.assertEquals("{\"name\":{\"value\":\"" + DigestUtils.md5Hex("x") + "\",\"inner\":[\"" + DigestUtils.md5Hex("1") + "\", \""
+                + DigestUtils.md5Hex("true") + "\", null]},\"id\":1,\"NAME\":[\"" + DigestUtils.md5Hex("a") + "\",\"" + DigestUtils.md5Hex("b") + "\"]}",
+                desensitizedData);
+    }
+
+    @Test
+    public void desensitizeFormBodyTest() {
+        String desensitizedData = DataDesensitizeUtils.desensitizeBody(true, "id=1&name=jack&nickname=j", keyWordMatch,
+                DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg());
+        Assertions.assertEquals("id=1&name=" + DigestUtils.md5Hex("jack") + "&nickname=j", desensitizedData);
+        Assertions.assertEquals("plain text", DataDesensitizeUtils.desensitizeBody(true, "plain text", keyWordMatch,
+                DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg()));
+    }
+
+    @Test
+    public void desensitizeBodyAgainstRegexTest() {
+        Set<String> keywords = new HashSet<>();
+        for (int i = 0; i < 40; i++) {
+            keywords.add("secret" + i + "Token");
+            keywords.add("pw" + i);
+        }
+        keywords.add("phone");
+        keywords.add("password");
+        KeyWordMatch compiled = new KeyWordMatch(keywords);
+        Pattern regex = legacyPattern(keywords);
+        StringBuilder body = new StringBuilder("{");
+        for (int i = 0; i < 2000; i++) {
+            body.append("\"field").append(i).append("\":\"value").append(i).append("\",");
+            if (i % 50 == 0) {
+                body.append("\"secret").append(i % 40).append("Token\":\"s").append(i).append("\",\"PHONE\":\"1380000").append(i).append("\",");
+            }
+        }
+        body.append("\"password\":\"p\"}");
+        String source = body.toString();
+        Map<String, String> jsonMap = JsonUtils.jsonToMap(source, String.class);
+        jsonMap.keySet().forEach(key -> Assertions.assertEquals(regex.matcher(key).matches(), compiled.matches(key), key));
+
+        String alg = DataDesensitizeEnum.MD5_ENCRYPT.getDataDesensitizeAlg();
+        Map<String, String> desensitized = JsonUtils.jsonToMap(DataDesensitizeUtils.desensitizeBody(true, source, compiled, alg), String.class);
+        jsonMap.forEach((key, value) -> Assertions.assertEquals(regex.matcher(key).matches() ? DigestUtils.md5Hex(value) : value, desensitized.get(key), key));
+    }
 
+    private static Pattern legacyPattern(final Set<String> keywords) {
+        StringBuilder sb = new StringBuilder();
+        keywords.forEach(keyword -> {
+            sb.append("(?i)");
+            if (keyword.length() <= 6) {
+                sb.append(keyword);
+            } else {
+                sb.append("^").append(keyword, 0, 3).append("(.*?)").append(keyword.substring(keyword.length() - 3)).append("$");
+            }
+            sb.append("||");
+        });
+        return Pattern.compile(sb.toString());
     }
 
     @Test
@@ -49,13 +49,15 @@ import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -130,14 +132,39 @@ public class ShenyuToolCallback implements ToolCallback {
         Objects.requireNonNull(input, "Input cannot be null");
         Objects.requireNonNull(toolContext, "ToolContext cannot be null");
 
-        LOG.debug("Executing tool call for definition '{}' with input length: {} chars",
-                toolDefinition.name(), input.length());
-
         try {
             // Extract MCP session context (must be pre-established)
             final McpSyncServerExchange mcpExchange = extractMcpExchange(toolContext);
             final String sessionId = extractSessionId(mcpExchange);
 
+            // Execute the tool call and wait for the response on the caller thread
+            return callAsync(input, sessionId).block();
+
+        } catch (Exception e) {
+            LOG.error("Failed to process tool call for '{}': {}", toolDefinition.name(), e.getMessage(), e);
+
+            throw new RuntimeException("Tool execution failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executes the tool call without blocking the calling thread.
+     *
+     * <p>The returned mono emits the tool response as soon as the response decorator captures it.
+     * Cancelling the subscription, or hitting the execution timeout, disposes the in-flight plugin
+     * chain so that an abandoned call does not keep upstream resources busy.</p>
+     *
+     * @param input     the tool input parameters
+     * @param sessionId the MCP session identifier
+     * @return the tool response
+     */
+    public Mono<String> callAsync(final String input, final String sessionId) {
+        Objects.requireNonNull(input, "Input cannot be null");
+        Objects.requireNonNull(sessionId, "SessionId cannot be null");
+        return Mono.defer(() -> {
+            LOG.debug("Executing tool call for definition '{}' with input length: {} chars",
+                    toolDefinition.name(), input.length());
+
             // Validate and extract tool configuration
             final ShenyuToolDefinition shenyuTool = validateToolDefinition();
             final String configStr = extractRequestConfig(shenyuTool);
@@ -148,12 +175,7 @@ public class ShenyuToolCallback implements ToolCallback {
 
             // Execute the tool call through the plugin chain
             return executeToolCall(originExchange, chain, sessionId, configStr, input);
-
-        } catch (Exception e) {
-            LOG.error("Failed to process tool call for '{}': {}", toolDefinition.name(), e.getMessage(), e);
-
-            throw new RuntimeException("Tool execution failed: " + e.getMessage(), e);
-        }
+        });
     }
 
     /**
@@ -209,11 +231,11 @@ public class ShenyuToolCallback implements ToolCallback {
      * @param input          the tool input parameters
      * @return the execution result
      */
-    private String executeToolCall(final ServerWebExchange originExchange,
-                                   final ShenyuPluginChain chain,
-                                   final String sessionId,
-                                   final String configStr,
-                                   final String input) {
+    private Mono<String> executeToolCall(final ServerWebExchange originExchange,
+                                         final ShenyuPluginChain chain,
+                                         final String sessionId,
+                                         final String configStr,
+                                         final String input) {
 
         final RequestConfigHelper configHelper = new RequestConfigHelper(configStr);
         final String toolMethod = configHelper.getMethod();
@@ -230,52 +252,56 @@ public class ShenyuToolCallback implements ToolCallback {
         // Check if this is a temporary session that needs cleanup
         final boolean isTemporarySession = sessionId.startsWith("temp_");
 
-        // Execute the plugin chain asynchronously
-        chain.execute(decoratedExchange)
-                .doOnSubscribe(s -> LOG.debug("Plugin chain subscribed for session: {}", sessionId))
-                .doOnError(e -> {
-                    LOG.error("Plugin chain execution failed for session {}: {}", sessionId, e.getMessage(), e);
-                    if (!responseFuture.isDone()) {
-                        responseFuture.completeExceptionally(e);
-                    }
-                })
-                .doOnSuccess(v -> {
-                    LOG.debug("Plugin chain completed successfully for session: {}", sessionId);
-                    if (!responseFuture.isDone()) {
-                        responseFuture.complete("");
-                    }
-                })
-                .doOnCancel(() -> {
-                    LOG.warn("Plugin chain execution cancelled for session: {}", sessionId);
-                    if (!responseFuture.isDone()) {
-                        responseFuture.completeExceptionally(new RuntimeException("Execution was cancelled"));
-                    }
-                })
-                .doFinally(signalType -> {
-                    // Clean up temporary sessions after execution
-                    if (isTemporarySession) {
-                        LOG.debug("Cleaning up temporary session: {} (signal: {})", sessionId, signalType);
-                        ShenyuMcpExchangeHolder.remove(sessionId);
-                    }
-                })
-                .subscribe();
-
-        // Wait for the response with timeout
-        try {
-            final String result = responseFuture.get(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            LOG.debug("Tool call completed successfully for session: {}", sessionId);
-            return result;
-        } catch (Exception e) {
-            LOG.error("Timeout or error waiting for response for session {}: {}", sessionId, e.getMessage(), e);
-
-            // Ensure cleanup on error for temporary sessions
-            if (isTemporarySession) {
-                LOG.debug("Emergency cleanup of temporary session on error: {}", sessionId);
-                ShenyuMcpExchangeHolder.remove(sessionId);
-            }
-
-            throw new RuntimeException("Tool execution timeout or error: " + e.getMessage(), e);
-        }
+        return Mono.<String>create(sink -> {
+            // The decorator may complete the future before the chain itself finishes
+            responseFuture.whenComplete((result, error) -> {
+                if (Objects.nonNull(error)) {
+                    sink.error(error);
+                } else {
+                    sink.success(result);
+                }
+            });
+            // Execute the plugin chain asynchronously
+            final Disposable execution = chain.execute(decoratedExchange)
+                    .doOnSubscribe(s -> LOG.debug("Plugin chain subscribed for session: {}", sessionId))
+                    .doOnError(e -> {
+                        LOG.error("Plugin chain execution failed for session {}: {}", sessionId, e.getMessage(), e);
+                        if (!responseFuture.isDone()) {
+                            responseFuture.completeExceptionally(e);
+                        }
+                    })
+                    .doOnSuccess(v -> {
+                        LOG.debug("Plugin chain completed successfully for session: {}", sessionId);
+                        if (!responseFuture.isDone()) {
+                            responseFuture.complete("");
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        LOG.warn("Plugin chain execution cancelled for session: {}", sessionId);
+                        if (!responseFuture.isDone()) {
+                            responseFuture.completeExceptionally(new RuntimeException("Execution was cancelled"));
+                        }
+                    })
+                    .doFinally(signalType -> {
+                        // Clean up temporary sessions after execution
+                        if (isTemporarySession) {
+                            LOG.debug("Cleaning up temporary session: {} (signal: {})", sessionId, signalType);
+                            ShenyuMcpExchangeHolder.remove(sessionId);
+                        }
+                    })
+                    // Errors have already been routed to the response future
+                    .onErrorResume(e -> Mono.empty())
+                    .subscribe();
+            // Abandon the chain only when nobody is waiting for its response anymore
+            sink.onCancel(() -> {
+                if (!responseFuture.isDone()) {
+                    execution.dispose();
+                }
+            });
+        })
+                .timeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS))
+                .doOnSuccess(result -> LOG.debug("Tool call completed successfully for session: {}", sessionId))
+                .doOnError(e -> LOG.error("Timeout or error waiting for response for session {}: {}", sessionId, e.getMessage()));
     }
 
     /**
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.mcp.server.config;
+
+import org.apache.shenyu.plugin.mcp.server.manager.ShenyuMcpServerManager;
+
+/**
+ * Configuration properties for the mcp server plugin, bound to {@code shenyu.plugins.mcp.server}.
+ */
+public class McpServerProperties {
+
+    /**
+     * The maximum number of tool calls a single session may execute concurrently, the default is 16.
+     */
+    private int maxConcurrentToolCalls = ShenyuMcpServerManager.DEFAULT_MAX_CONCURRENT_TOOL_CALLS;
+
+    /**
+     * Gets max concurrent tool calls.
+     *
+     * @return the max concurrent tool calls
+     */
+    public int getMaxConcurrentToolCalls() {
+        return maxConcurrentToolCalls;
+    }
+
+    /**
+     * Sets max concurrent tool calls.
+     *
+     * @param maxConcurrentToolCalls the max concurrent tool calls
+     */
+    public void setMaxConcurrentToolCalls(final int maxConcurrentToolCalls) {
+        this.maxConcurrentToolCalls = maxConcurrentToolCalls;
+    }
+}
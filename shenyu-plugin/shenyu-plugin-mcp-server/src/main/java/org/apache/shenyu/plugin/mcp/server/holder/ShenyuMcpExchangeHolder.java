@@ -18,19 +18,25 @@
 package org.apache.shenyu.plugin.mcp.server.holder;
 
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class ShenyuMcpExchangeHolder {
 
     private static final Map<String, ServerWebExchange> EXCHANGE_MAP = new ConcurrentHashMap<>();
 
+    private static final Map<String, Sinks.Empty<Void>> CLOSE_SIGNALS = new ConcurrentHashMap<>();
+
     private ShenyuMcpExchangeHolder() {
     }
 
     public static void put(final String sessionId, final ServerWebExchange exchange) {
         EXCHANGE_MAP.put(sessionId, exchange);
+        CLOSE_SIGNALS.computeIfAbsent(sessionId, key -> Sinks.empty());
     }
 
     public static ServerWebExchange get(final String sessionId) {
@@ -39,9 +45,27 @@ public final class ShenyuMcpExchangeHolder {
 
     public static void remove(final String sessionId) {
         EXCHANGE_MAP.remove(sessionId);
+        Sinks.Empty<Void> closeSignal = CLOSE_SIGNALS.remove(sessionId);
+        if (Objects.nonNull(closeSignal)) {
+            closeSignal.tryEmitEmpty();
+        }
     }
 
     public static void clear() {
         EXCHANGE_MAP.clear();
+        CLOSE_SIGNALS.values().forEach(Sinks.Empty::tryEmitEmpty);
+        CLOSE_SIGNALS.clear();
+    }
+
+    /**
+     * Returns a mono that completes once the session is removed, i.e. when the client disconnects.
+     * Never completes if the session is not (or no longer) registered, so calls of such sessions are not cut short.
+     *
+     * @param sessionId the session id
+     * @return the close signal of the session
+     */
+    public static Mono<Void> closeSignal(final String sessionId) {
+        Sinks.Empty<Void> closeSignal = CLOSE_SIGNALS.get(sessionId);
+        return Objects.isNull(closeSignal) ? Mono.never() : closeSignal.asMono();
     }
 }
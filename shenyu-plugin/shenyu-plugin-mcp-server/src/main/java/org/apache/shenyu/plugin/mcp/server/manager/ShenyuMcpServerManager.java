@@ -24,8 +24,12 @@ import io.modelcontextprotocol.server.McpServer;
 import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
 import io.modelcontextprotocol.spec.McpSchema;
 import io.modelcontextprotocol.spec.McpServerSession;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.mcp.server.callback.ShenyuToolCallback;
 import org.apache.shenyu.plugin.mcp.server.definition.ShenyuToolDefinition;
+import org.apache.shenyu.plugin.mcp.server.holder.ShenyuMcpExchangeHolder;
+import org.apache.shenyu.plugin.mcp.server.session.McpSessionHelper;
+import org.apache.shenyu.plugin.mcp.server.session.McpToolCallLimiter;
 import org.apache.shenyu.plugin.mcp.server.transport.ShenyuSseServerTransportProvider;
 import org.apache.shenyu.plugin.mcp.server.transport.ShenyuStreamableHttpServerTransportProvider;
 import org.slf4j.Logger;
@@ -35,6 +39,7 @@ import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.reactive.function.server.HandlerFunction;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -57,6 +62,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Component
 public class ShenyuMcpServerManager {
 
+    /**
+     * Default maximum number of tool calls a single session may execute concurrently.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_TOOL_CALLS = 16;
+
     private static final Logger LOG = LoggerFactory.getLogger(ShenyuMcpServerManager.class);
 
     /**
@@ -97,6 +107,11 @@ public class ShenyuMcpServerManager {
      */
     private final Map<String, CompositeTransportProvider> compositeTransportMap = new ConcurrentHashMap<>();
 
+    /**
+     * Per-session bound on concurrently executing tool calls.
+     */
+    private final McpToolCallLimiter toolCallLimiter;
+
     /**
      * Instantiates a new manager with default CORS allow headers handling.
      */
@@ -110,7 +125,18 @@ public class ShenyuMcpServerManager {
      * @param corsAllowedHeaders CORS allow headers configured by {@code shenyu.cross.allowedHeaders}
      */
     public ShenyuMcpServerManager(final String corsAllowedHeaders) {
+        this(corsAllowedHeaders, DEFAULT_MAX_CONCURRENT_TOOL_CALLS);
+    }
+
+    /**
+     * Instantiates a new manager.
+     *
+     * @param corsAllowedHeaders CORS allow headers configured by {@code shenyu.cross.allowedHeaders}
+     * @param maxConcurrentToolCalls maximum number of tool calls a single session may execute concurrently
+     */
+    public ShenyuMcpServerManager(final String corsAllowedHeaders, final int maxConcurrentToolCalls) {
         this.corsAllowedHeaders = corsAllowedHeaders;
+        this.toolCallLimiter = new McpToolCallLimiter(maxConcurrentToolCalls);
     }
 
     /**
@@ -393,14 +419,12 @@ public class ShenyuMcpServerManager {
         McpAsyncServer sharedServer = sharedServerMap.get(normalizedPath);
         if (Objects.nonNull(sharedServer)) {
             try {
-                for (AsyncToolSpecification asyncToolSpecification : McpToolUtils.toAsyncToolSpecifications(shenyuToolCallback)) {
-                    // Use non-blocking approach with timeout to prevent hanging
-                    sharedServer.addTool(asyncToolSpecification)
-                            .timeout(Duration.ofSeconds(10))
-                            .doOnSuccess(v -> LOG.debug("Successfully added tool '{}' to server for path: {}", name, normalizedPath))
-                            .doOnError(e -> LOG.error("Failed to add tool '{}' to server for path: {}: {}", name, normalizedPath, e.getMessage()))
-                            .block();
-                }
+                // Use non-blocking approach with timeout to prevent hanging
+                sharedServer.addTool(buildAsyncToolSpecification(shenyuToolCallback))
+                        .timeout(Duration.ofSeconds(10))
+                        .doOnSuccess(v -> LOG.debug("Successfully added tool '{}' to server for path: {}", name, normalizedPath))
+                        .doOnError(e -> LOG.error("Failed to add tool '{}' to server for path: {}: {}", name, normalizedPath, e.getMessage()))
+                        .block();
 
                 Set<String> protocols = getSupportedProtocols(normalizedPath);
                 LOG.info("Added tool '{}' to shared server for path: {} (available across protocols: {})",
@@ -414,6 +438,42 @@ public class ShenyuMcpServerManager {
         }
     }
 
+    /**
+     * Builds a tool specification whose handler runs the tool through the plugin chain without
+     * parking a worker thread, bounded per session and cancelled when the session disconnects.
+     *
+     * @param shenyuToolCallback the tool callback
+     * @return the async tool specification
+     */
+    private AsyncToolSpecification buildAsyncToolSpecification(final ShenyuToolCallback shenyuToolCallback) {
+        final McpSchema.Tool tool = McpToolUtils.toAsyncToolSpecification(shenyuToolCallback).tool();
+        return AsyncToolSpecification.builder()
+                .tool(tool)
+                .callHandler((exchange, request) -> Mono.defer(() -> {
+                    final String sessionId;
+                    try {
+                        sessionId = McpSessionHelper.getAsyncSessionId(exchange);
+                    } catch (NoSuchFieldException | IllegalAccessException e) {
+                        return Mono.error(e);
+                    }
+                    final String input = GsonUtils.getInstance().toJson(
+                            Objects.isNull(request.arguments()) ? Collections.emptyMap() : request.arguments());
+                    final Mono<String> call = toolCallLimiter.limit(sessionId, shenyuToolCallback.callAsync(input, sessionId));
+                    final Mono<String> disconnected = ShenyuMcpExchangeHolder.closeSignal(sessionId)
+                            .then(Mono.error(() -> new IllegalStateException("MCP session closed: " + sessionId)));
+                    return Mono.firstWithSignal(call, disconnected);
+                })
+                        .map(result -> McpSchema.CallToolResult.builder().addTextContent(result).isError(false).build())
+                        .onErrorResume(e -> {
+                            LOG.error("Tool '{}' execution failed: {}", tool.name(), e.getMessage());
+                            return Mono.just(McpSchema.CallToolResult.builder()
+                                    .addTextContent(Objects.toString(e.getMessage(), e.getClass().getSimpleName()))
+                                    .isError(true)
+                                    .build());
+                        }))
+                .build();
+    }
+
     /**
      * Removes a tool from the shared server instance.
      *
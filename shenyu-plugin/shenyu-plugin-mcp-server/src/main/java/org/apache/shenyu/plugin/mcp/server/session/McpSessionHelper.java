@@ -96,7 +96,27 @@ public class McpSessionHelper {
         if (Objects.isNull(asyncExchange)) {
             throw new IllegalArgumentException("McpAsyncServerExchange is required in McpSyncServerExchange");
         }
-        McpAsyncServerExchange mcpAsyncServerExchange = (McpAsyncServerExchange) asyncExchange;
+        return readSession((McpAsyncServerExchange) asyncExchange);
+    }
+    
+    /**
+     * Get sessionId from McpAsyncServerExchange.
+     *
+     * @param mcpAsyncServerExchange the McpAsyncServerExchange instance
+     * @return the session id string
+     * @throws NoSuchFieldException if field not found
+     * @throws IllegalAccessException if field not accessible
+     */
+    public static String getAsyncSessionId(final McpAsyncServerExchange mcpAsyncServerExchange)
+            throws NoSuchFieldException, IllegalAccessException {
+        Object session = readSession(mcpAsyncServerExchange);
+        if (Objects.isNull(session)) {
+            throw new IllegalArgumentException("Session is required in McpAsyncServerExchange");
+        }
+        return ((McpServerSession) session).getId();
+    }
+    
+    private static Object readSession(final McpAsyncServerExchange mcpAsyncServerExchange) throws IllegalAccessException, NoSuchFieldException {
         Field sessionField = mcpAsyncServerExchange.getClass().getDeclaredField("session");
         sessionField.setAccessible(true);
         return sessionField.get(mcpAsyncServerExchange);
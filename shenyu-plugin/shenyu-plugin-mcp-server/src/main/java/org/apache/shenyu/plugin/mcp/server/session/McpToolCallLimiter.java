@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.mcp.server.session;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bounds the number of tool calls a single MCP session may execute concurrently.
+ *
+ * <p>Calls beyond the bound are queued in arrival order rather than rejected, and a queued call
+ * that gets cancelled leaves the queue without consuming a permit. Session state is dropped as soon
+ * as the session has nothing in flight, so no explicit cleanup is needed on disconnect.</p>
+ */
+public class McpToolCallLimiter {
+
+    private final int maxConcurrentCalls;
+
+    private final Map<String, Permits> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new tool call limiter.
+     *
+     * @param maxConcurrentCalls the maximum number of concurrent tool calls per session
+     */
+    public McpToolCallLimiter(final int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Runs the call once the session has a free permit.
+     *
+     * @param sessionId the session id
+     * @param call      the tool call
+     * @param <T>       the result type
+     * @return the limited call
+     */
+    public <T> Mono<T> limit(final String sessionId, final Mono<T> call) {
+        return Mono.defer(() -> {
+            final Sinks.Empty<Void> ticket = acquire(sessionId);
+            return ticket.asMono()
+                    .then(call)
+                    .doFinally(signalType -> {
+                        // a ticket still queued never held a permit
+                        if (!dequeue(sessionId, ticket)) {
+                            release(sessionId);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Returns the number of calls currently executing for the session.
+     *
+     * @param sessionId the session id
+     * @return the number of executing calls
+     */
+    public int activeCalls(final String sessionId) {
+        final Permits permits = sessions.get(sessionId);
+        return Objects.isNull(permits) ? 0 : permits.active;
+    }
+
+    private Sinks.Empty<Void> acquire(final String sessionId) {
+        final Sinks.Empty<Void> ticket = Sinks.empty();
+        final AtomicBoolean granted = new AtomicBoolean();
+        sessions.compute(sessionId, (key, existing) -> {
+            final Permits permits = Objects.isNull(existing) ? new Permits() : existing;
+            if (permits.active < maxConcurrentCalls) {
+                permits.active++;
+                granted.set(true);
+            } else {
+                permits.waiters.offer(ticket);
+            }
+            return permits;
+        });
+        if (granted.get()) {
+            ticket.tryEmitEmpty();
+        }
+        return ticket;
+    }
+
+    private boolean dequeue(final String sessionId, final Sinks.Empty<Void> ticket) {
+        final AtomicBoolean removed = new AtomicBoolean();
+        sessions.computeIfPresent(sessionId, (key, permits) -> {
+            removed.set(permits.waiters.remove(ticket));
+            return permits;
+        });
+        return removed.get();
+    }
+
+    private void release(final String sessionId) {
+        final AtomicReference<Sinks.Empty<Void>> next = new AtomicReference<>();
+        sessions.computeIfPresent(sessionId, (key, permits) -> {
+            final Sinks.Empty<Void> waiter = permits.waiters.poll();
+            if (Objects.nonNull(waiter)) {
+                // hand the permit over instead of returning it
+                next.set(waiter);
+                return permits;
+            }
+            permits.active--;
+            return permits.active == 0 ? null : permits;
+        });
+        // signal outside of compute, the woken call may re-enter this limiter synchronously
+        final Sinks.Empty<Void> waiter = next.get();
+        if (Objects.nonNull(waiter)) {
+            waiter.tryEmitEmpty();
+        }
+    }
+
+    private static final class Permits {
+
+        private final Deque<Sinks.Empty<Void>> waiters = new ArrayDeque<>();
+
+        private int active;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.mcp.server.session;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test case for {@link McpToolCallLimiter}.
+ */
+class McpToolCallLimiterTest {
+
+    @Test
+    void testQueuesCallsBeyondBound() {
+        McpToolCallLimiter limiter = new McpToolCallLimiter(1);
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger secondStarted = new AtomicInteger();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+
+        limiter.limit("s1", first.asMono()).subscribe();
+        limiter.limit("s1", Mono.fromSupplier(() -> {
+            secondStarted.incrementAndGet();
+            return "second";
+        })).subscribe(secondResult::set);
+
+        assertEquals(1, limiter.activeCalls("s1"));
+        assertEquals(0, secondStarted.get());
+
+        first.tryEmitValue("first");
+        assertEquals(1, secondStarted.get());
+        assertEquals("second", secondResult.get());
+        assertEquals(0, limiter.activeCalls("s1"));
+    }
+
+    @Test
+    void testSessionsAreIndependent() {
+        McpToolCallLimiter limiter = new McpToolCallLimiter(1);
+        limiter.limit("s1", Mono.never()).subscribe();
+        assertEquals("ok", limiter.limit("s2", Mono.just("ok")).block());
+        assertEquals(1, limiter.activeCalls("s1"));
+    }
+
+    @Test
+    void testCancelledWaiterDoesNotConsumePermit() {
+        McpToolCallLimiter limiter = new McpToolCallLimiter(1);
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger started = new AtomicInteger();
+
+        limiter.limit("s1", first.asMono()).subscribe();
+        Disposable waiting = limiter.limit("s1", Mono.fromSupplier(() -> {
+            started.incrementAndGet();
+            return "cancelled";
+        })).subscribe();
+        waiting.dispose();
+
+        first.tryEmitValue("first");
+        assertEquals(0, started.get());
+        assertEquals(0, limiter.activeCalls("s1"));
+        assertEquals("next", limiter.limit("s1", Mono.just("next")).block());
+    }
+
+    @Test
+    void testCancelledRunningCallReleasesPermit() {
+        McpToolCallLimiter limiter = new McpToolCallLimiter(1);
+        Disposable running = limiter.limit("s1", Mono.never()).subscribe();
+        running.dispose();
+        assertEquals(0, limiter.activeCalls("s1"));
+    }
+
+    @Test
+    void testRejectsNonPositiveBound() {
+        assertThrows(IllegalArgumentException.class, () -> new McpToolCallLimiter(0));
+    }
+}
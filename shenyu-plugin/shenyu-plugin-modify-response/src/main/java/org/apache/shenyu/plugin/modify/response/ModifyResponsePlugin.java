@@ -17,8 +17,6 @@
 
 package org.apache.shenyu.plugin.modify.response;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.shenyu.common.constant.Constants;
@@ -29,8 +27,8 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
-import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.support.JsonTransformProgram;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.modify.response.handler.ModifyResponsePluginDataHandler;
 import org.reactivestreams.Publisher;
@@ -45,7 +43,6 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -82,14 +79,11 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
 
     static class ModifyResponseDecorator extends ServerHttpResponseDecorator {
 
-        private final ServerWebExchange exchange;
-
         private final ModifyResponseRuleHandle ruleHandle;
 
         ModifyResponseDecorator(final ServerWebExchange exchange,
                                 final ModifyResponseRuleHandle ruleHandle) {
             super(exchange.getResponse());
-            this.exchange = exchange;
             this.ruleHandle = ruleHandle;
         }
 
@@ -97,13 +91,14 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
             modifyResponseHeadersAndStatus();
-            final Mono<DataBuffer> dataBufferMono = DataBufferUtils.join(body);
-            return dataBufferMono.flatMap(dataBuffer -> {
-                byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                dataBuffer.read(bytes);
-                DataBufferUtils.release(dataBuffer);
-                return WebFluxResultUtils.result(this.exchange, modifyBody(bytes));
-            });
+            final JsonTransformProgram program = JsonTransformProgram.of(this.ruleHandle);
+            if (program.isEmpty()) {
+                return super.writeWith(body);
+            }
+            final Mono<DataBuffer> dataBufferMono = DataBufferUtils.join(body)
+                    .map(dataBuffer -> modifyBody(program, dataBuffer))
+                    .doOnNext(dataBuffer -> this.getHeaders().setContentLength(dataBuffer.readableByteCount()));
+            return super.writeWith(dataBufferMono);
         }
 
         private void modifyResponseHeadersAndStatus() {
@@ -145,29 +140,13 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
             this.getDelegate().getHeaders().putAll(httpHeaders);
         }
 
-        private byte[] modifyBody(final byte[] responseBody) {
+        private DataBuffer modifyBody(final JsonTransformProgram program, final DataBuffer responseBody) {
             try {
-                String bodyStr = modifyBody(new String(responseBody, StandardCharsets.UTF_8));
-                LOG.info("the body string {}", bodyStr);
-                return bodyStr.getBytes(StandardCharsets.UTF_8);
+                return program.transform(responseBody, this.bufferFactory());
             } catch (Exception e) {
                 LOG.error("modify response error", e);
                 throw new ShenyuException(String.format("response modify failure. %s", e.getLocalizedMessage()));
             }
         }
-
-        private String modifyBody(final String jsonValue) {
-            DocumentContext context = JsonPath.parse(jsonValue);
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getAddBodyKeys())) {
-                this.ruleHandle.getAddBodyKeys().forEach(info -> context.put(info.getPath(), info.getKey(), info.getValue()));
-            }
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getReplaceBodyKeys())) {
-                this.ruleHandle.getReplaceBodyKeys().forEach(info -> context.renameKey(info.getPath(), info.getKey(), info.getValue()));
-            }
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getRemoveBodyKeys())) {
-                this.ruleHandle.getRemoveBodyKeys().forEach(context::delete);
-            }
-            return context.jsonString();
-        }
     }
 }
@@ -18,8 +18,6 @@
 package org.apache.shenyu.plugin.param.mapping.strategy;
 
 import com.google.gson.reflect.TypeToken;
-import com.jayway.jsonpath.DocumentContext;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -101,11 +99,8 @@ public class FormDataOperator implements Operator {
     }
 
     @Override
-    public void operation(final DocumentContext context, final ParamMappingRuleHandle paramMappingRuleHandle) {
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getAddParameterKeys())) {
-            paramMappingRuleHandle.getAddParameterKeys().forEach(
-                    info -> context.put(info.getPath(), info.getKey(), Collections.singletonList(info.getValue())));
-        }
+    public Object addedValue(final String value) {
+        return Collections.singletonList(value);
     }
 
     private List<String> prepareParams(final LinkedMultiValueMap<String, String> modifyMap, final String charset) {
@@ -21,9 +21,10 @@ import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.support.BodyInserterContext;
 import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.shenyu.plugin.base.support.JsonTransformProgram;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.codec.HttpMessageReader;
@@ -43,8 +44,6 @@ import java.util.List;
  */
 public class JsonOperator implements Operator {
     
-    private static final Logger LOG = LoggerFactory.getLogger(JsonOperator.class);
-    
     private final List<HttpMessageReader<?>> messageReaders;
     
     /**
@@ -59,16 +58,11 @@ public class JsonOperator implements Operator {
     @Override
     public Mono<Void> apply(final ServerWebExchange exchange, final ShenyuPluginChain shenyuPluginChain,
                             final ParamMappingRuleHandle paramMappingRuleHandle) {
-        ServerRequest serverRequest = ServerRequest.create(exchange, messageReaders);
-        Mono<String> mono = serverRequest.bodyToMono(String.class).switchIfEmpty(Mono.just(""))
-                .flatMap(originalBody -> {
-                    LOG.info("get body data success data:{}", originalBody);
-                    // process entity
-                    String modify = operation(originalBody, paramMappingRuleHandle);
-                    return Mono.just(modify);
-                });
-        BodyInserter<Mono<String>, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromPublisher(mono,
-                String.class);
+        JsonTransformProgram program = JsonTransformProgram.of(paramMappingRuleHandle);
+        DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+        Mono<DataBuffer> mono = DataBufferUtils.join(ServerRequest.create(exchange, messageReaders).bodyToFlux(DataBuffer.class))
+                .map(dataBuffer -> program.transform(dataBuffer, bufferFactory));
+        BodyInserter<Mono<DataBuffer>, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromDataBuffers(mono);
         HttpHeaders headers = new HttpHeaders();
         headers.putAll(exchange.getRequest().getHeaders());
         headers.remove(HttpHeaders.CONTENT_LENGTH);
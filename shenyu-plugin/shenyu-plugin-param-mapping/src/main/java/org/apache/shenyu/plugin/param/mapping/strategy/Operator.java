@@ -17,12 +17,10 @@
 
 package org.apache.shenyu.plugin.param.mapping.strategy;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
+import org.apache.shenyu.plugin.base.support.JsonTransformProgram;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -64,26 +62,16 @@ public interface Operator {
      * @return string
      */
     default String operation(final String jsonValue, final ParamMappingRuleHandle paramMappingRuleHandle) {
-        DocumentContext context = JsonPath.parse(jsonValue);
-        operation(context, paramMappingRuleHandle);
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getReplaceParameterKeys())) {
-            paramMappingRuleHandle.getReplaceParameterKeys().forEach(info -> context.renameKey(info.getPath(), info.getKey(), info.getValue()));
-        }
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getRemoveParameterKeys())) {
-            paramMappingRuleHandle.getRemoveParameterKeys().forEach(context::delete);
-        }
-        return context.jsonString();
+        return JsonTransformProgram.of(paramMappingRuleHandle).transform(jsonValue, this::addedValue);
     }
 
     /**
-     * Operation.
+     * The json value of an added parameter.
      *
-     * @param context            context
-     * @param paramMappingRuleHandle handle
+     * @param value the configured value
+     * @return json value
      */
-    default void operation(final DocumentContext context, final ParamMappingRuleHandle paramMappingRuleHandle) {
-        if (!CollectionUtils.isEmpty(paramMappingRuleHandle.getAddParameterKeys())) {
-            paramMappingRuleHandle.getAddParameterKeys().forEach(info -> context.put(info.getPath(), info.getKey(), info.getValue()));
-        }
+    default Object addedValue(final String value) {
+        return value;
     }
 }
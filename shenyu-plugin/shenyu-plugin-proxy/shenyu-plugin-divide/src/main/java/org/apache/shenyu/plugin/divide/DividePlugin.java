@@ -118,6 +118,10 @@ public class DividePlugin extends AbstractShenyuPlugin {
         exchange.getAttributes().put(Constants.RETRY_STRATEGY, StringUtils.defaultIfEmpty(ruleHandle.getRetryStrategy(), RetryEnum.CURRENT.getName()));
         exchange.getAttributes().put(Constants.LOAD_BALANCE, StringUtils.defaultIfEmpty(ruleHandle.getLoadBalance(), LoadBalanceEnum.RANDOM.getName()));
         exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, selector.getId());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, rule.getId());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_PERCENTILE, ruleHandle.getHedgePercentile());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_BUDGET_PERCENT, ruleHandle.getHedgeBudgetPercent());
+        exchange.getAttributes().put(Constants.HTTP_RETRY_BODY_MAX_SIZE, ruleHandle.getRetryBodyMaxSize());
         if (ruleHandle.getLoadBalance().equals(P2C)) {
             return chain.execute(exchange).doOnSuccess(e -> responseTrigger(upstream
             )).doOnError(throwable -> responseTrigger(upstream));
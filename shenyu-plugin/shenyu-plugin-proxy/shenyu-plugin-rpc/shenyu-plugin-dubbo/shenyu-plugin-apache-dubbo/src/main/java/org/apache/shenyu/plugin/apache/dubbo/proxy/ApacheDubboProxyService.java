@@ -35,11 +35,11 @@ import org.apache.shenyu.common.enums.LoadBalanceEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
-import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.plugin.apache.dubbo.cache.ApacheDubboConfigCache;
 import org.apache.shenyu.plugin.base.utils.LoadbalancerUtils;
+import org.apache.shenyu.plugin.dubbo.common.handler.AbstractDubboPluginDataHandler;
 import org.apache.shenyu.plugin.dubbo.common.param.DubboParamResolveService;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -87,7 +87,8 @@ public class ApacheDubboProxyService {
         if (StringUtils.isBlank(metaData.getParameterTypes()) || ParamCheckUtils.bodyIsEmpty(body)) {
             pair = new ImmutablePair<>(new String[]{}, new Object[]{});
         } else if (CommonConstants.GENERIC_SERIALIZATION_PROTOBUF.equals(reference.getGeneric())) {
-            pair = new ImmutablePair<>(new String[]{metaData.getParameterTypes()}, new Object[]{JsonUtils.toJson(JsonUtils.jsonToMap(body))});
+            // the body already is the json form of the message
+            pair = new ImmutablePair<>(new String[]{metaData.getParameterTypes()}, new Object[]{body});
         } else {
             pair = dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
         }
@@ -126,9 +127,12 @@ public class ApacheDubboProxyService {
             namespace = exchange.getRequest().getHeaders().get(Constants.NAMESPACE).get(0);
         }
 
-        List<DubboUpstream> dubboUpstreams = GsonUtils.getInstance().fromList(selectorData.getHandle(), DubboUpstream.class);
-        dubboUpstreams = CollectionUtils.isEmpty(dubboUpstreams) ? null
-                : dubboUpstreams.stream().filter(u -> u.isStatus() && StringUtils.isNotBlank(u.getRegistry())).collect(Collectors.toList());
+        List<DubboUpstream> dubboUpstreams = AbstractDubboPluginDataHandler.REGISTRY_CACHED_HANDLE.get().obtainHandle(selectorData.getId());
+        if (Objects.isNull(dubboUpstreams)) {
+            dubboUpstreams = GsonUtils.getInstance().fromList(selectorData.getHandle(), DubboUpstream.class);
+            dubboUpstreams = CollectionUtils.isEmpty(dubboUpstreams) ? null
+                    : dubboUpstreams.stream().filter(u -> u.isStatus() && StringUtils.isNotBlank(u.getRegistry())).collect(Collectors.toList());
+        }
         // if dubboUpstreams is empty, use default plugin config
         if (CollectionUtils.isEmpty(dubboUpstreams)) {
             referenceKey = StringUtils.isNotBlank(namespace) ? namespace + Constants.COLONS + referenceKey : referenceKey;
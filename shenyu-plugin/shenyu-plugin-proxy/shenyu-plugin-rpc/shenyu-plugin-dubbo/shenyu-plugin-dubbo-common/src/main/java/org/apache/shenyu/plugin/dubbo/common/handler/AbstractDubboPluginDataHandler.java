@@ -37,6 +37,7 @@ import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -51,6 +52,8 @@ public abstract class AbstractDubboPluginDataHandler implements PluginDataHandle
 
     public static final Supplier<CommonHandleCache<String, List<DubboUpstream>>> SELECTOR_CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    public static final Supplier<CommonHandleCache<String, List<DubboUpstream>>> REGISTRY_CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
+
     protected abstract void initConfigCache(DubboRegisterConfig dubboRegisterConfig);
 
     protected abstract void invalidateReferenceBySelector(SelectorData selectorData);
@@ -82,6 +85,7 @@ public abstract class AbstractDubboPluginDataHandler implements PluginDataHandle
         }
         List<DubboUpstream> dubboUpstreams = GsonUtils.getInstance().fromList(selectorData.getHandle(), DubboUpstream.class);
         if (CollectionUtils.isEmpty(dubboUpstreams)) {
+            REGISTRY_CACHED_HANDLE.get().cachedHandle(selectorData.getId(), Collections.emptyList());
             return;
         }
         List<DubboUpstream> graySelectorHandle = new ArrayList<>();
@@ -97,11 +101,15 @@ public abstract class AbstractDubboPluginDataHandler implements PluginDataHandle
             // if update gray selector is empty, remove cache
             removeSelector(selectorData);
         }
+        // decoded once here instead of on every call
+        REGISTRY_CACHED_HANDLE.get().cachedHandle(selectorData.getId(), dubboUpstreams.stream()
+                .filter(u -> u.isStatus() && StringUtils.isNotBlank(u.getRegistry())).collect(Collectors.toList()));
     }
 
     @Override
     public void removeSelector(final SelectorData selectorData) {
         SELECTOR_CACHED_HANDLE.get().removeHandle(selectorData.getId());
+        REGISTRY_CACHED_HANDLE.get().removeHandle(selectorData.getId());
         UpstreamCacheManager.getInstance().removeByKey(selectorData.getId());
         RULE_CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(selectorData.getId(), Constants.DEFAULT_RULE));
         // remove old upstream reference
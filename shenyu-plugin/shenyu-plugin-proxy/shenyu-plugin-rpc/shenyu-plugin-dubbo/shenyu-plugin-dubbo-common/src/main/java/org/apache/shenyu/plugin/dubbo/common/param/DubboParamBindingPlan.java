@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.dubbo.common.param;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.ReflectUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The compiled form of a metadata parameter types string.
+ * The types, the argument names and whether the body binds to a single bean are resolved once,
+ * so a call only parses its body.
+ */
+public final class DubboParamBindingPlan {
+
+    private final String parameterTypes;
+
+    private final String[] types;
+
+    private final String[] names;
+
+    private final boolean single;
+
+    private DubboParamBindingPlan(final String parameterTypes, final String[] types, final String[] names) {
+        this.parameterTypes = parameterTypes;
+        this.types = types;
+        this.names = names;
+        this.single = types.length == 1 && !isBaseType(types[0]);
+    }
+
+    /**
+     * Compile the parameter types of a metadata.
+     * Either a comma separated type list bound by body order, or a json object of argument name to type.
+     *
+     * @param parameterTypes the parameter types
+     * @return the binding plan
+     */
+    public static DubboParamBindingPlan compile(final String parameterTypes) {
+        if (parameterTypes.startsWith("{") && parameterTypes.endsWith("}")) {
+            Map<String, String> nameMapping = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+            return new DubboParamBindingPlan(parameterTypes, nameMapping.values().toArray(new String[0]), nameMapping.keySet().toArray(new String[0]));
+        }
+        return new DubboParamBindingPlan(parameterTypes, StringUtils.split(parameterTypes, ","), null);
+    }
+
+    /**
+     * Bind a request body to the generic invoke arguments.
+     *
+     * @param body the json body
+     * @return the parameter types and the arguments
+     */
+    public Pair<String[], Object[]> bind(final String body) {
+        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
+        if (single) {
+            // the whole body is the one bean argument
+            paramMap.replaceAll((key, value) -> convert(value));
+            return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
+        }
+        Object[] args;
+        if (Objects.nonNull(names)) {
+            args = new Object[names.length];
+            for (int i = 0; i < names.length; i++) {
+                args[i] = convert(paramMap.get(names[i]));
+            }
+        } else {
+            args = new Object[paramMap.size()];
+            int i = 0;
+            for (Object value : paramMap.values()) {
+                args[i++] = convert(value);
+            }
+        }
+        return new ImmutablePair<>(types.clone(), args);
+    }
+
+    private static Object convert(final Object value) {
+        if (value instanceof JsonObject) {
+            return GsonUtils.getInstance().convertToMap(value.toString());
+        }
+        if (value instanceof JsonArray) {
+            return GsonUtils.getInstance().fromList(value.toString(), Object.class);
+        }
+        return value;
+    }
+
+    private static boolean isBaseType(final String type) {
+        try {
+            return ReflectUtils.isPrimitives(ClassUtils.getClass(type));
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
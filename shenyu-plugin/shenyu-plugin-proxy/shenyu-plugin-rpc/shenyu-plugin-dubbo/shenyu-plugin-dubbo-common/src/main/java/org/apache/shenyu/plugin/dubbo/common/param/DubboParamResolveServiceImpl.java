@@ -17,16 +17,22 @@
 
 package org.apache.shenyu.plugin.dubbo.common.param;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
 
 /**
  * The type Default generic param resolve service.
  */
 public class DubboParamResolveServiceImpl implements DubboParamResolveService {
 
+    // the parameter types string of a metadata is the key, an updated metadata compiles a new plan
+    private static final Cache<String, DubboParamBindingPlan> PLAN_CACHE = Caffeine.newBuilder()
+            .maximumSize(5000)
+            .build();
+
     @Override
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
-        return BodyParamUtils.buildParameters(body, parameterTypes);
+        return PLAN_CACHE.get(parameterTypes, DubboParamBindingPlan::compile).bind(body);
     }
 }
@@ -80,5 +80,23 @@ public class DubboParamResolveServiceTest {
         assertNull(idList1.get(0));
         assertNull(idList1.get(1));
     }
-}
 
+    @Test
+    public void testBuildParameterWithCachedPlan() {
+        String parameterTypes = "java.lang.Integer,java.lang.String";
+        Pair<String[], Object[]> pair = impl.buildParameter("{\"id\":1,\"name\":\"a\"}", parameterTypes);
+        assertThat(pair.getLeft(), is(new String[]{"java.lang.Integer", "java.lang.String"}));
+        assertThat(pair.getRight()[1], is("a"));
+        pair = impl.buildParameter("{\"id\":2,\"name\":\"b\"}", parameterTypes);
+        assertThat(pair.getRight()[1], is("b"));
+        // the plan hands out its own copy of the types
+        pair.getLeft()[0] = "java.lang.Long";
+        assertThat(impl.buildParameter("{\"id\":3,\"name\":\"c\"}", parameterTypes).getLeft()[0], is("java.lang.Integer"));
+
+        parameterTypes = "{\"name\":\"java.lang.String\",\"ids\":\"java.util.List\"}";
+        pair = impl.buildParameter("{\"ids\":[1,2],\"name\":\"d\"}", parameterTypes);
+        assertThat(pair.getLeft(), is(new String[]{"java.lang.String", "java.util.List"}));
+        assertThat(pair.getRight()[0], is("d"));
+        assertThat(((List<?>) pair.getRight()[1]).size(), is(2));
+    }
+}
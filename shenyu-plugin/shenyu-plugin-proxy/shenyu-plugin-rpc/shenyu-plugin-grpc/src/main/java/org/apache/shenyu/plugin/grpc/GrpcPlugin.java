@@ -140,6 +140,16 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
         return PluginEnum.GRPC.getCode();
     }
 
+    /**
+     * the grpc client waits for the call to complete.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
     private boolean checkMetaData(final MetaData metaData) {
         return Objects.nonNull(metaData)
                 && !StringUtils.isBlank(metaData.getMethodName())
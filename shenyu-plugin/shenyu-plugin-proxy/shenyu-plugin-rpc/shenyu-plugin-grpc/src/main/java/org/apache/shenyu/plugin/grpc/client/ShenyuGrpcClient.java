@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.grpc.client;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
@@ -28,7 +29,10 @@ import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
+import org.apache.shenyu.plugin.grpc.proto.DynamicMessageMarshaller;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
+import org.apache.shenyu.plugin.grpc.proto.ProtoReflectionResolver;
+import org.apache.shenyu.plugin.grpc.proto.ProtobufJsonTranscoder;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcCallRequest;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
 import org.apache.shenyu.plugin.grpc.proto.CompositeStreamObserver;
@@ -38,7 +42,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
@@ -55,6 +62,8 @@ public class ShenyuGrpcClient implements Closeable {
     
     private final ManagedChannel channel;
     
+    private final Map<String, CompletableFuture<MethodDescriptor<DynamicMessage, DynamicMessage>>> protobufMethodDescriptors = new ConcurrentHashMap<>();
+    
     public ShenyuGrpcClient(final ManagedChannel channel) {
         this.channel = channel;
     }
@@ -72,24 +81,30 @@ public class ShenyuGrpcClient implements Closeable {
                                                       final CallOptions callOptions,
                                                       final String requestJsons,
                                                       final MethodDescriptor.MethodType methodType) {
-        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
-        DynamicMessage jsonResponse = JsonMessage.buildJsonMessage();
-        
-        MethodDescriptor<DynamicMessage, DynamicMessage> jsonMarshallerMethodDescriptor = JsonMessage.createJsonMarshallerMethodDescriptor(metaData.getServiceName(),
-                metaData.getMethodName(),
-                methodType,
-                jsonRequestList.get(0),
-                jsonResponse);
+        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = protobufMethodDescriptor(metaData);
+        List<DynamicMessage> requestList;
+        if (Objects.nonNull(methodDescriptor)) {
+            Descriptors.Descriptor requestDescriptor = ((DynamicMessageMarshaller) methodDescriptor.getRequestMarshaller()).getMessageDescriptor();
+            requestList = ProtobufJsonTranscoder.readMessages(requestJsons, requestDescriptor);
+        } else {
+            requestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
+            DynamicMessage jsonResponse = JsonMessage.buildJsonMessage();
+            methodDescriptor = JsonMessage.createJsonMarshallerMethodDescriptor(metaData.getServiceName(),
+                    metaData.getMethodName(),
+                    methodType,
+                    requestList.get(0),
+                    jsonResponse);
+        }
         
         ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
         StreamObserver<DynamicMessage> streamObserver = MessageWriter.newInstance(shenyuGrpcResponse);
         
         ShenyuGrpcCallRequest callParams = new ShenyuGrpcCallRequest();
-        callParams.setMethodDescriptor(jsonMarshallerMethodDescriptor);
+        callParams.setMethodDescriptor(methodDescriptor);
         callParams.setChannel(channel);
         callParams.setCallOptions(callOptions);
         callParams.setResponseObserver(streamObserver);
-        callParams.setRequests(jsonRequestList);
+        callParams.setRequests(requestList);
         
         try {
             this.invoke(callParams).get();
@@ -146,6 +161,25 @@ public class ShenyuGrpcClient implements Closeable {
         }
     }
     
+    /**
+     * The binary method descriptor loaded through server reflection, null while it loads or when the upstream
+     * does not serve reflection, the call then goes to the json service. A failed reflection is forgotten,
+     * so the next call asks again.
+     *
+     * @param metaData metadata
+     * @return the method descriptor or null
+     */
+    private MethodDescriptor<DynamicMessage, DynamicMessage> protobufMethodDescriptor(final MetaData metaData) {
+        String fullMethodName = MethodDescriptor.generateFullMethodName(metaData.getServiceName(), metaData.getMethodName());
+        CompletableFuture<MethodDescriptor<DynamicMessage, DynamicMessage>> future = protobufMethodDescriptors.computeIfAbsent(fullMethodName,
+            key -> ProtoReflectionResolver.resolve(channel, metaData.getServiceName(), metaData.getMethodName()));
+        if (future.isCompletedExceptionally()) {
+            protobufMethodDescriptors.remove(fullMethodName, future);
+            return null;
+        }
+        return future.getNow(null);
+    }
+    
     @Override
     public void close() {
         this.channel.shutdown();
@@ -37,6 +37,15 @@ public class DynamicMessageMarshaller implements Marshaller<DynamicMessage> {
         this.messageDescriptor = messageDescriptor;
     }
 
+    /**
+     * Get the message descriptor.
+     *
+     * @return the message descriptor
+     */
+    public Descriptor getMessageDescriptor() {
+        return messageDescriptor;
+    }
+
     @Override
     public DynamicMessage parse(final InputStream inputStream) {
         try {
@@ -20,6 +20,7 @@ package org.apache.shenyu.plugin.grpc.proto;
 import java.util.HashMap;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
 import org.apache.shenyu.protocol.grpc.message.JsonMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +60,11 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
 
     @Override
     public void onNext(final T value) {
+        if (!GrpcConstants.JSON_DESCRIPTOR_PROTO_NAME.equals(value.getDescriptorForType().getFullName())) {
+            // a binary message of the method output type
+            grpcResponse.getResults().add(ProtobufJsonTranscoder.toMap(value));
+            return;
+        }
         String respData = JsonMessage.getDataFromDynamicMessage((DynamicMessage) value);
         if (StringUtils.isNotBlank(respData)) {
             respData = respData.trim();
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.Channel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.reflection.v1alpha.ServerReflectionGrpc;
+import io.grpc.reflection.v1alpha.ServerReflectionRequest;
+import io.grpc.reflection.v1alpha.ServerReflectionResponse;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the protobuf descriptors of a method from the grpc server reflection service of the upstream.
+ */
+public final class ProtoReflectionResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProtoReflectionResolver.class);
+
+    private static final long REFLECTION_TIMEOUT_MILLIS = 5000;
+
+    private ProtoReflectionResolver() {
+    }
+
+    /**
+     * Resolve the binary method descriptor of a service method.
+     * The future completes with null when the upstream does not serve reflection or does not know the method,
+     * the caller then keeps using the json service. It completes exceptionally when the reflection call itself fails,
+     * so the caller may ask again later.
+     *
+     * @param channel     the upstream channel
+     * @param serviceName the full service name
+     * @param methodName  the method name
+     * @return the method descriptor future
+     */
+    public static CompletableFuture<MethodDescriptor<DynamicMessage, DynamicMessage>> resolve(final Channel channel,
+                                                                                            final String serviceName,
+                                                                                            final String methodName) {
+        DescriptorObserver observer = new DescriptorObserver(serviceName, methodName);
+        try {
+            observer.start(ServerReflectionGrpc.newStub(channel).withDeadlineAfter(REFLECTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (RuntimeException e) {
+            LOG.warn("grpc reflection of {} failed to start: {}", serviceName, e.getMessage());
+            observer.future.completeExceptionally(e);
+        }
+        return observer.future;
+    }
+
+    private static MethodDescriptor<DynamicMessage, DynamicMessage> toMethodDescriptor(final Descriptors.MethodDescriptor method) {
+        MethodDescriptor.MethodType methodType;
+        if (method.isClientStreaming()) {
+            methodType = method.isServerStreaming() ? MethodDescriptor.MethodType.BIDI_STREAMING : MethodDescriptor.MethodType.CLIENT_STREAMING;
+        } else {
+            methodType = method.isServerStreaming() ? MethodDescriptor.MethodType.SERVER_STREAMING : MethodDescriptor.MethodType.UNARY;
+        }
+        return MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                .setType(methodType)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(method.getService().getFullName(), method.getName()))
+                .setRequestMarshaller(new DynamicMessageMarshaller(method.getInputType()))
+                .setResponseMarshaller(new DynamicMessageMarshaller(method.getOutputType()))
+                .build();
+    }
+
+    /**
+     * Asks for the file defining the service, then for every dependency the server did not send along.
+     * grpc delivers the callbacks of one call serially, so the state needs no locking.
+     */
+    private static final class DescriptorObserver implements StreamObserver<ServerReflectionResponse> {
+
+        private final CompletableFuture<MethodDescriptor<DynamicMessage, DynamicMessage>> future = new CompletableFuture<>();
+
+        private final String serviceName;
+
+        private final String methodName;
+
+        private final Map<String, FileDescriptorProto> protos = new HashMap<>();
+
+        private final Set<String> requested = new HashSet<>();
+
+        private StreamObserver<ServerReflectionRequest> requests;
+
+        private int pending;
+
+        DescriptorObserver(final String serviceName, final String methodName) {
+            this.serviceName = serviceName;
+            this.methodName = methodName;
+        }
+
+        void start(final ServerReflectionGrpc.ServerReflectionStub stub) {
+            requests = stub.serverReflectionInfo(this);
+            send(ServerReflectionRequest.newBuilder().setFileContainingSymbol(serviceName).build());
+        }
+
+        @Override
+        public void onNext(final ServerReflectionResponse response) {
+            pending--;
+            if (response.hasErrorResponse()) {
+                LOG.warn("grpc reflection of {} answered: {}", serviceName, response.getErrorResponse().getErrorMessage());
+                finish(null);
+                return;
+            }
+            try {
+                for (ByteString bytes : response.getFileDescriptorResponse().getFileDescriptorProtoList()) {
+                    FileDescriptorProto proto = FileDescriptorProto.parseFrom(bytes);
+                    protos.putIfAbsent(proto.getName(), proto);
+                }
+            } catch (InvalidProtocolBufferException e) {
+                LOG.warn("grpc reflection of {} returned an invalid descriptor", serviceName, e);
+                finish(null);
+                return;
+            }
+            for (FileDescriptorProto proto : new ArrayList<>(protos.values())) {
+                for (String dependency : proto.getDependencyList()) {
+                    if (!protos.containsKey(dependency) && requested.add(dependency)) {
+                        send(ServerReflectionRequest.newBuilder().setFileByFilename(dependency).build());
+                    }
+                }
+            }
+            if (pending == 0) {
+                finish(build());
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            LOG.warn("grpc reflection of {} failed: {}", serviceName, t.getMessage());
+            if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+                // the upstream does not serve reflection at all
+                future.complete(null);
+                return;
+            }
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            future.complete(null);
+        }
+
+        private void send(final ServerReflectionRequest request) {
+            pending++;
+            requests.onNext(request);
+        }
+
+        private void finish(final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor) {
+            future.complete(methodDescriptor);
+            requests.onCompleted();
+        }
+
+        private MethodDescriptor<DynamicMessage, DynamicMessage> build() {
+            Map<String, Descriptors.FileDescriptor> files = new HashMap<>();
+            try {
+                for (String name : protos.keySet()) {
+                    Descriptors.FileDescriptor file = buildFile(name, files);
+                    for (Descriptors.ServiceDescriptor service : file.getServices()) {
+                        if (service.getFullName().equals(serviceName)) {
+                            return findMethod(service);
+                        }
+                    }
+                }
+            } catch (Descriptors.DescriptorValidationException e) {
+                LOG.warn("grpc reflection of {} returned an invalid descriptor", serviceName, e);
+            }
+            return null;
+        }
+
+        private Descriptors.FileDescriptor buildFile(final String name, final Map<String, Descriptors.FileDescriptor> files)
+                throws Descriptors.DescriptorValidationException {
+            Descriptors.FileDescriptor file = files.get(name);
+            if (Objects.nonNull(file)) {
+                return file;
+            }
+            FileDescriptorProto proto = protos.get(name);
+            Descriptors.FileDescriptor[] dependencies = new Descriptors.FileDescriptor[proto.getDependencyCount()];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = buildFile(proto.getDependency(i), files);
+            }
+            file = Descriptors.FileDescriptor.buildFrom(proto, dependencies);
+            files.put(name, file);
+            return file;
+        }
+
+        private MethodDescriptor<DynamicMessage, DynamicMessage> findMethod(final Descriptors.ServiceDescriptor service) {
+            Descriptors.MethodDescriptor method = service.findMethodByName(methodName);
+            if (Objects.isNull(method)) {
+                // the metadata carries the java method name, which is the lower camel form of the proto name
+                method = service.getMethods().stream().filter(m -> m.getName().equalsIgnoreCase(methodName)).findFirst().orElse(null);
+            }
+            return Objects.isNull(method) ? null : toMethodDescriptor(method);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.util.JsonFormat;
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Transcodes between the json parameters of the gateway and binary protobuf messages described by a {@link Descriptor}.
+ * Both directions go through {@link JsonFormat} with the options of the json service of shenyu-client-grpc,
+ * so well known types follow the proto3 json mapping and the binary path answers like the json path.
+ */
+public final class ProtobufJsonTranscoder {
+
+    private static final JsonFormat.Parser PARSER = JsonFormat.parser().ignoringUnknownFields();
+
+    private static final JsonFormat.Printer PRINTER = JsonFormat.printer().includingDefaultValueFields().preservingProtoFieldNames();
+
+    private static final Gson GSON = new GsonBuilder().setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE).create();
+
+    private static final Type MAP_TYPE = new TypeToken<LinkedHashMap<String, Object>>() {
+    }.getType();
+
+    private ProtobufJsonTranscoder() {
+    }
+
+    /**
+     * Read the request messages of a call, the body is of the form {@code {"data":[{...}, ...]}}.
+     *
+     * @param json       the json parameters
+     * @param descriptor the input type of the method
+     * @return the request messages
+     */
+    public static List<DynamicMessage> readMessages(final String json, final Descriptor descriptor) {
+        try {
+            JsonObject params = JsonParser.parseString(json).getAsJsonObject();
+            JsonArray data = params.getAsJsonArray(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+            List<DynamicMessage> messages = new ArrayList<>();
+            if (Objects.isNull(data)) {
+                return messages;
+            }
+            for (JsonElement element : data) {
+                DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+                if (!element.isJsonNull()) {
+                    PARSER.merge(element.toString(), builder);
+                }
+                messages.add(builder.build());
+            }
+            return messages;
+        } catch (InvalidProtocolBufferException | JsonParseException | IllegalStateException | ClassCastException e) {
+            throw new ShenyuGrpcException("Unable to transcode the parameters to " + descriptor.getFullName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Convert a message to a map in the proto3 json mapping.
+     *
+     * @param message the message
+     * @return the map
+     */
+    public static Map<String, Object> toMap(final MessageOrBuilder message) {
+        try {
+            return GSON.fromJson(PRINTER.print(message), MAP_TYPE);
+        } catch (InvalidProtocolBufferException e) {
+            throw new ShenyuGrpcException("Unable to transcode the response of " + message.getDescriptorForType().getFullName() + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.TimestampProto;
+import com.google.protobuf.WrappersProto;
+import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The Test Case For {@link ProtobufJsonTranscoder}.
+ */
+public class ProtobufJsonTranscoderTest {
+
+    private Descriptors.Descriptor requestDescriptor;
+
+    @BeforeEach
+    public void setUp() throws Descriptors.DescriptorValidationException {
+        DescriptorProto labelsEntry = DescriptorProto.newBuilder()
+                .setName("LabelsEntry")
+                .addField(field("key", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(field("value", 2, FieldDescriptorProto.Type.TYPE_INT32))
+                .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+                .build();
+        DescriptorProto inner = DescriptorProto.newBuilder()
+                .setName("Inner")
+                .addField(field("name", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                .build();
+        DescriptorProto request = DescriptorProto.newBuilder()
+                .setName("EchoRequest")
+                .addField(field("message", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(field("big_id", 2, FieldDescriptorProto.Type.TYPE_INT64))
+                .addField(field("status", 3, FieldDescriptorProto.Type.TYPE_ENUM).setTypeName(".test.Status"))
+                .addField(field("tags", 4, FieldDescriptorProto.Type.TYPE_STRING).setLabel(FieldDescriptorProto.Label.LABEL_REPEATED))
+                .addField(field("labels", 5, FieldDescriptorProto.Type.TYPE_MESSAGE)
+                        .setTypeName(".test.EchoRequest.LabelsEntry").setLabel(FieldDescriptorProto.Label.LABEL_REPEATED))
+                .addField(field("inner", 6, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".test.Inner"))
+                .addField(field("payload", 7, FieldDescriptorProto.Type.TYPE_BYTES))
+                .addField(field("created_at", 8, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".google.protobuf.Timestamp"))
+                .addField(field("count", 9, FieldDescriptorProto.Type.TYPE_MESSAGE).setTypeName(".google.protobuf.Int32Value"))
+                .addNestedType(labelsEntry)
+                .build();
+        EnumDescriptorProto status = EnumDescriptorProto.newBuilder()
+                .setName("Status")
+                .addValue(EnumValueDescriptorProto.newBuilder().setName("UNKNOWN").setNumber(0))
+                .addValue(EnumValueDescriptorProto.newBuilder().setName("OK").setNumber(1))
+                .build();
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("test.proto")
+                .setPackage("test")
+                .setSyntax("proto3")
+                .addDependency(TimestampProto.getDescriptor().getName())
+                .addDependency(WrappersProto.getDescriptor().getName())
+                .addMessageType(request)
+                .addMessageType(inner)
+                .addEnumType(status)
+                .build();
+        Descriptors.FileDescriptor[] dependencies = {TimestampProto.getDescriptor(), WrappersProto.getDescriptor()};
+        requestDescriptor = Descriptors.FileDescriptor.buildFrom(file, dependencies).findMessageTypeByName("EchoRequest");
+    }
+
+    @Test
+    public void testReadMessages() {
+        String json = "{\"data\":[{\"message\":\"hello\",\"bigId\":\"9007199254740993\",\"status\":\"OK\",\"tags\":[\"a\",\"b\"],"
+                + "\"labels\":{\"x\":1},\"inner\":{\"name\":\"n\"},\"payload\":\"AQI=\",\"unknown\":{\"k\":[1]}},{\"big_id\":2,\"status\":1}]}";
+        List<DynamicMessage> messages = ProtobufJsonTranscoder.readMessages(json, requestDescriptor);
+        assertEquals(2, messages.size());
+        DynamicMessage first = messages.get(0);
+        assertEquals("hello", first.getField(requestDescriptor.findFieldByName("message")));
+        assertEquals(9007199254740993L, first.getField(requestDescriptor.findFieldByName("big_id")));
+        assertEquals(2, first.getRepeatedFieldCount(requestDescriptor.findFieldByName("tags")));
+        assertEquals(1, first.getRepeatedFieldCount(requestDescriptor.findFieldByName("labels")));
+        assertEquals(2L, messages.get(1).getField(requestDescriptor.findFieldByName("big_id")));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        String json = "{\"data\":[{\"message\":\"hello\",\"bigId\":\"42\",\"status\":\"OK\",\"tags\":[\"a\"],"
+                + "\"labels\":{\"x\":1},\"inner\":{\"name\":\"n\"},\"payload\":\"AQI=\"}]}";
+        DynamicMessage message = ProtobufJsonTranscoder.readMessages(json, requestDescriptor).get(0);
+        DynamicMessage parsed = new DynamicMessageMarshaller(requestDescriptor).parse(message.toByteString().newInput());
+        Map<String, Object> map = ProtobufJsonTranscoder.toMap(parsed);
+        assertEquals("hello", map.get("message"));
+        assertEquals("42", map.get("big_id"));
+        assertEquals("OK", map.get("status"));
+        assertEquals(List.of("a"), map.get("tags"));
+        assertEquals(Map.of("x", 1L), map.get("labels"));
+        assertEquals(Map.of("name", "n"), map.get("inner"));
+        assertEquals("AQI=", map.get("payload"));
+    }
+
+    @Test
+    public void testDefaultsAreIncluded() {
+        DynamicMessage message = ProtobufJsonTranscoder.readMessages("{\"data\":[{\"message\":\"\",\"bigId\":null}]}", requestDescriptor).get(0);
+        Map<String, Object> map = ProtobufJsonTranscoder.toMap(new DynamicMessageMarshaller(requestDescriptor).parse(message.toByteString().newInput()));
+        assertEquals("", map.get("message"));
+        assertEquals("0", map.get("big_id"));
+        assertEquals("UNKNOWN", map.get("status"));
+        assertEquals(List.of(), map.get("tags"));
+    }
+
+    @Test
+    public void testWellKnownTypes() {
+        String json = "{\"data\":[{\"createdAt\":\"2024-01-02T03:04:05Z\",\"count\":7}]}";
+        DynamicMessage message = ProtobufJsonTranscoder.readMessages(json, requestDescriptor).get(0);
+        Map<String, Object> map = ProtobufJsonTranscoder.toMap(new DynamicMessageMarshaller(requestDescriptor).parse(message.toByteString().newInput()));
+        assertEquals("2024-01-02T03:04:05Z", map.get("created_at"));
+        assertEquals(7L, map.get("count"));
+    }
+
+    @Test
+    public void testReadMessagesThrowException() {
+        assertThrows(ShenyuGrpcException.class, () -> ProtobufJsonTranscoder.readMessages("{\"data\":[{\"message\":}]}", requestDescriptor));
+        assertThrows(ShenyuGrpcException.class, () -> ProtobufJsonTranscoder.readMessages("{\"data\":[{\"bigId\":\"x\"}]}", requestDescriptor));
+    }
+
+    private static FieldDescriptorProto.Builder field(final String name, final int number, final FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder().setName(name).setNumber(number).setType(type).setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+    }
+}
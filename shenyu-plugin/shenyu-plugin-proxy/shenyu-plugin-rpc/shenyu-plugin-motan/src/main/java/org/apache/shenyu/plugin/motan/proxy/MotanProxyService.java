@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.motan.proxy;
 
 import com.weibo.api.motan.config.RefererConfig;
 import com.weibo.api.motan.proxy.CommonClient;
+import com.weibo.api.motan.rpc.Future;
 import com.weibo.api.motan.rpc.Request;
 import com.weibo.api.motan.rpc.ResponseFuture;
 import com.weibo.api.motan.rpc.RpcContext;
@@ -47,12 +48,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
@@ -110,18 +112,30 @@ public class MotanProxyService {
         }
         //CHECKSTYLE:ON IllegalCatch
         initThreadPool();
-        CompletableFuture<Object> future = CompletableFuture.supplyAsync(responseFuture::getValue, threadPool);
-        return Mono.fromFuture(future.thenApply(ret -> {
-            Object result = ret;
-            if (Objects.isNull(result)) {
-                result = Constants.MOTAN_RPC_RESULT_EMPTY;
+        // the listener fires on the motan io thread, the result is handed to the pool without a thread waiting on the rpc
+        return Mono.create(sink -> responseFuture.addListener(future -> {
+            try {
+                threadPool.execute(() -> complete(sink, future, exchange));
+            } catch (RejectedExecutionException e) {
+                complete(sink, future, exchange);
             }
-            exchange.getAttributes().put(Constants.RPC_RESULT, result);
-            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-            return result;
         })).onErrorMap(ShenyuException::new);
     }
 
+    private void complete(final MonoSink<Object> sink, final Future future, final ServerWebExchange exchange) {
+        if (!future.isSuccess()) {
+            sink.error(Objects.nonNull(future.getException()) ? future.getException() : new ShenyuException("motan rpc invoke failed"));
+            return;
+        }
+        Object result = future.getValue();
+        if (Objects.isNull(result)) {
+            result = Constants.MOTAN_RPC_RESULT_EMPTY;
+        }
+        exchange.getAttributes().put(Constants.RPC_RESULT, result);
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+        sink.success(result);
+    }
+
     /**
      * get motan reference config.
      *
@@ -19,8 +19,10 @@ package org.apache.shenyu.plugin.motan.proxy;
 
 import com.weibo.api.motan.config.RefererConfig;
 import com.weibo.api.motan.proxy.CommonClient;
+import com.weibo.api.motan.rpc.FutureListener;
 import com.weibo.api.motan.rpc.Request;
 import com.weibo.api.motan.rpc.ResponseFuture;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.dto.convert.plugin.MotanRegisterConfig;
@@ -34,9 +36,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -95,4 +101,33 @@ public class MotanProxyServiceTest {
         motanProxyService.genericInvoker("", metaData, exchange, selectorData);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenericInvokerCompletesFromListener() {
+        SelectorData selectorData = mock(SelectorData.class);
+        RefererConfig<CommonClient> reference = mock(RefererConfig.class);
+        CommonClient commonClient = mock(CommonClient.class);
+        when(reference.getRef()).thenReturn(commonClient);
+        when(reference.getServiceInterface()).thenReturn("org.apache.shenyu.test.motan.api.service.MotanTestService");
+        MotanProxyService motanProxyService = spy(new MotanProxyService());
+        doReturn(reference).when(motanProxyService).getConsumerConfig(selectorData, metaData);
+
+        ResponseFuture responseFuture = mock(ResponseFuture.class);
+        when(responseFuture.isSuccess()).thenReturn(true);
+        when(responseFuture.getValue()).thenReturn("success");
+        doAnswer(invocation -> {
+            ((FutureListener) invocation.getArgument(0)).operationComplete(responseFuture);
+            return null;
+        }).when(responseFuture).addListener(any(FutureListener.class));
+        try {
+            when(commonClient.asyncCall(any(Request.class), eq(Object.class))).thenReturn(responseFuture);
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+
+        StepVerifier.create(motanProxyService.genericInvoker("", metaData, exchange, selectorData))
+                .expectNext("success")
+                .verifyComplete();
+        assertEquals("success", exchange.getAttributes().get(Constants.RPC_RESULT));
+    }
 }
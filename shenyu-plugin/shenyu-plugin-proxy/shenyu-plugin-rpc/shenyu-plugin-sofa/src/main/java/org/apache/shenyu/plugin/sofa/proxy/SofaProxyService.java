@@ -99,7 +99,13 @@ public class SofaProxyService {
             }
         });
         GenericService genericService = reference.refer();
-        genericService.$genericInvoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
+        try {
+            // callback invoke type, this returns at once and the callback completes the future on the sofa async runtime
+            genericService.$genericInvoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
+        } catch (SofaRpcException e) {
+            RpcInvokeContext.getContext().setResponseCallback(null);
+            future.completeExceptionally(e);
+        }
         return Mono.fromFuture(future.thenApply(ret -> {
             Object result = ret;
             if (Objects.isNull(result)) {
@@ -21,18 +21,12 @@ import io.github.kawamuray.wasmtime.Extern;
 import io.github.kawamuray.wasmtime.Func;
 import io.github.kawamuray.wasmtime.Linker;
 import io.github.kawamuray.wasmtime.Memory;
-import io.github.kawamuray.wasmtime.Module;
 import io.github.kawamuray.wasmtime.Store;
 import io.github.kawamuray.wasmtime.wasi.WasiCtx;
 import io.github.kawamuray.wasmtime.wasi.WasiCtxBuilder;
 import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmInitException;
 
-import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
 import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -62,19 +56,23 @@ public class WasmLoader implements AutoCloseable {
      * @see io.github.kawamuray.wasmtime.WasmFunctions#consumer
      * @see io.github.kawamuray.wasmtime.WasmFunctions#func
      */
-    private final Store<Void> store = Store.withoutData(wasiCtx);
+    private final Store<Void> store;
     
-    private final Linker linker = new Linker(store.engine());
+    private final Linker linker;
     
     /**
      * wasmCallJavaFuncName -> wasmCallJavaFunc.
      */
     private final Map<String, Func> wasmCallJavaFuncMap = new HashMap<>();
     
-    private final Module module;
+    private final WasmModule module;
+    
+    private final boolean ownsModule;
     
     private final Memory memRef;
     
+    private Object attachment;
+    
     public WasmLoader() {
         this(null, null);
     }
@@ -85,45 +83,53 @@ public class WasmLoader implements AutoCloseable {
      * @see io.github.kawamuray.wasmtime.WasmFunctions#wrap
      */
     public WasmLoader(final Class<?> wasmClass, final Function<Store<Void>, Map<String, Func>> initializer) {
-        final Class<?> clazz = Objects.nonNull(wasmClass) ? wasmClass : this.getClass();
-        this.wasmName = clazz.getName() + ".wasm";
-        try {
-            // locate `.wasm` lib.
-            URL resource = clazz.getClassLoader().getResource(wasmName);
-            if (Objects.isNull(resource)) {
-                throw new ShenyuWasmInitException("Can't find wasm file: " + wasmName);
-            }
-            // Reads the WebAssembly module as bytes.
-            byte[] wasmBytes = Files.readAllBytes(Paths.get(resource.toURI()));
-            // Instantiates the WebAssembly module.
-            if (Objects.nonNull(initializer)) {
-                Map<String, Func> wasmFunctionMap = initializer.apply(store);
-                if (Objects.nonNull(wasmFunctionMap) && !wasmFunctionMap.isEmpty()) {
-                    wasmCallJavaFuncMap.putAll(wasmFunctionMap);
-                }
-            }
-            Map<String, Func> wasmFunctionMap = initWasmCallJavaFunc(store);
+        this(null, wasmClass, initializer);
+    }
+    
+    /**
+     * This constructor is designed for loaders sharing one compiled module, such as the instances of {@link WasmLoaderPool}.
+     * The loader only creates its own store and instance, its lifecycle and the module's are managed by their owner.
+     *
+     * @param module      the compiled module
+     * @param initializer the wasmCallJavaFunc initializer
+     */
+    public WasmLoader(final WasmModule module, final Function<Store<Void>, Map<String, Func>> initializer) {
+        this(Objects.requireNonNull(module), null, initializer);
+    }
+    
+    private WasmLoader(final WasmModule module, final Class<?> wasmClass, final Function<Store<Void>, Map<String, Func>> initializer) {
+        this.ownsModule = Objects.isNull(module);
+        this.module = ownsModule ? new WasmModule(Objects.nonNull(wasmClass) ? wasmClass : this.getClass()) : module;
+        this.wasmName = this.module.getWasmName();
+        this.store = Store.withoutData(this.module.getEngine(), wasiCtx);
+        this.linker = new Linker(this.module.getEngine());
+        // Instantiates the WebAssembly module.
+        if (Objects.nonNull(initializer)) {
+            Map<String, Func> wasmFunctionMap = initializer.apply(store);
             if (Objects.nonNull(wasmFunctionMap) && !wasmFunctionMap.isEmpty()) {
                 wasmCallJavaFuncMap.putAll(wasmFunctionMap);
             }
-            this.module = Module.fromBinary(store.engine(), wasmBytes);
-            WasiCtx.addToLinker(linker);
-            // maybe need define many functions
-            if (!wasmCallJavaFuncMap.isEmpty()) {
-                wasmCallJavaFuncMap.forEach((funcName, wasmCallJavaFunc) ->
-                        linker.define(store, IMPORT_WASM_MODULE_NAME, funcName, Extern.fromFunc(wasmCallJavaFunc)));
-            }
-            linker.module(store, "", module);
-            // Let the `wasmCallJavaFunc` function to refer this as a placeholder of Memory because
-            // we have to add the function as import before loading the module exporting Memory.
-            Optional<Extern> extern = this.getWasmExtern(MEMORY_METHOD_NAME);
-            if (!extern.isPresent()) {
-                throw new ShenyuWasmInitException(MEMORY_METHOD_NAME + " function not find in wasm file: " + wasmName);
-            }
-            this.memRef = extern.get().memory();
+        }
+        Map<String, Func> wasmFunctionMap = initWasmCallJavaFunc(store);
+        if (Objects.nonNull(wasmFunctionMap) && !wasmFunctionMap.isEmpty()) {
+            wasmCallJavaFuncMap.putAll(wasmFunctionMap);
+        }
+        WasiCtx.addToLinker(linker);
+        // maybe need define many functions
+        if (!wasmCallJavaFuncMap.isEmpty()) {
+            wasmCallJavaFuncMap.forEach((funcName, wasmCallJavaFunc) ->
+                    linker.define(store, IMPORT_WASM_MODULE_NAME, funcName, Extern.fromFunc(wasmCallJavaFunc)));
+        }
+        linker.module(store, "", this.module.getModule());
+        // Let the `wasmCallJavaFunc` function to refer this as a placeholder of Memory because
+        // we have to add the function as import before loading the module exporting Memory.
+        Optional<Extern> extern = this.getWasmExtern(MEMORY_METHOD_NAME);
+        if (!extern.isPresent()) {
+            throw new ShenyuWasmInitException(MEMORY_METHOD_NAME + " function not find in wasm file: " + wasmName);
+        }
+        this.memRef = extern.get().memory();
+        if (ownsModule) {
             Runtime.getRuntime().addShutdownHook(new Thread(this::close));
-        } catch (URISyntaxException | IOException e) {
-            throw new ShenyuWasmInitException(e);
         }
     }
     
@@ -168,6 +174,24 @@ public class WasmLoader implements AutoCloseable {
         return memRef.buffer(store);
     }
     
+    /**
+     * Attach the argument of the call running on this instance, so wasmCallJavaFunc can reach it.
+     *
+     * @param attachment the argument, or null once the call returns
+     */
+    public void attach(final Object attachment) {
+        this.attachment = attachment;
+    }
+    
+    /**
+     * get the argument of the call running on this instance.
+     *
+     * @return the attached argument, or null
+     */
+    public Object attachment() {
+        return attachment;
+    }
+    
     @Override
     public void close() {
         if (this.closed.compareAndSet(false, true)) {
@@ -177,7 +201,9 @@ public class WasmLoader implements AutoCloseable {
             if (!wasmCallJavaFuncMap.isEmpty()) {
                 this.wasmCallJavaFuncMap.forEach((funcName, wasmCallJavaFunc) -> wasmCallJavaFunc.close());
             }
-            this.module.close();
+            if (ownsModule) {
+                this.module.close();
+            }
         }
     }
 }
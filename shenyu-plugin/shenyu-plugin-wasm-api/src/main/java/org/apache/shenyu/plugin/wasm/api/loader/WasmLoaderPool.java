@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.wasm.api.loader;
+
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link WasmLoader} instances of one wasm module.
+ * A wasm instance can only run one call at a time, so every call borrows its own instance,
+ * with its own store and linear memory, and hands it back when the call returns.
+ * The factory is expected to instantiate a module compiled once, see {@link WasmModule}.
+ * Instances that trapped or served {@code maxUses} calls are closed and replaced off the calling thread.
+ */
+public class WasmLoaderPool implements AutoCloseable {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(WasmLoaderPool.class);
+    
+    /**
+     * replaces the retired instances of every pool, so a call never pays for the instantiation of its successor.
+     */
+    private static final Executor REFILL_EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), ShenyuThreadFactory.create("shenyu-wasm-pool-refill", true));
+    
+    /**
+     * the default number of pre-instantiated instances, one per event loop thread of reactor netty.
+     */
+    public static final int DEFAULT_CORE_SIZE = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+    
+    /**
+     * the default number of pooled instances.
+     */
+    public static final int DEFAULT_MAX_SIZE = DEFAULT_CORE_SIZE * 2;
+    
+    /**
+     * the default number of calls an instance serves before it is recycled.
+     */
+    public static final long DEFAULT_MAX_USES = 100_000L;
+    
+    private final Supplier<WasmLoader> factory;
+    
+    private final Executor refillExecutor;
+    
+    private final int maxSize;
+    
+    private final long maxUses;
+    
+    private final String wasmName;
+    
+    private final Deque<PooledLoader> idle = new ConcurrentLinkedDeque<>();
+    
+    private final AtomicInteger size = new AtomicInteger();
+    
+    private final ThreadLocal<WasmLoader> current = new ThreadLocal<>();
+    
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    
+    public WasmLoaderPool(final Supplier<WasmLoader> factory, final int coreSize, final int maxSize, final long maxUses) {
+        this(factory, coreSize, maxSize, maxUses, REFILL_EXECUTOR);
+    }
+    
+    /**
+     * Creates a pool whose retired instances are replaced on the given executor.
+     *
+     * @param factory        instantiates the module
+     * @param coreSize       the number of pre-instantiated instances
+     * @param maxSize        the number of instances the pool grows to under load
+     * @param maxUses        the number of calls an instance serves before it is recycled
+     * @param refillExecutor runs the replacement of retired instances
+     */
+    public WasmLoaderPool(final Supplier<WasmLoader> factory, final int coreSize, final int maxSize, final long maxUses, final Executor refillExecutor) {
+        if (coreSize < 1 || maxSize < coreSize) {
+            throw new IllegalArgumentException("wasm pool needs 1 <= coreSize <= maxSize, got " + coreSize + " and " + maxSize);
+        }
+        this.factory = factory;
+        this.refillExecutor = refillExecutor;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        for (int i = 0; i < coreSize; i++) {
+            size.incrementAndGet();
+            idle.offerFirst(new PooledLoader(factory.get(), true));
+        }
+        this.wasmName = idle.getFirst().loader.getWasmName();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+    
+    /**
+     * Run a call on an instance of its own.
+     *
+     * @param call the call
+     * @param <T>  the result type
+     * @return the result of the call
+     */
+    public <T> T execute(final Function<WasmLoader, T> call) {
+        if (closed.get()) {
+            throw new ShenyuWasmException(wasmName + " pool is closed");
+        }
+        PooledLoader pooled = borrow();
+        WasmLoader previous = current.get();
+        current.set(pooled.loader);
+        boolean trapped = true;
+        try {
+            T result = call.apply(pooled.loader);
+            trapped = false;
+            return result;
+        } finally {
+            if (Objects.isNull(previous)) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+            release(pooled, trapped);
+        }
+    }
+    
+    /**
+     * The instance running a call on the current thread, use this in wasmCallJavaFunc.
+     *
+     * @return the instance
+     */
+    public WasmLoader current() {
+        WasmLoader loader = current.get();
+        if (Objects.isNull(loader)) {
+            throw new ShenyuWasmException("no call of " + wasmName + " is running on this thread");
+        }
+        return loader;
+    }
+    
+    /**
+     * get the wasm file name.
+     *
+     * @return wasm file name
+     */
+    public String getWasmName() {
+        return wasmName;
+    }
+    
+    /**
+     * get the number of instances, idle or in use, owned by the pool.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return size.get();
+    }
+    
+    private PooledLoader borrow() {
+        PooledLoader pooled = idle.pollFirst();
+        if (Objects.nonNull(pooled)) {
+            return pooled;
+        }
+        // grow lazily up to maxSize, beyond it a throwaway instance serves the call
+        boolean grow = size.incrementAndGet() <= maxSize;
+        if (!grow) {
+            size.decrementAndGet();
+        }
+        try {
+            return new PooledLoader(factory.get(), grow);
+        } catch (RuntimeException e) {
+            if (grow) {
+                size.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+    
+    private void release(final PooledLoader pooled, final boolean trapped) {
+        if (!pooled.pooled) {
+            pooled.loader.close();
+            return;
+        }
+        pooled.loader.attach(null);
+        if (closed.get()) {
+            size.decrementAndGet();
+            pooled.loader.close();
+            return;
+        }
+        // a trap may leave the instance memory in any state, so it is not reused
+        if (trapped || ++pooled.uses >= maxUses) {
+            pooled.loader.close();
+            refillExecutor.execute(this::refill);
+            return;
+        }
+        // most recently used first, its memory is still warm
+        idle.offerFirst(pooled);
+        if (closed.get()) {
+            drain();
+        }
+    }
+    
+    private void refill() {
+        // the retired instance still counts towards the size until its replacement joins the pool
+        if (closed.get()) {
+            size.decrementAndGet();
+            return;
+        }
+        try {
+            idle.offerLast(new PooledLoader(factory.get(), true));
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            LOG.error("failed to replace a retired instance of {}", wasmName, e);
+            return;
+        }
+        if (closed.get()) {
+            drain();
+        }
+    }
+    
+    private void drain() {
+        PooledLoader pooled = idle.pollFirst();
+        while (Objects.nonNull(pooled)) {
+            size.decrementAndGet();
+            pooled.loader.close();
+            pooled = idle.pollFirst();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            drain();
+        }
+    }
+    
+    private static final class PooledLoader {
+        
+        private final WasmLoader loader;
+        
+        private final boolean pooled;
+        
+        private long uses;
+        
+        private PooledLoader(final WasmLoader loader, final boolean pooled) {
+            this.loader = loader;
+            this.pooled = pooled;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.wasm.api.loader;
+
+import io.github.kawamuray.wasmtime.Engine;
+import io.github.kawamuray.wasmtime.Module;
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmInitException;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A wasm module compiled once, every {@link WasmLoader} created from it only adds its own store and instance.
+ */
+public class WasmModule implements AutoCloseable {
+    
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    
+    private final String wasmName;
+    
+    private final Engine engine;
+    
+    private final Module module;
+    
+    /**
+     * Compile the wasm file named after the class.
+     *
+     * @param wasmClass the class the wasm file is named after
+     */
+    public WasmModule(final Class<?> wasmClass) {
+        this.wasmName = wasmClass.getName() + ".wasm";
+        try {
+            // locate `.wasm` lib.
+            URL resource = wasmClass.getClassLoader().getResource(wasmName);
+            if (Objects.isNull(resource)) {
+                throw new ShenyuWasmInitException("Can't find wasm file: " + wasmName);
+            }
+            // Reads the WebAssembly module as bytes.
+            byte[] wasmBytes = Files.readAllBytes(Paths.get(resource.toURI()));
+            this.engine = new Engine();
+            this.module = Module.fromBinary(engine, wasmBytes);
+        } catch (URISyntaxException | IOException e) {
+            throw new ShenyuWasmInitException(e);
+        }
+    }
+    
+    /**
+     * get the wasm file name.
+     *
+     * @return wasm file name
+     */
+    public String getWasmName() {
+        return wasmName;
+    }
+    
+    /**
+     * the engine every store instantiating this module must be created with.
+     *
+     * @return the Engine
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+    
+    /**
+     * get the compiled module.
+     *
+     * @return the Module
+     */
+    public Module getModule() {
+        return module;
+    }
+    
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            this.module.close();
+            this.engine.close();
+        }
+    }
+}
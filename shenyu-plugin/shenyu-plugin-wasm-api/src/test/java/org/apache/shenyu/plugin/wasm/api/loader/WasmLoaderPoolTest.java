@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.wasm.api.loader;
+
+import org.apache.shenyu.plugin.wasm.api.exception.ShenyuWasmException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Test Case For {@link WasmLoaderPool}.
+ */
+public class WasmLoaderPoolTest {
+    
+    private final List<WasmLoader> created = new ArrayList<>();
+    
+    private final List<Runnable> refills = new ArrayList<>();
+    
+    private WasmLoaderPool pool;
+    
+    @BeforeEach
+    public void setUp() {
+        pool = new WasmLoaderPool(this::newLoader, 1, 2, 3, refills::add);
+    }
+    
+    @Test
+    public void testPreInstantiate() {
+        assertEquals(1, created.size());
+        assertEquals(1, pool.size());
+        assertEquals("test.wasm", pool.getWasmName());
+    }
+    
+    @Test
+    public void testReuseIdleInstance() {
+        WasmLoader first = pool.execute(loader -> loader);
+        WasmLoader second = pool.execute(loader -> loader);
+        assertSame(first, second);
+        assertEquals(1, created.size());
+    }
+    
+    @Test
+    public void testConcurrentCallsGetTheirOwnInstance() {
+        pool.execute(outer -> {
+            assertSame(outer, pool.current());
+            WasmLoader inner = pool.execute(loader -> {
+                assertSame(loader, pool.current());
+                return loader;
+            });
+            assertNotSame(outer, inner);
+            // the outer call sees its own instance again
+            assertSame(outer, pool.current());
+            return null;
+        });
+        assertEquals(2, pool.size());
+        assertThrows(ShenyuWasmException.class, pool::current);
+    }
+    
+    @Test
+    public void testGrowBeyondMaxSize() {
+        pool.execute(first -> pool.execute(second -> pool.execute(third -> {
+            verify(third, never()).close();
+            return null;
+        })));
+        // the third instance exceeded the max size and is dropped after its call
+        assertEquals(3, created.size());
+        assertEquals(2, pool.size());
+        verify(created.get(2)).close();
+    }
+    
+    @Test
+    public void testTrappedInstanceIsClosed() {
+        assertThrows(IllegalStateException.class, () -> pool.execute(loader -> {
+            throw new IllegalStateException("trap");
+        }));
+        verify(created.get(0)).close();
+        // the replacement is instantiated on the refill executor, not by the failed call
+        assertEquals(1, created.size());
+        assertEquals(1, pool.size());
+        runRefills();
+        assertEquals(2, created.size());
+        assertSame(created.get(1), pool.execute(loader -> loader));
+        assertEquals(2, created.size());
+    }
+    
+    @Test
+    public void testRecycleAfterMaxUses() {
+        for (int i = 0; i < 3; i++) {
+            pool.execute(loader -> loader);
+        }
+        verify(created.get(0)).close();
+        assertEquals(1, created.size());
+        runRefills();
+        WasmLoader replacement = pool.execute(loader -> loader);
+        assertSame(created.get(1), replacement);
+        assertEquals(1, pool.size());
+    }
+    
+    @Test
+    public void testRefillAfterClose() {
+        assertThrows(IllegalStateException.class, () -> pool.execute(loader -> {
+            throw new IllegalStateException("trap");
+        }));
+        pool.close();
+        runRefills();
+        assertEquals(1, created.size());
+        assertEquals(0, pool.size());
+    }
+    
+    @Test
+    public void testAttachmentIsClearedAfterCall() {
+        WasmLoader loader = pool.execute(borrowed -> {
+            borrowed.attach("argument");
+            return borrowed;
+        });
+        verify(loader).attach(null);
+    }
+    
+    @Test
+    public void testClose() {
+        pool.close();
+        verify(created.get(0)).close();
+        assertEquals(0, pool.size());
+        assertThrows(ShenyuWasmException.class, () -> pool.execute(loader -> loader));
+    }
+    
+    private void runRefills() {
+        List<Runnable> pending = new ArrayList<>(refills);
+        refills.clear();
+        pending.forEach(Runnable::run);
+    }
+    
+    private WasmLoader newLoader() {
+        WasmLoader loader = mock(WasmLoader.class);
+        when(loader.getWasmName()).thenReturn("test.wasm");
+        created.add(loader);
+        return loader;
+    }
+}
@@ -30,6 +30,8 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.wasm.api.loader.WasmLoader;
+import org.apache.shenyu.plugin.wasm.api.loader.WasmLoaderPool;
+import org.apache.shenyu.plugin.wasm.api.loader.WasmModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -38,7 +40,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 
 /**
  * Complex plugins implemented in other languages should extend this class, we still need to write Java subclasses,
@@ -48,23 +50,42 @@ import java.util.concurrent.ConcurrentHashMap;
  * @see org.apache.shenyu.plugin.base.AbstractShenyuPlugin
  * @see io.github.kawamuray.wasmtime.WasmValType
  * @see org.apache.shenyu.plugin.wasm.api.loader.WasmLoader
+ * @see org.apache.shenyu.plugin.wasm.api.loader.WasmLoaderPool
+ * @see org.apache.shenyu.plugin.wasm.api.loader.WasmModule
  */
 public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractShenyuWasmPlugin.class);
     
-    protected static final Map<Long, Argument> ARGUMENTS = new ConcurrentHashMap<>();
-    
     protected static final String DO_EXECUTE_METHOD_NAME = "doExecute";
     
     protected static final String BEFORE_METHOD_NAME = "before";
     
     protected static final String AFTER_METHOD_NAME = "after";
     
-    private final WasmLoader wasmLoader;
+    private final WasmModule wasmModule;
+    
+    private final WasmLoaderPool wasmLoaderPool;
     
     public AbstractShenyuWasmPlugin() {
-        this.wasmLoader = new WasmLoader(this.getClass(), this::initWasmCallJavaFunc);
+        this(WasmLoaderPool.DEFAULT_CORE_SIZE, WasmLoaderPool.DEFAULT_MAX_SIZE);
+    }
+    
+    /**
+     * Every wasm instance runs one call at a time, size the pool to the threads running this plugin.
+     * The module is compiled once, every pooled instance only adds its own store and linear memory.
+     *
+     * @param coreSize the number of pre-instantiated instances
+     * @param maxSize  the number of instances the pool grows to under load
+     */
+    protected AbstractShenyuWasmPlugin(final int coreSize, final int maxSize) {
+        this.wasmModule = new WasmModule(this.getClass());
+        this.wasmLoaderPool = new WasmLoaderPool(() -> new WasmLoader(wasmModule, this::initWasmCallJavaFunc),
+                coreSize, maxSize, WasmLoaderPool.DEFAULT_MAX_USES);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            wasmLoaderPool.close();
+            wasmModule.close();
+        }));
     }
     
     protected Map<String, Func> initWasmCallJavaFunc(final Store<Void> store) {
@@ -72,12 +93,21 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     }
     
     /**
-     * use this in wasmCallJavaFunc.
+     * use this in wasmCallJavaFunc, it is the memory of the instance running the current call.
      *
      * @return the ByteBuffer
      */
     public ByteBuffer getBuffer() {
-        return wasmLoader.getBuffer();
+        return wasmLoaderPool.current().getBuffer();
+    }
+    
+    /**
+     * use this in wasmCallJavaFunc, it is the argument of the call running on the current thread.
+     *
+     * @return the Argument
+     */
+    protected Argument getArgument() {
+        return (Argument) wasmLoaderPool.current().attachment();
     }
     
     @Override
@@ -85,11 +115,10 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
                                    final ShenyuPluginChain chain,
                                    final SelectorData selector,
                                    final RuleData rule) {
-        return wasmLoader.getWasmExtern(DO_EXECUTE_METHOD_NAME).map(doExecute -> {
-            final Long argumentId = callWASI(exchange, chain, selector, rule, doExecute);
-            return doExecute(exchange, chain, selector, rule, argumentId);
-        }).orElseGet(() -> {
-            LOG.error("{} function not found in {}", DO_EXECUTE_METHOD_NAME, wasmLoader.getWasmName());
+        final Optional<Long> argumentId = wasmLoaderPool.execute(wasmLoader -> wasmLoader.getWasmExtern(DO_EXECUTE_METHOD_NAME)
+                .map(doExecute -> callWASI(wasmLoader, exchange, chain, selector, rule, doExecute)));
+        return argumentId.map(id -> doExecute(exchange, chain, selector, rule, id)).orElseGet(() -> {
+            LOG.error("{} function not found in {}", DO_EXECUTE_METHOD_NAME, wasmLoaderPool.getWasmName());
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.WASM_FUNC_NOT_FOUND);
             return WebFluxResultUtils.result(exchange, error);
@@ -108,19 +137,23 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
      */
     protected abstract Mono<Void> doExecute(ServerWebExchange exchange, ShenyuPluginChain chain, SelectorData selector, RuleData rule, Long argumentId);
     
-    private Long callWASI(final ServerWebExchange exchange,
+    private Long callWASI(final WasmLoader wasmLoader,
+                          final ServerWebExchange exchange,
                           final ShenyuPluginChain chain,
                           final SelectorData selector,
                           final RuleData rule,
                           final Extern doExecute) {
         // WASI cannot easily pass Java objects like JNI, here we pass Long as arg
-        // then we can get the argument by Long
+        // then we can get the argument by Long, the argument itself rides on the instance running the call
         final Long argumentId = getArgumentId(exchange, chain, selector, rule);
-        ARGUMENTS.put(argumentId, new Argument(exchange, chain, selector, rule));
-        // call WASI function
-        WasmFunctions.consumer(wasmLoader.getStore(), doExecute.func(), WasmValType.I64)
-                .accept(argumentId);
-        ARGUMENTS.remove(argumentId);
+        wasmLoader.attach(new Argument(exchange, chain, selector, rule));
+        try {
+            // call WASI function
+            WasmFunctions.consumer(wasmLoader.getStore(), doExecute.func(), WasmValType.I64)
+                    .accept(argumentId);
+        } finally {
+            wasmLoader.attach(null);
+        }
         return argumentId;
     }
     
@@ -131,14 +164,14 @@ public abstract class AbstractShenyuWasmPlugin extends AbstractShenyuPlugin {
     
     @Override
     public void before(final ServerWebExchange exchange) {
-        wasmLoader.getWasmExtern(BEFORE_METHOD_NAME)
-                .ifPresent(before -> callWASI(exchange, null, null, null, before));
+        wasmLoaderPool.execute(wasmLoader -> wasmLoader.getWasmExtern(BEFORE_METHOD_NAME)
+                .map(before -> callWASI(wasmLoader, exchange, null, null, null, before)));
     }
     
     @Override
     public void after(final ServerWebExchange exchange) {
-        wasmLoader.getWasmExtern(AFTER_METHOD_NAME)
-                .ifPresent(before -> callWASI(exchange, null, null, null, before));
+        wasmLoaderPool.execute(wasmLoader -> wasmLoader.getWasmExtern(AFTER_METHOD_NAME)
+                .map(after -> callWASI(wasmLoader, exchange, null, null, null, after)));
     }
     
     protected static final class Argument {
@@ -19,6 +19,7 @@ package org.apache.shenyu.protocol.mqtt;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.mqtt.MqttConnectMessage;
+import io.netty.handler.codec.mqtt.MqttPubAckMessage;
 import io.netty.handler.codec.mqtt.MqttPublishMessage;
 import io.netty.handler.codec.mqtt.MqttSubscribeMessage;
 import io.netty.handler.codec.mqtt.MqttUnsubscribeMessage;
@@ -46,6 +47,15 @@ public interface AbstractMessageType {
 
     }
 
+    /**
+     * Publish acknowledgment.
+     * @param ctx ctx
+     * @param msg msg
+     */
+    default void pubAck(final ChannelHandlerContext ctx, final MqttPubAckMessage msg) {
+
+    }
+
     /**
      * Client Subscribe request.
      * @param ctx ctx
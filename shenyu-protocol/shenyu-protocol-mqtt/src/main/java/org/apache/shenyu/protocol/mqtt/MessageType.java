@@ -19,6 +19,7 @@ package org.apache.shenyu.protocol.mqtt;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.mqtt.MqttConnectMessage;
+import io.netty.handler.codec.mqtt.MqttPubAckMessage;
 import io.netty.handler.codec.mqtt.MqttPublishMessage;
 import io.netty.handler.codec.mqtt.MqttSubscribeMessage;
 import io.netty.handler.codec.mqtt.MqttUnsubscribeMessage;
@@ -58,6 +59,11 @@ public class MessageType implements AbstractMessageType {
         new Publish().publish(ctx, msg);
     }
 
+    @Override
+    public void pubAck(final ChannelHandlerContext ctx, final MqttPubAckMessage msg) {
+        new PubAck().pubAck(ctx, msg);
+    }
+
     @Override
     public void subscribe(final ChannelHandlerContext ctx, final MqttSubscribeMessage msg) {
         //// todo polymorphism subscribe
@@ -20,6 +20,7 @@ package org.apache.shenyu.protocol.mqtt;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.mqtt.MqttConnectMessage;
 import io.netty.handler.codec.mqtt.MqttMessage;
+import io.netty.handler.codec.mqtt.MqttPubAckMessage;
 import io.netty.handler.codec.mqtt.MqttPublishMessage;
 import io.netty.handler.codec.mqtt.MqttSubscribeMessage;
 import io.netty.handler.codec.mqtt.MqttUnsubscribeMessage;
@@ -62,10 +63,12 @@ public class MqttFactory {
             case UNSUBSCRIBE:
                 messageType.unsubscribe(ctx, (MqttUnsubscribeMessage) msg);
                 break;
+            case PUBACK:
+                messageType.pubAck(ctx, (MqttPubAckMessage) msg);
+                break;
             case PINGREQ:
                 messageType.pingReq(ctx);
                 break;
-            case PUBACK:
             case DISCONNECT:
             default:
                 break;
@@ -17,11 +17,17 @@
 
 package org.apache.shenyu.protocol.mqtt;
 
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.mqtt.MqttMessage;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.protocol.mqtt.repositories.ChannelRepository;
+import org.apache.shenyu.protocol.mqtt.repositories.InFlightRepository;
+import org.apache.shenyu.protocol.mqtt.repositories.SubscribeRepository;
 
 /**
  * mqtt transport handler.
@@ -40,7 +46,13 @@ public class MqttTransportHandler extends ChannelInboundHandlerAdapter implement
 
     @Override
     public void operationComplete(final Future<? super Void> future) throws Exception {
-
+        // registered on the channel's close future, drop everything kept for the channel
+        if (future instanceof ChannelFuture) {
+            Channel channel = ((ChannelFuture) future).channel();
+            Singleton.INST.get(SubscribeRepository.class).remove(channel);
+            Singleton.INST.get(InFlightRepository.class).remove(channel);
+            Singleton.INST.get(ChannelRepository.class).remove(channel);
+        }
     }
 
 }
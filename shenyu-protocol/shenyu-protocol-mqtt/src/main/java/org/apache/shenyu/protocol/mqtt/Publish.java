@@ -18,9 +18,9 @@
 package org.apache.shenyu.protocol.mqtt;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.mqtt.MqttFixedHeader;
 import io.netty.handler.codec.mqtt.MqttMessageIdVariableHeader;
 import io.netty.handler.codec.mqtt.MqttPublishMessage;
@@ -28,49 +28,82 @@ import io.netty.handler.codec.mqtt.MqttQoS;
 import io.netty.handler.codec.mqtt.MqttPubAckMessage;
 import io.netty.handler.codec.mqtt.MqttMessageType;
 import io.netty.handler.codec.mqtt.MqttPublishVariableHeader;
+import io.netty.util.AttributeKey;
+import io.netty.util.ReferenceCountUtil;
 import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.protocol.mqtt.repositories.InFlightRepository;
 import org.apache.shenyu.protocol.mqtt.repositories.SubscribeRepository;
 import org.apache.shenyu.protocol.mqtt.repositories.TopicRepository;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
 
 import static io.netty.handler.codec.mqtt.MqttMessageType.PUBACK;
 
 /**
  * Publish message.
+ *
+ * <p>Subscribers are grouped by event loop and written from their own loop, every delivery shares
+ * the publisher's payload through a retained duplicate, and flushes are coalesced so that a burst
+ * of publishes costs one flush per subscriber and loop iteration.
  */
 public class Publish extends MessageType {
 
+    private static final AttributeKey<Boolean> FLUSH_SCHEDULED = AttributeKey.valueOf("mqttFlushScheduled");
+
     @Override
     public void publish(final ChannelHandlerContext ctx, final MqttPublishMessage msg) {
         if (isConnected()) {
             return;
         }
-        String topic = msg.variableHeader().topicName();
-        ByteBuf payload = msg.payload();
-        String message = byteBufToString(payload);
-        //// todo qos
-        MqttQoS mqttQoS = msg.fixedHeader().qosLevel();
-        Singleton.INST.get(TopicRepository.class).add(topic, message);
-        int packetId = msg.variableHeader().packetId();
-        CompletableFuture.runAsync(() -> send(topic, payload, packetId));
-
-        switch (mqttQoS.value()) {
-            case 0:
-                break;
-
-            case 1:
-                qos1(ctx, packetId);
-                break;
-
-            case 2:
-                qos2(ctx, packetId);
-                break;
-            default:
-                break;
+        try {
+            String topic = msg.variableHeader().topicName();
+            ByteBuf payload = msg.payload();
+            MqttQoS mqttQoS = msg.fixedHeader().qosLevel();
+            if (msg.fixedHeader().isRetain()) {
+                Singleton.INST.get(TopicRepository.class).add(topic, payload);
+            }
+            int packetId = msg.variableHeader().packetId();
+            send(topic, payload, mqttQoS);
+
+            switch (mqttQoS.value()) {
+                case 0:
+                    break;
+
+                case 1:
+                    qos1(ctx, packetId);
+                    break;
+
+                case 2:
+                    qos2(ctx, packetId);
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            // every delivery holds its own reference to the payload
+            ReferenceCountUtil.release(msg);
         }
+    }
 
+    /**
+     * write the message and flush it once the current event loop iteration has run,
+     * must be called on the channel's event loop.
+     * @param channel channel
+     * @param message message
+     */
+    static void writeAndScheduleFlush(final Channel channel, final Object message) {
+        channel.write(message, channel.voidPromise());
+        if (Boolean.TRUE.equals(channel.attr(FLUSH_SCHEDULED).get())) {
+            return;
+        }
+        channel.attr(FLUSH_SCHEDULED).set(Boolean.TRUE);
+        channel.eventLoop().execute(() -> {
+            channel.attr(FLUSH_SCHEDULED).set(Boolean.FALSE);
+            channel.flush();
+        });
     }
 
     /**
@@ -88,7 +121,7 @@ public class Publish extends MessageType {
         MqttMessageIdVariableHeader mqttMsgIdVariableHeader = MqttMessageIdVariableHeader.from(packetId);
 
         MqttPubAckMessage mqttPubAckMessage = new MqttPubAckMessage(mqttFixedHeader, mqttMsgIdVariableHeader);
-        ctx.writeAndFlush(mqttPubAckMessage);
+        writeAndScheduleFlush(ctx.channel(), mqttPubAckMessage);
     }
 
     /**
@@ -102,26 +135,70 @@ public class Publish extends MessageType {
         ctx.writeAndFlush(mqttPubAckMessage);
     }
 
-    private String byteBufToString(final ByteBuf byteBuf) {
-        if (byteBuf.hasArray()) {
-            return new String(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());
-        } else {
-            byte[] bytes = new byte[byteBuf.readableBytes()];
-            byteBuf.getBytes(byteBuf.readerIndex(), bytes);
-            return new String(bytes, 0, byteBuf.readableBytes());
+    private void send(final String topic, final ByteBuf payload, final MqttQoS mqttQoS) {
+        Map<Channel, MqttQoS> subscribers = Singleton.INST.get(SubscribeRepository.class).match(topic);
+        if (subscribers.isEmpty()) {
+            return;
         }
+        Map<EventLoop, List<Delivery>> deliveries = new IdentityHashMap<>();
+        subscribers.forEach((channel, grantedQoS) -> {
+            if (!channel.isActive()) {
+                return;
+            }
+            MqttQoS qos = mqttQoS.value() <= grantedQoS.value() ? mqttQoS : grantedQoS;
+            deliveries.computeIfAbsent(channel.eventLoop(), loop -> new ArrayList<>())
+                    .add(new Delivery(channel, qos, payload.retainedDuplicate()));
+        });
+        deliveries.forEach((eventLoop, batch) -> {
+            if (eventLoop.inEventLoop()) {
+                deliver(topic, batch);
+            } else {
+                eventLoop.execute(() -> deliver(topic, batch));
+            }
+        });
     }
 
-    private void send(final String topic, final ByteBuf payload, final int packetId) {
-        List<Channel> channels = Singleton.INST.get(SubscribeRepository.class).get(topic);
-        //// todo thread pool
-        channels.parallelStream().forEach(channel -> {
-            if (channel.isActive()) {
-                MqttFixedHeader mqttFixedHeader = new MqttFixedHeader(MqttMessageType.PUBLISH, false, MqttQoS.AT_MOST_ONCE, false, 0);
-                MqttPublishVariableHeader mqttPublishVariableHeader = new MqttPublishVariableHeader(topic, packetId);
-                MqttPublishMessage mqttPublishMessage = new MqttPublishMessage(mqttFixedHeader, mqttPublishVariableHeader, Unpooled.wrappedBuffer(payload));
-                channel.writeAndFlush(mqttPublishMessage);
+    private void deliver(final String topic, final List<Delivery> batch) {
+        InFlightRepository inFlightRepository = Singleton.INST.get(InFlightRepository.class);
+        for (Delivery delivery : batch) {
+            Channel channel = delivery.channel;
+            if (!channel.isActive()) {
+                delivery.payload.release();
+                continue;
             }
-        });
+            MqttQoS qos = delivery.qos;
+            int packetId = 0;
+            if (qos == MqttQoS.AT_LEAST_ONCE) {
+                packetId = inFlightRepository.acquire(channel);
+                if (packetId < 0) {
+                    // the subscriber stopped acknowledging, fall back to best effort
+                    qos = MqttQoS.AT_MOST_ONCE;
+                    packetId = 0;
+                }
+            }
+            if (qos == MqttQoS.AT_MOST_ONCE && !channel.isWritable()) {
+                // shed QoS 0 load for subscribers that cannot keep up instead of buffering without bound
+                delivery.payload.release();
+                continue;
+            }
+            MqttFixedHeader mqttFixedHeader = new MqttFixedHeader(MqttMessageType.PUBLISH, false, qos, false, 0);
+            MqttPublishVariableHeader mqttPublishVariableHeader = new MqttPublishVariableHeader(topic, packetId);
+            writeAndScheduleFlush(channel, new MqttPublishMessage(mqttFixedHeader, mqttPublishVariableHeader, delivery.payload));
+        }
+    }
+
+    private static final class Delivery {
+
+        private final Channel channel;
+
+        private final MqttQoS qos;
+
+        private final ByteBuf payload;
+
+        Delivery(final Channel channel, final MqttQoS qos, final ByteBuf payload) {
+            this.channel = channel;
+            this.qos = qos;
+            this.payload = payload;
+        }
     }
 }
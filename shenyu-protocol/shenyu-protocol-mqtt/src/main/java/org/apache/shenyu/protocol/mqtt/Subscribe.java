@@ -17,7 +17,7 @@
 
 package org.apache.shenyu.protocol.mqtt;
 
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.mqtt.MqttFixedHeader;
@@ -29,18 +29,17 @@ import io.netty.handler.codec.mqtt.MqttSubAckPayload;
 import io.netty.handler.codec.mqtt.MqttSubAckMessage;
 import io.netty.handler.codec.mqtt.MqttPublishVariableHeader;
 import io.netty.handler.codec.mqtt.MqttPublishMessage;
-import io.netty.util.CharsetUtil;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.protocol.mqtt.repositories.SubscribeRepository;
 import org.apache.shenyu.protocol.mqtt.repositories.TopicRepository;
+import org.apache.shenyu.protocol.mqtt.utils.TopicUtil;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static io.netty.channel.ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE;
 import static io.netty.handler.codec.mqtt.MqttMessageIdVariableHeader.from;
+import static io.netty.handler.codec.mqtt.MqttQoS.AT_LEAST_ONCE;
 import static io.netty.handler.codec.mqtt.MqttQoS.AT_MOST_ONCE;
 import static io.netty.handler.codec.mqtt.MqttQoS.FAILURE;
 
@@ -60,57 +59,55 @@ public class Subscribe extends MessageType {
         List<MqttTopicSubscription> mqttTopicSubscriptions = msg.payload().topicSubscriptions();
         int packetId = msg.variableHeader().messageId();
 
-        //// todo Regular match
-        List<String> ackTopics = mqttTopicSubscriptions
-                .stream()
-                .filter(topicSub -> topicSub.qualityOfService() != FAILURE)
-                .map(MqttTopicSubscription::topicName)
-                .collect(Collectors.toList());
+        SubscribeRepository subscribeRepository = Singleton.INST.get(SubscribeRepository.class);
+        List<Integer> grantedQoS = new ArrayList<>(mqttTopicSubscriptions.size());
+        List<String> ackTopics = new ArrayList<>(mqttTopicSubscriptions.size());
+        for (MqttTopicSubscription topicSub : mqttTopicSubscriptions) {
+            String topicFilter = topicSub.topicName();
+            if (topicSub.qualityOfService() == FAILURE || !TopicUtil.isValidFilter(topicFilter)) {
+                grantedQoS.add(FAILURE.value());
+                continue;
+            }
+            // QoS 2 delivery is not supported, downgrade to QoS 1
+            MqttQoS qos = topicSub.qualityOfService().value() > AT_LEAST_ONCE.value() ? AT_LEAST_ONCE : topicSub.qualityOfService();
+            subscribeRepository.subscribe(topicFilter, channel, qos);
+            grantedQoS.add(qos.value());
+            ackTopics.add(topicFilter);
+        }
 
-        Singleton.INST.get(SubscribeRepository.class).add(ctx.channel(), mqttTopicSubscriptions);
+        sendSubAckMessage(packetId, grantedQoS, channel);
 
+        TopicRepository topicRepository = Singleton.INST.get(TopicRepository.class);
         for (String ackTopic : ackTopics) {
-            String message = Singleton.INST.get(TopicRepository.class).get(ackTopic);
-            if (StringUtils.isNotEmpty(message)) {
-                sendSubMessage(ackTopic, message, packetId, channel);
-            }
+            topicRepository.match(ackTopic).forEach((topic, message) -> sendSubMessage(topic, message, channel));
         }
-
-        sendSubAckMessage(packetId, ackTopics, channel);
+        channel.flush();
     }
 
     /**
      * call back request of message.
      * @param packetId packetId
-     * @param ackTopics ackTopics
+     * @param grantedQoS granted qos of every requested subscription
      * @param channel channel
      */
-    private void sendSubAckMessage(final int packetId, final List<String> ackTopics, final Channel channel) {
-
-        List<Integer> qos = new ArrayList<>();
-        for (int i = 0; i < ackTopics.size(); i++) {
-            // default qos 0
-            qos.add(MqttQoS.AT_MOST_ONCE.value());
-        }
-
+    private void sendSubAckMessage(final int packetId, final List<Integer> grantedQoS, final Channel channel) {
         MqttFixedHeader fixedHeader = new MqttFixedHeader(MqttMessageType.SUBACK, false, AT_MOST_ONCE,
                 false, 0);
-        MqttSubAckPayload payload = new MqttSubAckPayload(qos);
+        MqttSubAckPayload payload = new MqttSubAckPayload(grantedQoS);
         MqttSubAckMessage mqttSubAckMessage = new MqttSubAckMessage(fixedHeader, from(packetId), payload);
-        channel.writeAndFlush(mqttSubAckMessage);
+        channel.write(mqttSubAckMessage);
     }
 
     /**
-     * send subscribe message.
+     * send retained message.
      * @param topic topic
-     * @param message message
-     * @param packetId packetId
+     * @param message retained duplicate of the message, released by the encoder
      * @param channel channel
      */
-    private void sendSubMessage(final String topic, final String message, final int packetId, final Channel channel) {
+    private void sendSubMessage(final String topic, final ByteBuf message, final Channel channel) {
         MqttFixedHeader fixedHeader = new MqttFixedHeader(MqttMessageType.PUBLISH, false, AT_MOST_ONCE, true, 0);
-        MqttPublishVariableHeader varHeader = new MqttPublishVariableHeader(topic, packetId);
-        MqttPublishMessage mqttPublishMessage = new MqttPublishMessage(fixedHeader, varHeader, Unpooled.copiedBuffer(message, CharsetUtil.UTF_8));
-        channel.writeAndFlush(mqttPublishMessage);
+        MqttPublishVariableHeader varHeader = new MqttPublishVariableHeader(topic, 0);
+        MqttPublishMessage mqttPublishMessage = new MqttPublishMessage(fixedHeader, varHeader, message);
+        channel.write(mqttPublishMessage);
     }
 }
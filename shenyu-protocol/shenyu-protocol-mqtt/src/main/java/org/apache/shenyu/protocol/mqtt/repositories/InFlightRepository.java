@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.repositories;
+
+import io.netty.channel.Channel;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * QoS 1 messages delivered to a channel and not yet acknowledged by PUBACK.
+ */
+public class InFlightRepository implements BaseRepository<Channel, InFlightRepository.InFlightWindow> {
+
+    /**
+     * max unacknowledged messages per channel.
+     */
+    public static final int MAX_IN_FLIGHT = 1024;
+
+    private static final Map<Channel, InFlightWindow> IN_FLIGHT_FACTORY = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(final Channel channel, final InFlightWindow window) {
+        IN_FLIGHT_FACTORY.put(channel, window);
+    }
+
+    @Override
+    public void remove(final Channel channel) {
+        IN_FLIGHT_FACTORY.remove(channel);
+    }
+
+    @Override
+    public InFlightWindow get(final Channel channel) {
+        return IN_FLIGHT_FACTORY.get(channel);
+    }
+
+    /**
+     * allocate a packet id for a QoS 1 delivery, must be called on the channel's event loop.
+     * @param channel channel
+     * @return packet id, or -1 when the window is full
+     */
+    public int acquire(final Channel channel) {
+        return IN_FLIGHT_FACTORY.computeIfAbsent(channel, key -> new InFlightWindow(MAX_IN_FLIGHT)).acquire();
+    }
+
+    /**
+     * acknowledge a QoS 1 delivery, must be called on the channel's event loop.
+     * @param channel channel
+     * @param packetId packet id
+     * @return whether the packet id was in flight
+     */
+    public boolean release(final Channel channel, final int packetId) {
+        InFlightWindow window = IN_FLIGHT_FACTORY.get(channel);
+        return Objects.nonNull(window) && window.release(packetId);
+    }
+
+    /**
+     * Packet ids in use by a single channel, confined to the channel's event loop.
+     */
+    public static final class InFlightWindow {
+
+        private static final int MAX_PACKET_ID = 0xFFFF;
+
+        private final BitSet packetIds = new BitSet(MAX_PACKET_ID + 1);
+
+        private final int capacity;
+
+        private int size;
+
+        private int lastPacketId;
+
+        public InFlightWindow(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * allocate the next free packet id.
+         * @return packet id, or -1 when the window is full
+         */
+        public int acquire() {
+            if (size >= capacity) {
+                return -1;
+            }
+            int packetId = packetIds.nextClearBit(lastPacketId + 1);
+            if (packetId > MAX_PACKET_ID) {
+                // wrap around, 0 is not a valid packet id
+                packetId = packetIds.nextClearBit(1);
+            }
+            packetIds.set(packetId);
+            lastPacketId = packetId;
+            size++;
+            return packetId;
+        }
+
+        /**
+         * release the packet id.
+         * @param packetId packet id
+         * @return whether the packet id was in use
+         */
+        public boolean release(final int packetId) {
+            if (packetId <= 0 || packetId > MAX_PACKET_ID || !packetIds.get(packetId)) {
+                return false;
+            }
+            packetIds.clear(packetId);
+            size--;
+            return true;
+        }
+
+        /**
+         * in flight message count.
+         * @return size
+         */
+        public int size() {
+            return size;
+        }
+    }
+}
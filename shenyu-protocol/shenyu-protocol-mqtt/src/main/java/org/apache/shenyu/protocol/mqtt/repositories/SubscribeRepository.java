@@ -18,34 +18,36 @@
 package org.apache.shenyu.protocol.mqtt.repositories;
 
 import io.netty.channel.Channel;
+import io.netty.handler.codec.mqtt.MqttQoS;
 import io.netty.handler.codec.mqtt.MqttTopicSubscription;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.shenyu.protocol.mqtt.utils.TopicUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 /**
  * Topic and channel association.
+ *
+ * <p>Subscriptions are kept in a trie keyed by topic level, so a publish walks one path per
+ * wildcard branch instead of comparing against every subscription. Mutations are serialized,
+ * lookups run lock-free on the event loops.
  */
 public class SubscribeRepository implements BaseRepository<List<String>, List<Channel>> {
 
-    private static final Logger LOG = LoggerFactory.getLogger(SubscribeRepository.class);
+    private static final Node ROOT = new Node();
 
-    private static final Map<String, List<Channel>> TOPIC_CHANNEL_FACTORY = new ConcurrentHashMap<>();
+    private static final Map<Channel, Set<String>> CHANNEL_FILTERS = new ConcurrentHashMap<>();
 
     @Override
     public void add(final List<String> topics, final List<Channel> channels) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(s -> {
-            List<Channel> list = get(s);
-            list.addAll(channels);
-            TOPIC_CHANNEL_FACTORY.put(s, list);
-        }));
+        topics.forEach(topic -> channels.forEach(channel -> subscribe(topic, channel, MqttQoS.AT_MOST_ONCE)));
     }
 
     /**
@@ -54,16 +56,32 @@ public class SubscribeRepository implements BaseRepository<List<String>, List<Ch
      * @param mqttTopicSubscription mqtt subscription info
      */
     public void add(final Channel channel, final List<MqttTopicSubscription> mqttTopicSubscription) {
-        CompletableFuture.runAsync(() -> mqttTopicSubscription.parallelStream().forEach(s -> {
-            List<Channel> channels = get(s.topicName());
-            channels.add(channel);
-            TOPIC_CHANNEL_FACTORY.put(s.topicName(), channels);
-        }));
+        mqttTopicSubscription.forEach(s -> subscribe(s.topicName(), channel, s.qualityOfService()));
+    }
+
+    /**
+     * subscribe channel to the topic filter.
+     * @param topicFilter topic filter
+     * @param channel channel
+     * @param qos granted qos
+     */
+    public synchronized void subscribe(final String topicFilter, final Channel channel, final MqttQoS qos) {
+        Node node = ROOT;
+        for (String level : TopicUtil.levels(topicFilter)) {
+            node = node.children.computeIfAbsent(level, key -> new Node());
+        }
+        node.subscribers.put(channel, qos);
+        CHANNEL_FILTERS.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(topicFilter);
     }
 
     @Override
-    public void remove(final List<String> topics) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(TOPIC_CHANNEL_FACTORY::remove));
+    public synchronized void remove(final List<String> topics) {
+        topics.forEach(topic -> {
+            Node node = find(topic);
+            if (Objects.nonNull(node)) {
+                new ArrayList<>(node.subscribers.keySet()).forEach(channel -> unsubscribe(topic, channel));
+            }
+        });
     }
 
     /**
@@ -71,15 +89,26 @@ public class SubscribeRepository implements BaseRepository<List<String>, List<Ch
      * @param topics topics
      * @param channel channel
      */
-    public void remove(final List<String> topics, final Channel channel) {
-        CompletableFuture.runAsync(() -> topics.parallelStream().forEach(topic -> TOPIC_CHANNEL_FACTORY.get(topic).remove(channel)));
+    public synchronized void remove(final List<String> topics, final Channel channel) {
+        topics.forEach(topic -> unsubscribe(topic, channel));
+    }
+
+    /**
+     * remove all subscriptions of the channel.
+     * @param channel channel
+     */
+    public synchronized void remove(final Channel channel) {
+        Set<String> topicFilters = CHANNEL_FILTERS.get(channel);
+        if (Objects.nonNull(topicFilters)) {
+            new ArrayList<>(topicFilters).forEach(topic -> unsubscribe(topic, channel));
+        }
     }
 
     @Override
     public List<Channel> get(final List<String> topics) {
-        Set<Channel> channels = new CopyOnWriteArraySet<>();
-        topics.parallelStream().forEach(s -> channels.addAll(TOPIC_CHANNEL_FACTORY.get(s)));
-        return new CopyOnWriteArrayList<>(channels);
+        Set<Channel> channels = new HashSet<>();
+        topics.forEach(topic -> channels.addAll(match(topic).keySet()));
+        return new ArrayList<>(channels);
     }
 
     /**
@@ -88,7 +117,94 @@ public class SubscribeRepository implements BaseRepository<List<String>, List<Ch
      * @return Channels
      */
     public List<Channel> get(final String topic) {
-        return TOPIC_CHANNEL_FACTORY.getOrDefault(topic, new CopyOnWriteArrayList<>());
+        return new ArrayList<>(match(topic).keySet());
     }
 
+    /**
+     * match subscribers of the published topic, a channel matched by several filters gets the highest granted qos.
+     * @param topic published topic
+     * @return channel and granted qos
+     */
+    public Map<Channel, MqttQoS> match(final String topic) {
+        Map<Channel, MqttQoS> result = new HashMap<>();
+        String[] levels = TopicUtil.levels(topic);
+        match(ROOT, levels, 0, !TopicUtil.isSystemTopic(topic), result);
+        return result.isEmpty() ? Collections.emptyMap() : result;
+    }
+
+    private void match(final Node node, final String[] levels, final int index, final boolean wildcard,
+                       final Map<Channel, MqttQoS> result) {
+        if (wildcard) {
+            // '#' also matches the parent level, so it is collected before the end check
+            Node multi = node.children.get(TopicUtil.MULTI_LEVEL_WILDCARD);
+            if (Objects.nonNull(multi)) {
+                collect(multi, result);
+            }
+        }
+        if (index == levels.length) {
+            collect(node, result);
+            return;
+        }
+        Node exact = node.children.get(levels[index]);
+        if (Objects.nonNull(exact)) {
+            match(exact, levels, index + 1, true, result);
+        }
+        if (wildcard) {
+            Node single = node.children.get(TopicUtil.SINGLE_LEVEL_WILDCARD);
+            if (Objects.nonNull(single)) {
+                match(single, levels, index + 1, true, result);
+            }
+        }
+    }
+
+    private void collect(final Node node, final Map<Channel, MqttQoS> result) {
+        node.subscribers.forEach((channel, qos) -> result.merge(channel, qos,
+            (left, right) -> left.value() >= right.value() ? left : right));
+    }
+
+    private Node find(final String topicFilter) {
+        Node node = ROOT;
+        for (String level : TopicUtil.levels(topicFilter)) {
+            node = node.children.get(level);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void unsubscribe(final String topicFilter, final Channel channel) {
+        String[] levels = TopicUtil.levels(topicFilter);
+        Node[] path = new Node[levels.length + 1];
+        path[0] = ROOT;
+        for (int i = 0; i < levels.length; i++) {
+            path[i + 1] = path[i].children.get(levels[i]);
+            if (Objects.isNull(path[i + 1])) {
+                return;
+            }
+        }
+        path[levels.length].subscribers.remove(channel);
+        // prune the branch bottom-up so that one-off topics do not accumulate empty nodes
+        for (int i = levels.length; i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children.remove(levels[i - 1], path[i]);
+        }
+        Set<String> topicFilters = CHANNEL_FILTERS.get(channel);
+        if (Objects.nonNull(topicFilters)) {
+            topicFilters.remove(topicFilter);
+            if (topicFilters.isEmpty()) {
+                CHANNEL_FILTERS.remove(channel);
+            }
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+        private final Map<Channel, MqttQoS> subscribers = new ConcurrentHashMap<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && subscribers.isEmpty();
+        }
+    }
 }
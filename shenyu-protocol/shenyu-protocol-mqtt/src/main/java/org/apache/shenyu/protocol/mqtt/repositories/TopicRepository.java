@@ -17,33 +17,92 @@
 
 package org.apache.shenyu.protocol.mqtt.repositories;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shenyu.protocol.mqtt.utils.TopicUtil;
+
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Topic repository.
- * Save the posted message.
+ * Save the retained message of each topic.
  * {@link org.apache.shenyu.protocol.mqtt.agent.MessageAgent}
+ *
+ * <p>The payload is copied once into an unpooled buffer, so a retained message does not pin the
+ * decoder's pooled memory, and handed out as retained duplicates that share the same bytes.
  */
-public class TopicRepository implements BaseRepository<String, String> {
+public class TopicRepository implements BaseRepository<String, ByteBuf> {
 
-    private static final Map<String, String> TOPIC_FACTORY = new ConcurrentHashMap<>();
+    private static final Map<String, ByteBuf> TOPIC_FACTORY = new ConcurrentHashMap<>();
 
     @Override
-    public void add(final String topic, final String message) {
+    public void add(final String topic, final ByteBuf message) {
         //// todo MessageAgent.java. Carry out message processing and processing
-        CompletableFuture.runAsync(() -> TOPIC_FACTORY.put(topic, message));
+        if (!message.isReadable()) {
+            // a retained message with an empty payload clears the topic
+            remove(topic);
+            return;
+        }
+        ByteBuf copy = Unpooled.copiedBuffer(message);
+        ByteBuf previous = TOPIC_FACTORY.put(topic, copy);
+        if (Objects.nonNull(previous)) {
+            previous.release();
+        }
     }
 
     @Override
     public void remove(final String topic) {
-        TOPIC_FACTORY.remove(topic);
+        ByteBuf previous = TOPIC_FACTORY.remove(topic);
+        if (Objects.nonNull(previous)) {
+            previous.release();
+        }
     }
 
+    /**
+     * get the retained message, the caller must not release it, use {@link #retained(String)} to send it.
+     * @param topic topic
+     * @return message
+     */
     @Override
-    public String get(final String topic) {
-        return TOPIC_FACTORY.getOrDefault(topic, null);
+    public ByteBuf get(final String topic) {
+        return TOPIC_FACTORY.get(topic);
+    }
+
+    /**
+     * get a retained duplicate of the message, which the caller owns.
+     * @param topic topic
+     * @return message or null
+     */
+    public ByteBuf retained(final String topic) {
+        AtomicReference<ByteBuf> duplicate = new AtomicReference<>();
+        // duplicate under the bin lock so a concurrent replacement cannot release the buffer in between
+        TOPIC_FACTORY.computeIfPresent(topic, (key, message) -> {
+            duplicate.set(message.retainedDuplicate());
+            return message;
+        });
+        return duplicate.get();
+    }
+
+    /**
+     * get retained duplicates of all messages whose topic matches the topic filter.
+     * @param topicFilter topic filter
+     * @return topic and message, owned by the caller
+     */
+    public Map<String, ByteBuf> match(final String topicFilter) {
+        Map<String, ByteBuf> result = new HashMap<>();
+        for (String topic : TOPIC_FACTORY.keySet()) {
+            if (TopicUtil.matches(topicFilter, topic)) {
+                ByteBuf message = retained(topic);
+                if (Objects.nonNull(message)) {
+                    result.put(topic, message);
+                }
+            }
+        }
+        return result;
     }
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * topic util.
+ */
+public final class TopicUtil {
+
+    /**
+     * topic level separator.
+     */
+    public static final String LEVEL_SEPARATOR = "/";
+
+    /**
+     * single level wildcard.
+     */
+    public static final String SINGLE_LEVEL_WILDCARD = "+";
+
+    /**
+     * multi level wildcard.
+     */
+    public static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private static final String SYSTEM_TOPIC_PREFIX = "$";
+
+    private TopicUtil() {
+    }
+
+    /**
+     * split topic or topic filter into levels, empty levels are kept.
+     * @param topic topic
+     * @return levels
+     */
+    public static String[] levels(final String topic) {
+        return topic.split(LEVEL_SEPARATOR, -1);
+    }
+
+    /**
+     * whether the topic filter is valid, {@code #} must be the last level and wildcards must occupy a whole level.
+     * @param topicFilter topic filter
+     * @return valid
+     */
+    public static boolean isValidFilter(final String topicFilter) {
+        if (StringUtils.isEmpty(topicFilter)) {
+            return false;
+        }
+        String[] levels = levels(topicFilter);
+        for (int i = 0; i < levels.length; i++) {
+            String level = levels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                if (i != levels.length - 1) {
+                    return false;
+                }
+            } else if (!SINGLE_LEVEL_WILDCARD.equals(level)
+                    && (level.contains(MULTI_LEVEL_WILDCARD) || level.contains(SINGLE_LEVEL_WILDCARD))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * whether the topic is a system topic, which wildcards at the first level do not match.
+     * @param topic topic
+     * @return system topic
+     */
+    public static boolean isSystemTopic(final String topic) {
+        return topic.startsWith(SYSTEM_TOPIC_PREFIX);
+    }
+
+    /**
+     * whether the topic matches the topic filter.
+     * @param topicFilter topic filter
+     * @param topic topic
+     * @return matches
+     */
+    public static boolean matches(final String topicFilter, final String topic) {
+        String[] filterLevels = levels(topicFilter);
+        String[] topicLevels = levels(topic);
+        if (isSystemTopic(topic) && isWildcard(filterLevels[0])) {
+            return false;
+        }
+        for (int i = 0; i < filterLevels.length; i++) {
+            String level = filterLevels[i];
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return true;
+            }
+            if (i >= topicLevels.length) {
+                return false;
+            }
+            if (!SINGLE_LEVEL_WILDCARD.equals(level) && !level.equals(topicLevels[i])) {
+                return false;
+            }
+        }
+        return filterLevels.length == topicLevels.length;
+    }
+
+    private static boolean isWildcard(final String level) {
+        return SINGLE_LEVEL_WILDCARD.equals(level) || MULTI_LEVEL_WILDCARD.equals(level);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.repositories;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link InFlightRepository}.
+ */
+public final class InFlightRepositoryTest {
+
+    @Test
+    public void testWindowLimit() {
+        InFlightRepository.InFlightWindow window = new InFlightRepository.InFlightWindow(3);
+        Set<Integer> packetIds = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            int packetId = window.acquire();
+            assertTrue(packetId > 0);
+            packetIds.add(packetId);
+        }
+        assertEquals(3, packetIds.size());
+        assertEquals(-1, window.acquire());
+        assertTrue(window.release(packetIds.iterator().next()));
+        assertEquals(2, window.size());
+        assertTrue(window.acquire() > 0);
+        assertEquals(-1, window.acquire());
+    }
+
+    @Test
+    public void testReleaseUnknownPacketId() {
+        InFlightRepository.InFlightWindow window = new InFlightRepository.InFlightWindow(2);
+        int packetId = window.acquire();
+        assertFalse(window.release(0));
+        assertFalse(window.release(0x10000));
+        assertFalse(window.release(packetId + 1));
+        assertTrue(window.release(packetId));
+        assertFalse(window.release(packetId));
+        assertEquals(0, window.size());
+    }
+
+    @Test
+    public void testPacketIdWrapsAround() {
+        InFlightRepository.InFlightWindow window = new InFlightRepository.InFlightWindow(2);
+        int first = window.acquire();
+        for (int i = 1; i < 0xFFFF; i++) {
+            assertTrue(window.release(window.acquire()));
+        }
+        // every id above the first one was used once, the next one wraps and skips the id still in flight
+        int next = window.acquire();
+        assertTrue(next > 0 && next != first);
+        assertEquals(2, window.size());
+    }
+
+    @Test
+    public void testRepositoryPerChannel() {
+        InFlightRepository repository = new InFlightRepository();
+        Channel channel = new EmbeddedChannel();
+        try {
+            for (int i = 0; i < InFlightRepository.MAX_IN_FLIGHT; i++) {
+                assertTrue(repository.acquire(channel) > 0);
+            }
+            assertEquals(-1, repository.acquire(channel));
+            assertTrue(repository.release(channel, 1));
+            assertFalse(repository.release(new EmbeddedChannel(), 1));
+            assertEquals(InFlightRepository.MAX_IN_FLIGHT - 1, repository.get(channel).size());
+        } finally {
+            repository.remove(channel);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.repositories;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.mqtt.MqttQoS;
+import io.netty.handler.codec.mqtt.MqttTopicSubscription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link SubscribeRepository}.
+ */
+public final class SubscribeRepositoryTest {
+
+    private final SubscribeRepository repository = new SubscribeRepository();
+
+    private Channel first;
+
+    private Channel second;
+
+    @BeforeEach
+    public void setUp() {
+        first = new EmbeddedChannel();
+        second = new EmbeddedChannel();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.remove(first);
+        repository.remove(second);
+    }
+
+    @Test
+    public void testExactMatch() {
+        repository.subscribe("a/b", first, MqttQoS.AT_MOST_ONCE);
+        assertEquals(List.of(first), repository.get("a/b"));
+        assertTrue(repository.get("a/c").isEmpty());
+        assertTrue(repository.get("a").isEmpty());
+        assertTrue(repository.get("a/b/c").isEmpty());
+    }
+
+    @Test
+    public void testWildcardMatch() {
+        repository.subscribe("a/+/c", first, MqttQoS.AT_MOST_ONCE);
+        repository.subscribe("a/#", second, MqttQoS.AT_MOST_ONCE);
+        assertEquals(Set.of(first, second), Set.copyOf(repository.get("a/b/c")));
+        assertEquals(List.of(second), repository.get("a/b"));
+        // '#' also matches the parent level
+        assertEquals(List.of(second), repository.get("a"));
+        assertTrue(repository.get("b/b/c").isEmpty());
+    }
+
+    @Test
+    public void testSystemTopicSkipsFirstLevelWildcards() {
+        repository.subscribe("#", first, MqttQoS.AT_MOST_ONCE);
+        repository.subscribe("$SYS/+", second, MqttQoS.AT_MOST_ONCE);
+        assertEquals(List.of(second), repository.get("$SYS/broker"));
+        assertEquals(List.of(first), repository.get("a/b"));
+    }
+
+    @Test
+    public void testHighestQosWins() {
+        repository.add(first, List.of(new MqttTopicSubscription("a/+", MqttQoS.AT_MOST_ONCE),
+                new MqttTopicSubscription("a/b", MqttQoS.AT_LEAST_ONCE)));
+        Map<Channel, MqttQoS> matched = repository.match("a/b");
+        assertEquals(Map.of(first, MqttQoS.AT_LEAST_ONCE), matched);
+        assertEquals(Map.of(first, MqttQoS.AT_MOST_ONCE), repository.match("a/c"));
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        repository.subscribe("a/b", first, MqttQoS.AT_MOST_ONCE);
+        repository.subscribe("a/b", second, MqttQoS.AT_MOST_ONCE);
+        repository.remove(List.of("a/b"), first);
+        assertEquals(List.of(second), repository.get("a/b"));
+        repository.remove(List.of("a/b"));
+        assertTrue(repository.get("a/b").isEmpty());
+    }
+
+    @Test
+    public void testRemoveChannel() {
+        repository.subscribe("a/b", first, MqttQoS.AT_MOST_ONCE);
+        repository.subscribe("c/#", first, MqttQoS.AT_MOST_ONCE);
+        repository.subscribe("c/#", second, MqttQoS.AT_MOST_ONCE);
+        repository.remove(first);
+        assertTrue(repository.get("a/b").isEmpty());
+        assertEquals(List.of(second), repository.get("c/d"));
+    }
+}
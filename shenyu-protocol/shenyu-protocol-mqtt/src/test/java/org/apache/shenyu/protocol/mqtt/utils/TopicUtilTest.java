@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.mqtt.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link TopicUtil}.
+ */
+public final class TopicUtilTest {
+
+    @Test
+    public void testLevels() {
+        assertArrayEquals(new String[] {"a", "b", "c"}, TopicUtil.levels("a/b/c"));
+        assertArrayEquals(new String[] {"", "a", ""}, TopicUtil.levels("/a/"));
+    }
+
+    @Test
+    public void testIsValidFilter() {
+        assertTrue(TopicUtil.isValidFilter("a/b"));
+        assertTrue(TopicUtil.isValidFilter("a/+/c"));
+        assertTrue(TopicUtil.isValidFilter("a/#"));
+        assertTrue(TopicUtil.isValidFilter("#"));
+        assertFalse(TopicUtil.isValidFilter(""));
+        assertFalse(TopicUtil.isValidFilter(null));
+        assertFalse(TopicUtil.isValidFilter("a/#/c"));
+        assertFalse(TopicUtil.isValidFilter("a/b#"));
+        assertFalse(TopicUtil.isValidFilter("a+/b"));
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(TopicUtil.matches("a/b", "a/b"));
+        assertFalse(TopicUtil.matches("a/b", "a/c"));
+        assertTrue(TopicUtil.matches("a/+/c", "a/b/c"));
+        assertFalse(TopicUtil.matches("a/+", "a/b/c"));
+        assertTrue(TopicUtil.matches("a/+", "a/"));
+        assertTrue(TopicUtil.matches("a/#", "a/b/c"));
+        assertTrue(TopicUtil.matches("a/#", "a"));
+        assertFalse(TopicUtil.matches("a/b/c", "a/b"));
+        assertTrue(TopicUtil.matches("#", "a/b"));
+    }
+
+    @Test
+    public void testSystemTopic() {
+        assertTrue(TopicUtil.isSystemTopic("$SYS/broker"));
+        assertFalse(TopicUtil.matches("#", "$SYS/broker"));
+        assertFalse(TopicUtil.matches("+/broker", "$SYS/broker"));
+        assertTrue(TopicUtil.matches("$SYS/#", "$SYS/broker"));
+    }
+}
@@ -18,13 +18,17 @@
 package org.apache.shenyu.protocol.tcp;
 
 import com.google.common.eventbus.EventBus;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.shenyu.common.dto.DiscoveryUpstreamData;
 import org.apache.shenyu.protocol.tcp.connection.ActivityConnectionObserver;
 import org.apache.shenyu.protocol.tcp.connection.Bridge;
 import org.apache.shenyu.protocol.tcp.connection.ConnectionContext;
+import org.apache.shenyu.protocol.tcp.connection.ConnectionTraffic;
 import org.apache.shenyu.protocol.tcp.connection.DefaultConnectionConfigProvider;
+import org.apache.shenyu.protocol.tcp.connection.SpliceConnectionBridge;
 import org.apache.shenyu.protocol.tcp.connection.TcpConnectionBridge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,8 +39,11 @@ import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.TcpServer;
 
 import java.net.SocketAddress;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -55,6 +62,10 @@ public class TcpBootstrapServer implements BootstrapServer {
 
     private final EventBus eventBus;
 
+    private final Map<Connection, ConnectionTraffic> connectionTraffic = new ConcurrentHashMap<>();
+
+    private boolean spliceEnabled;
+
     public TcpBootstrapServer(final EventBus eventBus) {
         this.eventBus = eventBus;
     }
@@ -64,30 +75,64 @@ public class TcpBootstrapServer implements BootstrapServer {
         final String loadBalanceAlgorithm = tcpServerConfiguration.getProps().getOrDefault("loadBalance", "random").toString();
         final String bossGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("bossGroupThreadCount", "1").toString();
         final String workerGroupThreadCount = tcpServerConfiguration.getProps().getOrDefault("workerGroupThreadCount", "12").toString();
+        final boolean spliceRequested = Boolean.parseBoolean(tcpServerConfiguration.getProps().getOrDefault("spliceEnabled", "false").toString());
+        spliceEnabled = spliceRequested && ConnectionContext.isSpliceAvailable();
+        if (spliceRequested && !spliceEnabled) {
+            LOG.warn("shenyu tcp proxy splice mode requires the native epoll transport, fall back to copying");
+        }
         DefaultConnectionConfigProvider connectionConfigProvider = new DefaultConnectionConfigProvider(loadBalanceAlgorithm, tcpServerConfiguration.getPluginSelectorName());
-        this.bridge = new TcpConnectionBridge();
+        this.bridge = spliceEnabled ? new SpliceConnectionBridge(new TcpConnectionBridge()) : new TcpConnectionBridge();
         connectionContext = new ConnectionContext(connectionConfigProvider);
         connectionContext.init(tcpServerConfiguration.getProps());
         loopResources = LoopResources.create("shenyu-tcp-bootstrap-server-" + tcpServerConfiguration.getPort(), Integer.parseInt(bossGroupThreadCount),
                 Integer.parseInt(workerGroupThreadCount), true);
         TcpServer tcpServer = TcpServer.create()
-                .doOnChannelInit((connObserver, channel, remoteAddress) -> channel.pipeline().addFirst(new LoggingHandler(LogLevel.INFO)))
-                .wiretap(true)
-                .observe((c, s) -> LOG.info("connection={}|status={}", c, s))
+                .doOnChannelInit((connObserver, channel, remoteAddress) -> {
+                    if (spliceEnabled) {
+                        // hold reads back until the upstream leg is connected and the splice is in place
+                        channel.config().setAutoRead(false);
+                    } else {
+                        channel.pipeline().addFirst(new LoggingHandler(LogLevel.INFO));
+                    }
+                })
+                .wiretap(!spliceEnabled)
                 //.childObserve(connectionObserver)
                 .doOnConnection(this::bridgeConnections)
                 .port(tcpServerConfiguration.getPort())
-                .runOn(loopResources);
+                .runOn(loopResources, spliceEnabled);
+        if (spliceEnabled) {
+            tcpServer = tcpServer.childOption(EpollChannelOption.EPOLL_MODE, EpollMode.LEVEL_TRIGGERED);
+        }
         server = tcpServer.bindNow();
     }
 
     private void bridgeConnections(final Connection serverConn) {
-        LOG.info("Starting proxy client ={}", serverConn);
-        SocketAddress socketAddress = serverConn.channel().remoteAddress();
         ActivityConnectionObserver connectionObserver = new ActivityConnectionObserver("TcpClient");
         eventBus.register(connectionObserver);
-        Mono<Connection> client = connectionContext.getTcpClientConnection(getIp(socketAddress), connectionObserver);
-        client.subscribe(clientConn -> bridge.bridge(serverConn, clientConn));
+        ConnectionTraffic traffic = new ConnectionTraffic();
+        connectionTraffic.put(serverConn, traffic);
+        serverConn.onDispose(() -> {
+            eventBus.unregister(connectionObserver);
+            connectionTraffic.remove(serverConn);
+        });
+        SocketAddress socketAddress = serverConn.channel().remoteAddress();
+        Mono<Connection> client = spliceEnabled
+                ? connectionContext.getSpliceClientConnection(getIp(socketAddress), connectionObserver, serverConn.channel().eventLoop())
+                : connectionContext.getTcpClientConnection(getIp(socketAddress), connectionObserver);
+        client.subscribe(clientConn -> bridge.bridge(serverConn, clientConn, traffic),
+            e -> {
+                LOG.error("shenyu tcp proxy failed to connect upstream for {}", serverConn, e);
+                serverConn.dispose();
+            });
+    }
+
+    /**
+     * getConnectionTraffic.
+     *
+     * @return the live byte and throughput counters of the open proxied connections, keyed by accepted connection
+     */
+    public Map<Connection, ConnectionTraffic> getConnectionTraffic() {
+        return Collections.unmodifiableMap(connectionTraffic);
     }
 
     private String getIp(final SocketAddress socketAddress) {
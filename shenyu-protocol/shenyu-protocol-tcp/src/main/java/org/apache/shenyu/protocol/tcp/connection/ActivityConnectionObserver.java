@@ -48,12 +48,10 @@ public class ActivityConnectionObserver implements ConnectionObserver {
     public void onStateChange(final Connection connection, final State newState) {
         if (newState == State.CONNECTED) {
             cache.put(connection, newState);
-            LOG.info("{} add connection into cache ={}", name, connection);
         } else if (newState == State.DISCONNECTING
                 || newState == State.RELEASED
         ) {
             cache.remove(connection);
-            LOG.info("{} remove connection into cache ={}", name, connection);
         } else {
             if (cache.containsKey(connection)) {
                 cache.put(connection, newState);
@@ -89,7 +87,7 @@ public class ActivityConnectionObserver implements ConnectionObserver {
         return removeList.stream().anyMatch(u -> {
             String cacheUrl = cacheSocketAddress.toString().substring(1);
             String removedUrl = u.getUrl();
-            LOG.info("compare {} , {}", cacheUrl, removedUrl);
+            LOG.debug("compare {} , {}", cacheUrl, removedUrl);
             return StringUtils.equals(cacheUrl, removedUrl);
         });
     }
@@ -31,4 +31,15 @@ public interface Bridge {
      * @param client tcp client connection
      */
     void bridge(Connection server, Connection client);
+
+    /**
+     * bridge and account the forwarded bytes.
+     *
+     * @param server  tcp server connection
+     * @param client  tcp client connection
+     * @param traffic traffic counters of the connection
+     */
+    default void bridge(Connection server, Connection client, ConnectionTraffic traffic) {
+        bridge(server, client);
+    }
 }
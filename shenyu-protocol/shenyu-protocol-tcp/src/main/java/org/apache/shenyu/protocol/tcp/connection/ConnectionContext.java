@@ -17,9 +17,16 @@
 
 package org.apache.shenyu.protocol.tcp.connection;
 
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.Connection;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.TcpClient;
 
 import java.time.Duration;
@@ -77,4 +84,40 @@ public class ConnectionContext {
                 );
     }
 
+    /**
+     * getSpliceClientConnection.
+     * Opens a dedicated level-triggered connection on the given event loop, so that it can be
+     * spliced with the server connection registered on the same loop. Auto read stays disabled until
+     * the bridge is set up.
+     *
+     * @param ip        ip
+     * @param observer  observer
+     * @param eventLoop event loop of the server connection
+     * @return MonoConnection
+     */
+    public Mono<Connection> getSpliceClientConnection(final String ip, final ActivityConnectionObserver observer, final EventLoop eventLoop) {
+        // connecting from the loop of the server connection makes the colocated group register the client on that loop
+        return Mono.fromSupplier(() -> connectionConfigProvider.getProxiedService(ip))
+                .<Connection>flatMap(url ->
+                        TcpClient.create(ConnectionProvider.newConnection())
+                                .runOn(LoopResources.colocate(eventLoop.parent()))
+                                .option(EpollChannelOption.EPOLL_MODE, EpollMode.LEVEL_TRIGGERED)
+                                .option(ChannelOption.AUTO_READ, false)
+                                .host(url.getHost())
+                                .port(url.getPort())
+                                .observe(observer)
+                                .connect()
+                )
+                .subscribeOn(Schedulers.fromExecutor(eventLoop));
+    }
+
+    /**
+     * isSpliceAvailable.
+     *
+     * @return whether the native epoll transport, required for splice, is available
+     */
+    public static boolean isSpliceAvailable() {
+        return Epoll.isAvailable();
+    }
+
 }
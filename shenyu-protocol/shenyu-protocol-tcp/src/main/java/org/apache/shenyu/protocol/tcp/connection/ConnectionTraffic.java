@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ConnectionTraffic.
+ * Byte counters of one proxied connection.
+ */
+public class ConnectionTraffic {
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong upstreamBytes = new AtomicLong();
+
+    private final AtomicLong downstreamBytes = new AtomicLong();
+
+    /**
+     * record bytes forwarded from the client to the upstream.
+     *
+     * @param bytes bytes
+     */
+    public void recordUpstream(final long bytes) {
+        upstreamBytes.addAndGet(bytes);
+    }
+
+    /**
+     * record bytes forwarded from the upstream to the client.
+     *
+     * @param bytes bytes
+     */
+    public void recordDownstream(final long bytes) {
+        downstreamBytes.addAndGet(bytes);
+    }
+
+    /**
+     * getUpstreamBytes.
+     *
+     * @return bytes forwarded from the client to the upstream
+     */
+    public long getUpstreamBytes() {
+        return upstreamBytes.get();
+    }
+
+    /**
+     * getDownstreamBytes.
+     *
+     * @return bytes forwarded from the upstream to the client
+     */
+    public long getDownstreamBytes() {
+        return downstreamBytes.get();
+    }
+
+    /**
+     * getDurationMillis.
+     *
+     * @return connection age in milliseconds
+     */
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * getThroughput.
+     *
+     * @return bytes per second in both directions since the connection was bridged
+     */
+    public long getThroughput() {
+        long nanos = Math.max(1L, System.nanoTime() - startNanos);
+        return (long) ((getUpstreamBytes() + getDownstreamBytes()) / (nanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionTraffic{"
+                + "upstreamBytes=" + getUpstreamBytes()
+                + ", downstreamBytes=" + getDownstreamBytes()
+                + ", durationMillis=" + getDurationMillis()
+                + ", throughput=" + getThroughput()
+                + '}';
+    }
+}
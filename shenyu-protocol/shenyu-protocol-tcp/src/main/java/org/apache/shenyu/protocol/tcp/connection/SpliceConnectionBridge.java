@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.epoll.AbstractEpollStreamChannel;
+import io.netty.channel.epoll.EpollChannelConfig;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.Native;
+import io.netty.channel.unix.FileDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.Connection;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * SpliceConnectionBridge.
+ * Forwards bytes between two epoll channels with splice(2), so the payload never leaves the kernel.
+ * Falls back to {@link TcpConnectionBridge} when the legs cannot be spliced.
+ *
+ * <p>Both legs must be level-triggered epoll channels registered on the same event loop,
+ * and must have auto read disabled until the splice is set up, otherwise bytes already
+ * read into the pipeline would be lost.
+ *
+ * <p>A one byte {@code spliceTo} task waits for the source to become readable, the rest of the
+ * readable bytes is then spliced through a pipe of the bridge, so every splice(2) result is
+ * counted in the {@link ConnectionTraffic} as it is. Bytes the destination cannot take at once
+ * are written through its pipeline, and the source is not read again until they are flushed.
+ */
+public class SpliceConnectionBridge implements Bridge {
+
+    private static final int SPLICE_CHUNK_SIZE = 64 * 1024;
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpliceConnectionBridge.class);
+
+    private final Bridge fallback;
+
+    public SpliceConnectionBridge(final Bridge fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void bridge(final Connection server, final Connection client) {
+        bridge(server, client, new ConnectionTraffic());
+    }
+
+    @Override
+    public void bridge(final Connection server, final Connection client, final ConnectionTraffic traffic) {
+        Channel serverChannel = server.channel();
+        Channel clientChannel = client.channel();
+        FileDescriptor[] upstreamPipe = canSplice(serverChannel, clientChannel) ? openPipe() : null;
+        FileDescriptor[] downstreamPipe = upstreamPipe == null ? null : openPipe();
+        if (downstreamPipe == null) {
+            closePipe(upstreamPipe);
+            LOG.debug("splice is not possible between {} and {}, fall back to copying", serverChannel, clientChannel);
+            fallback.bridge(server, client, traffic);
+            serverChannel.config().setAutoRead(true);
+            clientChannel.config().setAutoRead(true);
+            return;
+        }
+        serverChannel.eventLoop().execute(() -> {
+            new Pump((AbstractEpollStreamChannel) serverChannel, (AbstractEpollStreamChannel) clientChannel, upstreamPipe, traffic::recordUpstream).awaitReadable();
+            new Pump((AbstractEpollStreamChannel) clientChannel, (AbstractEpollStreamChannel) serverChannel, downstreamPipe, traffic::recordDownstream).awaitReadable();
+            serverChannel.closeFuture().addListener((ChannelFutureListener) future -> clientChannel.close());
+            clientChannel.closeFuture().addListener((ChannelFutureListener) future -> serverChannel.close());
+            serverChannel.config().setAutoRead(true);
+            clientChannel.config().setAutoRead(true);
+        });
+    }
+
+    /**
+     * whether the two channels can be spliced.
+     *
+     * @param serverChannel server channel
+     * @param clientChannel client channel
+     * @return splice possible
+     */
+    static boolean canSplice(final Channel serverChannel, final Channel clientChannel) {
+        return serverChannel instanceof AbstractEpollStreamChannel
+                && clientChannel instanceof AbstractEpollStreamChannel
+                && serverChannel.eventLoop() == clientChannel.eventLoop()
+                && isLevelTriggered(serverChannel)
+                && isLevelTriggered(clientChannel);
+    }
+
+    private static boolean isLevelTriggered(final Channel channel) {
+        return ((EpollChannelConfig) channel.config()).getEpollMode() == EpollMode.LEVEL_TRIGGERED;
+    }
+
+    private static FileDescriptor[] openPipe() {
+        try {
+            return FileDescriptor.pipe();
+        } catch (IOException e) {
+            LOG.warn("shenyu tcp proxy failed to open a splice pipe", e);
+            return null;
+        }
+    }
+
+    private static void closePipe(final FileDescriptor[] pipe) {
+        if (pipe == null) {
+            return;
+        }
+        for (FileDescriptor fd : pipe) {
+            try {
+                fd.close();
+            } catch (IOException ignored) {
+                // the pipe is not used any more
+            }
+        }
+    }
+
+    /**
+     * Moves the bytes of one direction, all its methods run on the event loop of the two channels.
+     */
+    private static final class Pump {
+
+        private final AbstractEpollStreamChannel from;
+
+        private final AbstractEpollStreamChannel to;
+
+        private final FileDescriptor pipeIn;
+
+        private final FileDescriptor pipeOut;
+
+        private final LongConsumer counter;
+
+        Pump(final AbstractEpollStreamChannel from, final AbstractEpollStreamChannel to, final FileDescriptor[] pipe, final LongConsumer counter) {
+            this.from = from;
+            this.to = to;
+            this.pipeIn = pipe[0];
+            this.pipeOut = pipe[1];
+            this.counter = counter;
+            from.closeFuture().addListener((ChannelFutureListener) future -> closePipe(pipe));
+        }
+
+        void awaitReadable() {
+            // chained on the event loop: the next task is queued before the finished one is dequeued, so no read slips in between
+            from.spliceTo(to, 1).addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    counter.accept(1);
+                    drain();
+                } else {
+                    stop(future.cause());
+                }
+            });
+        }
+
+        private void drain() {
+            if (!from.isActive() || !to.isActive()) {
+                return;
+            }
+            try {
+                int spliced;
+                // the socket returns 0 once it would block or reached the end, the next one byte task tells them apart
+                while ((spliced = Native.splice(from.fd().intValue(), -1, pipeOut.intValue(), -1, SPLICE_CHUNK_SIZE)) > 0) {
+                    int pending = spliced;
+                    int written;
+                    while (pending > 0 && (written = Native.splice(pipeIn.intValue(), -1, to.fd().intValue(), -1, pending)) > 0) {
+                        pending -= written;
+                        counter.accept(written);
+                    }
+                    if (pending > 0) {
+                        writeThroughPipeline(pending);
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                stop(e);
+                return;
+            }
+            awaitReadable();
+        }
+
+        private void writeThroughPipeline(final int pending) throws IOException {
+            ByteBuf buf = to.alloc().directBuffer(pending);
+            try {
+                while (buf.writerIndex() < pending) {
+                    ByteBuffer nioBuffer = buf.internalNioBuffer(buf.writerIndex(), pending - buf.writerIndex());
+                    int read = pipeIn.read(nioBuffer, nioBuffer.position(), nioBuffer.limit());
+                    if (read <= 0) {
+                        throw new IOException("splice pipe drained early");
+                    }
+                    buf.writerIndex(buf.writerIndex() + read);
+                }
+            } catch (IOException e) {
+                buf.release();
+                throw e;
+            }
+            // the destination is full, stop reading the source until it took the bytes
+            from.config().setAutoRead(false);
+            to.writeAndFlush(buf).addListener((ChannelFutureListener) future -> {
+                if (future.isSuccess()) {
+                    counter.accept(pending);
+                    awaitReadable();
+                    from.config().setAutoRead(true);
+                } else {
+                    stop(future.cause());
+                }
+            });
+        }
+
+        private void stop(final Throwable cause) {
+            LOG.debug("splice from {} to {} stopped", from, to, cause);
+            from.close();
+            to.close();
+        }
+    }
+}
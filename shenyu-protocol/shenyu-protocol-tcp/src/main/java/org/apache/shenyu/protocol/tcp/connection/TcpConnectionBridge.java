@@ -25,6 +25,8 @@ import reactor.netty.Connection;
 import reactor.netty.NettyInbound;
 import reactor.netty.NettyOutbound;
 
+import java.util.function.LongConsumer;
+
 /**
  * TcpConnectionBridge.
  */
@@ -34,17 +36,22 @@ public class TcpConnectionBridge implements Bridge {
 
     @Override
     public void bridge(final Connection server, final Connection client) {
+        bridge(server, client, new ConnectionTraffic());
+    }
+
+    @Override
+    public void bridge(final Connection server, final Connection client, final ConnectionTraffic traffic) {
         //   LOG.info("start server#inbound -> client#outbound");
-        Disposable requestDisposable = bridge(server.inbound(), client.outbound());
+        Disposable requestDisposable = bridge(server.inbound(), client.outbound(), traffic::recordUpstream);
         //  LOG.info("start client#inbound -> server#outbound");
-        Disposable responseDisposable = bridge(client.inbound(), server.outbound());
+        Disposable responseDisposable = bridge(client.inbound(), server.outbound(), traffic::recordDownstream);
         // binding dispose: when server connection is disposed ,client while close too.
         server.onDispose(Disposables.composite(requestDisposable, responseDisposable, client.channel()::close));
         client.onDispose(Disposables.composite(requestDisposable, responseDisposable, server.channel()::close));
     }
 
-    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound) {
-        return outbound.send(inbound.receive().retain()).then().subscribe();
+    private Disposable bridge(final NettyInbound inbound, final NettyOutbound outbound, final LongConsumer counter) {
+        return outbound.send(inbound.receive().retain().doOnNext(buf -> counter.accept(buf.readableBytes()))).then().subscribe();
     }
 
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shenyu.protocol.tcp.connection;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollSocketChannel;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.resources.LoopResources;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link SpliceConnectionBridge}.
+ */
+public final class SpliceConnectionBridgeTest {
+
+    private static final String MESSAGE = "splice";
+
+    private static final byte[] MESSAGE_BYTES = MESSAGE.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testFallbackWhenNotSpliceable() {
+        EmbeddedChannel serverChannel = new EmbeddedChannel();
+        EmbeddedChannel clientChannel = new EmbeddedChannel();
+        serverChannel.config().setAutoRead(false);
+        clientChannel.config().setAutoRead(false);
+        Connection server = mock(Connection.class);
+        Connection client = mock(Connection.class);
+        when(server.channel()).thenReturn(serverChannel);
+        when(client.channel()).thenReturn(clientChannel);
+        Bridge fallback = mock(Bridge.class);
+        ConnectionTraffic traffic = new ConnectionTraffic();
+        assertFalse(SpliceConnectionBridge.canSplice(serverChannel, clientChannel));
+        new SpliceConnectionBridge(fallback).bridge(server, client, traffic);
+        verify(fallback).bridge(server, client, traffic);
+        assertTrue(serverChannel.config().isAutoRead());
+        assertTrue(clientChannel.config().isAutoRead());
+    }
+
+    @Test
+    public void testSpliceForwardsBytes() {
+        assumeTrue(Epoll.isAvailable(), "splice needs the native epoll transport");
+        Bridge fallback = mock(Bridge.class);
+        AtomicReference<Connection> upstreamLeg = new AtomicReference<>();
+        ConnectionTraffic traffic = new ConnectionTraffic();
+        assertArrayEquals(MESSAGE_BYTES, echoThroughProxy(new SpliceConnectionBridge(fallback), EpollMode.LEVEL_TRIGGERED, traffic, upstreamLeg, MESSAGE_BYTES));
+        assertTrue(upstreamLeg.get().channel() instanceof EpollSocketChannel);
+        verify(fallback, never()).bridge(any(), any(), any());
+        // a small exchange is counted as it is, not as a whole splice chunk
+        await().until(() -> traffic.getUpstreamBytes() == MESSAGE_BYTES.length && traffic.getDownstreamBytes() == MESSAGE_BYTES.length);
+    }
+
+    @Test
+    public void testSpliceCountsExactBytes() {
+        assumeTrue(Epoll.isAvailable(), "splice needs the native epoll transport");
+        // not a multiple of the 64 KiB splice chunk
+        byte[] payload = new byte[3 * 64 * 1024 + 4321];
+        new Random(31).nextBytes(payload);
+        ConnectionTraffic traffic = new ConnectionTraffic();
+        assertArrayEquals(payload, echoThroughProxy(new SpliceConnectionBridge(mock(Bridge.class)), EpollMode.LEVEL_TRIGGERED, traffic, new AtomicReference<>(), payload));
+        await().until(() -> traffic.getUpstreamBytes() == payload.length && traffic.getDownstreamBytes() == payload.length);
+        assertEquals(payload.length, traffic.getUpstreamBytes());
+        assertEquals(payload.length, traffic.getDownstreamBytes());
+    }
+
+    @Test
+    public void testCopyingFallbackForwardsBytes() {
+        assumeTrue(Epoll.isAvailable(), "the upstream leg of the splice mode needs the native epoll transport");
+        ConnectionTraffic traffic = new ConnectionTraffic();
+        // an edge-triggered accepted channel cannot be spliced, the upstream leg is copied to instead
+        assertArrayEquals(MESSAGE_BYTES, echoThroughProxy(new SpliceConnectionBridge(new TcpConnectionBridge()), EpollMode.EDGE_TRIGGERED, traffic, new AtomicReference<>(), MESSAGE_BYTES));
+        assertEquals(MESSAGE.length(), traffic.getUpstreamBytes());
+        assertEquals(MESSAGE.length(), traffic.getDownstreamBytes());
+    }
+
+    private static byte[] echoThroughProxy(final Bridge bridge, final EpollMode epollMode, final ConnectionTraffic traffic,
+                                           final AtomicReference<Connection> upstreamLeg, final byte[] payload) {
+        DisposableServer upstream = TcpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((in, out) -> out.send(in.receive().retain()))
+                .bindNow();
+        LoopResources loopResources = LoopResources.create("splice-test", 1, 1, true);
+        ConnectionContext connectionContext = new ConnectionContext(ip -> URI.create("tcp://127.0.0.1:" + upstream.port()));
+        connectionContext.init(System.getProperties());
+        DisposableServer proxy = TcpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .doOnChannelInit((observer, channel, remoteAddress) -> channel.config().setAutoRead(false))
+                .childOption(EpollChannelOption.EPOLL_MODE, epollMode)
+                .doOnConnection(server -> connectionContext
+                        .getSpliceClientConnection("127.0.0.1", new ActivityConnectionObserver("splice-test"), server.channel().eventLoop())
+                        .subscribe(client -> {
+                            upstreamLeg.set(client);
+                            bridge.bridge(server, client, traffic);
+                        }))
+                .runOn(loopResources, true)
+                .bindNow();
+        Connection client = TcpClient.create().host("127.0.0.1").port(proxy.port()).connectNow();
+        try {
+            client.outbound().sendByteArray(Mono.just(payload)).then().subscribe();
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            client.inbound().receive().asByteArray()
+                    .doOnNext(bytes -> received.write(bytes, 0, bytes.length))
+                    .takeUntil(bytes -> received.size() >= payload.length)
+                    .blockLast(Duration.ofSeconds(10));
+            return received.toByteArray();
+        } finally {
+            client.disposeNow();
+            proxy.disposeNow();
+            upstream.disposeNow();
+            loopResources.dispose();
+        }
+    }
+}
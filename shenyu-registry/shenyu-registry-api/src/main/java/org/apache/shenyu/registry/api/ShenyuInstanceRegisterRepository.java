@@ -75,6 +75,16 @@ public interface ShenyuInstanceRegisterRepository {
     default void watchInstances(String key, ChangedEventListener changedEventListener) {
     }
 
+    /**
+     * watch the instances selected by {@link #selectInstances(String)} with the same select key.
+     *
+     * @param selectKey selectKey
+     * @param changedEventListener changedEventListener
+     */
+    default void watchSelectInstances(String selectKey, ChangedEventListener changedEventListener) {
+        watchInstances(selectKey, changedEventListener);
+    }
+
     /**
      * unWatchInstances.
      *
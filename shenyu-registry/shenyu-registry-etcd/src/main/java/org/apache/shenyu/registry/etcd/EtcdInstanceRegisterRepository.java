@@ -165,6 +165,11 @@ public class EtcdInstanceRegisterRepository implements ShenyuInstanceRegisterRep
         }
     }
 
+    @Override
+    public void watchSelectInstances(final String selectKey, final ChangedEventListener listener) {
+        watchInstances(InstancePathConstants.buildInstanceParentPath(selectKey), listener);
+    }
+
     @Override
     public void unWatchInstances(final String key) {
         if (watchCache.containsKey(key)) {
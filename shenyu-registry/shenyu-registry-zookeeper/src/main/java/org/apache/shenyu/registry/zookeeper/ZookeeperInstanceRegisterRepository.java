@@ -127,8 +127,7 @@ public class ZookeeperInstanceRegisterRepository implements ShenyuInstanceRegist
     @Override
     public List<InstanceEntity> selectInstances(final String selectKey) {
         try {
-            final String watchKey = StringUtils.isNotBlank(watchPath)
-                    ? InstancePathConstants.buildRealNode(watchPath, selectKey) : InstancePathConstants.buildInstanceParentPath(selectKey);
+            final String watchKey = selectPath(selectKey);
             final Function<List<String>, List<InstanceEntity>> getInstanceRegisterFun = childrenList -> childrenList.stream().map(childPath -> {
                 String instanceRegisterJsonStr = client.get(InstancePathConstants.buildRealNode(watchKey, childPath));
                 InstanceEntity instanceEntity = GsonUtils.getInstance().fromJson(instanceRegisterJsonStr, InstanceEntity.class);
@@ -220,6 +219,11 @@ public class ZookeeperInstanceRegisterRepository implements ShenyuInstanceRegist
         }
     }
 
+    @Override
+    public void watchSelectInstances(final String selectKey, final ChangedEventListener listener) {
+        watchInstances(selectPath(selectKey), listener);
+    }
+
     @Override
     public void unWatchInstances(final String key) {
         if (cacheMap.containsKey(key)) {
@@ -228,6 +232,11 @@ public class ZookeeperInstanceRegisterRepository implements ShenyuInstanceRegist
         }
     }
 
+    private String selectPath(final String selectKey) {
+        return StringUtils.isNotBlank(watchPath)
+                ? InstancePathConstants.buildRealNode(watchPath, selectKey) : InstancePathConstants.buildInstanceParentPath(selectKey);
+    }
+
     private URI getURI(final String instanceRegisterJsonStr, final Integer port, final String host) {
         if (Objects.isNull(port) || Objects.isNull(host)) {
             return null;
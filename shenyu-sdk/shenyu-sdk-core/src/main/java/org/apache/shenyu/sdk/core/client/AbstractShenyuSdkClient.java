@@ -40,9 +40,14 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -66,6 +71,16 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
 
     private String scheme;
 
+    private long instanceCacheTtl;
+
+    private volatile List<Upstream> localUpstreams;
+
+    private final Map<String, CachedUpstreams> upstreamCache = new ConcurrentHashMap<>();
+
+    private final Map<String, Boolean> watchedServices = new ConcurrentHashMap<>();
+
+    private final AtomicLong registryVersion = new AtomicLong();
+
     /**
      * Do request shenyu response.
      *
@@ -75,6 +90,21 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
      */
     protected abstract ShenyuResponse doRequest(ShenyuRequest request) throws IOException;
 
+    /**
+     * Do request without blocking the caller, the transport fails the future with an {@link IOException} to retry.
+     * The default falls back to {@link #doRequest(ShenyuRequest)}.
+     *
+     * @param request the request
+     * @return the future of shenyu response
+     */
+    protected CompletableFuture<ShenyuResponse> doRequestAsync(final ShenyuRequest request) {
+        try {
+            return CompletableFuture.completedFuture(doRequest(request));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Init client.
      *
@@ -88,12 +118,13 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
         this.registerRepository = instanceRegisterRepository;
         this.requestInterceptors = requestInterceptors;
         Properties props = registerConfig.getProps();
+        this.algorithm = props.getProperty("algorithm", "roundRobin");
+        this.scheme = props.getProperty("scheme", "http");
+        this.instanceCacheTtl = Long.parseLong(props.getProperty("instance.cacheTtl", "30000"));
         boolean retryEnable = Boolean.parseBoolean(props.getProperty("retry.enable", "false"));
         long period = Long.parseLong(props.getProperty("retry.period", "100"));
         long maxPeriod = Long.parseLong(props.getProperty("retry.maxPeriod", "1000"));
         int maxAttempts = Integer.parseInt(props.getProperty("retry.maxAttempts", "5"));
-        this.algorithm = props.getProperty("algorithm", "roundRobin");
-        this.scheme = props.getProperty("scheme", "http");
         this.retryer = retryEnable ? new Retryer.DefaultRetry(period, maxPeriod, maxAttempts) : Retryer.NEVER_RETRY;
         this.initClient(props);
     }
@@ -111,6 +142,44 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
         }
     }
 
+    @Override
+    public CompletableFuture<ShenyuResponse> executeAsync(final ShenyuRequest request) {
+        CompletableFuture<ShenyuResponse> result = new CompletableFuture<>();
+        executeAsync0(request, this.retryer.instance(), result);
+        return result;
+    }
+
+    private void executeAsync0(final ShenyuRequest request, final Retryer retryer, final CompletableFuture<ShenyuResponse> result) {
+        long start = System.nanoTime();
+        CompletableFuture<ShenyuResponse> attempt;
+        try {
+            attempt = doRequestAsync(rewriteShenYuRequest(request));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        attempt.whenComplete((response, ex) -> {
+            if (Objects.isNull(ex)) {
+                result.complete(response);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && Objects.nonNull(ex.getCause()) ? ex.getCause() : ex;
+            if (!(cause instanceof IOException)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            log.warn("request fail, retry. requestUrl {} retryCount {} elapsedTime {} ex", request.getUrl(),
+                    retryer.retryCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), cause);
+            try {
+                long delay = retryer.nextDelay(errorExecuting(request, (IOException) cause));
+                // the next attempt never runs on the transport thread that completed this one
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> executeAsync0(request, retryer, result));
+            } catch (RetryableException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
     private ShenyuResponse execute0(final ShenyuRequest request) {
         long start = System.nanoTime();
         ShenyuResponse shenyuResponse;
@@ -148,33 +217,78 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
      */
     private String loadBalancerInstances(final ShenyuRequest request) {
         // all addresses of registry
-        final List<Upstream> upstreams;
-        if (Objects.isNull(registerRepository)) {
+        final List<Upstream> upstreams = Objects.isNull(registerRepository) ? localUpstreams() : registryUpstreams(request.getName());
+        // loadBalancer upstreams
+        LoadBalanceData data = new LoadBalanceData();
+        data.setHeaders(request.getHeaders());
+        data.setHttpMethod(request.getHttpMethod().name());
+        final Upstream upstream = LoadBalancerFactory.selector(upstreams, algorithm, data);
+        return replaceUrl(upstream.getUrl(), request.getUrl());
+    }
+
+    private List<Upstream> localUpstreams() {
+        List<Upstream> upstreams = localUpstreams;
+        if (Objects.isNull(upstreams)) {
             List<String> serverList = Arrays.asList(registerConfig.getServerLists().split(","));
             if (serverList.isEmpty()) {
                 throw new ShenyuException("illegal param, serverLists configuration required if registerType equals local.");
             }
             upstreams = serverList.stream()
                     .map(serverAddress -> Upstream.builder().url(UriUtils.appendScheme(serverAddress, scheme)).build())
-                    .collect(Collectors.toList());
-        } else {
-            List<InstanceEntity> instanceRegisters = registerRepository.selectInstances(request.getName());
-            if (ObjectUtils.isEmpty(instanceRegisters)) {
-                throw new ShenyuException("Gateway address not found from registry.");
+                    .collect(Collectors.toUnmodifiableList());
+            localUpstreams = upstreams;
+        }
+        return upstreams;
+    }
+
+    /**
+     * The instances of a service are cached until the registry reports a change of the service,
+     * or at the latest until the cache ttl passes for the registries that can not be watched.
+     * The upstreams are reused between requests, so the load balancer state stays attached to them.
+     *
+     * @param name the service name
+     * @return the upstreams
+     */
+    private List<Upstream> registryUpstreams(final String name) {
+        final boolean cacheable = instanceCacheTtl > 0 && Objects.nonNull(name);
+        if (cacheable) {
+            CachedUpstreams cached = upstreamCache.get(name);
+            if (Objects.nonNull(cached) && cached.expireAt - System.nanoTime() > 0) {
+                return cached.upstreams;
             }
-            upstreams = instanceRegisters.stream()
-                    .map(instanceRegister -> {
-                        final String instanceUrl = String.join(Constants.COLONS, instanceRegister.getHost(), Integer.toString(instanceRegister.getPort()));
-                        return Upstream.builder().url(UriUtils.appendScheme(instanceUrl, scheme)).build();
-                    })
-                    .collect(Collectors.toList());
+            watch(name);
         }
-        // loadBalancer upstreams
-        LoadBalanceData data = new LoadBalanceData();
-        data.setHeaders(request.getHeaders());
-        data.setHttpMethod(request.getHttpMethod().name());
-        final Upstream upstream = LoadBalancerFactory.selector(upstreams, algorithm, data);
-        return replaceUrl(upstream.getUrl(), request.getUrl());
+        final long version = registryVersion.get();
+        List<InstanceEntity> instanceRegisters = registerRepository.selectInstances(name);
+        if (ObjectUtils.isEmpty(instanceRegisters)) {
+            throw new ShenyuException("Gateway address not found from registry.");
+        }
+        final List<Upstream> upstreams = instanceRegisters.stream()
+                .map(instanceRegister -> {
+                    final String instanceUrl = String.join(Constants.COLONS, instanceRegister.getHost(), Integer.toString(instanceRegister.getPort()));
+                    return Upstream.builder().url(UriUtils.appendScheme(instanceUrl, scheme)).build();
+                })
+                .collect(Collectors.toUnmodifiableList());
+        // a change reported while selecting may not be part of the selected instances
+        if (cacheable && registryVersion.get() == version) {
+            upstreamCache.put(name, new CachedUpstreams(upstreams, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(instanceCacheTtl)));
+        }
+        return upstreams;
+    }
+
+    private void watch(final String name) {
+        watchedServices.computeIfAbsent(name, key -> {
+            try {
+                registerRepository.watchSelectInstances(key, (changedKey, value, event) -> {
+                    registryVersion.incrementAndGet();
+                    upstreamCache.remove(key);
+                });
+                return Boolean.TRUE;
+            } catch (RuntimeException e) {
+                log.warn("watch instances of {} fail, they are refreshed by the cache ttl only", key, e);
+                return Boolean.FALSE;
+            }
+        });
     }
 
     private String replaceUrl(final String url, final String sourceUrl) {
@@ -186,4 +300,15 @@ public abstract class AbstractShenyuSdkClient implements ShenyuSdkClient {
         }
     }
 
+    private static final class CachedUpstreams {
+
+        private final List<Upstream> upstreams;
+
+        private final long expireAt;
+
+        CachedUpstreams(final List<Upstream> upstreams, final long expireAt) {
+            this.upstreams = upstreams;
+            this.expireAt = expireAt;
+        }
+    }
 }
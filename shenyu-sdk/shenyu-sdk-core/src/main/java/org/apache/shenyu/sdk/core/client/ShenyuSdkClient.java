@@ -26,6 +26,7 @@ import org.apache.shenyu.spi.SPI;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ShenyuSdkClient.
@@ -51,4 +52,18 @@ public interface ShenyuSdkClient {
      * @throws IOException error
      */
     ShenyuResponse execute(ShenyuRequest request) throws IOException;
+
+    /**
+     * execute without blocking the caller, the default falls back to {@link #execute(ShenyuRequest)}.
+     *
+     * @param request request
+     * @return the future of {@link ShenyuResponse}
+     */
+    default CompletableFuture<ShenyuResponse> executeAsync(ShenyuRequest request) {
+        try {
+            return CompletableFuture.completedFuture(execute(request));
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -41,6 +41,11 @@ public interface Retryer extends Cloneable {
             throw e;
         }
 
+        @Override
+        public long nextDelay(final RetryableException e) {
+            throw e;
+        }
+
         @Override
         public Retryer instance() {
             return this;
@@ -60,6 +65,18 @@ public interface Retryer extends Cloneable {
      */
     void continueOrPropagate(RetryableException e);
 
+    /**
+     * if retry is permitted, return the milliseconds to wait before the next attempt instead of sleeping,
+     * otherwise propagate the exception. Used by {@link ShenyuSdkClient#executeAsync(ShenyuRequest)}.
+     *
+     * @param e RetryableException
+     * @return the delay in milliseconds
+     */
+    default long nextDelay(RetryableException e) {
+        continueOrPropagate(e);
+        return 0;
+    }
+
     /**
      * clone current retryer.
      *
@@ -99,6 +116,20 @@ public interface Retryer extends Cloneable {
 
         @Override
         public void continueOrPropagate(final RetryableException e) {
+            long interval = nextDelay(e);
+            if (interval <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+
+        @Override
+        public long nextDelay(final RetryableException e) {
             if (attempt++ >= maxAttempts) {
                 throw e;
             }
@@ -110,18 +141,13 @@ public interface Retryer extends Cloneable {
                     interval = maxPeriod;
                 }
                 if (interval < 0) {
-                    return;
+                    return 0;
                 }
             } else {
                 interval = nextMaxInterval();
             }
-            try {
-                Thread.sleep(interval);
-            } catch (InterruptedException ignored) {
-                Thread.currentThread().interrupt();
-                throw e;
-            }
             sleptForMillis += interval;
+            return interval;
         }
 
         /**
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.sdk.core.client;
+
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.api.CuratorWatcher;
+import org.apache.curator.framework.listen.Listenable;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.infra.zookeeper.client.ZookeeperClient;
+import org.apache.shenyu.registry.api.ShenyuInstanceRegisterRepository;
+import org.apache.shenyu.registry.api.config.RegisterConfig;
+import org.apache.shenyu.registry.api.entity.InstanceEntity;
+import org.apache.shenyu.registry.api.event.ChangedEventListener;
+import org.apache.shenyu.registry.api.path.InstancePathConstants;
+import org.apache.shenyu.registry.zookeeper.ZookeeperInstanceRegisterRepository;
+import org.apache.shenyu.sdk.core.ShenyuRequest;
+import org.apache.shenyu.sdk.core.ShenyuResponse;
+import org.apache.shenyu.sdk.core.retry.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.apache.zookeeper.data.Stat;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedConstruction;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for {@link AbstractShenyuSdkClient}.
+ */
+public class AbstractShenyuSdkClientTest {
+
+    private static final String SERVICE = "shenyu-gateway";
+
+    private static final int CALLS = 10_000;
+
+    @Test
+    public void testInstancesAreCachedUntilChanged() throws IOException {
+        ShenyuInstanceRegisterRepository repository = mock(ShenyuInstanceRegisterRepository.class);
+        when(repository.selectInstances(SERVICE)).thenReturn(Arrays.asList(
+                new InstanceEntity(SERVICE, "127.0.0.1", 9195), new InstanceEntity(SERVICE, "127.0.0.2", 9195)));
+        StubClient client = new StubClient(0);
+        client.init(new RegisterConfig("nacos", "127.0.0.1:8848", new Properties()), Collections.emptyList(), repository);
+
+        for (int i = 0; i < CALLS; i++) {
+            client.execute(request());
+        }
+        verify(repository, times(1)).selectInstances(SERVICE);
+        // the balancer sees the same upstreams on every call, so round-robin alternates
+        assertEquals(CALLS / 2, client.hits("127.0.0.1"));
+        assertEquals(CALLS / 2, client.hits("127.0.0.2"));
+
+        ArgumentCaptor<ChangedEventListener> listener = ArgumentCaptor.forClass(ChangedEventListener.class);
+        verify(repository).watchSelectInstances(eq(SERVICE), listener.capture());
+        listener.getValue().onEvent(SERVICE, "{}", ChangedEventListener.Event.DELETED);
+        client.execute(request());
+        verify(repository, times(2)).selectInstances(SERVICE);
+    }
+
+    @Test
+    public void testZookeeperWatchesTheSelectedPath() throws Exception {
+        final String servicePath = InstancePathConstants.buildInstanceParentPath(SERVICE);
+        final String instance = GsonUtils.getInstance().toJson(new InstanceEntity(SERVICE, "127.0.0.1", 9195));
+        final Map<String, CuratorCacheListener> cacheListeners = new ConcurrentHashMap<>();
+        try (MockedConstruction<ZookeeperClient> construction = mockConstruction(ZookeeperClient.class, (mock, context) -> {
+            final CuratorFramework curatorFramework = mock(CuratorFramework.class);
+            when(mock.getClient()).thenReturn(curatorFramework);
+            when(curatorFramework.getConnectionStateListenable()).thenReturn(mock(Listenable.class));
+            when(mock.subscribeChildrenChanges(eq(servicePath), any(CuratorWatcher.class))).thenReturn(Collections.singletonList("127.0.0.1:9195"));
+            when(mock.get(anyString())).thenReturn(instance);
+            when(mock.addCache(anyString(), any(CuratorCacheListener.class))).thenAnswer(invocation -> {
+                cacheListeners.put(invocation.getArgument(0), invocation.getArgument(1));
+                return mock(CuratorCache.class);
+            });
+        })) {
+            ZookeeperInstanceRegisterRepository repository = spy(new ZookeeperInstanceRegisterRepository());
+            RegisterConfig config = new RegisterConfig("zookeeper", "127.0.0.1:2181", new Properties());
+            repository.init(config);
+            StubClient client = new StubClient(0);
+            client.init(config, Collections.emptyList(), repository);
+            client.execute(request());
+            client.execute(request());
+            verify(repository, times(1)).selectInstances(SERVICE);
+            // the cache watches the node whose children selectInstances reads
+            assertEquals(Collections.singleton(servicePath), cacheListeners.keySet());
+
+            Stat stat = new Stat();
+            stat.setEphemeralOwner(1L);
+            cacheListeners.get(servicePath).event(CuratorCacheListener.Type.NODE_DELETED, null,
+                    new ChildData(InstancePathConstants.buildRealNode(servicePath, "127.0.0.1:9195"), stat, instance.getBytes(StandardCharsets.UTF_8)));
+            client.execute(request());
+            verify(repository, times(2)).selectInstances(SERVICE);
+        }
+    }
+
+    @Test
+    public void testInstancesExpireWhenWatchFails() throws Exception {
+        ShenyuInstanceRegisterRepository repository = mock(ShenyuInstanceRegisterRepository.class);
+        when(repository.selectInstances(SERVICE)).thenReturn(Collections.singletonList(new InstanceEntity(SERVICE, "127.0.0.1", 9195)));
+        doThrow(new IllegalStateException("unsupported")).when(repository).watchSelectInstances(eq(SERVICE), any());
+        StubClient client = new StubClient(0);
+        Properties props = new Properties();
+        props.setProperty("instance.cacheTtl", "50");
+        client.init(new RegisterConfig("nacos", "127.0.0.1:8848", props), Collections.emptyList(), repository);
+        client.execute(request());
+        client.execute(request());
+        verify(repository, times(1)).selectInstances(SERVICE);
+        Thread.sleep(100);
+        client.execute(request());
+        verify(repository, times(2)).selectInstances(SERVICE);
+    }
+
+    @Test
+    public void testExecuteAsyncRetries() throws Exception {
+        Properties props = new Properties();
+        props.setProperty("retry.enable", "true");
+        props.setProperty("retry.period", "1");
+        props.setProperty("retry.maxAttempts", "3");
+        StubClient client = new StubClient(2);
+        client.init(new RegisterConfig("local", "127.0.0.1:9195", props), Collections.emptyList(), null);
+        ShenyuResponse response = client.executeAsync(request()).get(3, TimeUnit.SECONDS);
+        assertEquals(200, response.getStatus());
+        assertEquals(3, client.attempts.get());
+    }
+
+    @Test
+    public void testExecuteAsyncPropagatesWhenRetryIsDisabled() {
+        StubClient client = new StubClient(1);
+        client.init(new RegisterConfig("local", "127.0.0.1:9195", new Properties()), Collections.emptyList(), null);
+        CompletableFuture<ShenyuResponse> future = client.executeAsync(request());
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(3, TimeUnit.SECONDS));
+        assertInstanceOf(RetryableException.class, exception.getCause());
+        assertEquals(1, client.attempts.get());
+    }
+
+    private static ShenyuRequest request() {
+        return ShenyuRequest.create(ShenyuRequest.HttpMethod.GET, "http://localhost/test?id=1", Collections.emptyMap(), null, SERVICE, null);
+    }
+
+    private static final class StubClient extends AbstractShenyuSdkClient {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private final int failures;
+
+        private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+        StubClient(final int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        protected ShenyuResponse doRequest(final ShenyuRequest request) throws IOException {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IOException("connection refused");
+            }
+            hits.computeIfAbsent(URI.create(request.getUrl()).getHost(), host -> new AtomicInteger()).incrementAndGet();
+            return new ShenyuResponse(200, null, Collections.emptyMap(), "ok", request);
+        }
+
+        @Override
+        protected void initClient(final Properties props) {
+        }
+
+        int hits(final String host) {
+            return hits.getOrDefault(host, new AtomicInteger()).get();
+        }
+    }
+}
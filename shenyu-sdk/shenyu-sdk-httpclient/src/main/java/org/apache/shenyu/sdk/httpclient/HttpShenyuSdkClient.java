@@ -52,7 +52,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -106,6 +106,15 @@ public class HttpShenyuSdkClient extends AbstractShenyuSdkClient {
 
     @Override
     protected ShenyuResponse doRequest(final ShenyuRequest request) throws IOException {
+        try {
+            return doRequestAsync(request).get();
+        } catch (Exception e) {
+            throw new ShenyuException(e);
+        }
+    }
+
+    @Override
+    protected CompletableFuture<ShenyuResponse> doRequestAsync(final ShenyuRequest request) {
         String url = request.getUrl();
         String body = request.getBody();
         RequestBuilder requestBuilder;
@@ -146,31 +155,34 @@ public class HttpShenyuSdkClient extends AbstractShenyuSdkClient {
                 requestBuilder.addHeader(name, value);
             }
         }
-        Future<HttpResponse> execute = httpAsyncClient.execute(requestBuilder.build(), new FutureCallback<>() {
+        CompletableFuture<ShenyuResponse> future = new CompletableFuture<>();
+        httpAsyncClient.execute(requestBuilder.build(), new FutureCallback<>() {
             @Override
             public void completed(final HttpResponse response) {
                 LOG.debug("HttpResponse completed statusLine={}", response.getStatusLine());
+                try {
+                    future.complete(new ShenyuResponse(response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase(),
+                            Arrays.stream(response.getAllHeaders()).collect(Collectors.groupingBy(Header::getName, HashMap::new,
+                                    Collectors.mapping(Header::getValue, Collectors.toCollection(LinkedList::new)))),
+                            EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8), request));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
             }
             
             @Override
             public void failed(final Exception ex) {
                 LOG.error("HttpResponse failed", ex);
+                future.completeExceptionally(ex);
             }
             
             @Override
             public void cancelled() {
                 LOG.debug("HttpResponse cancelled.");
+                future.cancel(false);
             }
         });
-        try {
-            HttpResponse response = execute.get();
-            return new ShenyuResponse(response.getStatusLine().getStatusCode(), response.getStatusLine().getReasonPhrase(),
-                    Arrays.stream(response.getAllHeaders()).collect(Collectors.groupingBy(Header::getName, HashMap::new,
-                            Collectors.mapping(Header::getValue, Collectors.toCollection(LinkedList::new)))),
-                    EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8), request);
-        } catch (Exception e) {
-            throw new ShenyuException(e);
-        }
+        return future;
     }
 
     private StringEntity createStringEntity(final String body) {
@@ -17,6 +17,8 @@
 
 package org.apache.shenyu.sdk.okhttp;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -36,6 +38,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,35 @@ public class OkHttpShenyuSdkClient extends AbstractShenyuSdkClient {
 
     @Override
     protected ShenyuResponse doRequest(final ShenyuRequest request) throws IOException {
+        try (Response okhttpResponse = okHttpClient
+                .newCall(buildRequest(request))
+                .execute()) {
+            return toShenyuResponse(okhttpResponse, request);
+        }
+    }
+
+    @Override
+    protected CompletableFuture<ShenyuResponse> doRequestAsync(final ShenyuRequest request) {
+        CompletableFuture<ShenyuResponse> future = new CompletableFuture<>();
+        okHttpClient.newCall(buildRequest(request)).enqueue(new Callback() {
+            @Override
+            public void onResponse(final Call call, final Response response) {
+                try (response) {
+                    future.complete(toShenyuResponse(response, request));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(final Call call, final IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private Request buildRequest(final ShenyuRequest request) {
         String url = request.getUrl();
         String body = request.getBody();
         Map<String, Collection<String>> headers = request.getHeaders();
@@ -101,16 +133,15 @@ public class OkHttpShenyuSdkClient extends AbstractShenyuSdkClient {
                 builder.patch(requestBody);
                 break;
         }
-        Request okhttpRequest = builder.build();
-        try (Response okhttpResponse = okHttpClient
-                .newCall(okhttpRequest)
-                .execute()) {
-            ResponseBody responseBody = okhttpResponse.body();
-            String bodyStr = Objects.isNull(responseBody) ? null : responseBody.string();
-            return new ShenyuResponse(okhttpResponse.code(), null,
-                    okhttpResponse.headers().names().stream().collect(Collectors.toMap(name -> name, name -> okhttpResponse.headers().values(name))),
-                    bodyStr, request);
-        }
+        return builder.build();
+    }
+
+    private ShenyuResponse toShenyuResponse(final Response okhttpResponse, final ShenyuRequest request) throws IOException {
+        ResponseBody responseBody = okhttpResponse.body();
+        String bodyStr = Objects.isNull(responseBody) ? null : responseBody.string();
+        return new ShenyuResponse(okhttpResponse.code(), null,
+                okhttpResponse.headers().names().stream().collect(Collectors.toMap(name -> name, name -> okhttpResponse.headers().values(name))),
+                bodyStr, request);
     }
 
     private ConnectionPool pool(final int maxIdleConnections, final long keepAliveDuration) {
@@ -32,6 +32,7 @@ import org.springframework.boot.context.properties.PropertyMapper;
 import reactor.netty.http.Http11SslContextSpec;
 import reactor.netty.http.Http2SslContextSpec;
 import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.ConnectionProvider.Builder;
@@ -53,6 +54,8 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
     
     private final ServerProperties serverProperties;
 
+    private ConnectionProvider h2ConnectionProvider;
+
     public HttpClientFactory(final HttpClientProperties httpClientProperties,
                              final LoopResources loopResources,
                              final ServerProperties serverProperties) {
@@ -88,9 +91,8 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
         });
     }
 
-    private void setSsl(final SslProvider.SslContextSpec sslContextSpec, final HttpClientProperties.Ssl ssl) {
-        SslProvider.ProtocolSslContextSpec clientSslContext = (serverProperties.getHttp2().isEnabled())
-                ? Http2SslContextSpec.forClient() : Http11SslContextSpec.forClient();
+    private void setSsl(final SslProvider.SslContextSpec sslContextSpec, final HttpClientProperties.Ssl ssl, final boolean http2) {
+        SslProvider.ProtocolSslContextSpec clientSslContext = http2 ? Http2SslContextSpec.forClient() : Http11SslContextSpec.forClient();
         clientSslContext.configure(sslContextBuilder -> {
             X509Certificate[] trustedX509Certificates = ssl.getTrustedX509CertificatesForTrustManager();
             if (ArrayUtils.isNotEmpty(trustedX509Certificates)) {
@@ -106,16 +108,62 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
                 .closeNotifyReadTimeout(ssl.getCloseNotifyReadTimeout());
     }
 
+    @Override
+    protected void destroyInstance(final HttpClient instance) {
+        synchronized (this) {
+            if (Objects.nonNull(h2ConnectionProvider)) {
+                h2ConnectionProvider.dispose();
+                h2ConnectionProvider = null;
+            }
+        }
+    }
+
     @Override
     protected HttpClient createInstance() {
         // configure pool resources.
         HttpClientProperties.Pool pool = properties.getPool();
         ConnectionProvider connectionProvider = buildConnectionProvider(pool);
-        HttpClient httpClient = HttpClient.create(connectionProvider)
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout());
-        if (serverProperties.getHttp2().isEnabled()) {
+        HttpClient httpClient = buildHttpClient(connectionProvider);
+        HttpClientProperties.Http2.Protocol protocol = properties.getHttp2().getProtocol();
+        boolean http2 = protocol == HttpClientProperties.Http2.Protocol.H2 || serverProperties.getHttp2().isEnabled();
+        if (protocol == HttpClientProperties.Http2.Protocol.H2C) {
+            // prior knowledge, the upstream must speak HTTP/2 on its cleartext port
+            httpClient = httpClient.protocol(HttpProtocol.H2C);
+        } else if (http2) {
             httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
         }
+        HttpClientProperties.Ssl ssl = properties.getSsl();
+        if (StringUtils.isNotEmpty(ssl.getKeyStorePath())
+                || ArrayUtils.isNotEmpty(ssl.getTrustedX509CertificatesForTrustManager())
+                || ssl.isUseInsecureTrustManager()) {
+            httpClient = httpClient.secure(sslContextSpec -> setSsl(sslContextSpec, ssl, http2));
+        }
+        return httpClient;
+    }
+
+    /**
+     * Create the client of upstreams registered with the h2c:// protocol.
+     *
+     * @return the h2c http client
+     */
+    public HttpClient createH2cClient() {
+        return buildHttpClient(getH2ConnectionProvider()).protocol(HttpProtocol.H2C);
+    }
+
+    /**
+     * Create the client of upstreams registered with the h2:// protocol, it is always secured
+     * with the configured ssl settings and negotiates h2 through ALPN.
+     *
+     * @return the h2 http client
+     */
+    public HttpClient createH2Client() {
+        return buildHttpClient(getH2ConnectionProvider()).protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                .secure(sslContextSpec -> setSsl(sslContextSpec, properties.getSsl(), true));
+    }
+
+    private HttpClient buildHttpClient(final ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout());
         HttpClientProperties.Proxy proxy = properties.getProxy();
         if (StringUtils.isNotEmpty(proxy.getHost())) {
             httpClient = setHttpClientProxy(httpClient, proxy);
@@ -128,12 +176,6 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
         if (Objects.nonNull(loopResources)) {
             httpClient.runOn(loopResources);
         }
-        HttpClientProperties.Ssl ssl = properties.getSsl();
-        if (StringUtils.isNotEmpty(ssl.getKeyStorePath())
-                || ArrayUtils.isNotEmpty(ssl.getTrustedX509CertificatesForTrustManager())
-                || ssl.isUseInsecureTrustManager()) {
-            httpClient = httpClient.secure(sslContextSpec -> setSsl(sslContextSpec, ssl));
-        }
         if (properties.isWiretap()) {
             httpClient = httpClient.wiretap(true);
         }
@@ -142,6 +184,32 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
         return httpClient.keepAlive(properties.isKeepAlive());
     }
 
+    private synchronized ConnectionProvider getH2ConnectionProvider() {
+        if (Objects.isNull(h2ConnectionProvider)) {
+            // h2 and h2c upstreams are always multiplexed, whatever the protocol of the shared pool is
+            HttpClientProperties.Pool pool = properties.getPool();
+            ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName() + "-h2")
+                    .pendingAcquireTimeout(Duration.ofMillis(pool.getAcquireTimeout()))
+                    .pendingAcquireMaxCount(-1);
+            Optional.ofNullable(pool.getMaxIdleTime()).map(Duration::ofMillis).ifPresent(builder::maxIdleTime);
+            Optional.ofNullable(pool.getMaxLifeTime()).map(Duration::ofMillis).ifPresent(builder::maxLifeTime);
+            Optional.ofNullable(pool.getEvictionInterval()).map(Duration::ofMillis).ifPresent(builder::evictInBackground);
+            h2ConnectionProvider = builder.allocationStrategy(buildH2AllocationStrategy(properties.getHttp2()))
+                    .metrics(Boolean.TRUE.equals(properties.getHttp2().getMetrics()))
+                    .build();
+        }
+        return h2ConnectionProvider;
+    }
+
+    private static Http2AllocationStrategy buildH2AllocationStrategy(final HttpClientProperties.Http2 http2) {
+        // streams are multiplexed, so the pool is bounded by connections x streams instead of connections
+        return Http2AllocationStrategy.builder()
+                .maxConnections(http2.getMaxConnections())
+                .minConnections(http2.getMinConnections())
+                .maxConcurrentStreams(http2.getMaxConcurrentStreams())
+                .build();
+    }
+
     private ConnectionProvider buildConnectionProvider(final HttpClientProperties.Pool pool) {
         if (pool.getType() == HttpClientProperties.Pool.PoolType.DISABLED) {
             return ConnectionProvider.newConnection();
@@ -160,7 +228,13 @@ public class HttpClientFactory extends AbstractFactoryBean<HttpClient> {
             Optional.ofNullable(pool.getMaxIdleTime()).map(Duration::ofMillis).ifPresent(builder::maxIdleTime);
             Optional.ofNullable(pool.getMaxLifeTime()).map(Duration::ofMillis).ifPresent(builder::maxLifeTime);
             Optional.ofNullable(pool.getEvictionInterval()).map(Duration::ofMillis).ifPresent(builder::evictInBackground);
-            builder.metrics(pool.getMetrics());
+            HttpClientProperties.Http2 http2 = properties.getHttp2();
+            // only prior knowledge makes every connection of the shared pool HTTP/2, with h2 some upstreams
+            // may still negotiate HTTP/1.1 and must not be capped at the HTTP/2 connection count
+            if (http2.getProtocol() == HttpClientProperties.Http2.Protocol.H2C) {
+                builder.allocationStrategy(buildH2AllocationStrategy(http2));
+            }
+            builder.metrics(Boolean.TRUE.equals(pool.getMetrics()) || Boolean.TRUE.equals(http2.getMetrics()));
             return builder.build();
         }
     }
@@ -125,11 +125,18 @@ public class HttpClientPluginConfiguration {
          * Netty http client plugin.
          *
          * @param httpClient the http client
+         * @param httpClientFactory the http client factory
          * @return the shenyu plugin
          */
         @Bean
-        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient) {
-            return new NettyHttpClientPlugin(httpClient.getIfAvailable());
+        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient,
+                                                  final ObjectProvider<HttpClientFactory> httpClientFactory) {
+            HttpClientFactory factory = httpClientFactory.getIfAvailable();
+            if (Objects.isNull(factory)) {
+                return new NettyHttpClientPlugin(httpClient.getIfAvailable());
+            }
+            // h2 and h2c upstreams get the configured ssl settings and their own multiplexed pool
+            return new NettyHttpClientPlugin(httpClient.getIfAvailable(), factory.createH2cClient(), factory.createH2Client());
         }
     }
 }
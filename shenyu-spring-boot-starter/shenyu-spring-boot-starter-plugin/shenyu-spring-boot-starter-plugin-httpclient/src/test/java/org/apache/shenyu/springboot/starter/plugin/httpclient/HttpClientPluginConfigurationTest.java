@@ -19,10 +19,15 @@ package org.apache.shenyu.springboot.starter.plugin.httpclient;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +38,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
 
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 
@@ -130,4 +136,27 @@ public class HttpClientPluginConfigurationTest {
                     assertNotNull(plugin);
                 });
     }
+
+    @Test
+    public void testH2Clients() {
+        applicationContextRunner
+                .withPropertyValues(
+                        "debug=true",
+                        "shenyu.httpclient.ssl.useInsecureTrustManager=true",
+                        "shenyu.httpclient.ssl.handshakeTimeout=10000"
+                )
+                .run(context -> {
+                    HttpClientFactory factory = context.getBean("&httpClient", HttpClientFactory.class);
+                    HttpClient httpClient = context.getBean("httpClient", HttpClient.class);
+                    HttpClient h2Client = factory.createH2Client();
+                    HttpClient h2cClient = factory.createH2cClient();
+                    assertTrue(h2Client.configuration().isSecure());
+                    assertThat(h2Client.configuration().sslProvider().getHandshakeTimeoutMillis(), is(10000L));
+                    assertTrue(h2Client.configuration().sslProvider().getSslContext()
+                            .applicationProtocolNegotiator().protocols().contains(ApplicationProtocolNames.HTTP_2));
+                    assertArrayEquals(new HttpProtocol[]{HttpProtocol.H2C}, h2cClient.configuration().protocols());
+                    assertSame(h2Client.configuration().connectionProvider(), h2cClient.configuration().connectionProvider());
+                    assertNotSame(httpClient.configuration().connectionProvider(), h2Client.configuration().connectionProvider());
+                });
+    }
 }
@@ -21,11 +21,13 @@ import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.mcp.server.McpServerPlugin;
+import org.apache.shenyu.plugin.mcp.server.config.McpServerProperties;
 import org.apache.shenyu.plugin.mcp.server.handler.McpServerPluginDataHandler;
 import org.apache.shenyu.plugin.mcp.server.manager.ShenyuMcpServerManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.codec.ServerCodecConfigurer;
 
@@ -58,15 +60,28 @@ public class McpServerPluginConfiguration {
 //        return RouterFunctions.route(RequestPredicates.all(), shenyuMcpServerManager::dispatch);
 //    }
     
+    /**
+     * Mcp server properties.
+     *
+     * @return the mcp server properties
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "shenyu.plugins.mcp.server")
+    public McpServerProperties mcpServerProperties() {
+        return new McpServerProperties();
+    }
+    
     /**
      * Shenyu mcp server manager.
      *
      * @param shenyuConfig the shenyu config
+     * @param mcpServerProperties the mcp server properties
      * @return the shenyu mcp server manager
      */
     @Bean
-    public ShenyuMcpServerManager shenyuMcpServerManager(final ShenyuConfig shenyuConfig) {
-        return new ShenyuMcpServerManager(resolveCorsAllowedHeaders(shenyuConfig));
+    public ShenyuMcpServerManager shenyuMcpServerManager(final ShenyuConfig shenyuConfig,
+                                                         final McpServerProperties mcpServerProperties) {
+        return new ShenyuMcpServerManager(resolveCorsAllowedHeaders(shenyuConfig), mcpServerProperties.getMaxConcurrentToolCalls());
     }
 
     /**
@@ -31,6 +31,7 @@ import org.apache.shenyu.common.timer.WheelTimerFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.common.utils.SystemInfoUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
 import org.apache.shenyu.plugin.sync.data.websocket.handler.WebsocketDataHandler;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
 import org.apache.shenyu.sync.data.api.DiscoveryUpstreamDataSubscriber;
@@ -44,6 +45,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -75,6 +77,10 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
     
     private final String namespaceId;
 
+    private long frameMessageId;
+
+    private int nextFrameSeq;
+
     /**
      * Instantiates a new shenyu websocket client.
      *
@@ -99,6 +105,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         this.namespaceId = namespaceId;
         this.addHeader(Constants.SHENYU_NAMESPACE_ID, namespaceId);
         this.addHeader(Constants.CLIENT_PORT_NAME, String.valueOf(port));
+        this.addHeader(Constants.SYNC_ENCODING_NAME, Constants.SYNC_ENCODING_DEFLATE);
         this.websocketDataHandler = new WebsocketDataHandler(
                 pluginDataSubscriber,
                 metaDataSubscribers,
@@ -137,6 +144,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         LOG.info("shenyu bootstrap websocket namespaceId: {}", namespaceId);
         this.addHeader(Constants.SHENYU_NAMESPACE_ID, namespaceId);
         this.addHeader(Constants.CLIENT_PORT_NAME, String.valueOf(port));
+        this.addHeader(Constants.SYNC_ENCODING_NAME, Constants.SYNC_ENCODING_DEFLATE);
         this.websocketDataHandler = new WebsocketDataHandler(
                 pluginDataSubscriber,
                 metaDataSubscribers,
@@ -206,6 +214,22 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         }
     }
     
+    @Override
+    public void onMessage(final ByteBuffer bytes) {
+        WebsocketFrameUtils.Frame frame = WebsocketFrameUtils.decode(bytes);
+        if (frame.getSeq() > 0 && (frame.getMessageId() != frameMessageId || frame.getSeq() != nextFrameSeq)) {
+            LOG.warn("server[{}] message {} missed chunks before {}/{}", this.getURI().toString(), frame.getMessageId(), frame.getSeq() + 1, frame.getTotal());
+        }
+        frameMessageId = frame.getMessageId();
+        nextFrameSeq = frame.getSeq() + 1;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("onMessage server[{}] message {} chunk {}/{} compressed {} bytes", this.getURI().toString(),
+                    frame.getMessageId(), frame.getSeq() + 1, frame.getTotal(), bytes.remaining());
+        }
+        // every chunk is a complete message, applied as it arrives
+        onMessage(frame.getMessage());
+    }
+    
     @Override
     public void onClose(final int i, final String s, final boolean b) {
         this.close();
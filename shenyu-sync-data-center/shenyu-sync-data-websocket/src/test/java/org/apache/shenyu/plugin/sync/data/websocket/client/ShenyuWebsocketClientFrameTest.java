@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.sync.data.websocket.client;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.dto.WebsocketData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.WebsocketFrameUtils;
+import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for the compressed and chunked frames of {@link ShenyuWebsocketClient}.
+ */
+public final class ShenyuWebsocketClientFrameTest {
+
+    private static final int SELECTORS = 2000;
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final AtomicReference<String> encoding = new AtomicReference<>();
+
+    private final AtomicInteger textLength = new AtomicInteger();
+
+    private final AtomicLong frameBytes = new AtomicLong();
+
+    private final AtomicInteger frames = new AtomicInteger();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private WebSocketServer server;
+
+    private ShenyuWebsocketClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new SnapshotServer(new InetSocketAddress("127.0.0.1", freePort()));
+        server.setReuseAddr(true);
+        server.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException, IOException {
+        if (Objects.nonNull(client)) {
+            client.nowClose();
+        }
+        server.stop();
+    }
+
+    @Test
+    public void testSnapshotIsCompressedAndReassembled() {
+        PluginDataSubscriber subscriber = mock(PluginDataSubscriber.class);
+        client = new ShenyuWebsocketClient(URI.create("ws://127.0.0.1:" + server.getPort() + "/websocket"), subscriber,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Constants.SYS_DEFAULT_NAMESPACE_ID, 9195);
+
+        verify(subscriber, timeout(10_000).times(SELECTORS)).onSelectorSubscribe(any());
+        // only the first chunk refreshes, the others are applied as updates
+        verify(subscriber, times(1)).refreshSelectorDataSelf(anyList());
+        assertEquals(Constants.SYNC_ENCODING_DEFLATE, encoding.get());
+        assertTrue(frames.get() > 1, "the snapshot is sent in " + frames.get() + " chunks");
+        assertTrue(frameBytes.get() * 4 < textLength.get(), frameBytes.get() + " compressed bytes for " + textLength.get() + " characters");
+    }
+
+    private static WebsocketData<SelectorData> snapshot() {
+        List<SelectorData> selectors = new ArrayList<>(SELECTORS);
+        for (int i = 0; i < SELECTORS; i++) {
+            selectors.add(SelectorData.builder().id(String.valueOf(i)).name("selector-" + i).pluginName("divide")
+                    .enabled(true).handle("[{\"upstreamUrl\":\"10.0.0." + i % 250 + ":8080\",\"weight\":50}]").build());
+        }
+        return new WebsocketData<>(ConfigGroupEnum.SELECTOR.name(), DataEventTypeEnum.MYSELF.name(), selectors);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private final class SnapshotServer extends WebSocketServer {
+
+        SnapshotServer(final InetSocketAddress address) {
+            super(address);
+        }
+
+        @Override
+        public void onOpen(final WebSocket conn, final ClientHandshake handshake) {
+            encoding.set(handshake.getFieldValue(Constants.SYNC_ENCODING_NAME));
+        }
+
+        @Override
+        public void onMessage(final WebSocket conn, final String message) {
+            if (!DataEventTypeEnum.MYSELF.name().equals(message)) {
+                return;
+            }
+            String json = GsonUtils.getInstance().toJson(snapshot());
+            textLength.set(json.length());
+            for (ByteBuffer frame : WebsocketFrameUtils.encode(json, CHUNK_SIZE)) {
+                frames.incrementAndGet();
+                frameBytes.addAndGet(frame.remaining());
+                conn.send(frame);
+            }
+        }
+
+        @Override
+        public void onClose(final WebSocket conn, final int code, final String reason, final boolean remote) {
+        }
+
+        @Override
+        public void onError(final WebSocket conn, final Exception ex) {
+        }
+
+        @Override
+        public void onStart() {
+            started.countDown();
+        }
+    }
+}
@@ -103,7 +103,8 @@ public class ShenyuThreadPoolConfiguration {
         final Long keepAliveTime = sharedPool.getKeepAliveTime();
         return new ShenyuThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime,
                 TimeUnit.MILLISECONDS, provider.getIfAvailable(() -> new MemorySafeTaskQueue<>(Constants.THE_256_MB)),
-                ShenyuThreadFactory.create(sharedPool.getPrefix(), true),
+                Boolean.TRUE.equals(sharedPool.getVirtualThreads()) ? ShenyuThreadFactory.createVirtual(sharedPool.getPrefix())
+                        : ShenyuThreadFactory.create(sharedPool.getPrefix(), true),
                 new ThreadPoolExecutor.AbortPolicy());
     }
 
@@ -21,95 +21,110 @@ import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
 import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.apache.shenyu.plugin.base.utils.ResponseUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ReactiveHttpOutputMessage;
-import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.NonNull;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.HandlerStrategies;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The type File size filter.
+ *
+ * <p>The multipart body is counted as it streams to the plugins, the request is rejected
+ * the moment the limit is crossed, so an upload is never buffered on the gateway.</p>
  */
 public class FileSizeFilter implements WebFilter {
     private static final Logger LOG = LoggerFactory.getLogger(FileSizeFilter.class);
 
-    private final int fileMaxSize;
-
-    private final List<HttpMessageReader<?>> messageReaders;
+    private final long fileMaxBytes;
 
     public FileSizeFilter(final int fileMaxSize) {
-        HandlerStrategies handlerStrategies = HandlerStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1)).build();
-        this.messageReaders = handlerStrategies.messageReaders();
-        this.fileMaxSize = fileMaxSize;
+        this.fileMaxBytes = (long) Constants.BYTES_PER_MB * fileMaxSize;
     }
 
     @Override
     @NonNull
     public Mono<Void> filter(@NonNull final ServerWebExchange exchange, @NonNull final WebFilterChain chain) {
         MediaType mediaType = exchange.getRequest().getHeaders().getContentType();
-        if (MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType)) {
-            ServerRequest serverRequest = ServerRequest.create(exchange,
-                    messageReaders);
-            return serverRequest.bodyToMono(DataBuffer.class)
-                    .flatMap(dataBuffer -> {
-                        if (dataBuffer.capacity() > Constants.BYTES_PER_MB * fileMaxSize) {
-                            ServerHttpResponse response = exchange.getResponse();
-                            response.setStatusCode(HttpStatus.BAD_REQUEST);
-                            Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.PAYLOAD_TOO_LARGE);
-                            LOG.info("The file size exceeds the limit. The actual size is {}M , response:{}",
-                                    dataBuffer.capacity() / Constants.BYTES_PER_MB, error);
-                            return WebFluxResultUtils.result(exchange, error);
-                        }
-                        BodyInserter<Mono<DataBuffer>, ReactiveHttpOutputMessage> bodyInsert = BodyInserters
-                                .fromPublisher(Mono.just(dataBuffer), DataBuffer.class);
-                        HttpHeaders headers = new HttpHeaders();
-                        headers.putAll(exchange.getRequest().getHeaders());
-                        headers.remove(HttpHeaders.CONTENT_LENGTH);
-                        CachedBodyOutputMessage outputMessage = new CachedBodyOutputMessage(
-                                exchange, headers);
-                        return bodyInsert.insert(outputMessage, new BodyInserterContext())
-                                .then(Mono.<Void>defer(() -> {
-                                    ServerHttpRequest decorator = decorate(exchange, outputMessage);
-                                    return chain.filter(exchange.mutate().request(decorator).build());
-                                }))
-                                .doFinally(signalType -> DataBufferUtils.release(dataBuffer))
-                                .onErrorResume(throwable -> ResponseUtils.release(outputMessage, throwable));
-                    });
+        if (!MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType)) {
+            return chain.filter(exchange);
         }
-        return chain.filter(exchange);
-
+        long contentLength = exchange.getRequest().getHeaders().getContentLength();
+        if (contentLength > fileMaxBytes) {
+            return payloadTooLarge(exchange, contentLength);
+        }
+        ServerHttpRequest decorator = decorate(exchange.getRequest());
+        return chain.filter(exchange.mutate().request(decorator).build())
+                .onErrorResume(throwable -> {
+                    FileSizeExceededException exceeded = findExceeded(throwable);
+                    if (Objects.isNull(exceeded) || exchange.getResponse().isCommitted()) {
+                        return Mono.error(throwable);
+                    }
+                    return payloadTooLarge(exchange, exceeded.size);
+                });
     }
 
-    private ServerHttpRequestDecorator decorate(final ServerWebExchange exchange,
-            final CachedBodyOutputMessage outputMessage) {
-        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+    private ServerHttpRequestDecorator decorate(final ServerHttpRequest request) {
+        return new ServerHttpRequestDecorator(request) {
             @Override
+            @NonNull
             public Flux<DataBuffer> getBody() {
-                return outputMessage.getBody();
+                AtomicLong size = new AtomicLong();
+                return super.getBody().handle((dataBuffer, sink) -> {
+                    long total = size.addAndGet(dataBuffer.readableByteCount());
+                    if (total > fileMaxBytes) {
+                        DataBufferUtils.release(dataBuffer);
+                        sink.error(new FileSizeExceededException(total));
+                        return;
+                    }
+                    sink.next(dataBuffer);
+                });
             }
         };
     }
+
+    private Mono<Void> payloadTooLarge(final ServerWebExchange exchange, final long size) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.PAYLOAD_TOO_LARGE);
+        LOG.info("The file size exceeds the limit. The read size is {}M , response:{}",
+                size / Constants.BYTES_PER_MB, error);
+        return WebFluxResultUtils.result(exchange, error);
+    }
+
+    private static FileSizeExceededException findExceeded(final Throwable throwable) {
+        Throwable cause = throwable;
+        while (Objects.nonNull(cause)) {
+            if (cause instanceof FileSizeExceededException) {
+                return (FileSizeExceededException) cause;
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return null;
+    }
+
+    private static final class FileSizeExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long size;
+
+        FileSizeExceededException(final long size) {
+            super("the file size exceeds the limit", null, false, false);
+            this.size = size;
+        }
+    }
 }
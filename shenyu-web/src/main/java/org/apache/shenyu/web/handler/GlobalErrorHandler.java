@@ -76,6 +76,7 @@ public class GlobalErrorHandler implements ErrorWebExceptionHandler {
         Map<String, String> labels = new HashMap<>(8);
         labels.put("global", "error");
         labels.put("component", "gateway");
+        labels.put("exception", throwable.getClass().getName());
         AlarmSender.alarmMediumCritical("ShenYu-Gateway-Global-Error", errorMsg, labels);
         return WebFluxResultUtils.result(exchange, errorResult);
     }
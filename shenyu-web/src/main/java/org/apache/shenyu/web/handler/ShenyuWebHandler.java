@@ -19,6 +19,7 @@ package org.apache.shenyu.web.handler;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.VirtualThreads;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
@@ -68,6 +69,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
     private final boolean scheduled;
 
     private Scheduler scheduler;
+
+    /**
+     * set for the virtual scheduler type, which moves only the blocking plugins off the event loop.
+     */
+    private Scheduler blockingScheduler;
     
     /**
      * Instantiates a new shenyu web handler.
@@ -85,12 +91,25 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         if (scheduled) {
             if (Objects.equals(config.getType(), "fixed")) {
                 this.scheduler = Schedulers.newParallel("shenyu-work-threads", config.getThreads());
+            } else if (Objects.equals(config.getType(), "virtual")) {
+                this.blockingScheduler = createVirtualScheduler(config);
             } else {
                 this.scheduler = Schedulers.boundedElastic();
             }
         }
     }
 
+    private static Scheduler createVirtualScheduler(final ShenyuConfig.Scheduler config) {
+        if (!VirtualThreads.isSupported()) {
+            LOG.warn("virtual threads need java 21 or later, blocking plugins run on the bounded elastic scheduler");
+            return Schedulers.boundedElastic();
+        }
+        if (config.getPinningDiagnostics()) {
+            VirtualThreads.enablePinningDiagnostics();
+        }
+        return Schedulers.fromExecutorService(VirtualThreads.newThreadPerTaskExecutor("blocking"), "shenyu-virtual-threads");
+    }
+
     /**
      * Chain before operation.
      *
@@ -123,8 +142,8 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
         try {
             before(exchange);
-            Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
-            if (scheduled) {
+            Mono<Void> execute = new DefaultShenyuPluginChain(plugins, blockingScheduler).execute(exchange);
+            if (Objects.nonNull(scheduler)) {
                 return execute.subscribeOn(scheduler);
             }
             return execute;
@@ -269,14 +288,18 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         private int index;
 
         private final List<ShenyuPlugin> plugins;
+
+        private final Scheduler blockingScheduler;
     
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
          * @param plugins the plugins
+         * @param blockingScheduler the scheduler of the blocking plugins, null to run them in place
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
+        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins, final Scheduler blockingScheduler) {
             this.plugins = plugins;
+            this.blockingScheduler = blockingScheduler;
         }
 
         /**
@@ -294,15 +317,24 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                     if (skip) {
                         return this.execute(exchange);
                     }
-                    try {
-                        plugin.before(exchange);
-                        return plugin.execute(exchange, this);
-                    } finally {
-                        plugin.after(exchange);
+                    if (Objects.nonNull(blockingScheduler) && plugin.isBlocking()) {
+                        // only the blocking plugin runs on the blocking scheduler, the rest of the chain goes back to a non-blocking one
+                        final ShenyuPluginChain next = nextExchange -> Mono.defer(() -> this.execute(nextExchange)).subscribeOn(Schedulers.parallel());
+                        return Mono.defer(() -> execute(plugin, exchange, next)).subscribeOn(blockingScheduler);
                     }
+                    return execute(plugin, exchange, this);
                 }
                 return Mono.empty();
             });
         }
+
+        private Mono<Void> execute(final ShenyuPlugin plugin, final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            try {
+                plugin.before(exchange);
+                return plugin.execute(exchange, chain);
+            } finally {
+                plugin.after(exchange);
+            }
+        }
     }
 }
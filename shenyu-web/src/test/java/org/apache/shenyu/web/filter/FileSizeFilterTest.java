@@ -17,28 +17,41 @@
 
 package org.apache.shenyu.web.filter;
 
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
@@ -48,6 +61,8 @@ import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
  */
 public final class FileSizeFilterTest {
 
+    private static final int CHUNK = 64 * 1024;
+
     @BeforeEach
     public void setup() {
         GenericApplicationContext context = new GenericApplicationContext();
@@ -102,19 +117,62 @@ public final class FileSizeFilterTest {
     }
 
     @Test
-    public void testDecorate() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testOversizedBodyIsRejectedWhileStreaming() {
+        AtomicInteger generated = new AtomicInteger();
+        Flux<DataBuffer> body = Flux.range(0, 512).map(i -> {
+            generated.incrementAndGet();
+            return DefaultDataBufferFactory.sharedInstance.wrap(new byte[CHUNK]);
+        });
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .body(body));
+        WebFilterChain chain = filtered -> filtered.getRequest().getBody().doOnNext(DataBufferUtils::release).then();
 
-        ServerWebExchange webExchangeTextPlain =
-                MockServerWebExchange.from(MockServerHttpRequest
-                        .post("http://localhost:8080")
-                        .contentType(MediaType.TEXT_PLAIN)
-                        .contentLength(4)
-                        .body("test"));
-        FileSizeFilter fileSizeFilterError = new FileSizeFilter(1);
-        Method declaredMethod = FileSizeFilter.class.getDeclaredMethod("decorate", ServerWebExchange.class, CachedBodyOutputMessage.class);
-        CachedBodyOutputMessage cachedBodyOutputMessage = mock(CachedBodyOutputMessage.class);
-        declaredMethod.setAccessible(true);
-        ServerHttpRequestDecorator decorator = (ServerHttpRequestDecorator) declaredMethod.invoke(fileSizeFilterError, webExchangeTextPlain, cachedBodyOutputMessage);
-        Assertions.assertEquals(decorator.getBody(), cachedBodyOutputMessage.getBody());
+        StepVerifier.create(new FileSizeFilter(1).filter(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        // aborted right after the limit, a 32M body never reaches the gateway heap
+        assertTrue(generated.get() <= Constants.BYTES_PER_MB / CHUNK + 2, generated.get() + " chunks read");
+    }
+
+    @Test
+    public void testDeclaredOversizedBodyIsRejected() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .contentLength(2L * Constants.BYTES_PER_MB)
+                .body("test"));
+        WebFilterChain chain = mock(WebFilterChain.class);
+
+        StepVerifier.create(new FileSizeFilter(1).filter(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    public void testBodyPassesThroughUnchanged() {
+        byte[] bytes = new byte[CHUNK * 7 + 13];
+        new Random(42).nextBytes(bytes);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += CHUNK) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + CHUNK))));
+        }
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .body(Flux.fromIterable(buffers)));
+        AtomicReference<byte[]> received = new AtomicReference<>();
+        WebFilterChain chain = filtered -> DataBufferUtils.join(filtered.getRequest().getBody())
+                .doOnNext(joined -> {
+                    byte[] content = new byte[joined.readableByteCount()];
+                    joined.read(content);
+                    DataBufferUtils.release(joined);
+                    received.set(content);
+                })
+                .then();
+
+        StepVerifier.create(new FileSizeFilter(1).filter(exchange, chain)).expectSubscription().verifyComplete();
+        assertArrayEquals(bytes, received.get());
+        assertNotEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
     }
 }
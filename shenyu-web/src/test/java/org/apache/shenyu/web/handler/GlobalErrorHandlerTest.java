@@ -18,11 +18,15 @@
 package org.apache.shenyu.web.handler;
 
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.AlarmContent;
 import org.apache.shenyu.plugin.api.result.DefaultShenyuResult;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.alert.AlarmSender;
 import org.apache.shenyu.plugin.base.alert.AlarmService;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,9 +43,20 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
@@ -53,6 +68,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public final class GlobalErrorHandlerTest {
 
+    private static final List<AlarmContent> ALARMS = new CopyOnWriteArrayList<>();
+
     private static Logger loggerSpy;
 
     private static MockedStatic<LoggerFactory> loggerFactoryMockedStatic;
@@ -63,6 +80,7 @@ public final class GlobalErrorHandlerTest {
     public static void beforeClass() {
         loggerSpy = spy(LoggerFactory.getLogger(GlobalErrorHandler.class));
         loggerFactoryMockedStatic = mockStatic(LoggerFactory.class);
+        loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(any(Class.class))).thenReturn(loggerSpy);
         loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(GlobalErrorHandler.class)).thenReturn(loggerSpy);
         loggerFactoryMockedStatic.when(() -> LoggerFactory.getLogger(anyString())).thenReturn(loggerSpy);
     }
@@ -78,14 +96,22 @@ public final class GlobalErrorHandlerTest {
         SpringBeanUtils.getInstance().setApplicationContext(context);
         when(context.getBean(ShenyuResult.class)).thenReturn(new DefaultShenyuResult() {
         });
-        when(context.getBean(AlarmService.class)).thenReturn(content -> {
-        });
-        when(context.getBean(ShenyuConfig.class)).thenReturn(new ShenyuConfig() {
-        });
+        // the alarm sender keeps the first service and switch it sees, so every test shares them
+        lenient().when(context.getBean(AlarmService.class)).thenReturn(ALARMS::add);
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getAlert().setEnabled(true);
+        when(context.getBean(ShenyuConfig.class)).thenReturn(shenyuConfig);
+        AlarmSender.shutdown();
+        ALARMS.clear();
 
         globalErrorHandler = new GlobalErrorHandler();
     }
 
+    @AfterEach
+    public void tearDown() {
+        AlarmSender.shutdown();
+    }
+
     @Test
     public void getErrorAttributes() {
         doNothing().when(loggerSpy).error(anyString());
@@ -95,4 +121,15 @@ public final class GlobalErrorHandlerTest {
         assertNotNull(response);
         assertNotNull(globalErrorHandler.handle(webExchange, new ResponseStatusException(HttpStatus.BAD_REQUEST)));
     }
+
+    @Test
+    public void differentErrorsAreNotAggregated() {
+        ServerWebExchange webExchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost:8080/test"));
+        globalErrorHandler.handle(webExchange, new NullPointerException("npe"));
+        globalErrorHandler.handle(webExchange, new IllegalStateException("state"));
+        globalErrorHandler.handle(webExchange, new IllegalStateException("state"));
+        Awaitility.await().atMost(Duration.ofSeconds(3)).until(() -> ALARMS.size() == 2);
+        Set<String> exceptions = ALARMS.stream().map(alarm -> alarm.getLabels().get("exception")).collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList(NullPointerException.class.getName(), IllegalStateException.class.getName())), exceptions);
+    }
 }
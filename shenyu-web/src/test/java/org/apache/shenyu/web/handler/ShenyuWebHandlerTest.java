@@ -41,10 +41,12 @@ import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -110,6 +112,51 @@ public final class ShenyuWebHandlerTest {
         assertNotNull(handle2);
     }
 
+    @Test
+    public void virtualSchedulerTest() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getScheduler().setEnabled(true);
+        shenyuConfig.getScheduler().setType("virtual");
+        final String[] threadName = new String[2];
+        ShenyuPlugin blockingPlugin = new TestPlugin1() {
+
+            @Override
+            public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+                threadName[0] = Thread.currentThread().getName();
+                return chain.execute(exchange);
+            }
+
+            @Override
+            public boolean isBlocking() {
+                return true;
+            }
+        };
+        ShenyuPlugin nextPlugin = new TestPlugin2() {
+
+            @Override
+            public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+                threadName[1] = Thread.currentThread().getName();
+                return chain.execute(exchange);
+            }
+
+            @Override
+            public boolean skip(final ServerWebExchange exchange) {
+                return false;
+            }
+        };
+        ShenyuWebHandler virtualHandler = new ShenyuWebHandler(Arrays.asList(blockingPlugin, nextPlugin), shenyuLoaderService, shenyuConfig);
+        StepVerifier.create(virtualHandler.handle(exchange)).expectSubscription().verifyComplete();
+        assertNotNull(threadName[0]);
+        assertNotEquals(Thread.currentThread().getName(), threadName[0]);
+        // the plugins after the blocking one do not stay on the blocking scheduler
+        assertNotNull(threadName[1]);
+        assertTrue(threadName[1].startsWith("parallel"), threadName[1]);
+    }
+
     @Test
     public void testOnApplicationEvent() {
         PluginData pluginData1 = PluginData.builder().id("1")